@@ -0,0 +1,144 @@
+/*
+ * AllocationBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.MismatchSearch;
+import com.eaio.stringsearch.ShiftOrMismatches;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Calls every entry point once per operation so the allocation profiler
+ * reports the bytes allocated per call. Run with
+ * <code>java -jar target/benchmarks.jar AllocationBenchmark -prof gc</code>
+ * and compare <code>gc.alloc.rate.norm</code>, which should be 0 for all
+ * entry points except <code>mismatchArray</code>.
+ * <p>
+ * The text is short so that allocations are not hidden by search time.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class AllocationBenchmark {
+
+    /**
+     * The algorithm.
+     */
+    @Param({ "BNDM", "BNDMCI", "BNDMWildcards", "BoyerMooreHorspool",
+            "BoyerMooreHorspoolRaita", "ShiftOrMismatches" })
+    public String algorithm;
+
+    /**
+     * The number of symbols in the pattern.
+     */
+    @Param({ "1", "2", "8" })
+    public int patternLength;
+
+    private StringSearch instance;
+
+    private final MismatchSearch mismatches = new ShiftOrMismatches();
+
+    private byte[] bytes, bytePattern;
+
+    private char[] chars, charPattern;
+
+    private String string, stringPattern;
+
+    private Object processedBytes, processedChars, processedMismatches;
+
+    /**
+     * Creates the algorithm and pre-processes the pattern.
+     *
+     * @throws Exception if the algorithm cannot be created
+     */
+    @Setup(Level.Trial)
+    public void process() throws Exception {
+        instance = (StringSearch) Class.forName("com.eaio.stringsearch."
+                + algorithm).newInstance();
+        CorpusGenerator corpus = new CorpusGenerator(
+                CorpusGenerator.Kind.ENGLISH, 42L);
+        bytes = corpus.bytes(1024);
+        chars = corpus.chars(1024);
+        string = new String(chars);
+        bytePattern = corpus.bytePattern(patternLength);
+        charPattern = corpus.charPattern(patternLength);
+        stringPattern = new String(charPattern);
+        processedBytes = instance.processBytes(bytePattern);
+        processedChars = instance.processChars(charPattern);
+        processedMismatches = mismatches.processChars(charPattern, 1);
+    }
+
+    @Benchmark
+    public int searchBytes() {
+        return instance.searchBytes(bytes, bytePattern, processedBytes);
+    }
+
+    @Benchmark
+    public int searchChars() {
+        return instance.searchChars(chars, charPattern, processedChars);
+    }
+
+    @Benchmark
+    public int searchString() {
+        return instance.searchString(string, stringPattern, processedChars);
+    }
+
+    @Benchmark
+    public int[] mismatchArray() {
+        return mismatches.searchChars(chars, charPattern, processedMismatches,
+                1);
+    }
+
+    @Benchmark
+    public long mismatchPacked() {
+        return mismatches.searchCharsPacked(chars, 0, chars.length,
+                charPattern, processedMismatches, 1);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * BackwardBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Finds the last occurrence of a pattern in 16 MB of English text, once by
+ * searching forward and keeping the last hit and once with
+ * <code>searchBytesBackward</code>.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BackwardBenchmark {
+
+    @Param({ "BoyerMooreHorspool", "BoyerMooreHorspoolRaita", "BNDM",
+            "ShiftOrMismatches" })
+    public String algorithm;
+
+    @Param({ "8", "16" })
+    public int patternLength;
+
+    private byte[] text;
+
+    private byte[] pattern;
+
+    private StringSearch search;
+
+    private Object forward, backward;
+
+    /**
+     * Generates the text and pre-processes the pattern.
+     */
+    @Setup(Level.Trial)
+    public void generate() throws Exception {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.ENGLISH,
+                42L);
+        text = g.bytes(1 << 24);
+        pattern = g.bytePattern(patternLength);
+        g.plant(text, pattern, CorpusGenerator.hits(text.length, 4));
+        search = (StringSearch) Class.forName(
+                "com.eaio.stringsearch." + algorithm).newInstance();
+        forward = search.processBytes(pattern);
+        backward = search.processBytesBackward(pattern);
+    }
+
+    @Benchmark
+    public int lastForwardHit() {
+        int out = -1;
+        int pos = -1;
+        while ((pos = search.searchBytes(text, pos + 1, text.length, pattern,
+                forward)) != -1) {
+            out = pos;
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int backward() {
+        return search.searchBytesBackward(text, 0, text.length, pattern,
+                backward);
+    }
+
+}
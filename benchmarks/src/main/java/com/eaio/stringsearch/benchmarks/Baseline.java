@@ -0,0 +1,250 @@
+/*
+ * Baseline.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Benchmark scores keyed by benchmark and parameters, for example
+ * <code>HotPathBenchmark.bndmBytes{kind=DNA}</code>. A Baseline is read from
+ * a JMH JSON result file (<code>-rf json</code>) or from a baseline file
+ * written by {@link #write(File)}.
+ *
+ * @see RegressionGate
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class Baseline {
+
+    /**
+     * A single score.
+     */
+    public static final class Score {
+
+        final String mode;
+
+        final double score;
+
+        final double error;
+
+        final String unit;
+
+        /**
+         * Constructor for Score.
+         *
+         * @param mode the JMH mode, for example <code>thrpt</code> or
+         * <code>avgt</code>
+         * @param score the score
+         * @param error the half-width of the confidence interval, 0 if
+         * unknown
+         * @param unit the unit, for example <code>ops/s</code>
+         */
+        public Score(String mode, double score, double error, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.error = Double.isNaN(error) || Double.isInfinite(error) ? 0d
+                    : error;
+            this.unit = unit;
+        }
+
+        /**
+         * Returns if higher scores are better, which is the case for the
+         * throughput mode.
+         *
+         * @return boolean
+         */
+        public boolean isHigherBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        /**
+         * Returns the score.
+         *
+         * @return a <code>double</code>
+         */
+        public double getScore() {
+            return score;
+        }
+
+        /**
+         * Returns the error of the score or 0 if unknown.
+         *
+         * @return a <code>double</code>
+         */
+        public double getError() {
+            return error;
+        }
+
+        /**
+         * Returns the unit.
+         *
+         * @return a String
+         */
+        public String getUnit() {
+            return unit;
+        }
+
+        /**
+         * Returns a String representation of this Object.
+         *
+         * @return a String, never <code>null</code>
+         */
+        @Override
+        public String toString() {
+            return String.format("%.3f +- %.3f %s", score, error, unit);
+        }
+
+    }
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private final Map<String, Score> scores = new TreeMap<String, Score>();
+
+    /**
+     * Returns all scores, sorted by key.
+     *
+     * @return a Map, never <code>null</code>
+     */
+    public Map<String, Score> getScores() {
+        return scores;
+    }
+
+    /**
+     * Adds a score.
+     *
+     * @param key the key, may not be <code>null</code>
+     * @param score the Score, may not be <code>null</code>
+     */
+    public void put(String key, Score score) {
+        scores.put(key, score);
+    }
+
+    /**
+     * Reads a JMH result file or a baseline file.
+     *
+     * @param file the file, may not be <code>null</code>
+     * @return a Baseline, never <code>null</code>
+     * @throws IOException if the file cannot be read or has an unknown
+     * format
+     */
+    public static Baseline read(File file) throws IOException {
+        JsonElement root;
+        try (Reader in = Files.newBufferedReader(file.toPath(),
+                StandardCharsets.UTF_8)) {
+            root = JsonParser.parseReader(in);
+        }
+        catch (JsonParseException ex) {
+            throw new IOException(file + ": " + ex.getMessage(), ex);
+        }
+        Baseline out = new Baseline();
+        if (root.isJsonArray()) {
+            for (JsonElement e : root.getAsJsonArray()) {
+                JsonObject result = e.getAsJsonObject();
+                JsonObject metric = result.getAsJsonObject("primaryMetric");
+                out.put(key(result), new Score(
+                        result.get("mode").getAsString(),
+                        metric.get("score").getAsDouble(),
+                        toDouble(metric.get("scoreError")),
+                        metric.get("scoreUnit").getAsString()));
+            }
+        }
+        else if (root.isJsonObject() && root.getAsJsonObject().has("scores")) {
+            for (Map.Entry<String, JsonElement> e : root.getAsJsonObject().getAsJsonObject(
+                    "scores").entrySet()) {
+                out.put(e.getKey(), GSON.fromJson(e.getValue(), Score.class));
+            }
+        }
+        else {
+            throw new IOException(file
+                    + " is neither a JMH result nor a baseline");
+        }
+        return out;
+    }
+
+    /**
+     * Writes this Baseline as JSON.
+     *
+     * @param file the file, may not be <code>null</code>
+     * @throws IOException if the file cannot be written
+     */
+    public void write(File file) throws IOException {
+        JsonObject root = new JsonObject();
+        root.addProperty("version", 1);
+        root.add("scores", GSON.toJsonTree(scores));
+        try (Writer out = Files.newBufferedWriter(file.toPath(),
+                StandardCharsets.UTF_8)) {
+            GSON.toJson(root, out);
+        }
+    }
+
+    /**
+     * Returns the benchmark name without the package followed by the sorted
+     * parameters.
+     */
+    static String key(JsonObject result) {
+        String benchmark = result.get("benchmark").getAsString();
+        int dot = benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1);
+        StringBuilder out = new StringBuilder(benchmark.substring(dot + 1));
+        JsonObject params = result.getAsJsonObject("params");
+        if (params != null) {
+            Map<String, String> sorted = new TreeMap<String, String>();
+            for (Map.Entry<String, JsonElement> e : params.entrySet()) {
+                sorted.put(e.getKey(), e.getValue().getAsString());
+            }
+            out.append(sorted);
+        }
+        return out.toString();
+    }
+
+    private static double toDouble(JsonElement e) {
+        if (e == null || e.isJsonNull()) {
+            return Double.NaN;
+        }
+        try {
+            return e.getAsDouble();
+        }
+        catch (NumberFormatException ex) {
+            return Double.NaN;
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * BenchmarkMain.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the benchmarks through the JMH command line, writing the results as
+ * JSON to <code>jmh-result.json</code> unless a result format is given.
+ * <p>
+ * Example: <code>java -jar target/benchmarks.jar SearchBenchmark.searchBytes
+ * -p kind=DNA -p textSize=1048576</code>
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class BenchmarkMain {
+
+    /**
+     * No instances needed.
+     */
+    private BenchmarkMain() {
+        super();
+    }
+
+    /**
+     * Shell interface.
+     *
+     * @param args the JMH command line arguments
+     * @throws Exception if JMH fails
+     */
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<String>(Arrays.asList(args));
+        if (!arguments.contains("-rf") && !arguments.contains("-h")
+                && !arguments.contains("-l")) {
+            arguments.add("-rf");
+            arguments.add("json");
+        }
+        Main.main(arguments.toArray(new String[arguments.size()]));
+    }
+
+}
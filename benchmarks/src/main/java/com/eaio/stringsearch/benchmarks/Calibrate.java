@@ -0,0 +1,493 @@
+/*
+ * Calibrate.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import com.eaio.stringsearch.HashQ;
+import com.eaio.stringsearch.SearchPlanner;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator.Kind;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Generates the calibration table of the {@link SearchPlanner} from
+ * {@link SearchBenchmark} and {@link BitParallelSearchBenchmark} results.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar '\.SearchBenchmark\.search(Bytes|Chars)$' -f 2 -wi 3 -i 4 -rf json -rff search.json
+ * java -jar target/benchmarks.jar '\.BitParallelSearchBenchmark\.search(Bytes|Chars)$' -p algorithm=BNDM -f 2 -wi 3 -i 4 -rf json -rff bndm.json
+ * java -cp target/benchmarks.jar com.eaio.stringsearch.benchmarks.Calibrate \
+ *     calibration.properties calibration-new.properties search.json bndm.json
+ * </pre>
+ *
+ * Each {@link Kind} of text except {@link Kind#PERIODIC} is assigned the
+ * alphabet of the planner by counting its distinct symbols. Pattern lengths
+ * are rounded up to the next power of two, so BNDM's 31 symbols compete with
+ * the other algorithms' 32. For every input, alphabet and pattern length, the
+ * algorithm with the lowest geometric mean of its average times wins; only
+ * algorithms that {@link StringSearch#matchesExactly() match exactly} and have
+ * results for all texts are considered. {@link HashQ} results for patterns
+ * shorter than <em>q</em> are left out because these patterns are searched
+ * with {@link com.eaio.stringsearch.BoyerMooreHorspoolRaita}. Algorithms
+ * within 5% of the winner plus the confidence intervals of both are ties, and
+ * the winner of the next shorter pattern length is kept if it is one of them. Consecutive pattern lengths with the same winner are merged
+ * into one entry.
+ * <p>
+ * The table entries of the template are replaced, all other lines are copied.
+ * The exit code is 0 if the table was written, 1 if the results are incomplete
+ * and 2 on usage or I/O errors.
+ *
+ * @see SearchPlanner
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class Calibrate {
+
+    private static final String[] INPUTS = { "bytes", "chars" };
+
+    private static final String[] ALPHABETS = { "small", "medium", "large" };
+
+    /**
+     * The logarithm of the factor by which a tie may be slower than the
+     * winner, in addition to the measurement errors.
+     */
+    private static final double TIE = Math.log(1.05d);
+
+    private final int smallAlphabet;
+
+    private final int mediumAlphabet;
+
+    private final Map<Kind, String> byteAlphabets = new EnumMap<Kind, String>(Kind.class);
+
+    private final Map<Kind, String> charAlphabets = new EnumMap<Kind, String>(Kind.class);
+
+    /**
+     * Prefix, for example <code>bytes.small.</code>, to pattern length to
+     * algorithm to logarithms of the scores and their relative errors.
+     */
+    private final Map<String, TreeMap<Integer, Map<String, List<double[]>>>> scores = new TreeMap<String, TreeMap<Integer, Map<String, List<double[]>>>>();
+
+    private final Map<String, StringSearch> instances = new TreeMap<String, StringSearch>();
+
+    /**
+     * Constructor for Calibrate.
+     *
+     * @param smallAlphabet the largest number of symbols of a small alphabet
+     * @param mediumAlphabet the largest number of symbols of a medium alphabet
+     */
+    public Calibrate(int smallAlphabet, int mediumAlphabet) {
+        this.smallAlphabet = smallAlphabet;
+        this.mediumAlphabet = mediumAlphabet;
+    }
+
+    /**
+     * Adds the results of a JMH result file. Benchmarks other than
+     * <code>searchBytes</code> and <code>searchChars</code> are ignored.
+     *
+     * @param file the JMH result file (<code>-rf json</code>), may not be
+     * <code>null</code>
+     * @throws IOException if the file cannot be read, has an unknown format or
+     * contains unknown algorithms
+     */
+    public void add(File file) throws IOException {
+        JsonElement root;
+        try (Reader in = Files.newBufferedReader(file.toPath(),
+                StandardCharsets.UTF_8)) {
+            root = JsonParser.parseReader(in);
+        }
+        catch (JsonParseException ex) {
+            throw new IOException(file + ": " + ex.getMessage(), ex);
+        }
+        if (!root.isJsonArray()) {
+            throw new IOException(file + " is not a JMH result");
+        }
+        for (JsonElement e : root.getAsJsonArray()) {
+            JsonObject result = e.getAsJsonObject();
+            String benchmark = result.get("benchmark").getAsString();
+            String input;
+            if (benchmark.endsWith(".searchBytes")) {
+                input = "bytes";
+            }
+            else if (benchmark.endsWith(".searchChars")) {
+                input = "chars";
+            }
+            else {
+                continue;
+            }
+            JsonObject params = result.getAsJsonObject("params");
+            if (params == null || !params.has("algorithm")
+                    || !params.has("kind") || !params.has("patternLength")) {
+                continue;
+            }
+            if (!"avgt".equals(result.get("mode").getAsString())) {
+                throw new IOException(file + ": " + benchmark
+                        + " was not run in average time mode");
+            }
+            Kind kind;
+            try {
+                kind = Kind.valueOf(params.get("kind").getAsString());
+            }
+            catch (IllegalArgumentException ex) {
+                throw new IOException(file + ": " + ex.getMessage(), ex);
+            }
+            JsonObject metric = result.getAsJsonObject("primaryMetric");
+            double error = metric.has("scoreError") ? metric.get(
+                    "scoreError").getAsDouble() : 0d;
+            add(input, params.get("algorithm").getAsString(), kind,
+                    params.get("patternLength").getAsInt(),
+                    metric.get("score").getAsDouble(), Double.isNaN(error) ? 0d
+                            : error);
+        }
+    }
+
+    /**
+     * Adds a single score.
+     *
+     * @param input <code>bytes</code> or <code>chars</code>
+     * @param algorithm the name of the algorithm
+     * @param kind the Kind of text
+     * @param patternLength the number of symbols in the pattern
+     * @param score the average time
+     * @throws IOException if the algorithm is unknown
+     */
+    void add(String input, String algorithm, Kind kind, int patternLength,
+            double score) throws IOException {
+        add(input, algorithm, kind, patternLength, score, 0d);
+    }
+
+    /**
+     * Adds a single score and its error.
+     *
+     * @param input <code>bytes</code> or <code>chars</code>
+     * @param algorithm the name of the algorithm
+     * @param kind the Kind of text
+     * @param patternLength the number of symbols in the pattern
+     * @param score the average time
+     * @param error the half-width of the confidence interval of the score
+     * @throws IOException if the algorithm is unknown
+     */
+    void add(String input, String algorithm, Kind kind, int patternLength,
+            double score, double error) throws IOException {
+        StringSearch search = instance(algorithm);
+        if (kind == Kind.PERIODIC || !search.matchesExactly()
+                || search instanceof HashQ
+                && patternLength < ((HashQ) search).getQ()) {
+            return;
+        }
+        String prefix = input + '.' + alphabet(input, kind) + '.';
+        TreeMap<Integer, Map<String, List<double[]>>> lengths = scores.get(prefix);
+        if (lengths == null) {
+            lengths = new TreeMap<Integer, Map<String, List<double[]>>>();
+            scores.put(prefix, lengths);
+        }
+        int length = patternLength <= 1 ? 1
+                : Integer.highestOneBit(patternLength - 1) << 1;
+        Map<String, List<double[]>> algorithms = lengths.get(length);
+        if (algorithms == null) {
+            algorithms = new TreeMap<String, List<double[]>>();
+            lengths.put(length, algorithms);
+        }
+        List<double[]> logs = algorithms.get(algorithm);
+        if (logs == null) {
+            logs = new ArrayList<double[]>();
+            algorithms.put(algorithm, logs);
+        }
+        logs.add(new double[] { Math.log(score), error / score });
+    }
+
+    private StringSearch instance(String algorithm) throws IOException {
+        StringSearch out = instances.get(algorithm);
+        if (out == null) {
+            String className = algorithm.indexOf('.') == -1 ? "com.eaio.stringsearch."
+                    + algorithm
+                    : algorithm;
+            try {
+                out = (StringSearch) Class.forName(className).getDeclaredConstructor().newInstance();
+            }
+            catch (ReflectiveOperationException ex) {
+                throw new IOException("unknown algorithm " + algorithm, ex);
+            }
+            catch (ClassCastException ex) {
+                throw new IOException(algorithm + " is not a StringSearch", ex);
+            }
+            instances.put(algorithm, out);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the alphabet of the planner for the Kind of text.
+     */
+    String alphabet(String input, Kind kind) {
+        Map<Kind, String> alphabets = "bytes".equals(input) ? byteAlphabets
+                : charAlphabets;
+        String out = alphabets.get(kind);
+        if (out == null) {
+            CorpusGenerator corpus = new CorpusGenerator(kind, 42L);
+            BitSet symbols = new BitSet();
+            if ("bytes".equals(input)) {
+                for (byte b : corpus.bytes(65536)) {
+                    symbols.set(b & 0xff);
+                }
+            }
+            else {
+                for (char c : corpus.chars(65536)) {
+                    symbols.set(c);
+                }
+            }
+            int size = symbols.cardinality();
+            out = size <= smallAlphabet ? "small"
+                    : size <= mediumAlphabet ? "medium" : "large";
+            alphabets.put(kind, out);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the calibration table.
+     *
+     * @return the entries in order, never <code>null</code>
+     * @throws IllegalStateException if there are no complete results for an
+     * input and alphabet
+     */
+    public Map<String, String> getTable() {
+        Map<String, String> out = new LinkedHashMap<String, String>();
+        for (String input : INPUTS) {
+            for (String alphabet : ALPHABETS) {
+                String prefix = input + '.' + alphabet + '.';
+                TreeMap<Integer, Map<String, List<double[]>>> lengths = scores.get(prefix);
+                if (lengths == null) {
+                    throw new IllegalStateException("no results for " + prefix
+                            + "*");
+                }
+                String previous = null;
+                int previousLength = 0;
+                for (Map.Entry<Integer, Map<String, List<double[]>>> e : lengths.entrySet()) {
+                    String winner = winner(e.getValue(), previous);
+                    if (previous != null && !previous.equals(winner)) {
+                        out.put(prefix + previousLength, previous);
+                    }
+                    previous = winner;
+                    previousLength = e.getKey();
+                }
+                out.put(prefix + "max", previous);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns the algorithm with the lowest geometric mean among those with
+     * the most scores or the previous winner if it is a tie. The error of a
+     * mean is the root of the sum of the squared relative errors divided by
+     * the number of scores.
+     */
+    private static String winner(Map<String, List<double[]>> algorithms,
+            String previous) {
+        int samples = 0;
+        for (List<double[]> logs : algorithms.values()) {
+            samples = Math.max(samples, logs.size());
+        }
+        Map<String, double[]> means = new TreeMap<String, double[]>();
+        String out = null;
+        double[] best = null;
+        for (Map.Entry<String, List<double[]>> e : algorithms.entrySet()) {
+            if (e.getValue().size() == samples) {
+                double sum = 0d;
+                double squares = 0d;
+                for (double[] log : e.getValue()) {
+                    sum += log[0];
+                    squares += log[1] * log[1];
+                }
+                double[] mean = { sum / samples, Math.sqrt(squares) / samples };
+                means.put(e.getKey(), mean);
+                if (best == null || mean[0] < best[0]) {
+                    best = mean;
+                    out = e.getKey();
+                }
+            }
+        }
+        double[] mean = previous == null ? null : means.get(previous);
+        return mean != null && mean[0] - best[0] <= TIE + mean[1] + best[1] ? previous
+                : out;
+    }
+
+    /**
+     * Copies the template and replaces its table entries.
+     *
+     * @param template the lines of the calibration file
+     * @param table the table entries
+     * @return the lines of the new calibration file
+     */
+    static List<String> merge(List<String> template, Map<String, String> table) {
+        List<String> out = new ArrayList<String>();
+        boolean written = false;
+        boolean inTable = false;
+        for (String line : template) {
+            String trimmed = line.trim();
+            if (isTableEntry(trimmed)) {
+                if (!written) {
+                    String input = null;
+                    for (Map.Entry<String, String> e : table.entrySet()) {
+                        String key = e.getKey();
+                        String next = key.substring(0, key.indexOf('.',
+                                key.indexOf('.') + 1));
+                        if (input != null && !input.equals(next)) {
+                            out.add("");
+                        }
+                        input = next;
+                        out.add(key + '=' + e.getValue());
+                    }
+                    written = true;
+                }
+                inTable = true;
+            }
+            else if (!inTable || trimmed.length() > 0) {
+                if (inTable) {
+                    out.add("");
+                    inTable = false;
+                }
+                out.add(line);
+            }
+        }
+        return out;
+    }
+
+    private static boolean isTableEntry(String line) {
+        for (String input : INPUTS) {
+            for (String alphabet : ALPHABETS) {
+                if (line.startsWith(input + '.' + alphabet + '.')) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Shell interface.
+     *
+     * @param args <code>&lt;template&gt; &lt;output&gt; &lt;result&gt;...</code>
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length < 3) {
+            return usage(err);
+        }
+        File template = new File(args[0]);
+        File output = new File(args[1]);
+        try {
+            Properties properties = new Properties();
+            try (Reader in = Files.newBufferedReader(template.toPath(),
+                    StandardCharsets.ISO_8859_1)) {
+                properties.load(in);
+            }
+            Calibrate calibrate = new Calibrate(Integer.parseInt(
+                    properties.getProperty("alphabet.small", "8").trim()),
+                    Integer.parseInt(properties.getProperty("alphabet.medium",
+                            "64").trim()));
+            for (int i = 2; i < args.length; ++i) {
+                calibrate.add(new File(args[i]));
+            }
+            Map<String, String> table;
+            try {
+                table = calibrate.getTable();
+            }
+            catch (IllegalStateException ex) {
+                err.println(ex.getMessage());
+                return 1;
+            }
+            List<String> lines = merge(Files.readAllLines(template.toPath(),
+                    StandardCharsets.ISO_8859_1), table);
+
+            Properties merged = new Properties();
+            StringBuilder text = new StringBuilder();
+            for (String line : lines) {
+                text.append(line).append('\n');
+            }
+            merged.load(new StringReader(text.toString()));
+            try {
+                new SearchPlanner(merged);
+            }
+            catch (IllegalArgumentException ex) {
+                err.println(ex.getMessage());
+                return 1;
+            }
+
+            try (Writer w = Files.newBufferedWriter(output.toPath(),
+                    StandardCharsets.ISO_8859_1)) {
+                w.write(text.toString());
+            }
+            for (Map.Entry<String, String> e : table.entrySet()) {
+                out.println(e.getKey() + '=' + e.getValue());
+            }
+            out.println("Wrote " + table.size() + " entries to " + output);
+            return 0;
+        }
+        catch (IOException ex) {
+            err.println(ex.getMessage());
+            return 2;
+        }
+        catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            return usage(err);
+        }
+    }
+
+    private static int usage(PrintStream err) {
+        err.println("Usage: Calibrate <calibration.properties> <output.properties>"
+                + " <jmh-result.json>...");
+        return 2;
+    }
+
+}
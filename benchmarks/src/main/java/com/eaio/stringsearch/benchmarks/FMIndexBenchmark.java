@@ -0,0 +1,142 @@
+/*
+ * FMIndexBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.BoyerMooreHorspool;
+import com.eaio.stringsearch.FMIndex;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Counts and locates the occurrences of 100 different patterns in 16 MB of
+ * English text with a memory mapped {@link FMIndex} and with
+ * {@link BoyerMooreHorspool} scans.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class FMIndexBenchmark {
+
+    @Param({ "8", "32" })
+    public int patternLength;
+
+    @Param({ "32" })
+    public int sampleRate;
+
+    private byte[] text;
+
+    private byte[][] patterns;
+
+    private File file;
+
+    private FMIndex index;
+
+    private final StringSearch scan = new BoyerMooreHorspool();
+
+    private Object[] processed;
+
+    /**
+     * Generates the text and the patterns, builds the index and maps it.
+     */
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.ENGLISH,
+                42L);
+        text = g.bytes(1 << 24);
+        patterns = new byte[100][];
+        processed = new Object[patterns.length];
+        for (int i = 0; i < patterns.length; ++i) {
+            patterns[i] = g.bytePattern(patternLength);
+            processed[i] = scan.processBytes(patterns[i]);
+        }
+        file = File.createTempFile("fmindex", ".idx");
+        new FMIndex(text, sampleRate).writeTo(file);
+        index = FMIndex.map(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() {
+        file.deleteOnExit();
+    }
+
+    @Benchmark
+    public int count() {
+        int out = 0;
+        for (byte[] pattern : patterns) {
+            out += index.count(pattern);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int locate() {
+        int out = 0;
+        for (byte[] pattern : patterns) {
+            out += index.locate(pattern).length;
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int scan() {
+        int out = 0;
+        for (int i = 0; i < patterns.length; ++i) {
+            int pos = -1;
+            while ((pos = scan.searchBytes(text, pos + 1, text.length,
+                    patterns[i], processed[i])) != -1) {
+                ++out;
+            }
+        }
+        return out;
+    }
+
+}
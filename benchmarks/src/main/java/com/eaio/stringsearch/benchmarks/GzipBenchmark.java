@@ -0,0 +1,128 @@
+/*
+ * GzipBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.BoyerMooreHorspool;
+import com.eaio.stringsearch.StreamSearch;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Counts the matches of a pattern in 32 MB of gzip compressed log lines by
+ * decompressing everything first, by decompressing and searching in one
+ * thread and by decompressing on a second thread with {@link StreamSearch}.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class GzipBenchmark {
+
+    private byte[] compressed;
+
+    private final byte[] pattern = "connection 42 refused".getBytes();
+
+    private final StringSearch search = new BoyerMooreHorspool();
+
+    private final Object processed = search.processBytes(pattern);
+
+    private final StreamSearch sequential = new StreamSearch(search, pattern,
+            StreamSearch.DEFAULT_BUFFER_SIZE, 1);
+
+    private final StreamSearch pipelined = new StreamSearch(search, pattern);
+
+    /**
+     * Generates and compresses the log lines.
+     */
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        byte[] text = new CorpusGenerator(CorpusGenerator.Kind.LOG, 42L)
+                .bytes(1 << 25);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 1 << 16);
+        gzip.write(text);
+        gzip.close();
+        compressed = out.toByteArray();
+    }
+
+    @Benchmark
+    public int decompressThenSearch() throws IOException {
+        GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(
+                compressed), 1 << 16);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 25);
+        byte[] buf = new byte[1 << 16];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+        byte[] text = out.toByteArray();
+        int count = 0;
+        int pos = -1;
+        while ((pos = search.searchBytes(text, pos + 1, text.length, pattern,
+                processed)) != -1) {
+            ++count;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long sequential() throws IOException {
+        return sequential.searchGzip(new ByteArrayInputStream(compressed),
+                null);
+    }
+
+    @Benchmark
+    public long pipelined() throws IOException {
+        return pipelined.searchGzip(new ByteArrayInputStream(compressed), null);
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * HotPathBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.BNDM;
+import com.eaio.stringsearch.BoyerMooreHorspool;
+import com.eaio.stringsearch.BoyerMooreHorspoolRaita;
+import com.eaio.stringsearch.ShiftOrMismatches;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * The throughput of the paths the {@link RegressionGate} guards: the one and
+ * two symbol loops of BoyerMooreHorspool and BoyerMooreHorspoolRaita and the
+ * bit-parallel loops of BNDM and ShiftOrMismatches, over 1 MB of text.
+ * <p>
+ * The parameter space is deliberately small so a gate run takes a few
+ * minutes.
+ *
+ * @see SearchBenchmark
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HotPathBenchmark {
+
+    /**
+     * The Kind of text.
+     */
+    @Param({ "ENGLISH", "DNA" })
+    public CorpusGenerator.Kind kind;
+
+    private final StringSearch bmh = new BoyerMooreHorspool();
+
+    private final StringSearch raita = new BoyerMooreHorspoolRaita();
+
+    private final StringSearch bndm = new BNDM();
+
+    private final StringSearch shiftOr = new ShiftOrMismatches();
+
+    private byte[] bytes;
+
+    private char[] chars;
+
+    private byte[] oneByte, twoBytes, longBytes;
+
+    private char[] oneChar, twoChars, longChars;
+
+    private Object bmhOneByte, bmhTwoBytes, raitaOneChar, raitaTwoChars,
+            bndmBytes, bndmChars, shiftOrBytes, shiftOrChars;
+
+    /**
+     * Generates the texts and pre-processes the patterns.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        CorpusGenerator corpus = new CorpusGenerator(kind, 42L);
+        bytes = corpus.bytes(1 << 20);
+        chars = corpus.chars(1 << 20);
+
+        oneByte = corpus.bytePattern(1);
+        twoBytes = corpus.bytePattern(2);
+        longBytes = corpus.bytePattern(16);
+        oneChar = corpus.charPattern(1);
+        twoChars = corpus.charPattern(2);
+        longChars = corpus.charPattern(16);
+
+        corpus.plant(bytes, longBytes, 16);
+        corpus.plant(chars, longChars, 16);
+
+        bmhOneByte = bmh.processBytes(oneByte);
+        bmhTwoBytes = bmh.processBytes(twoBytes);
+        raitaOneChar = raita.processChars(oneChar);
+        raitaTwoChars = raita.processChars(twoChars);
+        bndmBytes = bndm.processBytes(longBytes);
+        bndmChars = bndm.processChars(longChars);
+        shiftOrBytes = shiftOr.processBytes(longBytes);
+        shiftOrChars = shiftOr.processChars(longChars);
+    }
+
+    @Benchmark
+    public int horspoolOneByte() {
+        return count(bmh, bytes, oneByte, bmhOneByte);
+    }
+
+    @Benchmark
+    public int horspoolTwoBytes() {
+        return count(bmh, bytes, twoBytes, bmhTwoBytes);
+    }
+
+    @Benchmark
+    public int raitaOneChar() {
+        return count(raita, chars, oneChar, raitaOneChar);
+    }
+
+    @Benchmark
+    public int raitaTwoChars() {
+        return count(raita, chars, twoChars, raitaTwoChars);
+    }
+
+    @Benchmark
+    public int bndmBytes() {
+        return count(bndm, bytes, longBytes, bndmBytes);
+    }
+
+    @Benchmark
+    public int bndmChars() {
+        return count(bndm, chars, longChars, bndmChars);
+    }
+
+    @Benchmark
+    public int shiftOrBytes() {
+        return count(shiftOr, bytes, longBytes, shiftOrBytes);
+    }
+
+    @Benchmark
+    public int shiftOrChars() {
+        return count(shiftOr, chars, longChars, shiftOrChars);
+    }
+
+    private static int count(StringSearch s, byte[] text, byte[] pattern,
+            Object processed) {
+        int count = 0;
+        int pos = -1;
+        while ((pos = s.searchBytes(text, pos + 1, text.length, pattern,
+                processed)) != -1) {
+            ++count;
+        }
+        return count;
+    }
+
+    private static int count(StringSearch s, char[] text, char[] pattern,
+            Object processed) {
+        int count = 0;
+        int pos = -1;
+        while ((pos = s.searchChars(text, pos + 1, text.length, pattern,
+                processed)) != -1) {
+            ++count;
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * LineMatcherBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.BoyerMooreHorspool;
+import com.eaio.stringsearch.ByteScanner;
+import com.eaio.stringsearch.LineMatcher;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Counts the lines of 32 MB of log lines that contain a pattern by splitting
+ * the text into lines and searching each one and by searching the whole text
+ * with a {@link LineMatcher}.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class LineMatcherBenchmark {
+
+    @Param({ "connection 42 refused", "ERROR" })
+    public String pattern;
+
+    private byte[] text;
+
+    private byte[] bytes;
+
+    private final StringSearch search = new BoyerMooreHorspool();
+
+    private Object processed;
+
+    private LineMatcher matcher;
+
+    private LineMatcher numbered;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        text = new CorpusGenerator(CorpusGenerator.Kind.LOG, 42L)
+                .bytes(1 << 25);
+        bytes = pattern.getBytes();
+        processed = search.processBytes(bytes);
+        matcher = new LineMatcher(search, bytes);
+        numbered = new LineMatcher(search, bytes, true);
+    }
+
+    @Benchmark
+    public int perLine() {
+        int count = 0;
+        int start = 0;
+        while (start < text.length) {
+            int end = ByteScanner.indexOf(text, start, text.length,
+                    (byte) '\n');
+            if (end == -1) {
+                end = text.length;
+            }
+            if (search.searchBytes(text, start, end, bytes, processed) != -1) {
+                ++count;
+            }
+            start = end + 1;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long lineMatcher() {
+        return matcher.match(text, 0, text.length, null);
+    }
+
+    @Benchmark
+    public long lineMatcherWithLineNumbers() {
+        return numbered.match(text, 0, text.length, null);
+    }
+
+}
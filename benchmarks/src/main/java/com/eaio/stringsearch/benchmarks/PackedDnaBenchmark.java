@@ -0,0 +1,154 @@
+/*
+ * PackedDnaBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.BNDM;
+import com.eaio.stringsearch.Hash5;
+import com.eaio.stringsearch.PackedDna;
+import com.eaio.stringsearch.PackedDnaSearch;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Counts all occurrences of a DNA pattern in 16 MB and 256 MB of bases, packed
+ * with
+ * {@link PackedDnaSearch} and as ASCII with {@link BNDM} and {@link Hash5}.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx3g")
+public class PackedDnaBenchmark {
+
+    /**
+     * The number of bases in the text. 256 MB do not fit into the caches,
+     * which is where packing pays off.
+     */
+    @Param({ "16777216", "268435456" })
+    public int textSize;
+
+    /**
+     * The number of bases in the pattern.
+     */
+    @Param({ "8", "16", "32", "64" })
+    public int patternLength;
+
+    private byte[] ascii;
+
+    private byte[] pattern;
+
+    private PackedDna packed;
+
+    private PackedDnaSearch packedSearch;
+
+    private PackedDnaSearch bothStrands;
+
+    private final StringSearch bndm = new BNDM();
+
+    private final StringSearch hash5 = new Hash5();
+
+    private Object bndmProcessed, hash5Processed;
+
+    /**
+     * Generates the text and pre-processes the pattern.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.DNA, 42L);
+        ascii = g.bytes(textSize);
+        pattern = g.bytePattern(patternLength);
+        g.plant(ascii, pattern, CorpusGenerator.hits(ascii.length, 16));
+        packed = PackedDna.pack(ascii);
+        String p = new String(pattern, StandardCharsets.US_ASCII);
+        packedSearch = new PackedDnaSearch(p);
+        bothStrands = new PackedDnaSearch(p, true);
+        bndmProcessed = bndm.processBytes(pattern);
+        hash5Processed = hash5.processBytes(pattern);
+    }
+
+    @Benchmark
+    public int packed() {
+        return count(packedSearch);
+    }
+
+    @Benchmark
+    public int packedBothStrands() {
+        return count(bothStrands);
+    }
+
+    @Benchmark
+    public int asciiBNDM() {
+        return count(bndm, bndmProcessed);
+    }
+
+    @Benchmark
+    public int asciiHash5() {
+        return count(hash5, hash5Processed);
+    }
+
+    private int count(PackedDnaSearch s) {
+        int out = 0;
+        long pos = -1L;
+        while ((pos = s.indexOf(packed, pos + 1)) != -1L) {
+            ++out;
+        }
+        return out;
+    }
+
+    private int count(StringSearch s, Object processed) {
+        int out = 0;
+        int pos = -1;
+        while ((pos = s.searchBytes(ascii, pos + 1, ascii.length, pattern,
+                processed)) != -1) {
+            ++out;
+        }
+        return out;
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * ParallelSearchBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.ParallelSearch;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Searches 256 MB of English text for a pattern that only occurs near the end
+ * and collects all occurrences of a frequent word, once with the algorithm
+ * alone and once wrapped in a {@link ParallelSearch}.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class ParallelSearchBenchmark {
+
+    @Param({ "BoyerMooreHorspool", "BNDM" })
+    public String algorithm;
+
+    private byte[] text;
+
+    private byte[] pattern;
+
+    private final byte[] word = " the ".getBytes();
+
+    private StringSearch sequential;
+
+    private ParallelSearch parallel;
+
+    private Object processed, wordProcessed;
+
+    /**
+     * Generates the text and pre-processes the pattern.
+     */
+    @Setup(Level.Trial)
+    public void generate() throws Exception {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.ENGLISH,
+                42L);
+        text = g.bytes(1 << 28);
+        pattern = g.bytePattern(16);
+        pattern[pattern.length / 2] = '|';
+        System.arraycopy(pattern, 0, text, text.length - text.length / 8,
+                pattern.length);
+        sequential = (StringSearch) Class.forName(
+                "com.eaio.stringsearch." + algorithm).newInstance();
+        parallel = new ParallelSearch(sequential);
+        processed = sequential.processBytes(pattern);
+        wordProcessed = sequential.processBytes(word);
+    }
+
+    @Benchmark
+    public int sequential() {
+        return sequential.searchBytes(text, 0, text.length, pattern, processed);
+    }
+
+    @Benchmark
+    public int parallel() {
+        return parallel.searchBytes(text, 0, text.length, pattern, processed);
+    }
+
+    @Benchmark
+    public int sequentialAll() {
+        int out = 0;
+        int pos = -1;
+        while ((pos = sequential.searchBytes(text, pos + 1, text.length, word,
+                wordProcessed)) != -1) {
+            ++out;
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int parallelAll() {
+        return parallel.searchAllBytes(text, 0, text.length, word,
+                wordProcessed, true).length;
+    }
+
+}
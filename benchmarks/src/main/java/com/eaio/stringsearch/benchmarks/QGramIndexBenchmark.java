@@ -0,0 +1,128 @@
+/*
+ * QGramIndexBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.BNDM;
+import com.eaio.stringsearch.QGramIndex;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Finds the documents containing 10 patterns among 200,000 short excerpts of
+ * a log file with a {@link QGramIndex} and by scanning every document with
+ * {@link BNDM}. The patterns are taken from random documents.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class QGramIndexBenchmark {
+
+    @Param({ "8", "16" })
+    public int patternLength;
+
+    private String[] documents;
+
+    private String[] patterns;
+
+    private QGramIndex index;
+
+    private final StringSearch scan = new BNDM();
+
+    private Object[] processed;
+
+    /**
+     * Generates the documents and the patterns and builds the index.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.LOG, 42L);
+        Random r = new Random(42L);
+        char[] text = g.chars(1 << 25);
+        documents = new String[200000];
+        index = new QGramIndex();
+        for (int i = 0; i < documents.length; ++i) {
+            int length = 50 + r.nextInt(200);
+            documents[i] = new String(text, r.nextInt(text.length - length),
+                    length);
+            index.add(documents[i]);
+        }
+        patterns = new String[10];
+        processed = new Object[patterns.length];
+        for (int i = 0; i < patterns.length; ++i) {
+            String document = documents[r.nextInt(documents.length)];
+            int start = r.nextInt(document.length() - patternLength);
+            patterns[i] = document.substring(start, start + patternLength);
+            processed[i] = scan.processString(patterns[i]);
+        }
+    }
+
+    @Benchmark
+    public int index() {
+        int out = 0;
+        for (String pattern : patterns) {
+            out += index.search(pattern).length;
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int scan() {
+        int out = 0;
+        for (int i = 0; i < patterns.length; ++i) {
+            for (String document : documents) {
+                if (scan.searchString(document, patterns[i], processed[i]) != -1) {
+                    ++out;
+                }
+            }
+        }
+        return out;
+    }
+
+}
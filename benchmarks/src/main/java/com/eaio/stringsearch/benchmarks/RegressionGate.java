@@ -0,0 +1,255 @@
+/*
+ * RegressionGate.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records JMH results as a baseline and fails if a later run is slower than
+ * the baseline.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar HotPathBenchmark -rff hot.json
+ * java -cp target/benchmarks.jar com.eaio.stringsearch.benchmarks.RegressionGate \
+ *     record hot.json baseline.json
+ * ... change the code, rebuild, re-run the benchmark ...
+ * java -cp target/benchmarks.jar com.eaio.stringsearch.benchmarks.RegressionGate \
+ *     compare hot.json baseline.json [-threshold 0.05] [-threshold HotPathBenchmark.shiftOr=0.1] [-errors 1]
+ * </pre>
+ *
+ * A score regresses if it is worse than the baseline by more than the
+ * threshold (a fraction of the baseline score, 5% by default) <em>and</em> the
+ * difference exceeds the sum of both confidence intervals times the error
+ * factor. Thresholds can be set per key prefix; the longest matching prefix
+ * wins. Benchmarks in the baseline that are missing from the run and changed
+ * units are failures, too.
+ * <p>
+ * The exit code is 0 if there are no regressions, 1 if there are and 2 on
+ * usage or I/O errors.
+ *
+ * @see Baseline
+ * @see HotPathBenchmark
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class RegressionGate {
+
+    private final Map<String, Double> thresholds = new TreeMap<String, Double>();
+
+    private double defaultThreshold = 0.05d;
+
+    private double errorFactor = 1d;
+
+    /**
+     * Sets the threshold for all keys that are not matched by a prefix.
+     *
+     * @param threshold a fraction of the baseline score, at least 0
+     */
+    public void setDefaultThreshold(double threshold) {
+        defaultThreshold = checkThreshold(threshold);
+    }
+
+    /**
+     * Sets the threshold for all keys that start with the given prefix.
+     *
+     * @param prefix the prefix, may not be <code>null</code>
+     * @param threshold a fraction of the baseline score, at least 0
+     */
+    public void setThreshold(String prefix, double threshold) {
+        thresholds.put(prefix, checkThreshold(threshold));
+    }
+
+    /**
+     * Sets how many confidence intervals a difference must exceed.
+     *
+     * @param errorFactor the factor, at least 0
+     */
+    public void setErrorFactor(double errorFactor) {
+        if (errorFactor < 0d) {
+            throw new IllegalArgumentException("error factor must not be negative");
+        }
+        this.errorFactor = errorFactor;
+    }
+
+    /**
+     * Returns the threshold for a key.
+     *
+     * @param key the key, may not be <code>null</code>
+     * @return a fraction of the baseline score
+     */
+    public double getThreshold(String key) {
+        String match = null;
+        for (String prefix : thresholds.keySet()) {
+            if (key.startsWith(prefix)
+                    && (match == null || prefix.length() > match.length())) {
+                match = prefix;
+            }
+        }
+        return match == null ? defaultThreshold : thresholds.get(match);
+    }
+
+    /**
+     * Compares a run against the baseline.
+     *
+     * @param baseline the Baseline, may not be <code>null</code>
+     * @param run the scores of the run, may not be <code>null</code>
+     * @param report receives one line per compared score, may be
+     * <code>null</code>
+     * @return the failures, never <code>null</code>
+     */
+    public List<String> compare(Baseline baseline, Baseline run,
+            PrintStream report) {
+        List<String> out = new ArrayList<String>();
+        for (Map.Entry<String, Baseline.Score> e : baseline.getScores().entrySet()) {
+            String key = e.getKey();
+            Baseline.Score base = e.getValue();
+            Baseline.Score current = run.getScores().get(key);
+            if (current == null) {
+                out.add(key + ": missing from run");
+                continue;
+            }
+            if (!base.getUnit().equals(current.getUnit())) {
+                out.add(key + ": unit changed from " + base.getUnit() + " to "
+                        + current.getUnit());
+                continue;
+            }
+            double difference = base.isHigherBetter() ? base.getScore()
+                    - current.getScore() : current.getScore() - base.getScore();
+            double change = difference / base.getScore();
+            boolean regression = change > getThreshold(key)
+                    && difference > errorFactor
+                            * (base.getError() + current.getError());
+            String line = String.format("%s: %s -> %s (%+.1f%%)", key, base,
+                    current, -change * 100d);
+            if (regression) {
+                out.add(line);
+            }
+            if (report != null) {
+                report.println((regression ? "REGRESSION " : "ok         ")
+                        + line);
+            }
+        }
+        return out;
+    }
+
+    private static double checkThreshold(double threshold) {
+        if (threshold < 0d || Double.isNaN(threshold)) {
+            throw new IllegalArgumentException("threshold must not be negative");
+        }
+        return threshold;
+    }
+
+    /**
+     * Shell interface.
+     *
+     * @param args <code>record &lt;result&gt; &lt;baseline&gt;</code> or
+     * <code>compare &lt;result&gt; &lt;baseline&gt; [options]</code>
+     */
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length < 3 || !"record".equals(args[0])
+                && !"compare".equals(args[0])) {
+            return usage(err);
+        }
+        File result = new File(args[1]);
+        File baselineFile = new File(args[2]);
+        try {
+            if ("record".equals(args[0])) {
+                if (args.length != 3) {
+                    return usage(err);
+                }
+                Baseline run = Baseline.read(result);
+                run.write(baselineFile);
+                out.println("Recorded " + run.getScores().size()
+                        + " scores in " + baselineFile);
+                return 0;
+            }
+            RegressionGate gate = new RegressionGate();
+            for (int i = 3; i < args.length; i += 2) {
+                if (i + 1 == args.length) {
+                    return usage(err);
+                }
+                String value = args[i + 1];
+                if ("-threshold".equals(args[i])) {
+                    int eq = value.lastIndexOf('=');
+                    if (eq == -1) {
+                        gate.setDefaultThreshold(Double.parseDouble(value));
+                    }
+                    else {
+                        gate.setThreshold(value.substring(0, eq),
+                                Double.parseDouble(value.substring(eq + 1)));
+                    }
+                }
+                else if ("-errors".equals(args[i])) {
+                    gate.setErrorFactor(Double.parseDouble(value));
+                }
+                else {
+                    return usage(err);
+                }
+            }
+            List<String> failures = gate.compare(Baseline.read(baselineFile),
+                    Baseline.read(result), out);
+            if (failures.isEmpty()) {
+                out.println("No regressions.");
+                return 0;
+            }
+            err.println(failures.size() + " regression(s):");
+            for (String failure : failures) {
+                err.println("  " + failure);
+            }
+            return 1;
+        }
+        catch (IOException ex) {
+            err.println(ex.getMessage());
+            return 2;
+        }
+        catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            return usage(err);
+        }
+    }
+
+    private static int usage(PrintStream err) {
+        err.println("Usage: RegressionGate record <jmh-result.json> <baseline.json>");
+        err.println("       RegressionGate compare <jmh-result.json> <baseline.json>"
+                + " [-threshold [<prefix>=]<fraction>]... [-errors <factor>]");
+        return 2;
+    }
+
+}
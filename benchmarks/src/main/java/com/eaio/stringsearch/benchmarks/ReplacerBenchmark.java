@@ -0,0 +1,144 @@
+/*
+ * ReplacerBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.Replacer;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Fills the placeholders of a 1 MB English template with
+ * {@link String#replace(CharSequence, CharSequence)} and with a
+ * {@link Replacer}, for one placeholder and for four.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReplacerBenchmark {
+
+    private static final String[] PLACEHOLDERS = { "${name}", "${product}",
+            "${date}", "${version}" };
+
+    private static final String[] VALUES = { "Johann", "StringSearch",
+            "19.10.2026", "2.2" };
+
+    private String template;
+
+    private byte[] bytes;
+
+    private Replacer one;
+
+    private Replacer four;
+
+    private final StringBuilder builder = new StringBuilder();
+
+    private ByteBuffer buffer;
+
+    /**
+     * Inserts a placeholder about every 200 characters.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        char[] text = new CorpusGenerator(CorpusGenerator.Kind.ENGLISH, 42L)
+                .chars(1 << 20);
+        StringBuilder b = new StringBuilder(text.length + (text.length >> 4));
+        for (int i = 0; i < text.length; i += 200) {
+            b.append(text, i, Math.min(200, text.length - i));
+            b.append(PLACEHOLDERS[(i / 200) % PLACEHOLDERS.length]);
+        }
+        template = b.toString();
+        bytes = template.getBytes();
+        buffer = ByteBuffer.allocate(bytes.length << 1);
+
+        one = new Replacer(null, PLACEHOLDERS[0], VALUES[0]);
+        Map<String, String> m = new LinkedHashMap<String, String>();
+        for (int i = 0; i < PLACEHOLDERS.length; ++i) {
+            m.put(PLACEHOLDERS[i], VALUES[i]);
+        }
+        four = new Replacer(null, m);
+    }
+
+    @Benchmark
+    public String stringReplaceOne() {
+        return template.replace(PLACEHOLDERS[0], VALUES[0]);
+    }
+
+    @Benchmark
+    public String replacerOne() {
+        return one.replace(template);
+    }
+
+    @Benchmark
+    public String stringReplaceFour() {
+        String out = template;
+        for (int i = 0; i < PLACEHOLDERS.length; ++i) {
+            out = out.replace(PLACEHOLDERS[i], VALUES[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public String replacerFour() {
+        return four.replace(template);
+    }
+
+    @Benchmark
+    public int replacerFourToStringBuilder() {
+        builder.setLength(0);
+        return four.replace(template, builder);
+    }
+
+    @Benchmark
+    public int replacerFourToByteBuffer() {
+        buffer.clear();
+        return four.replace(bytes, 0, bytes.length, buffer);
+    }
+
+}
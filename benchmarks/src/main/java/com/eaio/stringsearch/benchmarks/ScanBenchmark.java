@@ -0,0 +1,140 @@
+/*
+ * ScanBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.ByteScanner;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Delimiter scans over 1 MB of log lines with the {@link ByteScanner} and
+ * with a loop that reads one <code>byte</code> at a time: all newlines, a
+ * <code>NUL byte</code> that does not occur and all <code>"s\n"</code>
+ * pairs.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScanBenchmark {
+
+    /**
+     * The number of <code>bytes</code> in the text.
+     */
+    @Param({ "1048576" })
+    public int textSize;
+
+    private byte[] text;
+
+    /**
+     * Generates the text.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        text = new CorpusGenerator(CorpusGenerator.Kind.LOG, 42L).bytes(textSize);
+    }
+
+    @Benchmark
+    public int newlines() {
+        int count = 0;
+        int pos = -1;
+        while ((pos = ByteScanner.indexOf(text, pos + 1, text.length,
+                (byte) '\n')) != -1) {
+            ++count;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int newlinesBytewise() {
+        int count = 0;
+        for (int i = 0; i < text.length; ++i) {
+            if (text[i] == '\n') {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int nul() {
+        return ByteScanner.indexOf(text, 0, text.length, (byte) 0);
+    }
+
+    @Benchmark
+    public int nulBytewise() {
+        for (int i = 0; i < text.length; ++i) {
+            if (text[i] == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int pairs() {
+        int count = 0;
+        int pos = -1;
+        while ((pos = ByteScanner.indexOf(text, pos + 1, text.length,
+                (byte) 's', (byte) '\n')) != -1) {
+            ++count;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int pairsBytewise() {
+        int count = 0;
+        for (int i = 0; i < text.length - 1; ++i) {
+            if (text[i] == 's' && text[i + 1] == '\n') {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Scenario.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * The text and pattern of a benchmark, generated by the
+ * {@link CorpusGenerator} in the test tree of the library. Only the representation the benchmark
+ * method needs (<code>byte</code> array, <code>char</code> array or String)
+ * is generated, so <code>byte</code> texts of up to 1 GB fit into a few GB
+ * of heap.
+ * <p>
+ * Text sizes larger than the defaults can be chosen on the command line, for
+ * example <code>-p textSize=1073741824 -jvmArgsAppend -Xmx4g</code>.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+public class Scenario {
+
+    /**
+     * The Kind of text.
+     */
+    @Param({ "ENGLISH", "LOG", "DNA", "BINARY", "CJK", "PERIODIC" })
+    public CorpusGenerator.Kind kind;
+
+    /**
+     * The number of symbols in the text.
+     */
+    @Param({ "1024", "65536", "1048576", "16777216" })
+    public int textSize;
+
+    /**
+     * The number of symbols in the pattern.
+     */
+    @Param({ "1", "2", "4", "8", "16", "32", "64", "256", "1024" })
+    public int patternLength;
+
+    /**
+     * The number of occurrences planted per 1 MB of text. Additional matches
+     * may occur naturally for short patterns.
+     */
+    @Param({ "0", "16", "1024" })
+    public int hitsPerMegabyte;
+
+    public byte[] bytes;
+
+    public byte[] bytePattern;
+
+    public char[] chars;
+
+    public char[] charPattern;
+
+    public String string;
+
+    public String stringPattern;
+
+    /**
+     * Generates the text and the pattern.
+     *
+     * @param params the BenchmarkParams
+     */
+    @Setup(Level.Trial)
+    public void generate(BenchmarkParams params) {
+        CorpusGenerator corpus = new CorpusGenerator(kind, 42L);
+        int hits = CorpusGenerator.hits(textSize, hitsPerMegabyte);
+        if (params.getBenchmark().endsWith("Bytes")) {
+            bytes = corpus.bytes(textSize);
+            bytePattern = corpus.bytePattern(patternLength);
+            corpus.plant(bytes, bytePattern, hits);
+        }
+        else {
+            chars = corpus.chars(textSize);
+            charPattern = corpus.charPattern(patternLength);
+            corpus.plant(chars, charPattern, hits);
+            string = new String(chars);
+            stringPattern = new String(charPattern);
+            if (params.getBenchmark().endsWith("String")) {
+                chars = null;
+            }
+        }
+    }
+
+}
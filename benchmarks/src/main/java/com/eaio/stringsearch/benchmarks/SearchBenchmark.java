@@ -0,0 +1,135 @@
+/*
+ * SearchBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import com.eaio.stringsearch.StringSearch;
+
+/**
+ * Counts all occurrences of the pattern in the text with every algorithm for
+ * <code>byte</code> arrays, <code>char</code> arrays and Strings. The
+ * pattern is pre-processed once per trial.
+ * <p>
+ * The BNDM family and ShiftOrMismatches are limited to patterns of 32 and 31
+ * symbols and are measured by {@link BitParallelSearchBenchmark}.
+ * VectorSearch needs a multi-release build of the library and
+ * <code>-jvmArgs --add-modules=jdk.incubator.vector</code> on Java 17 or
+ * later.
+ *
+ * @see BitParallelSearchBenchmark
+ * @see IndexOfBenchmark
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SearchBenchmark {
+
+    /**
+     * The algorithm.
+     */
+    @Param({ "BoyerMooreHorspool", "BoyerMooreHorspoolRaita", "Hash3", "Hash5",
+            "Hash8", "TwoWay", "VectorSearch" })
+    public String algorithm;
+
+    private StringSearch instance;
+
+    private Object processed;
+
+    /**
+     * Creates the algorithm and pre-processes the pattern.
+     *
+     * @param s the Scenario
+     * @param params the BenchmarkParams
+     * @throws Exception if the algorithm cannot be created
+     */
+    @Setup(Level.Trial)
+    public void process(Scenario s, BenchmarkParams params) throws Exception {
+        instance = (StringSearch) Class.forName("com.eaio.stringsearch."
+                + algorithm).getDeclaredConstructor().newInstance();
+        if (params.getBenchmark().endsWith("Bytes")) {
+            processed = instance.processBytes(s.bytePattern);
+        }
+        else {
+            processed = instance.processChars(s.charPattern);
+        }
+    }
+
+    @Benchmark
+    public int searchBytes(Scenario s) {
+        int count = 0;
+        int pos = -1;
+        while ((pos = instance.searchBytes(s.bytes, pos + 1, s.bytes.length,
+                s.bytePattern, processed)) != -1) {
+            ++count;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int searchChars(Scenario s) {
+        int count = 0;
+        int pos = -1;
+        while ((pos = instance.searchChars(s.chars, pos + 1, s.chars.length,
+                s.charPattern, processed)) != -1) {
+            ++count;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int searchString(Scenario s) {
+        int count = 0;
+        int pos = -1;
+        while ((pos = instance.searchString(s.string, pos + 1,
+                s.string.length(), s.stringPattern, processed)) != -1) {
+            ++count;
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * SignatureBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.BNDM;
+import com.eaio.stringsearch.Signature;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Searches a pattern that occurs in less than 1 % of 100,000 log lines with
+ * <code>searchBatch</code>, with and without a {@link Signature} per line.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SignatureBenchmark {
+
+    @Param({ "ERROR [worker-3]", "payment 17 authorized" })
+    public String pattern;
+
+    @Param({ "512" })
+    public int bits;
+
+    private byte[][] lines;
+
+    private Signature[] signatures;
+
+    private byte[] bytePattern;
+
+    private final StringSearch search = new BNDM();
+
+    private Object processed;
+
+    private int[] results;
+
+    /**
+     * Generates the log lines and their Signatures.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        byte[] text = new CorpusGenerator(CorpusGenerator.Kind.LOG, 42L)
+                .bytes(1 << 24);
+        List<byte[]> out = new ArrayList<byte[]>();
+        int start = 0;
+        for (int i = 0; i < text.length && out.size() < 100000; ++i) {
+            if (text[i] == '\n') {
+                byte[] line = new byte[i - start];
+                System.arraycopy(text, start, line, 0, line.length);
+                out.add(line);
+                start = i + 1;
+            }
+        }
+        lines = out.toArray(new byte[out.size()][]);
+        signatures = new Signature[lines.length];
+        for (int i = 0; i < lines.length; ++i) {
+            signatures[i] = Signature.of(lines[i], 0, lines[i].length, bits);
+        }
+        bytePattern = pattern.getBytes();
+        processed = search.processBytes(bytePattern);
+        results = new int[lines.length];
+    }
+
+    @Benchmark
+    public int[] batch() {
+        return search.searchBatch(lines, null, null, bytePattern, processed,
+                results);
+    }
+
+    @Benchmark
+    public int[] batchSignatures() {
+        return search.searchBatch(lines, null, null, signatures, bytePattern,
+                processed, results, null);
+    }
+
+}
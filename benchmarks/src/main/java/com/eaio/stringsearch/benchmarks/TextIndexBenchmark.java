@@ -0,0 +1,124 @@
+/*
+ * TextIndexBenchmark.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaio.stringsearch.BoyerMooreHorspool;
+import com.eaio.stringsearch.StringSearch;
+import com.eaio.stringsearch.TextIndex;
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Counts the occurrences of 100 different patterns in 16 MB of English text
+ * with a {@link TextIndex} and with {@link BoyerMooreHorspool} scans, and
+ * measures how long building the index takes.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class TextIndexBenchmark {
+
+    @Param({ "8", "32" })
+    public int patternLength;
+
+    private byte[] text;
+
+    private byte[][] patterns;
+
+    private TextIndex index;
+
+    private final StringSearch scan = new BoyerMooreHorspool();
+
+    private Object[] processed;
+
+    /**
+     * Generates the text and the patterns and builds the index.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.ENGLISH,
+                42L);
+        text = g.bytes(1 << 24);
+        patterns = new byte[100][];
+        processed = new Object[patterns.length];
+        for (int i = 0; i < patterns.length; ++i) {
+            patterns[i] = g.bytePattern(patternLength);
+            processed[i] = scan.processBytes(patterns[i]);
+        }
+        index = new TextIndex(text);
+    }
+
+    @Benchmark
+    public int index() {
+        int out = 0;
+        for (byte[] pattern : patterns) {
+            out += index.count(pattern);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int scan() {
+        int out = 0;
+        for (int i = 0; i < patterns.length; ++i) {
+            int pos = -1;
+            while ((pos = scan.searchBytes(text, pos + 1, text.length,
+                    patterns[i], processed[i])) != -1) {
+                ++out;
+            }
+        }
+        return out;
+    }
+
+    @Benchmark
+    @Measurement(iterations = 2)
+    public TextIndex build() {
+        return new TextIndex(text);
+    }
+
+}
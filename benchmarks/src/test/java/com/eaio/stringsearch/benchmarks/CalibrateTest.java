@@ -0,0 +1,243 @@
+/*
+ * CalibrateTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator.Kind;
+
+/**
+ * Test case for the {@link Calibrate} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class CalibrateTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private final PrintStream print = new PrintStream(out, true);
+
+    @Test
+    public void alphabets() {
+        Calibrate c = new Calibrate(8, 64);
+        assertEquals("small", c.alphabet("bytes", Kind.DNA));
+        assertEquals("medium", c.alphabet("chars", Kind.ENGLISH));
+        assertEquals("large", c.alphabet("bytes", Kind.BINARY));
+        assertEquals("large", c.alphabet("chars", Kind.CJK));
+    }
+
+    @Test
+    public void fastestAlgorithmsAreMerged() throws IOException {
+        Calibrate c = complete();
+        c.add("bytes", "BoyerMooreHorspool", Kind.DNA, 1, 1d);
+        c.add("bytes", "BNDM", Kind.DNA, 1, 2d);
+        c.add("bytes", "BoyerMooreHorspool", Kind.DNA, 4, 3d);
+        c.add("bytes", "BNDM", Kind.DNA, 4, 2d);
+        c.add("bytes", "BoyerMooreHorspool", Kind.DNA, 16, 3d);
+        c.add("bytes", "BNDM", Kind.DNA, 16, 2d);
+        c.add("bytes", "BNDM", Kind.DNA, 31, 2d);
+        c.add("bytes", "Hash5", Kind.DNA, 32, 3d);
+        c.add("bytes", "Hash5", Kind.DNA, 64, 1d);
+        Map<String, String> table = c.getTable();
+        assertEquals("BoyerMooreHorspool", table.get("bytes.small.1"));
+        assertEquals("BNDM", table.get("bytes.small.32"));
+        assertEquals("Hash5", table.get("bytes.small.64"));
+        assertEquals("BoyerMooreHorspool", table.get("bytes.small.max"));
+        assertFalse(table.containsKey("bytes.small.4"));
+        assertFalse(table.containsKey("bytes.small.16"));
+    }
+
+    @Test
+    public void geometricMeanOfCompleteResults() throws IOException {
+        Calibrate c = complete();
+        c.add("chars", "BoyerMooreHorspool", Kind.ENGLISH, 8, 1d);
+        c.add("chars", "BoyerMooreHorspool", Kind.LOG, 8, 100d);
+        c.add("chars", "Hash3", Kind.ENGLISH, 8, 20d);
+        c.add("chars", "Hash3", Kind.LOG, 8, 20d);
+        c.add("chars", "TwoWay", Kind.ENGLISH, 8, 0.1d);
+        Map<String, String> table = c.getTable();
+        assertFalse(table.containsKey("chars.medium.8"));
+        assertEquals("BoyerMooreHorspool", table.get("chars.medium.max"));
+    }
+
+    @Test
+    public void tiesKeepThePreviousWinner() throws IOException {
+        Calibrate c = complete();
+        c.add("bytes", "BoyerMooreHorspool", Kind.BINARY, 1, 1d);
+        c.add("bytes", "Hash3", Kind.BINARY, 1, 2d);
+        c.add("bytes", "BoyerMooreHorspool", Kind.BINARY, 2, 1.04d);
+        c.add("bytes", "Hash3", Kind.BINARY, 2, 1d);
+        c.add("bytes", "BoyerMooreHorspool", Kind.BINARY, 4, 1.06d);
+        c.add("bytes", "Hash3", Kind.BINARY, 4, 1d);
+        Map<String, String> table = c.getTable();
+        assertEquals("BoyerMooreHorspool", table.get("bytes.large.2"));
+        assertEquals("Hash3", table.get("bytes.large.4"));
+    }
+
+    @Test
+    public void errorsWidenTies() throws IOException {
+        Calibrate c = complete();
+        c.add("bytes", "BoyerMooreHorspool", Kind.BINARY, 1, 1d, 0d);
+        c.add("bytes", "Hash3", Kind.BINARY, 1, 2d, 0d);
+        c.add("bytes", "BoyerMooreHorspool", Kind.BINARY, 2, 1.15d, 0.1d);
+        c.add("bytes", "Hash3", Kind.BINARY, 2, 1d, 0.05d);
+        c.add("bytes", "BoyerMooreHorspool", Kind.BINARY, 4, 1.3d, 0.1d);
+        c.add("bytes", "Hash3", Kind.BINARY, 4, 1d, 0.05d);
+        Map<String, String> table = c.getTable();
+        assertEquals("BoyerMooreHorspool", table.get("bytes.large.2"));
+        assertEquals("Hash3", table.get("bytes.large.4"));
+    }
+
+    @Test
+    public void inexactAlgorithmsAndPeriodicTextsAreIgnored() throws IOException {
+        Calibrate c = complete();
+        c.add("bytes", "ShiftOrMismatches", Kind.DNA, 1, 0.1d);
+        c.add("bytes", "BNDMCI", Kind.DNA, 1, 0.1d);
+        c.add("bytes", "TwoWay", Kind.PERIODIC, 1, 0.1d);
+        Map<String, String> table = c.getTable();
+        assertFalse(table.containsKey("bytes.small.1"));
+        assertEquals("BoyerMooreHorspool", table.get("bytes.small.max"));
+    }
+
+    @Test
+    public void hashQIsIgnoredForShortPatterns() throws IOException {
+        Calibrate c = complete();
+        c.add("chars", "Hash5", Kind.DNA, 4, 0.1d);
+        c.add("chars", "Hash3", Kind.DNA, 2, 0.1d);
+        c.add("chars", "BoyerMooreHorspoolRaita", Kind.DNA, 2, 1d);
+        c.add("chars", "Hash3", Kind.DNA, 4, 0.1d);
+        c.add("chars", "BoyerMooreHorspoolRaita", Kind.DNA, 4, 1d);
+        Map<String, String> table = c.getTable();
+        assertEquals("BoyerMooreHorspoolRaita", table.get("chars.small.2"));
+        assertEquals("Hash3", table.get("chars.small.4"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void missingResults() throws IOException {
+        new Calibrate(8, 64).getTable();
+    }
+
+    @Test
+    public void mergeKeepsComments() {
+        List<String> template = Arrays.asList("# Table", "bytes.small.2=BNDM",
+                "", "bytes.small.max=Hash5", "", "# Other", "skip.algorithm=BNDM");
+        Map<String, String> table = new LinkedHashMap<String, String>();
+        table.put("bytes.small.max", "TwoWay");
+        table.put("chars.small.max", "Hash3");
+        assertEquals(Arrays.asList("# Table", "bytes.small.max=TwoWay", "",
+                "chars.small.max=Hash3", "", "# Other", "skip.algorithm=BNDM"),
+                Calibrate.merge(template, table));
+    }
+
+    @Test
+    public void writesCalibration() throws IOException {
+        File template = new File(folder.getRoot(), "calibration.properties");
+        Files.write(template.toPath(), ("# Comment\nalphabet.small=8\nalphabet.medium=64\n"
+                + "bytes.small.max=Hash5\n\nskip.minimumRatio=0.5\n"
+                + "skip.algorithm=BNDM\nshortText.maximumLength=128\n"
+                + "shortText.algorithm=BNDM\n").getBytes(StandardCharsets.ISO_8859_1));
+        File results = new File(folder.getRoot(), "search.json");
+        StringBuilder json = new StringBuilder("[");
+        for (String input : new String[] { "Bytes", "Chars" }) {
+            for (Kind kind : new Kind[] { Kind.DNA, Kind.ENGLISH, Kind.CJK }) {
+                for (String algorithm : new String[] { "TwoWay", "Hash3" }) {
+                    if (json.length() > 1) {
+                        json.append(',');
+                    }
+                    json.append(entry(input, algorithm, kind, 32,
+                            "TwoWay".equals(algorithm) ? 1d : 2d));
+                }
+            }
+        }
+        json.append(',').append(entry("String", "Hash3", Kind.DNA, 32, 0.1d));
+        Files.write(results.toPath(), json.append(']').toString().getBytes(
+                StandardCharsets.UTF_8));
+        File output = new File(folder.getRoot(), "out.properties");
+
+        assertEquals(0, Calibrate.run(new String[] { template.getPath(),
+                output.getPath(), results.getPath() }, print, print));
+        List<String> lines = Files.readAllLines(output.toPath(),
+                StandardCharsets.ISO_8859_1);
+        assertEquals("# Comment", lines.get(0));
+        assertTrue(lines.contains("bytes.small.max=TwoWay"));
+        assertTrue(lines.contains("chars.large.max=TwoWay"));
+        assertFalse(lines.contains("bytes.small.max=Hash5"));
+        assertTrue(lines.contains("skip.algorithm=BNDM"));
+    }
+
+    @Test
+    public void usage() {
+        assertEquals(2, Calibrate.run(new String[] { "a.properties",
+                "b.properties" }, print, print));
+        assertEquals(2, Calibrate.run(new String[] { "a.properties",
+                "b.properties", "c.json" }, print, print));
+    }
+
+    /**
+     * Returns a Calibrate with results for all alphabets.
+     */
+    private static Calibrate complete() throws IOException {
+        Calibrate out = new Calibrate(8, 64);
+        for (String input : new String[] { "bytes", "chars" }) {
+            for (Kind kind : new Kind[] { Kind.DNA, Kind.ENGLISH, Kind.CJK }) {
+                out.add(input, "BoyerMooreHorspool", kind, 1024, 1d);
+            }
+        }
+        return out;
+    }
+
+    private static String entry(String method, String algorithm, Kind kind,
+            int patternLength, double score) {
+        return "{\"benchmark\":\"com.eaio.stringsearch.benchmarks.SearchBenchmark.search"
+                + method + "\",\"mode\":\"avgt\",\"params\":{\"algorithm\":\""
+                + algorithm + "\",\"kind\":\"" + kind
+                + "\",\"patternLength\":\"" + patternLength
+                + "\"},\"primaryMetric\":{\"score\":" + score
+                + ",\"scoreError\":0.1,\"scoreUnit\":\"us/op\"}}";
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * RegressionGateTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.benchmarks;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for the {@link RegressionGate} and {@link Baseline} classes.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class RegressionGateTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private final PrintStream print = new PrintStream(out, true);
+
+    @Test
+    public void keysContainSortedParameters() throws IOException {
+        Baseline b = Baseline.read(result("base.json", 1000d, 10d, 5d, 0.1d));
+        assertEquals(2, b.getScores().size());
+        Baseline.Score s = b.getScores().get(
+                "HotPathBenchmark.bndmBytes{kind=DNA, size=1}");
+        assertNotNull(s);
+        assertTrue(s.isHigherBetter());
+        assertEquals(1000d, s.getScore(), 0d);
+        assertEquals(10d, s.getError(), 0d);
+        assertFalse(b.getScores().get("SearchBenchmark.searchBytes").isHigherBetter());
+    }
+
+    @Test
+    public void recordAndCompare() throws IOException {
+        File baseline = new File(folder.getRoot(), "baseline.json");
+        assertEquals(0, run("record", result("base.json", 1000d, 10d, 5d, 0.1d),
+                baseline));
+        assertEquals(2, Baseline.read(baseline).getScores().size());
+
+        assertEquals(0, run("compare", result("same.json", 990d, 10d, 5.1d,
+                0.1d), baseline));
+        assertEquals(0, run("compare", result("faster.json", 2000d, 10d, 2d,
+                0.1d), baseline));
+        assertEquals(1, run("compare", result("slower.json", 900d, 10d, 5d,
+                0.1d), baseline));
+        assertEquals(1, run("compare", result("slower2.json", 1000d, 10d, 6d,
+                0.1d), baseline));
+    }
+
+    @Test
+    public void noiseIsNoRegression() throws IOException {
+        File baseline = new File(folder.getRoot(), "baseline.json");
+        run("record", result("base.json", 1000d, 100d, 5d, 0.1d), baseline);
+        assertEquals(0, run("compare", result("noisy.json", 900d, 100d, 5d,
+                0.1d), baseline));
+        assertEquals(1, run("compare", result("noisy.json", 900d, 100d, 5d,
+                0.1d), baseline, "-errors", "0"));
+    }
+
+    @Test
+    public void thresholdsPerPrefix() throws IOException {
+        File baseline = new File(folder.getRoot(), "baseline.json");
+        run("record", result("base.json", 1000d, 1d, 5d, 0.01d), baseline);
+        File slower = result("slower.json", 850d, 1d, 5.5d, 0.01d);
+        assertEquals(1, run("compare", slower, baseline));
+        assertEquals(1, run("compare", slower, baseline, "-threshold",
+                "HotPathBenchmark=0.2"));
+        assertEquals(0, run("compare", slower, baseline, "-threshold",
+                "HotPathBenchmark=0.2", "-threshold", "0.15"));
+
+        RegressionGate gate = new RegressionGate();
+        gate.setThreshold("Hot", 0.5d);
+        gate.setThreshold("HotPathBenchmark.bndm", 0.1d);
+        assertEquals(0.1d, gate.getThreshold("HotPathBenchmark.bndmBytes"), 0d);
+        assertEquals(0.5d, gate.getThreshold("HotPathBenchmark.shiftOrBytes"), 0d);
+        assertEquals(0.05d, gate.getThreshold("SearchBenchmark.searchBytes"), 0d);
+    }
+
+    @Test
+    public void missingBenchmarksFail() throws IOException {
+        File baseline = new File(folder.getRoot(), "baseline.json");
+        run("record", result("base.json", 1000d, 10d, 5d, 0.1d), baseline);
+        File partial = new File(folder.getRoot(), "partial.json");
+        write(partial, "[" + entry("HotPathBenchmark.bndmBytes",
+                "\"kind\":\"DNA\",\"size\":\"1\"", "thrpt", 1000d, 10d, "ops/s")
+                + "]");
+        assertEquals(1, run("compare", partial, baseline));
+        assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).contains(
+                "missing"));
+    }
+
+    @Test
+    public void usage() throws IOException {
+        assertEquals(2, RegressionGate.run(new String[] { "compare" }, print,
+                print));
+        assertEquals(2, RegressionGate.run(new String[] { "compare", "a.json",
+                "b.json", "-threshold" }, print, print));
+        assertEquals(2, RegressionGate.run(new String[] { "compare", "a.json",
+                "b.json" }, print, print));
+    }
+
+    private int run(String command, File result, File baseline,
+            String... options) {
+        String[] args = new String[3 + options.length];
+        args[0] = command;
+        args[1] = result.getPath();
+        args[2] = baseline.getPath();
+        System.arraycopy(options, 0, args, 3, options.length);
+        return RegressionGate.run(args, print, print);
+    }
+
+    private File result(String name, double throughput,
+            double throughputError, double time, double timeError)
+            throws IOException {
+        File out = new File(folder.getRoot(), name);
+        write(out, "[" + entry("com.eaio.stringsearch.benchmarks.HotPathBenchmark.bndmBytes",
+                "\"size\":\"1\",\"kind\":\"DNA\"", "thrpt", throughput,
+                throughputError, "ops/s") + ","
+                + entry("com.eaio.stringsearch.benchmarks.SearchBenchmark.searchBytes",
+                        null, "avgt", time, timeError, "us/op") + "]");
+        return out;
+    }
+
+    private static String entry(String benchmark, String params, String mode,
+            double score, double error, String unit) {
+        return "{\"benchmark\":\"" + benchmark + "\",\"mode\":\"" + mode
+                + "\"," + (params == null ? "" : "\"params\":{" + params
+                        + "},") + "\"primaryMetric\":{\"score\":" + score
+                + ",\"scoreError\":" + error + ",\"scoreUnit\":\"" + unit
+                + "\"}}";
+    }
+
+    private static void write(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
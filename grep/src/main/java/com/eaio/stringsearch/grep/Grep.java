@@ -0,0 +1,729 @@
+/*
+ * Grep.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.grep;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.eaio.stringsearch.BNDMCI;
+import com.eaio.stringsearch.BNDMWildcards;
+import com.eaio.stringsearch.BNDMWildcardsCI;
+import com.eaio.stringsearch.LineMatcher;
+import com.eaio.stringsearch.MismatchSearch;
+import com.eaio.stringsearch.ShiftOrMismatches;
+import com.eaio.stringsearch.StringSearch;
+
+/**
+ * Prints the lines of files that contain a fixed pattern.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * java -jar target/grep.jar [options] &lt;pattern&gt; [&lt;file or directory&gt;...]
+ * </pre>
+ *
+ * Directories are searched recursively. Like <code>grep -r</code>, symbolic
+ * links found while recursing are skipped, links given on the command line
+ * are followed. Standard input is read if no files are given. Options:
+ * <ul>
+ * <li><code>-i</code> ignores the case of ASCII letters ({@link BNDMCI})
+ * <li><code>-W</code> lets <code>'.'</code> in the pattern match any
+ * <code>byte</code> ({@link BNDMWildcards})
+ * <li><code>-k &lt;n&gt;</code> allows <code>n</code> mismatches
+ * ({@link ShiftOrMismatches} or the {@link MismatchSearch} given with
+ * <code>-a</code>)
+ * <li><code>-a &lt;algorithm&gt;</code> uses a {@link StringSearch} class,
+ * either a simple name from <code>com.eaio.stringsearch</code> or a fully
+ * qualified class name. Without <code>-a</code>, <code>-i</code> or
+ * <code>-W</code>, the algorithm is chosen by
+ * {@link StringSearch#forPattern(byte[], com.eaio.stringsearch.TextProfile)}.
+ * <li><code>-charset &lt;charset&gt;</code> encodes the pattern in this
+ * Charset instead of UTF-8. Files are matched as they are, without decoding.
+ * <li><code>-n</code> prints line numbers
+ * <li><code>-c</code> prints the number of matching lines per file
+ * <li><code>-l</code> prints only the names of files with matches
+ * <li><code>-j &lt;threads&gt;</code> searches this many files at once, one
+ * per available processor by default
+ * <li><code>-stats</code> prints the number of files, bytes and matching
+ * lines, the time taken and the throughput to standard error
+ * </ul>
+ * Files are searched by {@link LineMatcher}s on a thread pool and printed in
+ * the order they were given or found. The file that is next in order prints
+ * its lines as they are found, the files after it keep theirs in memory until
+ * it is their turn. At most four files per thread are searched ahead. Files
+ * of up to 64 MB are read into a buffer of the worker with one
+ * {@link FileChannel} read, larger files and standard input are streamed.
+ * Lines from standard input are printed before waiting for more input.
+ * <p>
+ * The exit code is 0 if a line matched, 1 if none matched and 2 on usage or
+ * I/O errors.
+ *
+ * @see LineMatcher
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class Grep {
+
+    /**
+     * Files larger than this are streamed.
+     */
+    static final int MAX_READ = 1 << 26;
+
+    /**
+     * How many files per thread may be searched ahead of the file that is
+     * being printed.
+     */
+    static final int WINDOW = 4;
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final LineMatcher matcher;
+
+    private final boolean count;
+
+    private final boolean filesWithMatches;
+
+    private final ThreadLocal<byte[]> buffers = new ThreadLocal<byte[]>();
+
+    Grep(LineMatcher matcher, boolean count, boolean filesWithMatches) {
+        this.matcher = matcher;
+        this.count = count;
+        this.filesWithMatches = filesWithMatches;
+    }
+
+    /**
+     * Shell interface.
+     *
+     * @param args <code>[options] &lt;pattern&gt; [&lt;file&gt;...]</code>
+     */
+    public static void main(String[] args) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(
+                new FileOutputStream(FileDescriptor.out), 1 << 16), false);
+        System.exit(run(args, System.in, out, System.err));
+    }
+
+    static int run(String[] args, InputStream in, PrintStream out,
+            PrintStream err) {
+        boolean ignoreCase = false, wildcards = false, lineNumbers = false;
+        boolean count = false, filesWithMatches = false, stats = false;
+        int k = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String algorithmName = null;
+        Charset charset = UTF8;
+        int i = 0;
+        try {
+            for (; i < args.length && args[i].startsWith("-")
+                    && args[i].length() > 1; ++i) {
+                String arg = args[i];
+                if ("--".equals(arg)) {
+                    ++i;
+                    break;
+                }
+                else if ("-i".equals(arg)) {
+                    ignoreCase = true;
+                }
+                else if ("-W".equals(arg)) {
+                    wildcards = true;
+                }
+                else if ("-n".equals(arg)) {
+                    lineNumbers = true;
+                }
+                else if ("-c".equals(arg)) {
+                    count = true;
+                }
+                else if ("-l".equals(arg)) {
+                    filesWithMatches = true;
+                }
+                else if ("-stats".equals(arg)) {
+                    stats = true;
+                }
+                else if (i + 1 == args.length) {
+                    return usage(err);
+                }
+                else if ("-k".equals(arg)) {
+                    k = Integer.parseInt(args[++i]);
+                }
+                else if ("-j".equals(arg)) {
+                    threads = Integer.parseInt(args[++i]);
+                }
+                else if ("-a".equals(arg)) {
+                    algorithmName = args[++i];
+                }
+                else if ("-charset".equals(arg)) {
+                    charset = Charset.forName(args[++i]);
+                }
+                else {
+                    return usage(err);
+                }
+            }
+            if (i == args.length || k < 0 || threads < 1) {
+                return usage(err);
+            }
+            byte[] pattern = args[i++].getBytes(charset);
+            StringSearch algorithm = algorithm(algorithmName, pattern,
+                    ignoreCase, wildcards, k);
+            Grep grep = new Grep(new LineMatcher(algorithm, pattern,
+                    lineNumbers), count, filesWithMatches);
+
+            List<File> files = new ArrayList<File>();
+            for (; i < args.length; ++i) {
+                files.add(new File(args[i]));
+            }
+            boolean names = files.size() > 1;
+            if (!names && files.size() == 1 && files.get(0).isDirectory()) {
+                names = true;
+            }
+            List<File> all = new ArrayList<File>();
+            for (File f : files) {
+                add(f, all);
+            }
+
+            long time = System.nanoTime();
+            Result total = files.isEmpty() ? grep.search(in, out, err) : grep
+                    .search(all, names, threads, out, err);
+            out.flush();
+            time = System.nanoTime() - time;
+
+            if (stats) {
+                double millis = time / 1E6d;
+                err.printf("%d files, %d bytes, %d matching lines in %.1f ms,"
+                        + " %.1f MB/s, %s, %d threads%n", total.files,
+                        total.bytes, total.lines, millis,
+                        megabytesPerSecond(total.bytes, millis), algorithm,
+                        threads);
+            }
+            return total.error ? 2 : total.lines > 0L ? 0 : 1;
+        }
+        catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            return usage(err);
+        }
+    }
+
+    /**
+     * Returns the algorithm for the options.
+     *
+     * @throws IllegalArgumentException if the options cannot be combined or
+     * the algorithm cannot be instantiated
+     */
+    static StringSearch algorithm(String name, byte[] pattern,
+            boolean ignoreCase, boolean wildcards, int k) {
+        if (k > 0) {
+            if (ignoreCase || wildcards) {
+                throw new IllegalArgumentException(
+                        "-k cannot be combined with -i or -W");
+            }
+            StringSearch s = name == null ? new ShiftOrMismatches()
+                    : instance(name);
+            if (!(s instanceof MismatchSearch)) {
+                throw new IllegalArgumentException(name
+                        + " does not support mismatches");
+            }
+            return new Mismatches((MismatchSearch) s, k);
+        }
+        if (ignoreCase || wildcards) {
+            if (name != null) {
+                throw new IllegalArgumentException(
+                        "-a cannot be combined with -i or -W");
+            }
+            return wildcards ? ignoreCase ? new BNDMWildcardsCI()
+                    : new BNDMWildcards() : new BNDMCI();
+        }
+        return name == null ? StringSearch.forPattern(pattern, null)
+                : instance(name);
+    }
+
+    private static StringSearch instance(String name) {
+        String className = name.indexOf('.') == -1 ? StringSearch.class
+                .getPackage().getName() + '.' + name : name;
+        try {
+            Class<?> c = Class.forName(className);
+            if (!StringSearch.class.isAssignableFrom(c)) {
+                throw new IllegalArgumentException(className
+                        + " is not a StringSearch");
+            }
+            return (StringSearch) c.getDeclaredConstructor().newInstance();
+        }
+        catch (ClassNotFoundException ex) {
+            throw new IllegalArgumentException("Unknown algorithm " + name);
+        }
+        catch (InstantiationException ex) {
+            throw new IllegalArgumentException("Cannot instantiate "
+                    + className);
+        }
+        catch (IllegalAccessException ex) {
+            throw new IllegalArgumentException("Cannot instantiate "
+                    + className);
+        }
+        catch (NoSuchMethodException ex) {
+            throw new IllegalArgumentException(className
+                    + " has no default constructor");
+        }
+        catch (InvocationTargetException ex) {
+            throw new IllegalArgumentException("Cannot instantiate "
+                    + className + ": " + ex.getCause());
+        }
+    }
+
+    static double megabytesPerSecond(long bytes, double millis) {
+        return bytes / 1048576d / (millis / 1000d);
+    }
+
+    /**
+     * Adds a file or the files in a directory, sorted by name. Symbolic links
+     * inside directories are skipped.
+     */
+    static void add(File f, List<File> files) {
+        File[] children = f.listFiles();
+        if (children == null) {
+            files.add(f);
+            return;
+        }
+        Arrays.sort(children);
+        for (File child : children) {
+            if (!isLink(child)) {
+                add(child, files);
+            }
+        }
+    }
+
+    /**
+     * Returns if a file is a symbolic link by comparing its canonical path to
+     * the path in its canonical parent. Returns <code>true</code> if the path
+     * cannot be resolved, such as for link loops.
+     */
+    static boolean isLink(File f) {
+        try {
+            File inParent = new File(f.getAbsoluteFile().getParentFile()
+                    .getCanonicalFile(), f.getName());
+            return !inParent.getCanonicalFile().equals(inParent);
+        }
+        catch (IOException ex) {
+            return true;
+        }
+    }
+
+    /**
+     * Searches files on a thread pool and prints the results in order. At
+     * most {@link #WINDOW} times the number of threads files are searched or
+     * wait to be printed at once.
+     */
+    private Result search(List<File> files, final boolean names, int threads,
+            PrintStream out, PrintStream err) {
+        final Printer printer = new Printer(out, err, files.size(), threads
+                * WINDOW);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < files.size(); ++i) {
+                final File f = files.get(i);
+                final Result r = printer.register(i);
+                pool.execute(new Runnable() {
+
+                    public void run() {
+                        try {
+                            search(f, null, names, r, printer);
+                        }
+                        finally {
+                            printer.done(r);
+                        }
+                    }
+
+                });
+            }
+            printer.await();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            printer.total.error = true;
+        }
+        finally {
+            pool.shutdownNow();
+        }
+        return printer.total;
+    }
+
+    /**
+     * Searches standard input and prints matching lines as they are found.
+     */
+    private Result search(InputStream in, PrintStream out, PrintStream err) {
+        Printer printer = new Printer(out, err, 1, 1);
+        Result r;
+        try {
+            r = printer.register(0);
+        }
+        catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+        try {
+            search(null, in, false, r, printer);
+        }
+        finally {
+            printer.done(r);
+        }
+        return printer.total;
+    }
+
+    /**
+     * Searches a file or, if <code>f</code> is <code>null</code>, a stream.
+     */
+    void search(File f, InputStream in, boolean names, final Result r,
+            final Printer printer) {
+        final byte[] prefix = names ? (f.getPath() + ':').getBytes() : null;
+        final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+        LineMatcher.Listener listener = count ? null
+                : new LineMatcher.Listener() {
+
+                    public boolean line(byte[] text, int start, int end,
+                            long number, long offset) {
+                        if (filesWithMatches) {
+                            return false;
+                        }
+                        line.reset();
+                        if (prefix != null) {
+                            line.write(prefix, 0, prefix.length);
+                        }
+                        if (number != -1L) {
+                            byte[] n = (Long.toString(number) + ':')
+                                    .getBytes();
+                            line.write(n, 0, n.length);
+                        }
+                        line.write(text, start, end - start);
+                        line.write('\n');
+                        printer.write(r, line);
+                        return true;
+                    }
+
+                };
+        try {
+            if (f == null) {
+                r.lines = matcher.match(new Counting(in, r, printer),
+                        listener);
+            }
+            else {
+                FileInputStream file = new FileInputStream(f);
+                try {
+                    FileChannel channel = file.getChannel();
+                    long size = channel.size();
+                    if (size > MAX_READ) {
+                        r.lines = matcher.match(new Counting(file, r, null),
+                                listener);
+                    }
+                    else {
+                        byte[] buf = read(channel, (int) size);
+                        r.bytes = size;
+                        r.lines = matcher.match(buf, 0, (int) size, listener);
+                    }
+                }
+                finally {
+                    file.close();
+                }
+            }
+            r.files = 1;
+        }
+        catch (IOException ex) {
+            r.message = (f == null ? "(standard input)" : f.getPath()) + ": "
+                    + ex.getMessage();
+            r.error = true;
+        }
+        String name = f == null ? "(standard input)" : f.getPath();
+        line.reset();
+        if (count) {
+            byte[] c = ((names ? name + ':' : "") + r.lines + '\n')
+                    .getBytes();
+            line.write(c, 0, c.length);
+        }
+        else if (filesWithMatches && r.lines > 0L) {
+            byte[] n = (name + '\n').getBytes();
+            line.write(n, 0, n.length);
+        }
+        if (line.size() > 0) {
+            printer.write(r, line);
+        }
+    }
+
+    /**
+     * Reads a file into the buffer of the current thread.
+     */
+    private byte[] read(FileChannel channel, int size) throws IOException {
+        byte[] buf = buffers.get();
+        if (buf == null || buf.length < size) {
+            buf = new byte[Math.max(size, 1 << 16)];
+            buffers.set(buf);
+        }
+        ByteBuffer b = ByteBuffer.wrap(buf, 0, size);
+        while (b.hasRemaining()) {
+            if (channel.read(b) == -1) {
+                throw new IOException("file truncated");
+            }
+        }
+        return buf;
+    }
+
+    private static int usage(PrintStream err) {
+        err.println("Usage: grep [-i] [-W] [-k <mismatches>] [-a <algorithm>]"
+                + " [-charset <charset>] [-n] [-c] [-l] [-j <threads>]"
+                + " [-stats] <pattern> [<file or directory>...]");
+        err.println("The pattern is encoded in UTF-8 unless -charset is"
+                + " given, files are matched as bytes.");
+        return 2;
+    }
+
+    /**
+     * The statistics of a file and its output while it waits to be printed.
+     */
+    static final class Result {
+
+        final int index;
+
+        long files;
+
+        long bytes;
+
+        long lines;
+
+        boolean error;
+
+        String message;
+
+        ByteArrayOutputStream buffer;
+
+        boolean done;
+
+        Result(int index) {
+            this.index = index;
+        }
+
+        void add(Result r) {
+            files += r.files;
+            bytes += r.bytes;
+            lines += r.lines;
+            error |= r.error;
+        }
+
+    }
+
+    /**
+     * Prints the output of the files in order. The file at the head of the
+     * queue writes straight to the output, the files after it buffer their
+     * output until they reach the head. {@link #register(int)} blocks while
+     * <code>window</code> files are registered but not yet printed.
+     */
+    static final class Printer {
+
+        private final PrintStream out;
+
+        private final PrintStream err;
+
+        private final Result[] results;
+
+        private final int window;
+
+        private int registered;
+
+        private int head;
+
+        final Result total = new Result(-1);
+
+        Printer(PrintStream out, PrintStream err, int files, int window) {
+            this.out = out;
+            this.err = err;
+            results = new Result[files];
+            this.window = window;
+        }
+
+        synchronized Result register(int index) throws InterruptedException {
+            while (index - head >= window) {
+                wait();
+            }
+            Result r = new Result(index);
+            results[index] = r;
+            registered = index + 1;
+            return r;
+        }
+
+        synchronized void write(Result r, ByteArrayOutputStream line) {
+            if (r.index == head) {
+                out.write(line.toByteArray(), 0, line.size());
+            }
+            else {
+                if (r.buffer == null) {
+                    r.buffer = new ByteArrayOutputStream();
+                }
+                r.buffer.write(line.toByteArray(), 0, line.size());
+            }
+        }
+
+        synchronized void flush() {
+            out.flush();
+        }
+
+        /**
+         * Marks a file as searched and prints the buffered output of the files
+         * that reach the head of the queue.
+         */
+        synchronized void done(Result r) {
+            r.done = true;
+            total.add(r);
+            while (head < registered && results[head].done) {
+                Result printed = results[head];
+                if (printed.message != null) {
+                    err.println("grep: " + printed.message);
+                }
+                results[head++] = null;
+                if (head < registered && results[head].buffer != null) {
+                    Result next = results[head];
+                    out.write(next.buffer.toByteArray(), 0, next.buffer.size());
+                    next.buffer = null;
+                }
+            }
+            notifyAll();
+        }
+
+        synchronized void await() throws InterruptedException {
+            while (head < results.length) {
+                wait();
+            }
+        }
+
+    }
+
+    /**
+     * Counts the bytes read from a stream. If there is a Printer, it is
+     * flushed before a read that may block, so matching lines appear while
+     * the stream is still being written.
+     */
+    private static final class Counting extends InputStream {
+
+        private final InputStream in;
+
+        private final Result result;
+
+        private final Printer printer;
+
+        Counting(InputStream in, Result result, Printer printer) {
+            this.in = in;
+            this.result = result;
+            this.printer = printer;
+        }
+
+        @Override
+        public int read() throws IOException {
+            flush();
+            int b = in.read();
+            if (b != -1) {
+                ++result.bytes;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            flush();
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                result.bytes += n;
+            }
+            return n;
+        }
+
+        private void flush() throws IOException {
+            if (printer != null && in.available() == 0) {
+                printer.flush();
+            }
+        }
+
+    }
+
+    /**
+     * Adapts a {@link MismatchSearch} with a fixed number of mismatches to the
+     * {@link StringSearch} methods used by {@link LineMatcher}.
+     */
+    static final class Mismatches extends StringSearch {
+
+        private final MismatchSearch search;
+
+        private final int k;
+
+        Mismatches(MismatchSearch search, int k) {
+            this.search = search;
+            this.k = k;
+        }
+
+        @Override
+        public Object processBytes(byte[] pattern) {
+            return search.processBytes(pattern, k);
+        }
+
+        @Override
+        public Object processChars(char[] pattern) {
+            return search.processChars(pattern, k);
+        }
+
+        @Override
+        public int searchBytes(byte[] text, int textStart, int textEnd,
+                byte[] pattern, Object processed) {
+            return MismatchSearch.position(search.searchBytesPacked(text,
+                    textStart, textEnd, pattern, processed, k));
+        }
+
+        @Override
+        public int searchChars(char[] text, int textStart, int textEnd,
+                char[] pattern, Object processed) {
+            return MismatchSearch.position(search.searchCharsPacked(text,
+                    textStart, textEnd, pattern, processed, k));
+        }
+
+        @Override
+        public boolean matchesExactly() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return search + " (k=" + k + ')';
+        }
+
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * GrepTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.grep;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.eaio.stringsearch.BNDMCI;
+import com.eaio.stringsearch.BNDMWildcards;
+import com.eaio.stringsearch.BNDMWildcardsCI;
+import com.eaio.stringsearch.BoyerMooreHorspool;
+import com.eaio.stringsearch.ShiftOrMismatches;
+
+/**
+ * Test case for the {@link Grep} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class GrepTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File a, b;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Before
+    public void files() throws IOException {
+        a = write("a.log", "ERROR disk full\nINFO started\nerror: retry\n");
+        folder.newFolder("dir");
+        b = write("dir/b.log", "INFO ok\nERRQR typo\nERROR again");
+    }
+
+    @Test
+    public void singleFile() {
+        assertEquals(0, grep("ERROR", a.getPath()));
+        assertEquals("ERROR disk full\n", out.toString());
+    }
+
+    @Test
+    public void filesAndDirectoriesInOrder() {
+        for (String threads : new String[] { "1", "4" }) {
+            out.reset();
+            assertEquals(0, grep("-j", threads, "-n", "ERROR", a.getPath(),
+                    folder.getRoot().getPath() + "/dir"));
+            assertEquals(a.getPath() + ":1:ERROR disk full\n" + b.getPath()
+                    + ":3:ERROR again\n", out.toString());
+        }
+    }
+
+    @Test
+    public void symbolicLinksInDirectoriesAreSkipped() throws IOException,
+            InterruptedException {
+        File dir = new File(folder.getRoot(), "dir");
+        Process p = new ProcessBuilder("ln", "-s", "..", new File(dir, "loop")
+                .getPath()).start();
+        assumeTrue(p.waitFor() == 0);
+        File loop = new File(dir, "loop");
+        assertTrue(Grep.isLink(loop));
+        assertFalse(Grep.isLink(b));
+
+        assertEquals(0, grep("-c", "ERROR", dir.getPath()));
+        assertEquals(b.getPath() + ":1\n", out.toString());
+        out.reset();
+        assertEquals(0, grep("-c", "ERROR", loop.getPath()));
+        assertEquals(loop.getPath() + File.separator + "a.log:1\n"
+                + loop.getPath() + File.separator + "dir" + File.separator
+                + "b.log:1\n", out.toString());
+    }
+
+    @Test
+    public void manyFilesInOrder() throws IOException {
+        StringBuilder expected = new StringBuilder();
+        File dir = folder.newFolder("many");
+        for (int i = 0; i < 100; ++i) {
+            StringBuilder content = new StringBuilder();
+            for (int j = 0; j < i * 50; ++j) {
+                content.append("line ").append(j).append(j % 7 == 0 ? " hit\n"
+                        : "\n");
+            }
+            File f = write("many/" + (1000 + i), content.toString());
+            expected.append(f.getPath()).append(':').append((i * 50 + 6) / 7)
+                    .append('\n');
+        }
+        assertEquals(0, grep("-j", "3", "-c", "hit", dir.getPath()));
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    @Test(timeout = 10000L)
+    public void standardInputIsPrintedBeforeEndOfStream() throws Exception {
+        final PipedOutputStream pipe = new PipedOutputStream();
+        final PipedInputStream in = new PipedInputStream(pipe);
+        final PrintStream o = new PrintStream(out, false);
+        Thread t = new Thread() {
+
+            @Override
+            public void run() {
+                Grep.run(new String[] { "x" }, in, o, new PrintStream(err));
+            }
+
+        };
+        t.start();
+        pipe.write("a\nxy\nb\n".getBytes());
+        pipe.flush();
+        while (out.size() == 0) {
+            Thread.sleep(10L);
+        }
+        assertEquals("xy\n", out.toString());
+        pipe.close();
+        t.join();
+    }
+
+    @Test
+    public void countsAndFileNames() {
+        assertEquals(0, grep("-c", "INFO", a.getPath(), b.getPath()));
+        assertEquals(a.getPath() + ":1\n" + b.getPath() + ":1\n", out
+                .toString());
+        out.reset();
+        assertEquals(0, grep("-l", "again", a.getPath(), b.getPath()));
+        assertEquals(b.getPath() + "\n", out.toString());
+    }
+
+    @Test
+    public void modes() {
+        assertEquals(0, grep("-i", "error", a.getPath()));
+        assertEquals("ERROR disk full\nerror: retry\n", out.toString());
+        out.reset();
+        assertEquals(0, grep("-W", "ERR.R", b.getPath()));
+        assertEquals("ERRQR typo\nERROR again\n", out.toString());
+        out.reset();
+        assertEquals(0, grep("-k", "1", "ERRXR", b.getPath()));
+        assertEquals("ERRQR typo\nERROR again\n", out.toString());
+        out.reset();
+        assertEquals(0, grep("-a", "TwoWay", "again", b.getPath()));
+        assertEquals("ERROR again\n", out.toString());
+    }
+
+    @Test
+    public void standardInputAndStatistics() {
+        ByteArrayInputStream in = new ByteArrayInputStream("x\nyx\nz"
+                .getBytes());
+        assertEquals(0, Grep.run(new String[] { "-stats", "x" }, in,
+                new PrintStream(out), new PrintStream(err)));
+        assertEquals("x\nyx\n", out.toString());
+        assertTrue(err.toString(), err.toString().startsWith(
+                "1 files, 6 bytes, 2 matching lines in "));
+    }
+
+    @Test
+    public void patternCharset() throws IOException {
+        File utf8 = write("utf8.txt", "");
+        FileOutputStream o = new FileOutputStream(utf8);
+        o.write("Grüße\nGruesse\n".getBytes("UTF-8"));
+        o.close();
+        File latin1 = write("latin1.txt", "");
+        o = new FileOutputStream(latin1);
+        o.write("Grüße\n".getBytes("ISO-8859-1"));
+        o.close();
+
+        assertEquals(0, grep("-c", "üß", utf8.getPath()));
+        assertEquals("1\n", out.toString());
+        out.reset();
+        assertEquals(1, grep("-c", "üß", latin1.getPath()));
+        out.reset();
+        assertEquals(0, grep("-charset", "ISO-8859-1", "-c", "üß", latin1
+                .getPath()));
+        assertEquals("1\n", out.toString());
+        assertEquals(2, grep("-charset", "NoSuchCharset", "x", a.getPath()));
+    }
+
+    @Test
+    public void exitCodes() {
+        assertEquals(1, grep("WARN", a.getPath()));
+        assertEquals(2, grep("WARN", a.getPath() + ".missing"));
+        assertTrue(err.toString().contains("a.log.missing"));
+        assertEquals(2, grep("-k", "1", "-i", "x", a.getPath()));
+        assertEquals(2, grep("-a", "NoSuchSearch", "x", a.getPath()));
+        assertEquals(2, grep("-j"));
+        assertEquals(2, grep());
+    }
+
+    @Test
+    public void algorithms() {
+        byte[] p = "abcd".getBytes();
+        assertEquals(BNDMCI.class, Grep.algorithm(null, p, true, false, 0)
+                .getClass());
+        assertEquals(BNDMWildcards.class, Grep.algorithm(null, p, false,
+                true, 0).getClass());
+        assertEquals(BNDMWildcardsCI.class, Grep.algorithm(null, p, true,
+                true, 0).getClass());
+        assertEquals(BoyerMooreHorspool.class, Grep.algorithm(
+                "BoyerMooreHorspool", p, false, false, 0).getClass());
+        assertEquals(ShiftOrMismatches.class.getName() + " (k=2)", Grep
+                .algorithm(null, p, false, false, 2).toString());
+        assertFalse(Grep.algorithm(null, p, false, false, 2)
+                .matchesExactly());
+    }
+
+    @Test
+    public void throughputOfSmallInputs() {
+        assertEquals(0.5d, Grep.megabytesPerSecond(1 << 19, 1000d), 1E-9d);
+        assertEquals(1000d / 1048576d, Grep.megabytesPerSecond(1L, 1d),
+                1E-12d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noDefaultConstructor() {
+        Grep.algorithm("ParallelSearch", "abcd".getBytes(), false, false, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mismatchesNeedMismatchSearch() {
+        Grep.algorithm("BNDM", "abcd".getBytes(), false, false, 1);
+    }
+
+    private int grep(String... args) {
+        return Grep.run(args, new ByteArrayInputStream(new byte[0]),
+                new PrintStream(out), new PrintStream(err));
+    }
+
+    private File write(String name, String content) throws IOException {
+        File f = new File(folder.getRoot(), name);
+        FileOutputStream o = new FileOutputStream(f);
+        try {
+            o.write(content.getBytes());
+        }
+        finally {
+            o.close();
+        }
+        return f;
+    }
+
+}
@@ -27,6 +27,8 @@
  */
 package com.eaio.stringsearch;
 
+import java.util.Arrays;
+
 /**
  * An implementation of the Backwards Non-deterministic DAWG (Directed acyclic
  * word graph) Matching algorithm by Gonzalo Navarro and Mathieu Raffinot. See
@@ -43,6 +45,12 @@ package com.eaio.stringsearch;
  * This is one of the fastest algorithms, but it does not beat the
  * {@link com.eaio.stringsearch.BoyerMooreHorspoolRaita} and the
  * {@link com.eaio.stringsearch.BoyerMooreHorspool} algorithms.
+ * <p>
+ * In guarded mode, the symbols read are counted. If they exceed a small
+ * multiple of the text searched so far, the rest of the text is searched with
+ * the linear {@link TwoWay} algorithm, so adversarial texts and patterns cannot
+ * cause <em>O(n&middot;m)</em> behavior. The subclasses do not support guarded
+ * mode.
  *
  * @see <a href="http://johannburkard.de/software/stringsearch/" target="_top">
  * StringSearch &#8211; high-performance pattern matching algorithms in Java</a>
@@ -63,6 +71,35 @@ package com.eaio.stringsearch;
  */
 public class BNDM extends StringSearch {
 
+    private final boolean guarded;
+
+    /**
+     * Constructor for BNDM. Guarded mode is off.
+     */
+    public BNDM() {
+        this(false);
+    }
+
+    /**
+     * Constructor for BNDM.
+     *
+     * @param guarded whether to switch to a linear algorithm if the search
+     * becomes too expensive
+     */
+    public BNDM(boolean guarded) {
+        super();
+        this.guarded = guarded;
+    }
+
+    /**
+     * Returns if guarded mode is on.
+     *
+     * @return boolean
+     */
+    public boolean isGuarded() {
+        return guarded;
+    }
+
     /**
      * Pre-processing of the pattern. The pattern may not exceed 32 bytes in
      * length. If it does, <b>only it's first 32 bytes</b> are processed which
@@ -120,6 +157,36 @@ public class BNDM extends StringSearch {
 
         int d, j, pos, last;
         pos = textStart;
+
+        if (guarded) {
+            long work = 0L;
+            while (pos <= textEnd - l) {
+                j = l - 1;
+                last = l;
+                d = -1;
+                while (d != 0) {
+                    d &= t[index(text[pos + j])];
+                    if (d != 0) {
+                        if (j == 0) {
+                            return pos;
+                        }
+                        last = j;
+                    }
+                    --j;
+                    d <<= 1;
+                }
+                work += l - 1 - j;
+                pos += last;
+                if (work > TwoWay.GUARD_RATIO * ((long) pos - textStart + l)) {
+                    onFallback();
+                    return TwoWay.continueSearch(text, pos, textEnd,
+                            pattern.length > l ? Arrays.copyOf(pattern, l)
+                                    : pattern);
+                }
+            }
+            return -1;
+        }
+
         while (pos <= textEnd - l) {
             j = l - 1;
             last = l;
@@ -153,6 +220,36 @@ public class BNDM extends StringSearch {
 
         int d, j, pos, last;
         pos = textStart;
+
+        if (guarded) {
+            long work = 0L;
+            while (pos <= textEnd - l) {
+                j = l - 1;
+                last = l;
+                d = -1;
+                while (d != 0) {
+                    d &= b.get(text[pos + j]);
+                    if (d != 0) {
+                        if (j == 0) {
+                            return pos;
+                        }
+                        last = j;
+                    }
+                    --j;
+                    d <<= 1;
+                }
+                work += l - 1 - j;
+                pos += last;
+                if (work > TwoWay.GUARD_RATIO * ((long) pos - textStart + l)) {
+                    onFallback();
+                    return TwoWay.continueSearch(text, pos, textEnd,
+                            pattern.length > l ? Arrays.copyOf(pattern, l)
+                                    : pattern);
+                }
+            }
+            return -1;
+        }
+
         while (pos <= textEnd - l) {
             j = l - 1;
             last = l;
@@ -174,6 +271,121 @@ public class BNDM extends StringSearch {
         return -1;
     }
 
+    /**
+     * Called when a search in guarded mode switches to the linear algorithm.
+     * Does nothing.
+     */
+    void onFallback() {
+        // Blank.
+    }
+
+    /**
+     * @return the pattern length but at most 32
+     * @see com.eaio.stringsearch.StringSearch#processedLength(int)
+     */
+    @Override
+    int processedLength(int patternLength) {
+        return patternLength < 32 ? patternLength : 32;
+    }
+
+    /**
+     * Processes the reversed first 32 bytes of the pattern.
+     *
+     * @see com.eaio.stringsearch.StringSearch#processBytesBackward(byte[])
+     */
+    @Override
+    public Object processBytesBackward(byte[] pattern) {
+        return processBytes(reverse(pattern, pattern.length < 32 ? pattern.length
+                : 32));
+    }
+
+    /**
+     * Processes the reversed first 32 <code>char</code>s of the pattern.
+     *
+     * @see com.eaio.stringsearch.StringSearch#processCharsBackward(char[])
+     */
+    @Override
+    public Object processCharsBackward(char[] pattern) {
+        return processChars(reverse(pattern, pattern.length < 32 ? pattern.length
+                : 32));
+    }
+
+    /**
+     * Mirrors the forward search: the window moves from the end of the text
+     * to the start and is read from its first symbol, so the suffix automaton
+     * of the reversed pattern recognizes suffixes of the pattern. Guarded mode
+     * does not apply.
+     *
+     * @see com.eaio.stringsearch.StringSearch#searchBytesBackward(byte[], int,
+     * int, byte[], java.lang.Object)
+     */
+    @Override
+    public int searchBytesBackward(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed) {
+
+        int[] t = (int[]) processed;
+        int l = pattern.length < 32 ? pattern.length : 32;
+
+        int d, j, pos, last;
+        pos = Math.min(text.length, textEnd) - l;
+
+        while (pos >= textStart) {
+            j = l - 1;
+            last = l;
+            d = -1;
+            while (d != 0) {
+                d &= t[index(text[pos + l - 1 - j])];
+                if (d != 0) {
+                    if (j == 0) {
+                        return pos;
+                    }
+                    last = j;
+                }
+                --j;
+                d <<= 1;
+            }
+            pos -= last;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchCharsBackward(char[], int,
+     * int, char[], Object)
+     * @see #searchBytesBackward(byte[], int, int, byte[], Object)
+     */
+    @Override
+    public int searchCharsBackward(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed) {
+
+        CharIntMap b = (CharIntMap) processed;
+        int l = pattern.length < 32 ? pattern.length : 32;
+
+        int d, j, pos, last;
+        pos = Math.min(text.length, textEnd) - l;
+
+        while (pos >= textStart) {
+            j = l - 1;
+            last = l;
+            d = -1;
+            while (d != 0) {
+                d &= b.get(text[pos + l - 1 - j]);
+                if (d != 0) {
+                    if (j == 0) {
+                        return pos;
+                    }
+                    last = j;
+                }
+                --j;
+                d <<= 1;
+            }
+            pos -= last;
+        }
+
+        return -1;
+    }
+
     /**
      * Returns the smaller of two <code>char</code>s.
      *
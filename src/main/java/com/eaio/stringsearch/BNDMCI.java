@@ -129,4 +129,13 @@ public class BNDMCI extends BNDM {
         return b;
     }
 
+    /**
+     * @return <code>false</code>, case is ignored
+     * @see com.eaio.stringsearch.StringSearch#matchesExactly()
+     */
+    @Override
+    public boolean matchesExactly() {
+        return false;
+    }
+
 }
@@ -184,6 +184,15 @@ public class BNDMWildcards extends BNDM {
         return b;
     }
 
+    /**
+     * @return <code>false</code>, the pattern may contain wildcards
+     * @see com.eaio.stringsearch.StringSearch#matchesExactly()
+     */
+    @Override
+    public boolean matchesExactly() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object obj) {
         return super.equals(obj) && wildcard == ((BNDMWildcards) obj).wildcard;
@@ -0,0 +1,289 @@
+/*
+ * BatchSearch.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Searches one pre-processed pattern in many texts. Used by the
+ * <code>searchBatch</code> methods of {@link StringSearch}.
+ * <p>
+ * The texts are split into slices of consecutive texts. Without an
+ * {@link Executor} or for small batches, the single slice is searched in the
+ * calling thread. Otherwise, all slices but the first are submitted to the
+ * Executor and the first one is searched in the calling thread.
+ * <p>
+ * Texts whose {@link Signature} rules out the pattern are not searched if
+ * the algorithm {@link StringSearch#matchesExactly() matches exactly}.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+final class BatchSearch {
+
+    /**
+     * The minimum number of texts in one slice.
+     */
+    static final int MIN_SLICE = 1024;
+
+    /**
+     * The number of slices per core.
+     */
+    static final int SLICES_PER_CORE = 4;
+
+    private final StringSearch instance;
+
+    private final byte[][] bytes;
+
+    private final List<? extends CharSequence> sequences;
+
+    private final int[] starts, ends;
+
+    private final byte[] bytePattern;
+
+    private final char[] charPattern;
+
+    private final Object processed;
+
+    private final int[] results;
+
+    private final int size;
+
+    private final Signature[] signatures;
+
+    /**
+     * The number of pattern symbols the algorithm searches for.
+     */
+    private final int processedLength;
+
+    /**
+     * The Signature of the processed pattern in the size of the first
+     * Signature.
+     */
+    private final Signature patternSignature;
+
+    BatchSearch(StringSearch instance, byte[][] texts, int[] starts,
+            int[] ends, Signature[] signatures, byte[] pattern,
+            Object processed, int[] results) {
+        this.instance = instance;
+        bytes = texts;
+        sequences = null;
+        this.starts = starts;
+        this.ends = ends;
+        bytePattern = pattern;
+        charPattern = null;
+        this.processed = processed;
+        size = texts.length;
+        this.results = results(results, size);
+        this.signatures = signatures(instance, signatures);
+        processedLength = instance.processedLength(pattern.length);
+        Signature first = first(this.signatures);
+        patternSignature = first == null ? null : Signature.of(pattern, 0,
+                processedLength, first.size());
+    }
+
+    BatchSearch(StringSearch instance, List<? extends CharSequence> texts,
+            Signature[] signatures, char[] pattern, Object processed,
+            int[] results) {
+        this.instance = instance;
+        bytes = null;
+        sequences = texts instanceof RandomAccess ? texts
+                : new ArrayList<CharSequence>(texts);
+        starts = null;
+        ends = null;
+        bytePattern = null;
+        charPattern = pattern;
+        this.processed = processed;
+        size = sequences.size();
+        this.results = results(results, size);
+        this.signatures = signatures(instance, signatures);
+        processedLength = instance.processedLength(pattern.length);
+        Signature first = first(this.signatures);
+        patternSignature = first == null ? null : Signature.of(pattern, 0,
+                processedLength, first.size());
+    }
+
+    private static Signature[] signatures(StringSearch instance,
+            Signature[] signatures) {
+        return instance.matchesExactly() ? signatures : null;
+    }
+
+    private static Signature first(Signature[] signatures) {
+        if (signatures != null) {
+            for (Signature s : signatures) {
+                if (s != null) {
+                    return s;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns if the Signature of text i rules out the pattern.
+     */
+    private boolean skip(int i) {
+        if (signatures == null || signatures[i] == null) {
+            return false;
+        }
+        Signature s = signatures[i];
+        if (s.size() == patternSignature.size()) {
+            return !s.mayContain(patternSignature);
+        }
+        return !s.mayContain(bytePattern == null ? Signature.of(charPattern, 0,
+                processedLength, s.size()) : Signature.of(bytePattern, 0,
+                processedLength, s.size()));
+    }
+
+    private static int[] results(int[] results, int size) {
+        return results == null || results.length < size ? new int[size]
+                : results;
+    }
+
+    /**
+     * Searches all texts.
+     *
+     * @param executor the Executor, may be <code>null</code>
+     * @return the results
+     */
+    int[] run(Executor executor) {
+        int slices = executor == null ? 1 : Math.min(size / MIN_SLICE, Runtime
+                .getRuntime().availableProcessors() * SLICES_PER_CORE);
+        if (slices < 2) {
+            search(0, size);
+            return results;
+        }
+        List<FutureTask<Object>> tasks = new ArrayList<FutureTask<Object>>(
+                slices - 1);
+        try {
+            for (int i = 1; i < slices; ++i) {
+                FutureTask<Object> task = new FutureTask<Object>(new Slice(
+                        (int) ((long) size * i / slices),
+                        (int) ((long) size * (i + 1) / slices)), null);
+                tasks.add(task);
+                executor.execute(task);
+            }
+            search(0, size / slices);
+            for (FutureTask<Object> task : tasks) {
+                task.get();
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        finally {
+            for (FutureTask<Object> task : tasks) {
+                task.cancel(false);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Searches the texts in <code>[from, to)</code>. CharSequences are copied
+     * into one buffer per call.
+     */
+    private void search(int from, int to) {
+        if (bytes != null) {
+            for (int i = from; i < to; ++i) {
+                if (skip(i)) {
+                    results[i] = -1;
+                    continue;
+                }
+                byte[] text = bytes[i];
+                results[i] = instance.searchBytes(text, starts == null ? 0
+                        : starts[i], ends == null ? text.length : ends[i],
+                        bytePattern, processed);
+            }
+            return;
+        }
+        char[] buf = new char[256];
+        for (int i = from; i < to; ++i) {
+            if (skip(i)) {
+                results[i] = -1;
+                continue;
+            }
+            CharSequence text = sequences.get(i);
+            int length = text.length();
+            if (length > buf.length) {
+                buf = new char[Math.max(length, buf.length << 1)];
+            }
+            if (text instanceof String) {
+                ((String) text).getChars(0, length, buf, 0);
+            }
+            else if (text instanceof StringBuilder) {
+                ((StringBuilder) text).getChars(0, length, buf, 0);
+            }
+            else {
+                for (int j = 0; j < length; ++j) {
+                    buf[j] = text.charAt(j);
+                }
+            }
+            results[i] = instance.searchChars(buf, 0, length, charPattern,
+                    processed);
+        }
+    }
+
+    /**
+     * A slice of texts searched by the Executor.
+     */
+    private final class Slice implements Runnable {
+
+        private final int from, to;
+
+        Slice(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * @see java.lang.Runnable#run()
+         */
+        public void run() {
+            search(from, to);
+        }
+
+    }
+
+}
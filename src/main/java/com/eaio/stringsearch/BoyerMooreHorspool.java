@@ -45,6 +45,11 @@ package com.eaio.stringsearch;
  * This implementation is based on <a
  * href="http://www.dcc.uchile.cl/~rbaeza/handbook/algs/7/713b.srch.c"
  * target="_top">Ricardo Baeza-Yates' implementation</a>.
+ * <p>
+ * In guarded mode, the comparisons are counted. If they exceed a small
+ * multiple of the text searched so far, the rest of the text is searched with
+ * the linear {@link TwoWay} algorithm, so adversarial texts and patterns cannot
+ * cause <em>O(n&middot;m)</em> behavior.
  *
  * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
  * &#8211; high-performance pattern matching algorithms in Java</a>
@@ -53,6 +58,35 @@ package com.eaio.stringsearch;
  */
 public class BoyerMooreHorspool extends StringSearch {
 
+    private final boolean guarded;
+
+    /**
+     * Constructor for BoyerMooreHorspool. Guarded mode is off.
+     */
+    public BoyerMooreHorspool() {
+        this(false);
+    }
+
+    /**
+     * Constructor for BoyerMooreHorspool.
+     *
+     * @param guarded whether to switch to a linear algorithm if the search
+     * becomes too expensive
+     */
+    public BoyerMooreHorspool(boolean guarded) {
+        super();
+        this.guarded = guarded;
+    }
+
+    /**
+     * Returns if guarded mode is on.
+     *
+     * @return boolean
+     */
+    public boolean isGuarded() {
+        return guarded;
+    }
+
     /**
      * Returns a <code>int</code> array for patterns longer than 2 characters, <code>null</code> otherwise.
      *
@@ -105,34 +139,43 @@ public class BoyerMooreHorspool extends StringSearch {
     public int searchBytes(byte[] text, int textStart, int textEnd,
             byte[] pattern, Object processed) {
 
-        // Unrolled fast paths for patterns of length 1 and 2. Suggested by someone who doesn't want to be named.
-        
+        // Fast paths for patterns of length 1 and 2 that read eight bytes at a time.
+
         if (pattern.length == 1) {
-            final int nLimit = Math.min(text.length, textEnd);
-            for (int n = textStart; n < nLimit; n++) {
-                if (text[n] == pattern[0])
-                    return n;
-            }
-            return -1;
+            return ByteScanner.indexOf(text, textStart, textEnd, pattern[0]);
         }
         else if (pattern.length == 2) {
-            final int nLimit = Math.min(text.length, textEnd) - 1;
-            for (int n = textStart; n < nLimit; n++) {
-                if (text[n] == pattern[0]) {
-                    if (text[n + 1] == pattern[1])
-                        return n;
-                }
-            }
-            return -1;
+            return ByteScanner.indexOf(text, textStart, textEnd, pattern[0],
+                    pattern[1]);
         }
-        
+
         int[] skip = (int[]) processed;
 
         int i, j, k;
 
         final int lengthMinusOne = pattern.length - 1;
 
-        for (k = lengthMinusOne; k < textEnd; k += skip[index(text[k])]) {
+        if (guarded) {
+            long work = 0L;
+            for (k = textStart + lengthMinusOne; k < textEnd;
+                    k += skip[index(text[k])]) {
+                for (j = lengthMinusOne, i = k; j >= 0 && text[i] == pattern[j]
+                        && i >= textStart; --j, --i) {
+                    // Blank.
+                }
+                if (j == -1) return ++i;
+                work += lengthMinusOne - j + 1;
+                if (work > TwoWay.GUARD_RATIO * (k - textStart + 1L)) {
+                    onFallback();
+                    return TwoWay.continueSearch(text, k - lengthMinusOne + 1,
+                            textEnd, pattern);
+                }
+            }
+            return -1;
+        }
+
+        for (k = textStart + lengthMinusOne; k < textEnd;
+                k += skip[index(text[k])]) {
             for (j = lengthMinusOne, i = k; j >= 0 && text[i] == pattern[j]
                     && i >= textStart; --j, --i) {
                 // Blank.
@@ -178,7 +221,27 @@ public class BoyerMooreHorspool extends StringSearch {
 
         final int lengthMinusOne = pattern.length - 1;
 
-        for (k = lengthMinusOne; k < textEnd; k += skip.get(text[k])) {
+        if (guarded) {
+            long work = 0L;
+            for (k = textStart + lengthMinusOne; k < textEnd;
+                    k += skip.get(text[k])) {
+                for (j = lengthMinusOne, i = k; j >= 0 && text[i] == pattern[j]
+                        && i >= textStart; --j, --i) {
+                    // Blank.
+                }
+                if (j == -1) return ++i;
+                work += lengthMinusOne - j + 1;
+                if (work > TwoWay.GUARD_RATIO * (k - textStart + 1L)) {
+                    onFallback();
+                    return TwoWay.continueSearch(text, k - lengthMinusOne + 1,
+                            textEnd, pattern);
+                }
+            }
+            return -1;
+        }
+
+        for (k = textStart + lengthMinusOne; k < textEnd;
+                k += skip.get(text[k])) {
             for (j = lengthMinusOne, i = k; j >= 0 && text[i] == pattern[j]
                     && i >= textStart; --j, --i) {
                 // Blank.
@@ -189,4 +252,118 @@ public class BoyerMooreHorspool extends StringSearch {
         return -1;
     }
 
+    /**
+     * Returns the skip table of the reversed pattern, so the skips are the
+     * distances of each symbol from the start of the pattern.
+     *
+     * @see com.eaio.stringsearch.StringSearch#processBytesBackward(byte[])
+     */
+    @Override
+    public Object processBytesBackward(byte[] pattern) {
+        return processBytes(reverse(pattern, pattern.length));
+    }
+
+    /**
+     * Returns the skip table of the reversed pattern.
+     *
+     * @see com.eaio.stringsearch.StringSearch#processCharsBackward(char[])
+     */
+    @Override
+    public Object processCharsBackward(char[] pattern) {
+        return processChars(reverse(pattern, pattern.length));
+    }
+
+    /**
+     * Mirrors the forward search: the window moves from the end of the text
+     * to the start, it is compared from its first symbol, and the skip
+     * depends on the first symbol of the window. Guarded mode does not apply.
+     *
+     * @see com.eaio.stringsearch.StringSearch#searchBytesBackward(byte[], int,
+     * int, byte[], java.lang.Object)
+     */
+    @Override
+    public int searchBytesBackward(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed) {
+
+        final int m = pattern.length;
+        final int end = Math.min(text.length, textEnd);
+
+        if (m == 1) {
+            for (int n = end - 1; n >= textStart; --n) {
+                if (text[n] == pattern[0])
+                    return n;
+            }
+            return -1;
+        }
+        else if (m == 2) {
+            for (int n = end - 2; n >= textStart; --n) {
+                if (text[n] == pattern[0] && text[n + 1] == pattern[1])
+                    return n;
+            }
+            return -1;
+        }
+
+        int[] skip = (int[]) processed;
+
+        int i, j, k;
+
+        for (k = end - m; k >= textStart; k -= skip[index(text[k])]) {
+            for (j = 0, i = k; j < m && text[i] == pattern[j]; ++j, ++i) {
+                // Blank.
+            }
+            if (j == m) return k;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchCharsBackward(char[], int,
+     * int, char[], Object)
+     * @see #searchBytesBackward(byte[], int, int, byte[], Object)
+     */
+    @Override
+    public int searchCharsBackward(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed) {
+
+        final int m = pattern.length;
+        final int end = Math.min(text.length, textEnd);
+
+        if (m == 1) {
+            for (int n = end - 1; n >= textStart; --n) {
+                if (text[n] == pattern[0])
+                    return n;
+            }
+            return -1;
+        }
+        else if (m == 2) {
+            for (int n = end - 2; n >= textStart; --n) {
+                if (text[n] == pattern[0] && text[n + 1] == pattern[1])
+                    return n;
+            }
+            return -1;
+        }
+
+        CharIntMap skip = (CharIntMap) processed;
+
+        int i, j, k;
+
+        for (k = end - m; k >= textStart; k -= skip.get(text[k])) {
+            for (j = 0, i = k; j < m && text[i] == pattern[j]; ++j, ++i) {
+                // Blank.
+            }
+            if (j == m) return k;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Called when a search in guarded mode switches to the linear algorithm.
+     * Does nothing.
+     */
+    void onFallback() {
+        // Blank.
+    }
+
 }
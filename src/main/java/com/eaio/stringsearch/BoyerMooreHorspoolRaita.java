@@ -48,6 +48,8 @@ package com.eaio.stringsearch;
  */
 public class BoyerMooreHorspoolRaita extends BoyerMooreHorspool {
 
+    private static final Intrinsics intrinsics = Intrinsics.INSTANCE;
+
     /**
      * @see com.eaio.stringsearch.StringSearch#searchBytes(byte[], int, int,
      * byte[], java.lang.Object)
@@ -56,30 +58,19 @@ public class BoyerMooreHorspoolRaita extends BoyerMooreHorspool {
     public int searchBytes(byte[] text, int textStart, int textEnd,
             byte[] pattern, Object processed) {
         
-        // Unrolled fast paths for patterns of length 1 and 2. Suggested by someone who doesn't want to be named.
-        
+        // Fast paths for patterns of length 1 and 2 that read eight bytes at a time.
+
         if (pattern.length == 1) {
-            final int nLimit = Math.min(text.length, textEnd);
-            for (int n = textStart; n < nLimit; n++) {
-                if (text[n] == pattern[0])
-                    return n;
-            }
-            return -1;
+            return ByteScanner.indexOf(text, textStart, textEnd, pattern[0]);
         }
         else if (pattern.length == 2) {
-            final int nLimit = Math.min(text.length, textEnd) - 1;
-            for (int n = textStart; n < nLimit; n++) {
-                if (text[n] == pattern[0]) {
-                    if (text[n + 1] == pattern[1])
-                        return n;
-                }
-            }
-            return -1;
+            return ByteScanner.indexOf(text, textStart, textEnd, pattern[0],
+                    pattern[1]);
         }
 
         int[] b = (int[]) processed;
 
-        int i, j, k, mMinusOne;
+        int i, mMinusOne;
         byte last, first;
 
         i = pattern.length - 1;
@@ -92,19 +83,10 @@ public class BoyerMooreHorspoolRaita extends BoyerMooreHorspool {
 
         while (i < textEnd) {
 
-            if (text[i] == last && text[i - (pattern.length - 1)] == first) {
-
-                k = i - 1;
-                j = mMinusOne;
-
-                while (k > -1 && j > -1 && text[k] == pattern[j]) {
-                    --k;
-                    --j;
-                }
-                if (j == -1) {
-                    return k + 1;
-                }
-
+            if (text[i] == last && text[i - (pattern.length - 1)] == first
+                    && intrinsics.mismatch(text, i - mMinusOne, pattern, 1,
+                            mMinusOne) == -1) {
+                return i - (pattern.length - 1);
             }
 
             i += b[index(text[i])];
@@ -144,7 +126,7 @@ public class BoyerMooreHorspoolRaita extends BoyerMooreHorspool {
 
         CharIntMap m = (CharIntMap) processed;
 
-        int i, j, k, mMinusOne;
+        int i, mMinusOne;
         char last, first;
 
         i = pattern.length - 1;
@@ -157,19 +139,10 @@ public class BoyerMooreHorspoolRaita extends BoyerMooreHorspool {
 
         while (i < textEnd) {
 
-            if (text[i] == last && text[i - (pattern.length - 1)] == first) {
-
-                k = i - 1;
-                j = mMinusOne;
-
-                while (k > -1 && j > -1 && text[k] == pattern[j]) {
-                    --k;
-                    --j;
-                }
-                if (j == -1) {
-                    return k + 1;
-                }
-
+            if (text[i] == last && text[i - (pattern.length - 1)] == first
+                    && intrinsics.mismatch(text, i - mMinusOne, pattern, 1,
+                            mMinusOne) == -1) {
+                return i - (pattern.length - 1);
             }
             i += m.get(text[i]);
         }
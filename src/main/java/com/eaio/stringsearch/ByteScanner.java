@@ -0,0 +1,304 @@
+/*
+ * ByteScanner.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.nio.ByteOrder;
+
+/**
+ * Finds single <code>bytes</code> and pairs of <code>bytes</code> in
+ * <code>byte</code> arrays by reading eight <code>bytes</code> at a time.
+ * <p>
+ * Each <code>long</code> read from the text is XORed with the searched
+ * <code>byte</code> repeated eight times, which turns matching
+ * <code>bytes</code> into zero <code>bytes</code>. These are then found with
+ * <code>~(((x &amp; 0x7F..) + 0x7F..) | x | 0x7F..)</code>, which sets the
+ * high bit of exactly the zero <code>bytes</code> of <code>x</code>. Pairs
+ * are found by combining the masks of the words at <code>i</code> and
+ * <code>i + 1</code>.
+ * <p>
+ * The unaligned reads use a <code>VarHandle</code> on Java 11 and later and
+ * <code>sun.misc.Unsafe</code> on older versions. If neither is available or
+ * the platform does not support unaligned access, the text is scanned one
+ * <code>byte</code> at a time.
+ * <p>
+ * Used by the {@link BoyerMooreHorspool} and {@link BoyerMooreHorspoolRaita}
+ * algorithms for patterns of one and two <code>bytes</code> and by
+ * {@link LineMatcher} to find and count line breaks.
+ *
+ * @see <a href="http://graphics.stanford.edu/~seander/bithacks.html#ZeroInWord">
+ * Determine if a word has a zero byte</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class ByteScanner {
+
+    private static final long ONES = 0x0101010101010101L;
+
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private static final Intrinsics intrinsics = Intrinsics.INSTANCE;
+
+    private static final boolean readsWords = intrinsics.readsWords();
+
+    private static final boolean littleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * No instances needed.
+     */
+    private ByteScanner() {
+        super();
+    }
+
+    /**
+     * Returns if eight <code>bytes</code> are read at a time.
+     *
+     * @return boolean
+     */
+    public static boolean readsWords() {
+        return readsWords;
+    }
+
+    /**
+     * Returns the position of the first occurrence of a <code>byte</code>.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart at which position in the text the comparing should
+     * start
+     * @param textEnd at which position in the text comparing should stop
+     * @param b the <code>byte</code> to search for
+     * @return the position in the text or -1 if the <code>byte</code> was not
+     * found
+     */
+    public static int indexOf(byte[] text, int textStart, int textEnd, byte b) {
+        return !readsWords ? indexOfBytewise(text, textStart, textEnd, b)
+                : indexOfWordwise(text, textStart, textEnd, b);
+    }
+
+    /**
+     * Returns the position of the first occurrence of two adjacent
+     * <code>bytes</code>.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart at which position in the text the comparing should
+     * start
+     * @param textEnd at which position in the text comparing should stop
+     * @param b0 the first <code>byte</code>
+     * @param b1 the second <code>byte</code>
+     * @return the position of the first <code>byte</code> in the text or -1 if
+     * the <code>bytes</code> were not found
+     */
+    public static int indexOf(byte[] text, int textStart, int textEnd,
+            byte b0, byte b1) {
+        return !readsWords ? indexOfBytewise(text, textStart, textEnd, b0,
+                b1) : indexOfWordwise(text, textStart, textEnd, b0, b1);
+    }
+
+    /**
+     * Returns the position of the last occurrence of a <code>byte</code>.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart at which position in the text the comparing should
+     * stop
+     * @param textEnd the position after the last position that is compared
+     * @param b the <code>byte</code> to search for
+     * @return the position in the text or -1 if the <code>byte</code> was not
+     * found
+     */
+    public static int lastIndexOf(byte[] text, int textStart, int textEnd,
+            byte b) {
+        return !readsWords ? lastIndexOfBytewise(text, textStart, textEnd, b)
+                : lastIndexOfWordwise(text, textStart, textEnd, b);
+    }
+
+    /**
+     * Returns the number of occurrences of a <code>byte</code>.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart at which position in the text the comparing should
+     * start
+     * @param textEnd at which position in the text comparing should stop
+     * @param b the <code>byte</code> to count
+     * @return the number of occurrences
+     */
+    public static int count(byte[] text, int textStart, int textEnd, byte b) {
+        return !readsWords ? countBytewise(text, textStart, textEnd, b)
+                : countWordwise(text, textStart, textEnd, b);
+    }
+
+    static int indexOfWordwise(byte[] text, int textStart, int textEnd, byte b) {
+        int i = Math.max(textStart, 0);
+        final int limit = Math.min(text.length, textEnd);
+        final long pattern = (b & 0xFFL) * ONES;
+        for (; i <= limit - 8; i += 8) {
+            long m = zeroBytes(intrinsics.getLong(text, i)
+                    ^ pattern);
+            if (m != 0L) {
+                return i + first(m);
+            }
+        }
+        for (; i < limit; ++i) {
+            if (text[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfWordwise(byte[] text, int textStart, int textEnd,
+            byte b0, byte b1) {
+        int i = Math.max(textStart, 0);
+        final int limit = Math.min(text.length, textEnd);
+        final long pattern0 = (b0 & 0xFFL) * ONES;
+        final long pattern1 = (b1 & 0xFFL) * ONES;
+        for (; i <= limit - 9; i += 8) {
+            long m = zeroBytes(intrinsics.getLong(text, i)
+                    ^ pattern0)
+                    & zeroBytes(intrinsics.getLong(text, i + 1)
+                            ^ pattern1);
+            if (m != 0L) {
+                return i + first(m);
+            }
+        }
+        for (; i < limit - 1; ++i) {
+            if (text[i] == b0 && text[i + 1] == b1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfBytewise(byte[] text, int textStart, int textEnd, byte b) {
+        final int limit = Math.min(text.length, textEnd);
+        for (int i = Math.max(textStart, 0); i < limit; ++i) {
+            if (text[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOfBytewise(byte[] text, int textStart, int textEnd,
+            byte b0, byte b1) {
+        final int limit = Math.min(text.length, textEnd) - 1;
+        for (int i = Math.max(textStart, 0); i < limit; ++i) {
+            if (text[i] == b0 && text[i + 1] == b1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int lastIndexOfWordwise(byte[] text, int textStart, int textEnd,
+            byte b) {
+        final int start = Math.max(textStart, 0);
+        int i = Math.min(text.length, textEnd);
+        final long pattern = (b & 0xFFL) * ONES;
+        for (; i >= start + 8; i -= 8) {
+            long m = zeroBytes(intrinsics.getLong(text, i - 8) ^ pattern);
+            if (m != 0L) {
+                return i - 8 + last(m);
+            }
+        }
+        while (--i >= start) {
+            if (text[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int lastIndexOfBytewise(byte[] text, int textStart, int textEnd,
+            byte b) {
+        final int start = Math.max(textStart, 0);
+        for (int i = Math.min(text.length, textEnd) - 1; i >= start; --i) {
+            if (text[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int countWordwise(byte[] text, int textStart, int textEnd, byte b) {
+        int i = Math.max(textStart, 0);
+        final int limit = Math.min(text.length, textEnd);
+        final long pattern = (b & 0xFFL) * ONES;
+        int out = 0;
+        for (; i <= limit - 8; i += 8) {
+            out += Long.bitCount(zeroBytes(intrinsics.getLong(text, i)
+                    ^ pattern));
+        }
+        for (; i < limit; ++i) {
+            if (text[i] == b) {
+                ++out;
+            }
+        }
+        return out;
+    }
+
+    static int countBytewise(byte[] text, int textStart, int textEnd, byte b) {
+        final int limit = Math.min(text.length, textEnd);
+        int out = 0;
+        for (int i = Math.max(textStart, 0); i < limit; ++i) {
+            if (text[i] == b) {
+                ++out;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns a word with the high bit set in exactly the zero
+     * <code>bytes</code> of <code>x</code>.
+     */
+    private static long zeroBytes(long x) {
+        return ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+    }
+
+    /**
+     * Returns the index of the first <code>byte</code> in memory order that
+     * is set in the mask.
+     */
+    private static int first(long mask) {
+        return (littleEndian ? Long.numberOfTrailingZeros(mask)
+                : Long.numberOfLeadingZeros(mask)) >>> 3;
+    }
+
+    /**
+     * Returns the index of the last <code>byte</code> in memory order that
+     * is set in the mask.
+     */
+    private static int last(long mask) {
+        return 7 - ((littleEndian ? Long.numberOfLeadingZeros(mask)
+                : Long.numberOfTrailingZeros(mask)) >>> 3);
+    }
+
+}
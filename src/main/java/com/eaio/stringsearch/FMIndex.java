@@ -0,0 +1,606 @@
+/*
+ * FMIndex.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * A compressed full-text index of a <code>byte</code> text that does not need
+ * the text to answer queries.
+ * <p>
+ * The FM-index by Ferragina and Manzini stores the Burrows-Wheeler transform
+ * of the text in a wavelet matrix, eight bit vectors of one bit per symbol
+ * with a rank count every 448 bits. {@link #count(byte[])} runs backward
+ * search, 16 rank queries per pattern symbol, in <em>O(m)</em> regardless of
+ * the length of the text. {@link #locate(byte[])} additionally walks from
+ * each hit to the nearest sampled suffix array entry. One in
+ * <code>sampleRate</code> text positions is sampled, so locating takes at
+ * most <code>sampleRate</code> steps per hit.
+ * <p>
+ * The index needs about 1.3 bytes per text byte plus 4 /
+ * <code>sampleRate</code> bytes for the samples. Building it needs the suffix
+ * array of the text (see {@link TextIndex}), about 20 bytes per text byte.
+ * Texts are limited to 2<sup>31</sup> - 2 bytes, so larger corpora have to be
+ * split into several indexes.
+ * <p>
+ * {@link #writeTo(File)} stores the index in a file that {@link #map(File)}
+ * maps into memory instead of reading it, so opening an index is fast and the
+ * operating system pages it in as needed. FMIndex instances are thread safe.
+ * <p>
+ * Example:
+ * <pre>
+ * new FMIndex(text, 32).writeTo(file);
+ * FMIndex index = FMIndex.map(file);
+ * int hits = index.count("Software".getBytes());
+ * </pre>
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @see <a href="https://doi.org/10.1109/SFCS.2000.892127" target="_top">
+ * Ferragina and Manzini: Opportunistic Data Structures with Applications</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class FMIndex {
+
+    /**
+     * The default sampling rate of the suffix array.
+     */
+    public static final int DEFAULT_SAMPLE_RATE = 32;
+
+    /**
+     * "FMI1".
+     */
+    private static final int MAGIC = 0x464D4931;
+
+    /**
+     * The number of levels of the wavelet matrix, one per bit of a symbol.
+     */
+    private static final int LEVELS = 8;
+
+    /**
+     * The size of the header in bytes, rounded up to a multiple of 64 so the
+     * blocks of the bit vectors are aligned to cache lines.
+     */
+    private static final int HEADER = (5 + 257 + LEVELS) * 4 + 63 & ~63;
+
+    private final int n;
+
+    private final int sampleRate;
+
+    /**
+     * The row whose BWT symbol is the end of text marker. It is stored as 0.
+     */
+    private final int dollarRow;
+
+    /**
+     * The number of rows before the rows starting with each symbol.
+     */
+    private final int[] c;
+
+    /**
+     * The number of zero bits in each level.
+     */
+    private final int[] zeros;
+
+    private final Bits[] levels;
+
+    /**
+     * The position of each symbol in the last level.
+     */
+    private final int[] start;
+
+    private final Bits sampled;
+
+    private final IntBuffer samples;
+
+    /**
+     * Constructor for FMIndex. Uses the {@link #DEFAULT_SAMPLE_RATE}.
+     *
+     * @param text the text, may not be <code>null</code>
+     */
+    public FMIndex(byte[] text) {
+        this(text, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Constructor for FMIndex.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param sampleRate the distance of the sampled text positions, at least 1
+     */
+    public FMIndex(byte[] text, int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate < 1");
+        }
+        n = text.length;
+        this.sampleRate = sampleRate;
+        int rows = n + 1;
+
+        int[] sa;
+        {
+            int[] s = new int[n];
+            for (int i = 0; i < n; ++i) {
+                s[i] = text[i] & 0xFF;
+            }
+            sa = TextIndex.sais(s, 255);
+        }
+
+        // Row 0 is the suffix that only consists of the end of text marker.
+
+        byte[] bwt = new byte[rows];
+        bwt[0] = n == 0 ? 0 : text[n - 1];
+        int dollar = 0;
+        long[] marks = Bits.blocks(rows);
+        int sampleCount = 0;
+        if (n % sampleRate == 0) {
+            Bits.set(marks, 0);
+            ++sampleCount;
+        }
+        for (int i = 0; i < n; ++i) {
+            int pos = sa[i];
+            if (pos == 0) {
+                dollar = i + 1;
+            }
+            else {
+                bwt[i + 1] = text[pos - 1];
+            }
+            if (pos % sampleRate == 0) {
+                Bits.set(marks, i + 1);
+                ++sampleCount;
+            }
+        }
+        dollarRow = dollar;
+        int[] sample = new int[sampleCount];
+        int k = 0;
+        if (n % sampleRate == 0) {
+            sample[k++] = n;
+        }
+        for (int i = 0; i < n; ++i) {
+            if (sa[i] % sampleRate == 0) {
+                sample[k++] = sa[i];
+            }
+        }
+        sa = null;
+        sampled = Bits.count(marks);
+        samples = IntBuffer.wrap(sample);
+
+        int[] counts = new int[256];
+        for (int i = 0; i < n; ++i) {
+            ++counts[text[i] & 0xFF];
+        }
+        c = new int[257];
+        c[0] = 1;
+        for (int i = 0; i < 256; ++i) {
+            c[i + 1] = c[i] + counts[i];
+        }
+
+        zeros = new int[LEVELS];
+        levels = new Bits[LEVELS];
+        byte[] cur = bwt;
+        byte[] next = new byte[rows];
+        for (int l = 0; l < LEVELS; ++l) {
+            int shift = LEVELS - 1 - l;
+            long[] words = Bits.blocks(rows);
+            int z = 0;
+            for (int i = 0; i < rows; ++i) {
+                if (((cur[i] & 0xFF) >>> shift & 1) == 0) {
+                    ++z;
+                }
+                else {
+                    Bits.set(words, i);
+                }
+            }
+            zeros[l] = z;
+            int zi = 0, oi = z;
+            for (int i = 0; i < rows; ++i) {
+                if (((cur[i] & 0xFF) >>> shift & 1) == 0) {
+                    next[zi++] = cur[i];
+                }
+                else {
+                    next[oi++] = cur[i];
+                }
+            }
+            byte[] swap = cur;
+            cur = next;
+            next = swap;
+            levels[l] = Bits.count(words);
+        }
+        start = starts();
+    }
+
+    private FMIndex(int n, int sampleRate, int dollarRow, int[] c,
+            int[] zeros, Bits[] levels, Bits sampled, IntBuffer samples) {
+        this.n = n;
+        this.sampleRate = sampleRate;
+        this.dollarRow = dollarRow;
+        this.c = c;
+        this.zeros = zeros;
+        this.levels = levels;
+        this.sampled = sampled;
+        this.samples = samples;
+        start = starts();
+    }
+
+    /**
+     * Returns the position of each symbol in the last level.
+     */
+    private int[] starts() {
+        int[] out = new int[256];
+        for (int sym = 0; sym < 256; ++sym) {
+            int i = 0;
+            for (int l = 0; l < LEVELS; ++l) {
+                int ones = levels[l].rank1(i);
+                i = (sym >>> (LEVELS - 1 - l) & 1) == 0 ? i - ones : zeros[l]
+                        + ones;
+            }
+            out[sym] = i;
+        }
+        return out;
+    }
+
+    /**
+     * Returns the length of the text.
+     *
+     * @return int
+     */
+    public int length() {
+        return n;
+    }
+
+    /**
+     * Returns the distance of the sampled text positions.
+     *
+     * @return int
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Returns the number of occurrences of the pattern.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the number of occurrences
+     */
+    public int count(byte[] pattern) {
+        if (pattern.length == 0) {
+            return n;
+        }
+        long range = range(pattern);
+        return (int) (range >>> 32) - (int) range;
+    }
+
+    /**
+     * Returns the positions of all occurrences of the pattern in ascending
+     * order.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return an <code>int</code> array, never <code>null</code>
+     */
+    public int[] locate(byte[] pattern) {
+        int sp, ep;
+        if (pattern.length == 0) {
+            sp = 1;
+            ep = n + 1;
+        }
+        else {
+            long range = range(pattern);
+            sp = (int) range;
+            ep = (int) (range >>> 32);
+        }
+        // All rows take one step at a time. The rows of a range stay close
+        // together, so this is a lot more cache friendly than walking from
+        // one row to its sample after the other.
+
+        int[] out = new int[ep - sp];
+        int[] rows = new int[ep - sp];
+        for (int i = 0; i < rows.length; ++i) {
+            rows[i] = sp + i;
+        }
+        int found = 0;
+        int pending = rows.length;
+        for (int steps = 0; pending > 0; ++steps) {
+            int kept = 0;
+            for (int i = 0; i < pending; ++i) {
+                int r = rows[i];
+                if (sampled.get(r)) {
+                    out[found++] = samples.get(sampled.rank1(r)) + steps;
+                }
+                else {
+                    rows[kept++] = lf(r);
+                }
+            }
+            pending = kept;
+        }
+        Arrays.sort(out);
+        return out;
+    }
+
+    /**
+     * Runs backward search and returns the rows of the suffixes starting with
+     * the pattern, the end in the upper and the start in the lower 32 bits.
+     */
+    private long range(byte[] pattern) {
+        int sp = 0, ep = n + 1;
+        for (int i = pattern.length - 1; i >= 0 && sp < ep; --i) {
+            int sym = pattern[i] & 0xFF;
+            sp = c[sym] + rank(sym, sp);
+            ep = c[sym] + rank(sym, ep);
+        }
+        return sp < ep ? (long) ep << 32 | sp : 0L;
+    }
+
+    /**
+     * Returns the number of occurrences of the symbol in the BWT rows before
+     * the given row.
+     */
+    private int rank(int sym, int row) {
+        int i = row;
+        for (int l = 0; l < LEVELS; ++l) {
+            int ones = levels[l].rank1(i);
+            i = (sym >>> (LEVELS - 1 - l) & 1) == 0 ? i - ones : zeros[l] + ones;
+        }
+        int out = i - start[sym];
+        return sym == 0 && row > dollarRow ? out - 1 : out;
+    }
+
+    /**
+     * Returns the row of the suffix that starts one position before the
+     * suffix of the given row. The row may not be the row of the first
+     * suffix.
+     */
+    private int lf(int row) {
+        int i = row;
+        int sym = 0;
+        for (int l = 0; l < LEVELS; ++l) {
+            Bits b = levels[l];
+            int ones = b.rank1(i);
+            if (b.get(i)) {
+                sym = sym << 1 | 1;
+                i = zeros[l] + ones;
+            }
+            else {
+                sym <<= 1;
+                i -= ones;
+            }
+        }
+        int r = i - start[sym];
+        if (sym == 0 && row > dollarRow) {
+            --r;
+        }
+        return c[sym] + r;
+    }
+
+    /*
+     * Files
+     */
+
+    /**
+     * Writes the index to a file that can be opened with {@link #map(File)}.
+     *
+     * @param file the file, may not be <code>null</code>
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(File file) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            FileChannel channel = out.getChannel();
+            ByteBuffer buf = ByteBuffer.allocate(1 << 16).order(
+                    ByteOrder.LITTLE_ENDIAN);
+            buf.putInt(MAGIC).putInt(n).putInt(sampleRate).putInt(dollarRow)
+                    .putInt(samples.capacity());
+            for (int x : c) {
+                buf.putInt(x);
+            }
+            for (int x : zeros) {
+                buf.putInt(x);
+            }
+            buf.position(HEADER);
+            for (Bits b : levels) {
+                buf = write(b, buf, channel);
+            }
+            buf = write(sampled, buf, channel);
+            for (int i = 0; i < samples.capacity(); ++i) {
+                buf = room(buf, 4, channel).putInt(samples.get(i));
+            }
+            buf.flip();
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    private static ByteBuffer write(Bits b, ByteBuffer buf, FileChannel channel)
+            throws IOException {
+        for (int i = 0; i < b.blocks.capacity(); ++i) {
+            buf = room(buf, 8, channel).putLong(b.blocks.get(i));
+        }
+        return buf;
+    }
+
+    private static ByteBuffer room(ByteBuffer buf, int bytes,
+            FileChannel channel) throws IOException {
+        if (buf.remaining() < bytes) {
+            buf.flip();
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+            buf.clear();
+        }
+        return buf;
+    }
+
+    /**
+     * Opens an index written with {@link #writeTo(File)} by mapping it into
+     * memory.
+     *
+     * @param file the file, may not be <code>null</code>
+     * @return an FMIndex, never <code>null</code>
+     * @throws IOException if the file cannot be read or is not an index
+     */
+    public static FMIndex map(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            IntBuffer header = map(channel, 0L, HEADER).asIntBuffer();
+            if (header.get(0) != MAGIC) {
+                throw new IOException(file + " is not an FMIndex");
+            }
+            int n = header.get(1);
+            int sampleRate = header.get(2);
+            int dollarRow = header.get(3);
+            int sampleCount = header.get(4);
+            int[] c = new int[257];
+            for (int i = 0; i < c.length; ++i) {
+                c[i] = header.get(5 + i);
+            }
+            int[] zeros = new int[LEVELS];
+            for (int i = 0; i < LEVELS; ++i) {
+                zeros[i] = header.get(5 + 257 + i);
+            }
+            long offset = HEADER;
+            long size = Bits.blocks(n + 1).length * 8L;
+            Bits[] levels = new Bits[LEVELS];
+            for (int l = 0; l < LEVELS; ++l) {
+                levels[l] = new Bits(map(channel, offset, size).asLongBuffer());
+                offset += size;
+            }
+            Bits sampled = new Bits(map(channel, offset, size).asLongBuffer());
+            offset += size;
+            IntBuffer samples = map(channel, offset, sampleCount * 4L)
+                    .asIntBuffer();
+            return new FMIndex(n, sampleRate, dollarRow, c, zeros, levels,
+                    sampled, samples);
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long offset, long size)
+            throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, size).order(
+                ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * A bit vector with rank support. The bits are stored in blocks of eight
+     * <code>long</code>s, a header followed by 448 bits, so a rank query
+     * usually reads one cache line. The header holds the number of one bits
+     * before the block in the lower 32 bits and the number of one bits in the
+     * first two, four and six words of the block in three 9 bit fields, so a
+     * rank query counts the bits of at most two words.
+     */
+    static final class Bits {
+
+        static final int BLOCK = 448;
+
+        final LongBuffer blocks;
+
+        Bits(LongBuffer blocks) {
+            this.blocks = blocks;
+        }
+
+        /**
+         * Returns the blocks for a bit vector of the given length.
+         */
+        static long[] blocks(int length) {
+            return new long[(length / BLOCK + 1) << 3];
+        }
+
+        static void set(long[] blocks, int i) {
+            int b = i / BLOCK;
+            int r = i - b * BLOCK;
+            blocks[(b << 3) + 1 + (r >>> 6)] |= 1L << r;
+        }
+
+        /**
+         * Fills in the headers of the blocks.
+         */
+        static Bits count(long[] blocks) {
+            long ones = 0L;
+            for (int b = 0; b < blocks.length; b += 8) {
+                long header = ones;
+                int inBlock = 0;
+                for (int k = 0; k < 7; ++k) {
+                    if (k > 0 && (k & 1) == 0) {
+                        header |= (long) inBlock << 23 + 9 * (k >>> 1);
+                    }
+                    inBlock += Long.bitCount(blocks[b + 1 + k]);
+                }
+                blocks[b] = header;
+                ones += inBlock;
+            }
+            return new Bits(LongBuffer.wrap(blocks));
+        }
+
+        boolean get(int i) {
+            int b = i / BLOCK;
+            int r = i - b * BLOCK;
+            return (blocks.get((b << 3) + 1 + (r >>> 6)) >>> r & 1L) != 0L;
+        }
+
+        /**
+         * Returns the number of one bits before position i.
+         */
+        int rank1(int i) {
+            int b = i / BLOCK;
+            int r = i - b * BLOCK;
+            int base = (b << 3) + 1;
+            long header = blocks.get(base - 1);
+            int out = (int) header;
+            int w = r >>> 6;
+            if (w > 1) {
+                out += (int) (header >>> 23 + 9 * (w >>> 1)) & 511;
+            }
+            if ((w & 1) != 0) {
+                out += Long.bitCount(blocks.get(base + w - 1));
+            }
+            r &= 63;
+            if (r != 0) {
+                out += Long.bitCount(blocks.get(base + w) & (1L << r) - 1L);
+            }
+            return out;
+        }
+
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * GzipInputStream.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Decompresses a gzip stream of one or more concatenated members with an
+ * {@link Inflater}. The CRC and length of each member are checked. Data after
+ * the last member that does not start with a gzip header is ignored, like
+ * {@link java.util.zip.GZIPInputStream} does.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+final class GzipInputStream extends InputStream {
+
+    private static final int FHCRC = 2, FEXTRA = 4, FNAME = 8, FCOMMENT = 16;
+
+    private final InputStream in;
+
+    private final byte[] input = new byte[1 << 16];
+
+    /**
+     * The unread input is in <code>[inPos, inLimit)</code>.
+     */
+    private int inPos, inLimit;
+
+    private final Inflater inflater = new Inflater(true);
+
+    private final CRC32 crc = new CRC32();
+
+    private int members;
+
+    private boolean inMember, eof;
+
+    GzipInputStream(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Returns the number of members read so far.
+     */
+    int members() {
+        return members;
+    }
+
+    /**
+     * @see java.io.InputStream#read()
+     */
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    /**
+     * @see java.io.InputStream#read(byte[], int, int)
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (!eof) {
+            if (!inMember) {
+                if (!readHeader()) {
+                    eof = true;
+                    break;
+                }
+                inflater.reset();
+                crc.reset();
+                inMember = true;
+            }
+            if (inflater.needsInput()) {
+                if (inPos == inLimit && !fill()) {
+                    throw new EOFException("Unexpected end of gzip stream");
+                }
+                inflater.setInput(input, inPos, inLimit - inPos);
+                inPos = inLimit;
+            }
+            int n;
+            try {
+                n = inflater.inflate(b, off, len);
+            }
+            catch (DataFormatException ex) {
+                throw new ZipException(ex.getMessage());
+            }
+            if (n > 0) {
+                crc.update(b, off, n);
+                return n;
+            }
+            if (inflater.finished()) {
+                inPos = inLimit - inflater.getRemaining();
+                readTrailer();
+                inMember = false;
+            }
+            else if (inflater.needsDictionary()) {
+                throw new ZipException("Deflate dictionaries are not supported");
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a member header. Returns <code>false</code> at the end of the
+     * stream.
+     */
+    private boolean readHeader() throws IOException {
+        int b0 = readByte(false);
+        int b1 = b0 == -1 ? -1 : readByte(false);
+        if (b0 != 0x1F || b1 != 0x8B) {
+            if (members == 0) {
+                throw new ZipException("Not in gzip format");
+            }
+            return false;
+        }
+        if (readByte(true) != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readByte(true);
+        skip(6);
+        if ((flags & FEXTRA) != 0) {
+            skip(readByte(true) | readByte(true) << 8);
+        }
+        if ((flags & FNAME) != 0) {
+            while (readByte(true) != 0) {
+                // Skip the file name.
+            }
+        }
+        if ((flags & FCOMMENT) != 0) {
+            while (readByte(true) != 0) {
+                // Skip the comment.
+            }
+        }
+        if ((flags & FHCRC) != 0) {
+            skip(2);
+        }
+        ++members;
+        return true;
+    }
+
+    private void readTrailer() throws IOException {
+        long storedCrc = readInt();
+        long storedSize = readInt();
+        if (storedCrc != crc.getValue()
+                || storedSize != (inflater.getBytesWritten() & 0xFFFFFFFFL)) {
+            throw new ZipException("Corrupt gzip trailer");
+        }
+    }
+
+    private long readInt() throws IOException {
+        return readByte(true) | readByte(true) << 8 | readByte(true) << 16
+                | (long) readByte(true) << 24;
+    }
+
+    private void skip(int n) throws IOException {
+        for (int i = 0; i < n; ++i) {
+            readByte(true);
+        }
+    }
+
+    private int readByte(boolean required) throws IOException {
+        if (inPos == inLimit && !fill()) {
+            if (required) {
+                throw new EOFException("Unexpected end of gzip stream");
+            }
+            return -1;
+        }
+        return input[inPos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(input, 0, input.length);
+        inPos = 0;
+        inLimit = Math.max(n, 0);
+        return n > 0;
+    }
+
+    /**
+     * Releases the Inflater without closing the underlying stream.
+     */
+    void end() {
+        inflater.end();
+    }
+
+    /**
+     * @see java.io.InputStream#close()
+     */
+    @Override
+    public void close() throws IOException {
+        end();
+        in.close();
+    }
+
+}
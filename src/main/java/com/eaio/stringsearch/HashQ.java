@@ -0,0 +1,256 @@
+/*
+ * HashQ.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.util.Arrays;
+
+/**
+ * An implementation of Thierry Lecroq's Hash-q family of String searching
+ * algorithms. See "Fast exact string matching algorithms" (appeared in
+ * <em>Information Processing Letters, 102(6):229-235</em>).
+ * <p>
+ * Like {@link BoyerMooreHorspool}, these algorithms shift the pattern by a
+ * value taken from the end of the current window, but they look up the hash
+ * of the last <em>q</em> symbols instead of the last symbol. On small
+ * alphabets such as DNA, every symbol occurs near the end of a long pattern
+ * and single symbol shifts are tiny, while <em>q</em>-grams are much rarer.
+ * <p>
+ * The shift table has between 256 and 65536 entries, about four per
+ * <em>q</em>-gram of the pattern. These algorithms are meant for patterns of
+ * 16 to 1000 symbols. Patterns shorter than <em>q</em> are searched with the
+ * {@link BoyerMooreHorspoolRaita} algorithm.
+ *
+ * @see Hash3
+ * @see Hash5
+ * @see Hash8
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public abstract class HashQ extends StringSearch {
+
+    private static final int GOLDEN = 0x9E3779B9;
+
+    private static final BoyerMooreHorspoolRaita shortPatterns = new BoyerMooreHorspoolRaita();
+
+    private static final Intrinsics intrinsics = Intrinsics.INSTANCE;
+
+    private final int q;
+
+    /**
+     * Constructor for HashQ.
+     *
+     * @param q the length of the hashed <em>q</em>-grams, at least 2
+     */
+    protected HashQ(int q) {
+        super();
+        if (q < 2) {
+            throw new IllegalArgumentException("q must be at least 2");
+        }
+        this.q = q;
+    }
+
+    /**
+     * Returns the length of the hashed <em>q</em>-grams.
+     *
+     * @return <em>q</em>
+     */
+    public final int getQ() {
+        return q;
+    }
+
+    /**
+     * Pre-processing of the pattern. Returns an <code>int</code> array
+     * containing the shift table, the shift after a verification and the
+     * number of hash bits, which is serializable.
+     *
+     * @see com.eaio.stringsearch.StringSearch#processBytes(byte[])
+     */
+    @Override
+    public Object processBytes(byte[] pattern) {
+        if (pattern.length < q) {
+            return shortPatterns.processBytes(pattern);
+        }
+        int m = pattern.length;
+        int bits = bits(m - q + 1);
+        int[] shift = new int[(1 << bits) + 2];
+        Arrays.fill(shift, 0, 1 << bits, m - q + 1);
+        for (int i = q - 1; i < m - 1; ++i) {
+            shift[hash(pattern, i, bits)] = m - 1 - i;
+        }
+        return finish(shift, hash(pattern, m - 1, bits), bits);
+    }
+
+    /**
+     * Pre-processing of the pattern. Returns an <code>int</code> array
+     * containing the shift table, the shift after a verification and the
+     * number of hash bits, which is serializable.
+     *
+     * @see com.eaio.stringsearch.StringSearch#processChars(char[])
+     */
+    @Override
+    public Object processChars(char[] pattern) {
+        if (pattern.length < q) {
+            return shortPatterns.processChars(pattern);
+        }
+        int m = pattern.length;
+        int bits = bits(m - q + 1);
+        int[] shift = new int[(1 << bits) + 2];
+        Arrays.fill(shift, 0, 1 << bits, m - q + 1);
+        for (int i = q - 1; i < m - 1; ++i) {
+            shift[hash(pattern, i, bits)] = m - 1 - i;
+        }
+        return finish(shift, hash(pattern, m - 1, bits), bits);
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchBytes(byte[], int, int,
+     * byte[], java.lang.Object)
+     */
+    @Override
+    public int searchBytes(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed) {
+
+        if (pattern.length < q) {
+            return shortPatterns.searchBytes(text, textStart, textEnd,
+                    pattern, processed);
+        }
+
+        int[] shift = (int[]) processed;
+        final int bits = shift[shift.length - 1];
+        final int afterVerification = shift[shift.length - 2];
+        final int m = pattern.length;
+        final int end = Math.min(textEnd, text.length);
+
+        int i = Math.max(textStart, 0) + m - 1, sh;
+
+        while (i < end) {
+            sh = shift[hash(text, i, bits)];
+            if (sh == 0) {
+                if (intrinsics.mismatch(text, i - m + 1, pattern, 0, m) == -1) {
+                    return i - m + 1;
+                }
+                i += afterVerification;
+            }
+            else {
+                i += sh;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchChars(char[], int, int,
+     * char[], Object)
+     */
+    @Override
+    public int searchChars(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed) {
+
+        if (pattern.length < q) {
+            return shortPatterns.searchChars(text, textStart, textEnd,
+                    pattern, processed);
+        }
+
+        int[] shift = (int[]) processed;
+        final int bits = shift[shift.length - 1];
+        final int afterVerification = shift[shift.length - 2];
+        final int m = pattern.length;
+        final int end = Math.min(textEnd, text.length);
+
+        int i = Math.max(textStart, 0) + m - 1, sh;
+
+        while (i < end) {
+            sh = shift[hash(text, i, bits)];
+            if (sh == 0) {
+                if (intrinsics.mismatch(text, i - m + 1, pattern, 0, m) == -1) {
+                    return i - m + 1;
+                }
+                i += afterVerification;
+            }
+            else {
+                i += sh;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the <em>q</em>-gram ending at <code>end</code> in
+     * a table with <code>2<sup>bits</sup></code> entries.
+     */
+    private int hash(byte[] a, int end, int bits) {
+        int h = 0;
+        for (int i = end - q + 1; i <= end; ++i) {
+            h = 31 * h + a[i];
+        }
+        return (h * GOLDEN) >>> (32 - bits);
+    }
+
+    /**
+     * Returns the index of the <em>q</em>-gram ending at <code>end</code> in
+     * a table with <code>2<sup>bits</sup></code> entries.
+     */
+    private int hash(char[] a, int end, int bits) {
+        int h = 0;
+        for (int i = end - q + 1; i <= end; ++i) {
+            h = 31 * h + a[i];
+        }
+        return (h * GOLDEN) >>> (32 - bits);
+    }
+
+    /**
+     * Returns the number of hash bits for a pattern with the given number of
+     * <em>q</em>-grams.
+     */
+    private static int bits(int qGrams) {
+        int bits = 8;
+        while (bits < 16 && 1 << bits < qGrams << 2) {
+            ++bits;
+        }
+        return bits;
+    }
+
+    /**
+     * Stores the shift after a verification, which is the distance to the
+     * previous occurrence of the last <em>q</em>-gram's hash, and the number
+     * of hash bits.
+     */
+    private static int[] finish(int[] shift, int last, int bits) {
+        int afterVerification = shift[last];
+        shift[last] = 0;
+        shift[shift.length - 2] = afterVerification == 0 ? 1
+                : afterVerification;
+        shift[shift.length - 1] = bits;
+        return shift;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Intrinsics.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Memory access and comparison primitives that newer Java versions can
+ * implement faster.
+ * <p>
+ * The implementation is chosen when this Class is loaded. Classes for newer
+ * Java versions are compiled into the <code>META-INF/versions</code>
+ * directories of the multi-release JAR file and are looked up by name, newest
+ * first. If none of them can be loaded, {@link UnsafeIntrinsics} is used.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+abstract class Intrinsics {
+
+    private static final String[] IMPLEMENTATIONS = { "com.eaio.stringsearch.Java11Intrinsics" };
+
+    private static final String[] UNALIGNED_ARCHITECTURES = { "i386", "x86",
+            "amd64", "x86_64", "aarch64", "ppc64", "ppc64le", "s390x" };
+
+    /**
+     * The implementation for this VM.
+     */
+    static final Intrinsics INSTANCE = load();
+
+    private static Intrinsics load() {
+        byte[] bytes = { 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        char[] chars = { 1, 2, 3 };
+        for (int i = 0; i < IMPLEMENTATIONS.length; ++i) {
+            try {
+                Intrinsics out = (Intrinsics) Class.forName(IMPLEMENTATIONS[i]).getDeclaredConstructor().newInstance();
+                // Links the implementation.
+                if (out.mismatch(bytes, 1, bytes, 1, 8) == -1
+                        && out.mismatch(chars, 0, new char[] { 1, 3 }, 0, 2) == 1
+                        && (!out.readsWords() || out.getLong(bytes, 1) != 0L)) {
+                    return out;
+                }
+            }
+            catch (ClassNotFoundException ex) {
+                // Not a multi-release JAR file or older Java version.
+            }
+            catch (InstantiationException ex) {
+                // Ignored.
+            }
+            catch (IllegalAccessException ex) {
+                // Ignored.
+            }
+            catch (NoSuchMethodException ex) {
+                // Ignored.
+            }
+            catch (InvocationTargetException ex) {
+                // Ignored.
+            }
+            catch (LinkageError err) {
+                // Ignored.
+            }
+            catch (RuntimeException ex) {
+                // Ignored.
+            }
+        }
+        return new UnsafeIntrinsics();
+    }
+
+    /**
+     * Returns if this platform supports fast unaligned reads.
+     */
+    static boolean unaligned() {
+        String arch;
+        try {
+            arch = System.getProperty("os.arch");
+        }
+        catch (SecurityException ex) {
+            return false;
+        }
+        for (int i = 0; i < UNALIGNED_ARCHITECTURES.length; ++i) {
+            if (UNALIGNED_ARCHITECTURES[i].equals(arch)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns if {@link #getLong(byte[], int)} may be called.
+     *
+     * @return boolean
+     */
+    abstract boolean readsWords();
+
+    /**
+     * Reads eight <code>bytes</code> in native byte order. May only be called
+     * if {@link #readsWords()} returns <code>true</code>.
+     *
+     * @param a the <code>byte</code> array, may not be <code>null</code>
+     * @param index the index of the first <code>byte</code>, not checked
+     * against the length of the array
+     * @return a <code>long</code>
+     */
+    abstract long getLong(byte[] a, int index);
+
+    /**
+     * Compares two ranges of equal length.
+     *
+     * @param a the first <code>byte</code> array, may not be <code>null</code>
+     * @param aFrom the start of the first range
+     * @param b the second <code>byte</code> array, may not be
+     * <code>null</code>
+     * @param bFrom the start of the second range
+     * @param length the length of the ranges
+     * @return the offset of the first mismatch or -1 if the ranges are equal
+     */
+    abstract int mismatch(byte[] a, int aFrom, byte[] b, int bFrom, int length);
+
+    /**
+     * Compares two ranges of equal length.
+     *
+     * @param a the first <code>char</code> array, may not be <code>null</code>
+     * @param aFrom the start of the first range
+     * @param b the second <code>char</code> array, may not be
+     * <code>null</code>
+     * @param bFrom the start of the second range
+     * @param length the length of the ranges
+     * @return the offset of the first mismatch or -1 if the ranges are equal
+     */
+    abstract int mismatch(char[] a, int aFrom, char[] b, int bFrom, int length);
+
+}
@@ -0,0 +1,329 @@
+/*
+ * LineMatcher.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Finds the lines that contain a pattern, like <code>grep -F</code>.
+ * <p>
+ * The text is searched with any {@link StringSearch}. For each match, the
+ * enclosing line is found by scanning backward and forward for
+ * <code>'\n'</code> eight <code>bytes</code> at a time (see
+ * {@link ByteScanner}), and searching continues after the line, so each line
+ * is reported at most once. Line numbers are optional. They are counted
+ * incrementally, only up to the lines that are reported.
+ * <p>
+ * {@link #match(byte[], int, int, Listener)} works on any <code>byte</code>
+ * array, such as a file read into memory or a window of a memory mapped
+ * file. {@link #match(InputStream, Listener)} reads a stream in buffers that
+ * end after the last complete line; a line longer than the buffer grows it.
+ * Lines end with <code>'\n'</code>, a preceding <code>'\r'</code> is part of
+ * the line. Matches of algorithms that do not match exactly, such as
+ * {@link BNDMWildcards} or {@link ShiftOrMismatches}, that span a line break
+ * are ignored. LineMatcher instances are thread safe.
+ * <p>
+ * Example:
+ * <pre>
+ * LineMatcher m = new LineMatcher(new BoyerMooreHorspool(),
+ *         "ERROR".getBytes(), true);
+ * m.match(new FileInputStream("app.log"), new LineMatcher.Listener() {
+ *     public boolean line(byte[] text, int start, int end, long number,
+ *             long offset) {
+ *         System.out.println(number + ":" + new String(text, start,
+ *                 end - start));
+ *         return true;
+ *     }
+ * });
+ * </pre>
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class LineMatcher {
+
+    /**
+     * The initial size of the buffer used for streams.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final byte NEWLINE = '\n';
+
+    /**
+     * Receives the matching lines.
+     */
+    public interface Listener {
+
+        /**
+         * Called for each matching line in the order of the lines. The
+         * <code>byte</code> array may only be read during the call.
+         *
+         * @param text the <code>byte</code> array containing the line
+         * @param start the start of the line
+         * @param end the end of the line, the position of the
+         * <code>'\n'</code> or the end of the text
+         * @param number the line number, starting at 1, or -1 if line numbers
+         * are not counted
+         * @param offset the offset of the start of the line in the text or
+         * stream
+         * @return if matching should continue
+         */
+        boolean line(byte[] text, int start, int end, long number, long offset);
+
+    }
+
+    private final StringSearch algorithm;
+
+    private final byte[] pattern;
+
+    private final Object processed;
+
+    private final boolean lineNumbers;
+
+    private final boolean exact;
+
+    /**
+     * The number of pattern bytes the algorithm matches, the rest is verified.
+     */
+    private final int verified;
+
+    private final int bufferSize;
+
+    /**
+     * Constructor for LineMatcher. Does not count line numbers.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the pattern, may not be <code>null</code> or empty and
+     * may not contain <code>'\n'</code>
+     */
+    public LineMatcher(StringSearch algorithm, byte[] pattern) {
+        this(algorithm, pattern, false);
+    }
+
+    /**
+     * Constructor for LineMatcher.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the pattern, may not be <code>null</code> or empty and
+     * may not contain <code>'\n'</code>
+     * @param lineNumbers whether line numbers should be counted
+     */
+    public LineMatcher(StringSearch algorithm, byte[] pattern,
+            boolean lineNumbers) {
+        this(algorithm, pattern, lineNumbers, DEFAULT_BUFFER_SIZE);
+    }
+
+    LineMatcher(StringSearch algorithm, byte[] pattern, boolean lineNumbers,
+            int bufferSize) {
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("pattern is empty");
+        }
+        if (ByteScanner.indexOf(pattern, 0, pattern.length, NEWLINE) != -1) {
+            throw new IllegalArgumentException("pattern contains a line break");
+        }
+        this.algorithm = algorithm;
+        this.pattern = pattern.clone();
+        processed = algorithm.processBytes(this.pattern);
+        this.lineNumbers = lineNumbers;
+        exact = algorithm.matchesExactly();
+        verified = algorithm.processedLength(pattern.length);
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Returns the algorithm.
+     *
+     * @return a StringSearch instance, never <code>null</code>
+     */
+    public StringSearch getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns if line numbers are counted.
+     *
+     * @return boolean
+     */
+    public boolean countsLineNumbers() {
+        return lineNumbers;
+    }
+
+    /**
+     * Reports the lines of a text that contain the pattern.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart the start of the first line
+     * @param textEnd the end of the text (exclusive)
+     * @param listener the Listener, may be <code>null</code> to count lines
+     * @return the number of matching lines
+     */
+    public long match(byte[] text, int textStart, int textEnd,
+            Listener listener) {
+        Position p = new Position();
+        match(text, textStart, textEnd, 0L, p, listener);
+        return p.matches;
+    }
+
+    /**
+     * Reports the lines of a stream that contain the pattern. The stream is
+     * not closed.
+     *
+     * @param in the stream, may not be <code>null</code>
+     * @param listener the Listener, may be <code>null</code> to count lines
+     * @return the number of matching lines
+     * @throws IOException if the stream cannot be read
+     */
+    public long match(InputStream in, Listener listener) throws IOException {
+        Position p = new Position();
+        byte[] buf = new byte[bufferSize];
+        int length = 0;
+        long offset = 0L;
+        while (true) {
+            if (length == buf.length) {
+                byte[] larger = new byte[buf.length << 1];
+                System.arraycopy(buf, 0, larger, 0, length);
+                buf = larger;
+            }
+            int n = in.read(buf, length, buf.length - length);
+            if (n == -1) {
+                if (length > 0) {
+                    match(buf, 0, length, offset, p, listener);
+                }
+                break;
+            }
+
+            // Searches the complete lines and keeps the rest.
+
+            int end = ByteScanner.lastIndexOf(buf, length, length + n,
+                    NEWLINE) + 1;
+            length += n;
+            if (end == 0) {
+                continue;
+            }
+            if (!match(buf, 0, end, offset, p, listener)) {
+                break;
+            }
+            System.arraycopy(buf, end, buf, 0, length - end);
+            length -= end;
+            offset += end;
+            p.counted -= end;
+        }
+        return p.matches;
+    }
+
+    /**
+     * Reports the matching lines in <code>[textStart, textEnd)</code> and
+     * advances the Position. Returns <code>false</code> if the Listener
+     * stopped matching.
+     */
+    private boolean match(byte[] text, int textStart, int textEnd,
+            long offset, Position p, Listener listener) {
+        int m = pattern.length;
+        int pos = textStart;
+        p.counted = Math.max(p.counted, textStart);
+        while (pos < textEnd) {
+            int hit = algorithm.searchBytes(text, pos, textEnd, pattern,
+                    processed);
+            if (hit == -1) {
+                break;
+            }
+            if (exact && verified < m && !matches(text, hit, textEnd)) {
+                pos = hit + 1;
+                continue;
+            }
+            int end = ByteScanner.indexOf(text, exact ? hit + m : hit,
+                    textEnd, NEWLINE);
+            if (end == -1) {
+                end = textEnd;
+            }
+            else if (end < hit + m) {
+                pos = hit + 1;
+                continue;
+            }
+            int start = ByteScanner.lastIndexOf(text, pos, hit, NEWLINE) + 1;
+            if (start == 0) {
+                start = pos;
+            }
+            long number = -1L;
+            if (lineNumbers) {
+                p.line += ByteScanner.count(text, p.counted, start, NEWLINE);
+                p.counted = start;
+                number = p.line;
+            }
+            ++p.matches;
+            if (listener != null
+                    && !listener.line(text, start, end, number, offset + start)) {
+                return false;
+            }
+            pos = end + 1;
+        }
+        if (lineNumbers) {
+            p.line += ByteScanner.count(text, p.counted, textEnd, NEWLINE);
+            p.counted = textEnd;
+        }
+        return true;
+    }
+
+    /**
+     * Returns if the pattern bytes after <code>verified</code> follow the hit.
+     */
+    private boolean matches(byte[] text, int hit, int textEnd) {
+        if (hit + pattern.length > textEnd) {
+            return false;
+        }
+        for (int i = verified; i < pattern.length; ++i) {
+            if (text[hit + i] != pattern[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The state of a search.
+     */
+    private static final class Position {
+
+        long matches;
+
+        /**
+         * The number of the line at <code>counted</code>.
+         */
+        long line = 1L;
+
+        /**
+         * The position up to which line breaks have been counted.
+         */
+        int counted;
+
+    }
+
+}
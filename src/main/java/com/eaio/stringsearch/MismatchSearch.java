@@ -40,6 +40,11 @@ package com.eaio.stringsearch;
  * "nu1l", 1);
  * </pre>
  * positions[0] would be 8, positions[1] (the number of mismatches) would be 1.
+ * <p>
+ * The <code>searchBytesPacked</code>, <code>searchCharsPacked</code> and
+ * <code>searchStringPacked</code> methods return both values packed into a
+ * <code>long</code> and do not allocate memory. Use {@link #position(long)}
+ * and {@link #mismatches(long)} to unpack them.
  * 
  * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
  * &#8211; high-performance pattern matching algorithms in Java</a>
@@ -117,6 +122,38 @@ public abstract class MismatchSearch extends StringSearch {
         return processChars(StringSearch.getChars(pattern), k);
     }
 
+    /**
+     * Pre-processes the pattern, allowing k errors, through the
+     * {@link PatternCache} if one is installed.
+     * 
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param k the editing distance
+     * @return an Object
+     * @see StringSearch#setPatternCache(PatternCache)
+     */
+    final Object processBytesCached(byte[] pattern, int k) {
+        PatternCache cache = StringSearch.getPatternCache();
+        return cache == null ? processBytes(pattern, k) : cache.processBytes(
+                this, pattern, k);
+    }
+
+    /**
+     * Pre-processes a <code>char</code> array, allowing k errors, through the
+     * {@link PatternCache} if one is installed.
+     * 
+     * @param pattern a <code>char</code> array containing the pattern, may not
+     * be <code>null</code>
+     * @param k the editing distance
+     * @return an Object
+     * @see StringSearch#setPatternCache(PatternCache)
+     */
+    final Object processCharsCached(char[] pattern, int k) {
+        PatternCache cache = StringSearch.getPatternCache();
+        return cache == null ? processChars(pattern, k) : cache.processChars(
+                this, pattern, k);
+    }
+
     /*
      * Byte searching methods
      */
@@ -130,7 +167,8 @@ public abstract class MismatchSearch extends StringSearch {
     public final int searchBytes(byte[] text, int textStart, int textEnd,
             byte[] pattern, Object processed) {
 
-        return searchBytes(text, textStart, textEnd, pattern, processed, 0)[0];
+        return position(searchBytesPacked(text, textStart, textEnd, pattern,
+                processed, 0));
 
     }
 
@@ -147,7 +185,7 @@ public abstract class MismatchSearch extends StringSearch {
      * @see #searchBytes(byte[], int, int, byte[], Object, int)
      */
     public final int[] searchBytes(byte[] text, byte[] pattern, int k) {
-        return searchBytes(text, 0, text.length, pattern, processBytes(
+        return searchBytes(text, 0, text.length, pattern, processBytesCached(
                 pattern, k), k);
     }
 
@@ -189,7 +227,7 @@ public abstract class MismatchSearch extends StringSearch {
             int k) {
 
         return searchBytes(text, textStart, text.length, pattern,
-                processBytes(pattern, k), k);
+                processBytesCached(pattern, k), k);
     }
 
     /**
@@ -230,8 +268,8 @@ public abstract class MismatchSearch extends StringSearch {
     public final int[] searchBytes(byte[] text, int textStart, int textEnd,
             byte[] pattern, int k) {
 
-        return searchBytes(text, textStart, textEnd, pattern, processBytes(
-                pattern, k), k);
+        return searchBytes(text, textStart, textEnd, pattern,
+                processBytesCached(pattern, k), k);
     }
 
     /**
@@ -252,6 +290,36 @@ public abstract class MismatchSearch extends StringSearch {
      */
     public abstract int[] searchBytes(byte[] text, int textStart,
             int textEnd, byte[] pattern, Object processed, int k);
+
+    /**
+     * Returns the position in the text at which the pattern was found and the
+     * number of mismatches, packed into a <code>long</code>. Unlike
+     * {@link #searchBytes(byte[], int, int, byte[], Object, int)}, this
+     * method does not need to allocate memory.
+     * <p>
+     * The default implementation calls
+     * {@link #searchBytes(byte[], int, int, byte[], Object, int)}.
+     * Subclasses should override it.
+     * 
+     * @param text text the <code>byte</code> array containing the text, may
+     * not be <code>null</code>
+     * @param textStart at which position in the text the comparing should
+     * start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from
+     * {@link #processBytes(byte[], int)}, may not be <code>null</code>
+     * @param k the editing distance
+     * @return the position and the number of mismatches
+     * @see #position(long)
+     * @see #mismatches(long)
+     */
+    public long searchBytesPacked(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed, int k) {
+
+        int[] r = searchBytes(text, textStart, textEnd, pattern, processed, k);
+        return pack(r[0], r[1]);
+    }
     
     /*
      * Char searching methods
@@ -268,7 +336,8 @@ public abstract class MismatchSearch extends StringSearch {
     public final int searchChars(char[] text, int textStart, int textEnd,
             char[] pattern, Object processed) {
 
-        return searchChars(text, textStart, textEnd, pattern, processed, 0)[0];
+        return position(searchCharsPacked(text, textStart, textEnd, pattern,
+                processed, 0));
     }
 
     /**
@@ -281,7 +350,7 @@ public abstract class MismatchSearch extends StringSearch {
      * @see #searchChars(char[], int, int, char[], Object, int)
      */
     public final int[] searchChars(char[] text, char[] pattern, int k) {
-        return searchChars(text, 0, text.length, pattern, processChars(
+        return searchChars(text, 0, text.length, pattern, processCharsCached(
                 pattern, k), k);
     }
 
@@ -319,7 +388,7 @@ public abstract class MismatchSearch extends StringSearch {
             char[] pattern, int k) {
 
         return searchChars(text, textStart, text.length, pattern,
-                processChars(pattern, k), k);
+                processCharsCached(pattern, k), k);
     }
 
     /**
@@ -359,8 +428,8 @@ public abstract class MismatchSearch extends StringSearch {
     public final int[] searchChars(char[] text, int textStart, int textEnd,
             char[] pattern, int k) {
 
-        return searchChars(text, textStart, textEnd, pattern, processChars(
-                pattern, k), k);
+        return searchChars(text, textStart, textEnd, pattern,
+                processCharsCached(pattern, k), k);
     }
 
     /**
@@ -381,6 +450,36 @@ public abstract class MismatchSearch extends StringSearch {
     public abstract int[] searchChars(char[] text, int textStart,
             int textEnd, char[] pattern, Object processed, int k);
 
+    /**
+     * Returns the position in the text at which the pattern was found and the
+     * number of mismatches, packed into a <code>long</code>. Unlike
+     * {@link #searchChars(char[], int, int, char[], Object, int)}, this
+     * method does not need to allocate memory.
+     * <p>
+     * The default implementation calls
+     * {@link #searchChars(char[], int, int, char[], Object, int)}.
+     * Subclasses should override it.
+     * 
+     * @param text text the <code>char</code> array containing the text, may
+     * not be <code>null</code>
+     * @param textStart at which position in the text the comparing should
+     * start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from
+     * {@link #processChars(char[], int)}, may not be <code>null</code>
+     * @param k the editing distance
+     * @return the position and the number of mismatches
+     * @see #position(long)
+     * @see #mismatches(long)
+     */
+    public long searchCharsPacked(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed, int k) {
+
+        int[] r = searchChars(text, textStart, textEnd, pattern, processed, k);
+        return pack(r[0], r[1]);
+    }
+
     /* String searching methods */
 
     /**
@@ -507,4 +606,220 @@ public abstract class MismatchSearch extends StringSearch {
                 textEnd, pattern, processed, k, this);
     }
 
+    /**
+     * Returns the position in the text at which the pattern was found and the
+     * number of mismatches, packed into a <code>long</code>.
+     * 
+     * @param text the String containing the text, may not be <code>null</code>
+     * @param textStart at which position in the text the comparing should start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @param processed an Object as returned from
+     * {@link #processChars(char[], int)} or {@link #processString(String, int)},
+     * may not be <code>null</code>
+     * @param k the maximum number of mismatches (the editing distance)
+     * @return the position and the number of mismatches
+     * @see #searchCharsPacked(char[], int, int, char[], Object, int)
+     */
+    public final long searchStringPacked(String text, int textStart,
+            int textEnd, String pattern, Object processed, int k) {
+
+        return StringSearch.activeStringAccess.searchStringPacked(text,
+                textStart, textEnd, pattern, processed, k, this);
+    }
+
+    /*
+     * Backward searching methods
+     */
+
+    /**
+     * Pre-processes the pattern for the backward searching methods, allowing
+     * <b>zero</b> errors.
+     *
+     * @see StringSearch#processBytesBackward(byte[])
+     * @see #processBytesBackward(byte[], int)
+     */
+    @Override
+    public final Object processBytesBackward(byte[] pattern) {
+        return processBytesBackward(pattern, 0);
+    }
+
+    /**
+     * Pre-processes the pattern for the backward searching methods, allowing k
+     * errors. The default implementation returns
+     * {@link #processBytes(byte[], int)}.
+     *
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param k the editing distance
+     * @return an Object
+     */
+    public Object processBytesBackward(byte[] pattern, int k) {
+        return processBytes(pattern, k);
+    }
+
+    /**
+     * Pre-processes the pattern for the backward searching methods, allowing
+     * <b>zero</b> errors.
+     *
+     * @see StringSearch#processCharsBackward(char[])
+     * @see #processCharsBackward(char[], int)
+     */
+    @Override
+    public final Object processCharsBackward(char[] pattern) {
+        return processCharsBackward(pattern, 0);
+    }
+
+    /**
+     * Pre-processes the pattern for the backward searching methods, allowing k
+     * errors. The default implementation returns
+     * {@link #processChars(char[], int)}.
+     *
+     * @param pattern a <code>char</code> array containing the pattern, may not
+     * be <code>null</code>
+     * @param k the editing distance
+     * @return an Object
+     */
+    public Object processCharsBackward(char[] pattern, int k) {
+        return processChars(pattern, k);
+    }
+
+    /**
+     * @see StringSearch#searchBytesBackward(byte[], int, int, byte[], Object)
+     * @see #searchBytesBackwardPacked(byte[], int, int, byte[], Object, int)
+     */
+    @Override
+    public final int searchBytesBackward(byte[] text, int textStart,
+            int textEnd, byte[] pattern, Object processed) {
+
+        return position(searchBytesBackwardPacked(text, textStart, textEnd,
+                pattern, processed, 0));
+    }
+
+    /**
+     * Returns the last position in the text at which the pattern was found
+     * with at most k mismatches and the number of mismatches, packed into a
+     * <code>long</code>.
+     * <p>
+     * The default implementation searches forward and returns the last hit.
+     * Subclasses should override it.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart the smallest position at which the pattern may start
+     * @param textEnd the position at which the pattern must end at the latest
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from
+     * {@link #processBytesBackward(byte[], int)}, may not be <code>null</code>
+     * @param k the editing distance
+     * @return the position and the number of mismatches
+     * @see #position(long)
+     * @see #mismatches(long)
+     */
+    public long searchBytesBackwardPacked(byte[] text, int textStart,
+            int textEnd, byte[] pattern, Object processed, int k) {
+
+        long out = pack(-1, 0);
+        long r = searchBytesPacked(text, textStart, textEnd, pattern,
+                processed, k);
+        while (position(r) != -1) {
+            out = r;
+            r = position(r) + 1 < textEnd ? searchBytesPacked(text,
+                    position(r) + 1, textEnd, pattern, processed, k) : pack(-1,
+                    0);
+        }
+        return out;
+    }
+
+    /**
+     * @see StringSearch#searchCharsBackward(char[], int, int, char[], Object)
+     * @see #searchCharsBackwardPacked(char[], int, int, char[], Object, int)
+     */
+    @Override
+    public final int searchCharsBackward(char[] text, int textStart,
+            int textEnd, char[] pattern, Object processed) {
+
+        return position(searchCharsBackwardPacked(text, textStart, textEnd,
+                pattern, processed, 0));
+    }
+
+    /**
+     * Returns the last position in the text at which the pattern was found
+     * with at most k mismatches and the number of mismatches, packed into a
+     * <code>long</code>.
+     * <p>
+     * The default implementation searches forward and returns the last hit.
+     * Subclasses should override it.
+     *
+     * @param text the <code>char</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart the smallest position at which the pattern may start
+     * @param textEnd the position at which the pattern must end at the latest
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from
+     * {@link #processCharsBackward(char[], int)}, may not be <code>null</code>
+     * @param k the editing distance
+     * @return the position and the number of mismatches
+     * @see #searchBytesBackwardPacked(byte[], int, int, byte[], Object, int)
+     */
+    public long searchCharsBackwardPacked(char[] text, int textStart,
+            int textEnd, char[] pattern, Object processed, int k) {
+
+        long out = pack(-1, 0);
+        long r = searchCharsPacked(text, textStart, textEnd, pattern,
+                processed, k);
+        while (position(r) != -1) {
+            out = r;
+            r = position(r) + 1 < textEnd ? searchCharsPacked(text,
+                    position(r) + 1, textEnd, pattern, processed, k) : pack(-1,
+                    0);
+        }
+        return out;
+    }
+
+    /*
+     * Packed results
+     */
+
+    /**
+     * Packs a position and a number of mismatches into a <code>long</code>.
+     * 
+     * @param position the position or -1
+     * @param mismatches the number of mismatches
+     * @return a <code>long</code>
+     */
+    protected static long pack(int position, int mismatches) {
+        return (long) position << 32 | mismatches & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns the position of a packed result.
+     * 
+     * @param packed a result of one of the <code>search*Packed</code> methods
+     * @return the position in the text or -1 if the pattern was not found
+     */
+    public static int position(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Returns the number of mismatches of a packed result.
+     * 
+     * @param packed a result of one of the <code>search*Packed</code> methods
+     * @return the number of mismatches
+     */
+    public static int mismatches(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * @return <code>false</code>, mismatches may be allowed
+     * @see com.eaio.stringsearch.StringSearch#matchesExactly()
+     */
+    @Override
+    public boolean matchesExactly() {
+        return false;
+    }
+
 }
@@ -0,0 +1,331 @@
+/*
+ * PackedDna.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.util.Arrays;
+
+/**
+ * A nucleotide sequence packed into two bits per base. <code>A</code>,
+ * <code>C</code>, <code>G</code> and <code>T</code> are stored as 0, 1, 2 and
+ * 3 in <code>long</code> words of 32 bases each, the first base in the lowest
+ * bits. Lower case bases are treated like upper case bases. All other symbols,
+ * such as <code>N</code> and the IUPAC ambiguity codes, are masked in a side
+ * bitmap, which is only allocated if there are any.
+ * <p>
+ * Compared to ASCII, a packed sequence needs 4 times less memory and memory
+ * bandwidth, or 2.7 times less if it contains masked bases.
+ * <p>
+ * Instances are immutable and thread safe.
+ *
+ * @see PackedDnaSearch
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class PackedDna {
+
+    private static final byte MASKED = -1;
+
+    private static final byte SKIPPED = -2;
+
+    private static final byte[] CODES = new byte[256];
+
+    private static final char[] BASES = { 'A', 'C', 'G', 'T' };
+
+    static {
+        Arrays.fill(CODES, MASKED);
+        CODES['A'] = CODES['a'] = 0;
+        CODES['C'] = CODES['c'] = 1;
+        CODES['G'] = CODES['g'] = 2;
+        CODES['T'] = CODES['t'] = 3;
+        CODES['\n'] = CODES['\r'] = SKIPPED;
+    }
+
+    private final long[] bases;
+
+    private final long[] masked;
+
+    private final long length;
+
+    private PackedDna(long[] bases, long[] masked, long length) {
+        this.bases = bases;
+        this.masked = masked;
+        this.length = length;
+    }
+
+    /**
+     * Packs ASCII bases. Line terminators are skipped.
+     *
+     * @param ascii the bases, may not be <code>null</code>
+     * @return a PackedDna, never <code>null</code>
+     */
+    public static PackedDna pack(byte[] ascii) {
+        return new Builder(ascii.length).append(ascii, 0, ascii.length).build();
+    }
+
+    /**
+     * Packs bases. Line terminators are skipped.
+     *
+     * @param sequence the bases, may not be <code>null</code>
+     * @return a PackedDna, never <code>null</code>
+     */
+    public static PackedDna pack(CharSequence sequence) {
+        return new Builder(sequence.length()).append(sequence).build();
+    }
+
+    /**
+     * Returns the number of bases.
+     *
+     * @return the length
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Returns the base at a position.
+     *
+     * @param index the position
+     * @return <code>A</code>, <code>C</code>, <code>G</code>, <code>T</code>
+     * or <code>N</code> if the base is masked
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public char charAt(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return isMasked(index) ? 'N' : BASES[symbol(index)];
+    }
+
+    /**
+     * Returns if the base at a position is masked.
+     *
+     * @param index the position
+     * @return boolean
+     */
+    public boolean isMasked(long index) {
+        return masked != null
+                && (masked[(int) (index >>> 6)] & 1L << index) != 0L;
+    }
+
+    /**
+     * Returns the bases in a range, masked bases as <code>N</code>.
+     *
+     * @param from the start of the range
+     * @param to the end of the range
+     * @return a String, never <code>null</code>
+     * @throws IndexOutOfBoundsException if the range is out of bounds or
+     * longer than <code>Integer.MAX_VALUE</code>
+     */
+    public String substring(long from, long to) {
+        if (from < 0 || to > length || from > to
+                || to - from > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException(from + ", " + to);
+        }
+        char[] out = new char[(int) (to - from)];
+        for (int i = 0; i < out.length; ++i) {
+            out[i] = charAt(from + i);
+        }
+        return new String(out);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return length <= 64 ? substring(0, length) : substring(0, 64) + "...";
+    }
+
+    /**
+     * Returns the two bit code of the base at a position. Masked bases are
+     * stored as 0.
+     */
+    int symbol(long index) {
+        return (int) (bases[(int) (index >>> 5)] >>> (index << 1)) & 3;
+    }
+
+    /**
+     * Returns the packed words. Base <code>i</code> is stored in bits
+     * <code>2i mod 64</code> and <code>2i mod 64 + 1</code> of word
+     * <code>i / 32</code>.
+     */
+    long[] words() {
+        return bases;
+    }
+
+    /**
+     * Returns if any base in the range is masked.
+     */
+    boolean isMasked(long from, long to) {
+        if (masked == null || from >= to) {
+            return false;
+        }
+        int first = (int) (from >>> 6), last = (int) ((to - 1) >>> 6);
+        long head = -1L << from, tail = -1L >>> (63 - ((to - 1) & 63));
+        if (first == last) {
+            return (masked[first] & head & tail) != 0L;
+        }
+        if ((masked[first] & head) != 0L || (masked[last] & tail) != 0L) {
+            return true;
+        }
+        for (int i = first + 1; i < last; ++i) {
+            if (masked[i] != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds a PackedDna from ASCII bases, for example the sequence lines of a
+     * FASTA file.
+     */
+    public static final class Builder {
+
+        private long[] bases;
+
+        private long[] masked;
+
+        private long length;
+
+        /**
+         * Constructor for Builder.
+         */
+        public Builder() {
+            this(1024L);
+        }
+
+        /**
+         * Constructor for Builder.
+         *
+         * @param capacity the expected number of bases
+         */
+        public Builder(long capacity) {
+            bases = new long[words(Math.max(capacity, 32L), 5)];
+        }
+
+        /**
+         * Appends ASCII bases. Line terminators are skipped.
+         *
+         * @param ascii the <code>byte</code> array, may not be
+         * <code>null</code>
+         * @param offset the position of the first base
+         * @param count the number of <code>bytes</code>
+         * @return this Builder
+         */
+        public Builder append(byte[] ascii, int offset, int count) {
+            for (int i = offset; i < offset + count; ++i) {
+                append(CODES[ascii[i] & 0xFF]);
+            }
+            return this;
+        }
+
+        /**
+         * Appends bases. Line terminators are skipped.
+         *
+         * @param sequence the bases, may not be <code>null</code>
+         * @return this Builder
+         */
+        public Builder append(CharSequence sequence) {
+            for (int i = 0; i < sequence.length(); ++i) {
+                char c = sequence.charAt(i);
+                append(c < 256 ? CODES[c] : MASKED);
+            }
+            return this;
+        }
+
+        /**
+         * Returns the number of bases appended so far.
+         *
+         * @return the length
+         */
+        public long length() {
+            return length;
+        }
+
+        /**
+         * Returns the packed sequence. The Builder should not be used
+         * afterwards.
+         *
+         * @return a PackedDna, never <code>null</code>
+         */
+        public PackedDna build() {
+            long[] b = Arrays.copyOf(bases, words(length, 5));
+            long[] m = masked == null ? null : Arrays.copyOf(masked, words(
+                    length, 6));
+            return new PackedDna(b, m, length);
+        }
+
+        private void append(byte code) {
+            if (code == SKIPPED) {
+                return;
+            }
+            int word = (int) (length >>> 5);
+            if (word == bases.length) {
+                bases = Arrays.copyOf(bases, grow(bases.length));
+            }
+            if (code == MASKED) {
+                if (masked == null) {
+                    masked = new long[words((long) bases.length << 5, 6)];
+                }
+                int maskWord = (int) (length >>> 6);
+                if (maskWord >= masked.length) {
+                    masked = Arrays.copyOf(masked, Math.max(maskWord + 1,
+                            grow(masked.length)));
+                }
+                masked[maskWord] |= 1L << length;
+            }
+            else {
+                bases[word] |= (long) code << ((length & 31) << 1);
+            }
+            ++length;
+        }
+
+        private static int grow(int words) {
+            long out = Math.max(words + (words >> 1), words + 1L);
+            if (words == Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("sequence too long");
+            }
+            return (int) Math.min(out, Integer.MAX_VALUE - 8);
+        }
+
+    }
+
+    /**
+     * Returns the number of words needed for <code>count</code> entries of
+     * <code>2<sup>-shift</sup></code> words each.
+     */
+    private static int words(long count, int shift) {
+        long out = (count + (1L << shift) - 1) >>> shift;
+        if (out > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("sequence too long");
+        }
+        return (int) out;
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * PackedDnaSearch.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+/**
+ * Searches {@link PackedDna} sequences without unpacking them.
+ * <p>
+ * Like {@link BNDM}, this class builds a table of bit masks from the pattern
+ * and scans each window of the text backwards, but since there are only four
+ * symbols, the table has four <code>long</code> entries and the bases are read
+ * directly from the packed words. Patterns of up to 64 bases are searched
+ * with a single mask per base; for longer patterns, the first 64 bases are
+ * searched and the rest is verified.
+ * <p>
+ * <code>N</code> in the pattern matches any base. Masked bases in the text
+ * never match. Optionally, the reverse complement of the pattern is searched
+ * as well, which finds the pattern on the other strand.
+ * <p>
+ * Positions are base offsets. Instances are immutable and thread safe.
+ *
+ * @see BNDMWildcards
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class PackedDnaSearch {
+
+    private static final byte ANY = 4;
+
+    private final byte[] forward;
+
+    private final byte[] reverse;
+
+    private final long[] forwardMasks;
+
+    private final long[] reverseMasks;
+
+    /**
+     * Constructor for PackedDnaSearch. Only the given strand is searched.
+     *
+     * @param pattern the pattern, consisting of <code>A</code>,
+     * <code>C</code>, <code>G</code>, <code>T</code> and <code>N</code> in
+     * upper or lower case
+     * @throws IllegalArgumentException if the pattern is empty or contains
+     * other symbols
+     */
+    public PackedDnaSearch(CharSequence pattern) {
+        this(pattern, false);
+    }
+
+    /**
+     * Constructor for PackedDnaSearch.
+     *
+     * @param pattern the pattern, consisting of <code>A</code>,
+     * <code>C</code>, <code>G</code>, <code>T</code> and <code>N</code> in
+     * upper or lower case
+     * @param bothStrands whether to search for the reverse complement, too
+     * @throws IllegalArgumentException if the pattern is empty or contains
+     * other symbols
+     */
+    public PackedDnaSearch(CharSequence pattern, boolean bothStrands) {
+        if (pattern.length() == 0) {
+            throw new IllegalArgumentException("pattern may not be empty");
+        }
+        forward = new byte[pattern.length()];
+        for (int i = 0; i < forward.length; ++i) {
+            forward[i] = code(pattern.charAt(i));
+        }
+        forwardMasks = masks(forward);
+        if (bothStrands) {
+            byte[] r = new byte[forward.length];
+            for (int i = 0; i < r.length; ++i) {
+                byte c = forward[r.length - 1 - i];
+                r[i] = c == ANY ? ANY : (byte) (3 - c);
+            }
+            boolean palindrome = true;
+            for (int i = 0; i < r.length && palindrome; ++i) {
+                palindrome = r[i] == forward[i];
+            }
+            reverse = palindrome ? null : r;
+            reverseMasks = palindrome ? null : masks(r);
+        }
+        else {
+            reverse = null;
+            reverseMasks = null;
+        }
+    }
+
+    /**
+     * Returns the length of the pattern.
+     *
+     * @return the number of bases
+     */
+    public int length() {
+        return forward.length;
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern.
+     *
+     * @param text the PackedDna, may not be <code>null</code>
+     * @return the position or -1 if the pattern was not found
+     */
+    public long indexOf(PackedDna text) {
+        return indexOf(text, 0L, text.length());
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern at or after
+     * a position.
+     *
+     * @param text the PackedDna, may not be <code>null</code>
+     * @param from the position to start searching at
+     * @return the position or -1 if the pattern was not found
+     */
+    public long indexOf(PackedDna text, long from) {
+        return indexOf(text, from, text.length());
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern in a range,
+     * on either strand if the reverse complement is searched.
+     *
+     * @param text the PackedDna, may not be <code>null</code>
+     * @param from the position to start searching at
+     * @param to the position to stop searching at
+     * @return the position or -1 if the pattern was not found
+     */
+    public long indexOf(PackedDna text, long from, long to) {
+        long out = search(forward, forwardMasks, text, from, to);
+        if (reverse != null) {
+            long r = search(reverse, reverseMasks, text, from,
+                    out == -1L ? to : out - 1 + forward.length);
+            if (r != -1L) {
+                out = r;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns if the pattern occurs at a position.
+     *
+     * @param text the PackedDna, may not be <code>null</code>
+     * @param position the position
+     * @return boolean
+     */
+    public boolean matchesForward(PackedDna text, long position) {
+        return position >= 0 && position <= text.length() - forward.length
+                && matches(forward, text, position);
+    }
+
+    /**
+     * Returns if the reverse complement of the pattern occurs at a position.
+     *
+     * @param text the PackedDna, may not be <code>null</code>
+     * @param position the position
+     * @return boolean
+     */
+    public boolean matchesReverseComplement(PackedDna text, long position) {
+        if (position < 0 || position > text.length() - forward.length) {
+            return false;
+        }
+        for (int i = 0; i < forward.length; ++i) {
+            byte c = forward[forward.length - 1 - i];
+            if (c != ANY && text.symbol(position + i) != 3 - c) {
+                return false;
+            }
+        }
+        return !text.isMasked(position, position + forward.length);
+    }
+
+    private static long search(byte[] pattern, long[] masks, PackedDna text,
+            long from, long to) {
+
+        final long[] words = text.words();
+        final int l = Math.min(pattern.length, 64);
+        final long prefix = 1L << (l - 1);
+        final long last = Math.min(to, text.length()) - pattern.length;
+
+        long pos = Math.max(from, 0L), d, i;
+        int j, shift;
+
+        while (pos <= last) {
+            j = l - 1;
+            shift = l;
+            d = -1L;
+            while (true) {
+                i = pos + j;
+                d &= masks[(int) (words[(int) (i >>> 5)] >>> (i << 1)) & 3];
+                if (d == 0L) {
+                    break;
+                }
+                if ((d & prefix) != 0L) {
+                    if (j == 0) {
+                        if (matches(pattern, text, pos)) {
+                            return pos;
+                        }
+                        break;
+                    }
+                    shift = j;
+                }
+                --j;
+                d <<= 1;
+            }
+            pos += shift;
+        }
+
+        return -1L;
+    }
+
+    private static boolean matches(byte[] pattern, PackedDna text, long pos) {
+        for (int i = 0; i < pattern.length; ++i) {
+            if (pattern[i] != ANY && text.symbol(pos + i) != pattern[i]) {
+                return false;
+            }
+        }
+        return !text.isMasked(pos, pos + pattern.length);
+    }
+
+    private static long[] masks(byte[] pattern) {
+        long[] out = new long[4];
+        int l = Math.min(pattern.length, 64);
+        for (int i = 0; i < l; ++i) {
+            long bit = 1L << (l - 1 - i);
+            for (int c = 0; c < 4; ++c) {
+                if (pattern[i] == ANY || pattern[i] == c) {
+                    out[c] |= bit;
+                }
+            }
+        }
+        return out;
+    }
+
+    private static byte code(char c) {
+        char u = Character.toUpperCase(c);
+        if (u == 'N') {
+            return ANY;
+        }
+        int out = "ACGT".indexOf(u);
+        if (out == -1) {
+            throw new IllegalArgumentException("not a base: " + c);
+        }
+        return (byte) out;
+    }
+
+}
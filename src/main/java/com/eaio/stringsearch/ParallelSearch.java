@@ -0,0 +1,810 @@
+/*
+ * ParallelSearch.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches one large text on several cores with any other
+ * {@link StringSearch} algorithm.
+ * <p>
+ * The text is split into chunks that overlap by <code>pattern.length - 1</code>
+ * so that no hit is lost at a seam. The chunks are searched on a
+ * {@link ForkJoinPool} and the leftmost hit is returned. Chunks to the right
+ * of a hit that has already been found are not searched. The chunk size
+ * depends on the length of the text and the parallelism of the pool; texts
+ * that fit into a single chunk and pools with a parallelism of 1 are searched
+ * in the calling thread.
+ * <p>
+ * The <code>searchAll</code> methods return all hits, overlapping or not, as
+ * a sorted <code>int</code> array. With a {@link MismatchSearch}, the
+ * <code>searchAll*Packed</code> methods return the positions and numbers of
+ * mismatches as <code>long</code>s.
+ * <p>
+ * Pre-processing is done by the wrapped algorithm, so the pre-processed
+ * patterns of both are interchangeable. This class requires Java 7.
+ * <p>
+ * Example:
+ * <pre>
+ * StringSearch s = new ParallelSearch(new BoyerMooreHorspool());
+ * int pos = s.searchBytes(text, pattern);
+ * </pre>
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class ParallelSearch extends StringSearch {
+
+    /**
+     * The minimum number of positions searched by one chunk.
+     */
+    static final int MIN_CHUNK = 1 << 18;
+
+    /**
+     * The number of chunks per thread, so that threads that are done early
+     * can steal work from the others.
+     */
+    static final int CHUNKS_PER_THREAD = 4;
+
+    private final StringSearch algorithm;
+
+    private final ForkJoinPool pool;
+
+    private final int minChunk;
+
+    /**
+     * The pool used if none is given. Created on first use.
+     */
+    private static class DefaultPool {
+
+        static final ForkJoinPool INSTANCE = new ForkJoinPool();
+
+    }
+
+    /**
+     * Constructor for ParallelSearch. Uses a shared {@link ForkJoinPool} with
+     * one thread per core.
+     *
+     * @param algorithm the algorithm to search each chunk with, may not be
+     * <code>null</code>
+     */
+    public ParallelSearch(StringSearch algorithm) {
+        this(algorithm, DefaultPool.INSTANCE);
+    }
+
+    /**
+     * Constructor for ParallelSearch.
+     *
+     * @param algorithm the algorithm to search each chunk with, may not be
+     * <code>null</code>
+     * @param pool the pool to search on, may not be <code>null</code>
+     */
+    public ParallelSearch(StringSearch algorithm, ForkJoinPool pool) {
+        this(algorithm, pool, MIN_CHUNK);
+    }
+
+    /**
+     * Constructor for ParallelSearch with a custom minimum chunk size, used in
+     * tests.
+     */
+    ParallelSearch(StringSearch algorithm, ForkJoinPool pool, int minChunk) {
+        super();
+        if (algorithm == null || pool == null) {
+            throw new NullPointerException();
+        }
+        this.algorithm = algorithm;
+        this.pool = pool;
+        this.minChunk = minChunk;
+    }
+
+    /**
+     * Returns the algorithm each chunk is searched with.
+     *
+     * @return a StringSearch instance, never <code>null</code>
+     */
+    public StringSearch getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns the pool the chunks are searched on.
+     *
+     * @return a ForkJoinPool, never <code>null</code>
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#processBytes(byte[])
+     */
+    @Override
+    public Object processBytes(byte[] pattern) {
+        return algorithm.processBytes(pattern);
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#processChars(char[])
+     */
+    @Override
+    public Object processChars(char[] pattern) {
+        return algorithm.processChars(pattern);
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#processString(java.lang.String)
+     */
+    @Override
+    public Object processString(String pattern) {
+        return algorithm.processString(pattern);
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchBytes(byte[], int, int,
+     * byte[], java.lang.Object)
+     */
+    @Override
+    public int searchBytes(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed) {
+
+        int chunk = chunkSize(textStart, textEnd, pattern.length);
+        if (chunk == 0) {
+            return algorithm.searchBytes(text, textStart, textEnd, pattern,
+                    processed);
+        }
+        Chunk task = new Chunk(this, text, null, textEnd, pattern, null,
+                processed, textStart, textEnd - pattern.length + 1, chunk,
+                new AtomicInteger(Integer.MAX_VALUE));
+        pool.invoke(task);
+        return task.result();
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchChars(char[], int, int,
+     * char[], Object)
+     */
+    @Override
+    public int searchChars(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed) {
+
+        int chunk = chunkSize(textStart, textEnd, pattern.length);
+        if (chunk == 0) {
+            return algorithm.searchChars(text, textStart, textEnd, pattern,
+                    processed);
+        }
+        Chunk task = new Chunk(this, null, text, textEnd, null, pattern,
+                processed, textStart, textEnd - pattern.length + 1, chunk,
+                new AtomicInteger(Integer.MAX_VALUE));
+        pool.invoke(task);
+        return task.result();
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#processBytesBackward(byte[])
+     */
+    @Override
+    public Object processBytesBackward(byte[] pattern) {
+        return algorithm.processBytesBackward(pattern);
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#processCharsBackward(char[])
+     */
+    @Override
+    public Object processCharsBackward(char[] pattern) {
+        return algorithm.processCharsBackward(pattern);
+    }
+
+    /**
+     * Searches in the calling thread with the wrapped algorithm.
+     *
+     * @see com.eaio.stringsearch.StringSearch#searchBytesBackward(byte[], int,
+     * int, byte[], java.lang.Object)
+     */
+    @Override
+    public int searchBytesBackward(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed) {
+
+        return algorithm.searchBytesBackward(text, textStart, textEnd, pattern,
+                processed);
+    }
+
+    /**
+     * Searches in the calling thread with the wrapped algorithm.
+     *
+     * @see com.eaio.stringsearch.StringSearch#searchCharsBackward(char[], int,
+     * int, char[], Object)
+     */
+    @Override
+    public int searchCharsBackward(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed) {
+
+        return algorithm.searchCharsBackward(text, textStart, textEnd, pattern,
+                processed);
+    }
+
+    /*
+     * Find-all methods
+     */
+
+    /**
+     * Returns the positions of all occurrences of the pattern in the text.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param overlapping whether occurrences may overlap
+     * @return the positions in ascending order, never <code>null</code>
+     * @see #searchAllBytes(byte[], int, int, byte[], Object, boolean)
+     */
+    public final int[] searchAllBytes(byte[] text, byte[] pattern,
+            boolean overlapping) {
+
+        return searchAllBytes(text, 0, text.length, pattern,
+                processBytesCached(pattern), overlapping);
+    }
+
+    /**
+     * Returns the positions of all occurrences of the pattern in the text.
+     * <p>
+     * The chunks are searched in parallel and their hits are concatenated.
+     * Each chunk only reports hits that start in it, so there are no
+     * duplicates at the seams. Non-overlapping occurrences are taken from
+     * left to right, like a sequential search that continues after each hit.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart at which position in the text the comparing should start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from {@link #processBytes(byte[])},
+     * may not be <code>null</code>
+     * @param overlapping whether occurrences may overlap
+     * @return the positions in ascending order, never <code>null</code>
+     */
+    public int[] searchAllBytes(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed, boolean overlapping) {
+
+        AllHits task = new AllHits(this, text, null, textStart, textEnd,
+                pattern, null, processed, -1);
+        task.run();
+        return task.positions(overlapping);
+    }
+
+    /**
+     * Returns the positions of all occurrences of the pattern in the text.
+     *
+     * @param text the <code>char</code> array containing the text, may not be
+     * <code>null</code>
+     * @param pattern the <code>char</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param overlapping whether occurrences may overlap
+     * @return the positions in ascending order, never <code>null</code>
+     * @see #searchAllBytes(byte[], int, int, byte[], Object, boolean)
+     */
+    public final int[] searchAllChars(char[] text, char[] pattern,
+            boolean overlapping) {
+
+        return searchAllChars(text, 0, text.length, pattern,
+                processCharsCached(pattern), overlapping);
+    }
+
+    /**
+     * Returns the positions of all occurrences of the pattern in the text.
+     *
+     * @param text the <code>char</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart at which position in the text the comparing should start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from {@link #processChars(char[])},
+     * may not be <code>null</code>
+     * @param overlapping whether occurrences may overlap
+     * @return the positions in ascending order, never <code>null</code>
+     * @see #searchAllBytes(byte[], int, int, byte[], Object, boolean)
+     */
+    public int[] searchAllChars(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed, boolean overlapping) {
+
+        AllHits task = new AllHits(this, null, text, textStart, textEnd, null,
+                pattern, processed, -1);
+        task.run();
+        return task.positions(overlapping);
+    }
+
+    /**
+     * Returns the positions of all occurrences of the pattern in the text.
+     *
+     * @param text the String containing the text, may not be <code>null</code>
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @param overlapping whether occurrences may overlap
+     * @return the positions in ascending order, never <code>null</code>
+     * @see #searchAllBytes(byte[], int, int, byte[], Object, boolean)
+     */
+    public final int[] searchAllString(String text, String pattern,
+            boolean overlapping) {
+
+        return searchAllChars(getChars(text), getChars(pattern), overlapping);
+    }
+
+    /**
+     * Returns all occurrences of the pattern with at most k mismatches as
+     * positions and numbers of mismatches packed into <code>long</code>s. The
+     * wrapped algorithm must be a {@link MismatchSearch}.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart at which position in the text the comparing should start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from
+     * {@link MismatchSearch#processBytes(byte[], int)}, may not be
+     * <code>null</code>
+     * @param k the editing distance
+     * @param overlapping whether occurrences may overlap
+     * @return the packed results in ascending order of position, never
+     * <code>null</code>
+     * @throws UnsupportedOperationException if the wrapped algorithm is not a
+     * MismatchSearch
+     * @see MismatchSearch#position(long)
+     * @see MismatchSearch#mismatches(long)
+     * @see #searchAllBytes(byte[], int, int, byte[], Object, boolean)
+     */
+    public long[] searchAllBytesPacked(byte[] text, int textStart,
+            int textEnd, byte[] pattern, Object processed, int k,
+            boolean overlapping) {
+
+        AllHits task = new AllHits(this, text, null, textStart, textEnd,
+                pattern, null, processed, mismatchesAllowed(k));
+        task.run();
+        return task.packed(overlapping);
+    }
+
+    /**
+     * Returns all occurrences of the pattern with at most k mismatches as
+     * positions and numbers of mismatches packed into <code>long</code>s. The
+     * wrapped algorithm must be a {@link MismatchSearch}.
+     *
+     * @param text the <code>char</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart at which position in the text the comparing should start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from
+     * {@link MismatchSearch#processChars(char[], int)}, may not be
+     * <code>null</code>
+     * @param k the editing distance
+     * @param overlapping whether occurrences may overlap
+     * @return the packed results in ascending order of position, never
+     * <code>null</code>
+     * @throws UnsupportedOperationException if the wrapped algorithm is not a
+     * MismatchSearch
+     * @see #searchAllBytesPacked(byte[], int, int, byte[], Object, int,
+     * boolean)
+     */
+    public long[] searchAllCharsPacked(char[] text, int textStart,
+            int textEnd, char[] pattern, Object processed, int k,
+            boolean overlapping) {
+
+        AllHits task = new AllHits(this, null, text, textStart, textEnd, null,
+                pattern, processed, mismatchesAllowed(k));
+        task.run();
+        return task.packed(overlapping);
+    }
+
+    private int mismatchesAllowed(int k) {
+        if (!(algorithm instanceof MismatchSearch)) {
+            throw new UnsupportedOperationException(algorithm
+                    + " is not a MismatchSearch");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("k < 0");
+        }
+        return k;
+    }
+
+    /**
+     * Returns the number of positions each chunk searches or 0 if the text
+     * should be searched in the calling thread.
+     *
+     * @param textStart at which position in the text the comparing should start
+     * @param textEnd at which position in the text comparing should stop
+     * @param m the length of the pattern
+     * @return the chunk size or 0
+     */
+    final int chunkSize(int textStart, int textEnd, int m) {
+        int parallelism = pool.getParallelism();
+        int n = textEnd - textStart;
+        if (parallelism < 2 || m == 0 || n <= m) {
+            return 0;
+        }
+        long chunk = Math.max(Math.max(minChunk, (long) m << 4), n
+                / ((long) parallelism * CHUNKS_PER_THREAD));
+        return chunk >= n - m + 1 ? 0 : (int) chunk;
+    }
+
+    /**
+     * @return if the wrapped algorithm matches exactly
+     * @see com.eaio.stringsearch.StringSearch#matchesExactly()
+     */
+    @Override
+    public boolean matchesExactly() {
+        return algorithm.matchesExactly();
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#processedLength(int)
+     */
+    @Override
+    int processedLength(int patternLength) {
+        return algorithm.processedLength(patternLength);
+    }
+
+    /**
+     * Returns if the Object is a ParallelSearch with an equal algorithm.
+     *
+     * @see com.eaio.stringsearch.StringSearch#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return super.equals(obj)
+                && algorithm.equals(((ParallelSearch) obj).algorithm);
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode() * 31 + algorithm.hashCode();
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#toString()
+     */
+    @Override
+    public String toString() {
+        return super.toString() + '(' + algorithm + ')';
+    }
+
+    /**
+     * Searches the hits starting in <code>[from, to)</code>, splitting the
+     * range in halves until it is no longer than one chunk. The leftmost hit
+     * found so far is shared between all tasks of a search.
+     */
+    static final class Chunk extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ParallelSearch search;
+
+        private final byte[] bytes;
+
+        private final char[] chars;
+
+        private final int textEnd;
+
+        private final byte[] bytePattern;
+
+        private final char[] charPattern;
+
+        private final Object processed;
+
+        private final int from, to, chunk;
+
+        private final AtomicInteger leftmost;
+
+        Chunk(ParallelSearch search, byte[] bytes, char[] chars, int textEnd,
+                byte[] bytePattern, char[] charPattern, Object processed,
+                int from, int to, int chunk, AtomicInteger leftmost) {
+            this.search = search;
+            this.bytes = bytes;
+            this.chars = chars;
+            this.textEnd = textEnd;
+            this.bytePattern = bytePattern;
+            this.charPattern = charPattern;
+            this.processed = processed;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.leftmost = leftmost;
+        }
+
+        /**
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        @Override
+        protected void compute() {
+            if (leftmost.get() < from) {
+                return;
+            }
+            if (to - from > chunk) {
+                int mid = from + (to - from) / 2;
+                Chunk right = new Chunk(search, bytes, chars, textEnd,
+                        bytePattern, charPattern, processed, mid, to, chunk,
+                        leftmost);
+                right.fork();
+                new Chunk(search, bytes, chars, textEnd, bytePattern,
+                        charPattern, processed, from, mid, chunk, leftmost).compute();
+                if (leftmost.get() < mid && right.tryUnfork()) {
+                    return;
+                }
+                right.join();
+                return;
+            }
+            int m = bytes == null ? charPattern.length : bytePattern.length;
+            int end = to > textEnd - m + 1 ? textEnd : to + m - 1;
+            int pos = bytes == null ? search.algorithm.searchChars(chars, from,
+                    end, charPattern, processed) : search.algorithm.searchBytes(
+                    bytes, from, end, bytePattern, processed);
+            if (pos != -1) {
+                int current;
+                do {
+                    current = leftmost.get();
+                }
+                while (pos < current && !leftmost.compareAndSet(current, pos));
+            }
+        }
+
+        /**
+         * Returns the leftmost hit or -1.
+         *
+         * @return int
+         */
+        int result() {
+            int out = leftmost.get();
+            return out == Integer.MAX_VALUE ? -1 : out;
+        }
+
+    }
+
+    /**
+     * Collects all hits of a find-all search. The start positions are split
+     * into chunks, and every chunk collects the hits that start in it into
+     * its own slot, so concatenating the slots yields all hits in order.
+     */
+    static final class AllHits extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ParallelSearch search;
+
+        private final byte[] bytes;
+
+        private final char[] chars;
+
+        private final int textStart, textEnd;
+
+        private final byte[] bytePattern;
+
+        private final char[] charPattern;
+
+        private final Object processed;
+
+        /**
+         * The number of mismatches allowed or -1 for exact searches.
+         */
+        private final int k;
+
+        private final int chunk;
+
+        private final int[][] positions;
+
+        private final long[][] packed;
+
+        private final int lo, hi;
+
+        AllHits(ParallelSearch search, byte[] bytes, char[] chars,
+                int textStart, int textEnd, byte[] bytePattern,
+                char[] charPattern, Object processed, int k) {
+            this.search = search;
+            this.bytes = bytes;
+            this.chars = chars;
+            this.textStart = textStart;
+            this.textEnd = textEnd;
+            this.bytePattern = bytePattern;
+            this.charPattern = charPattern;
+            this.processed = processed;
+            this.k = k;
+            int m = length();
+            int chunkSize = search.chunkSize(textStart, textEnd, m);
+            chunk = chunkSize == 0 ? Math.max(1, textEnd - textStart) : chunkSize;
+            int chunks = m == 0 || textEnd - textStart < m ? 0
+                    : (int) (((long) textEnd - textStart - m + chunk) / chunk);
+            positions = k < 0 ? new int[chunks][] : null;
+            packed = k < 0 ? null : new long[chunks][];
+            lo = 0;
+            hi = chunks;
+        }
+
+        private AllHits(AllHits parent, int lo, int hi) {
+            search = parent.search;
+            bytes = parent.bytes;
+            chars = parent.chars;
+            textStart = parent.textStart;
+            textEnd = parent.textEnd;
+            bytePattern = parent.bytePattern;
+            charPattern = parent.charPattern;
+            processed = parent.processed;
+            k = parent.k;
+            chunk = parent.chunk;
+            positions = parent.positions;
+            packed = parent.packed;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        /**
+         * Searches all chunks, in the calling thread if there is only one.
+         */
+        void run() {
+            if (hi - lo == 1) {
+                compute();
+            }
+            else if (hi > lo) {
+                search.pool.invoke(this);
+            }
+        }
+
+        /**
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new AllHits(this, lo, mid), new AllHits(this, mid, hi));
+                return;
+            }
+            int m = length();
+            int from = textStart + lo * chunk;
+            int to = (int) Math.min((long) from + chunk, textEnd - m + 1);
+            int end = to + m - 1;
+            if (k < 0) {
+                positions[lo] = exact(from, to, end);
+            }
+            else {
+                packed[lo] = mismatches(from, to, end);
+            }
+        }
+
+        private int[] exact(int from, int to, int end) {
+            StringSearch algorithm = search.algorithm;
+            int[] out = new int[8];
+            int size = 0;
+            int pos = from - 1;
+            while (pos + 1 < to) {
+                pos = bytes == null ? algorithm.searchChars(chars, pos + 1,
+                        end, charPattern, processed) : algorithm.searchBytes(
+                        bytes, pos + 1, end, bytePattern, processed);
+                if (pos == -1 || pos >= to) {
+                    break;
+                }
+                if (size == out.length) {
+                    out = Arrays.copyOf(out, size << 1);
+                }
+                out[size++] = pos;
+            }
+            return Arrays.copyOf(out, size);
+        }
+
+        private long[] mismatches(int from, int to, int end) {
+            MismatchSearch algorithm = (MismatchSearch) search.algorithm;
+            long[] out = new long[8];
+            int size = 0;
+            int pos = from - 1;
+            while (pos + 1 < to) {
+                long r = bytes == null ? algorithm.searchCharsPacked(chars,
+                        pos + 1, end, charPattern, processed, k)
+                        : algorithm.searchBytesPacked(bytes, pos + 1, end,
+                                bytePattern, processed, k);
+                pos = MismatchSearch.position(r);
+                if (pos == -1 || pos >= to) {
+                    break;
+                }
+                if (size == out.length) {
+                    out = Arrays.copyOf(out, size << 1);
+                }
+                out[size++] = r;
+            }
+            return Arrays.copyOf(out, size);
+        }
+
+        /**
+         * Concatenates the positions of all chunks.
+         *
+         * @param overlapping whether occurrences may overlap
+         * @return an <code>int</code> array, never <code>null</code>
+         */
+        int[] positions(boolean overlapping) {
+            if (overlapping && positions.length == 1) {
+                return positions[0];
+            }
+            int size = 0;
+            for (int[] p : positions) {
+                size += p.length;
+            }
+            int[] out = new int[size];
+            int m = length();
+            int next = Integer.MIN_VALUE;
+            size = 0;
+            for (int[] p : positions) {
+                for (int pos : p) {
+                    if (overlapping || pos >= next) {
+                        out[size++] = pos;
+                        next = pos + m;
+                    }
+                }
+            }
+            return size == out.length ? out : Arrays.copyOf(out, size);
+        }
+
+        /**
+         * Concatenates the packed results of all chunks.
+         *
+         * @param overlapping whether occurrences may overlap
+         * @return a <code>long</code> array, never <code>null</code>
+         */
+        long[] packed(boolean overlapping) {
+            if (overlapping && packed.length == 1) {
+                return packed[0];
+            }
+            int size = 0;
+            for (long[] p : packed) {
+                size += p.length;
+            }
+            long[] out = new long[size];
+            int m = length();
+            int next = Integer.MIN_VALUE;
+            size = 0;
+            for (long[] p : packed) {
+                for (long r : p) {
+                    int pos = MismatchSearch.position(r);
+                    if (overlapping || pos >= next) {
+                        out[size++] = r;
+                        next = pos + m;
+                    }
+                }
+            }
+            return size == out.length ? out : Arrays.copyOf(out, size);
+        }
+
+        private int length() {
+            return bytes == null ? charPattern.length : bytePattern.length;
+        }
+
+    }
+
+}
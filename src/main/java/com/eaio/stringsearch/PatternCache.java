@@ -0,0 +1,484 @@
+/*
+ * PatternCache.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread safe cache of pre-processed patterns. Entries are keyed by the
+ * algorithm instance (which includes options such as the wildcard character
+ * of {@link com.eaio.stringsearch.BNDMWildcards}), the pattern and the number
+ * of allowed mismatches of a {@link com.eaio.stringsearch.MismatchSearch}.
+ * <p>
+ * Lookups do not lock. The cache is bounded both by the number of entries and
+ * by the approximate number of bytes the pre-processed tables occupy. When
+ * either limit is exceeded, entries are evicted in insertion order, giving
+ * entries that were hit since the last pass a second chance.
+ * <p>
+ * The convenience methods of {@link StringSearch} that do not take a
+ * pre-processed Object use a PatternCache once one has been installed
+ * through {@link StringSearch#setPatternCache(PatternCache)}.
+ * <p>
+ * Example:
+ * <pre>
+ * StringSearch.setPatternCache(new PatternCache());
+ * int pos = new BoyerMooreHorspoolRaita().searchString(text, "pattern");
+ * </pre>
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class PatternCache {
+
+    /**
+     * The default maximum number of entries.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * The default maximum weight in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 16L << 20;
+
+    private final int maximumSize;
+
+    private final long maximumWeight;
+
+    private final ConcurrentHashMap<Key, Entry> map;
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<Entry>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicLong weight = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor for PatternCache. Uses {@link #DEFAULT_MAXIMUM_SIZE} and
+     * {@link #DEFAULT_MAXIMUM_WEIGHT}.
+     */
+    public PatternCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * Constructor for PatternCache.
+     *
+     * @param maximumSize the maximum number of entries, must be positive
+     * @param maximumWeight the maximum number of bytes the pre-processed
+     * Objects may occupy, must be positive
+     * @throws IllegalArgumentException if either limit is not positive
+     */
+    public PatternCache(int maximumSize, long maximumWeight) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("maximumWeight must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        map = new ConcurrentHashMap<Key, Entry>(Math.min(maximumSize, 1024) << 1,
+                0.75f, Runtime.getRuntime().availableProcessors() << 1);
+    }
+
+    /*
+     * Pre-processing methods
+     */
+
+    /**
+     * Returns the pre-processed pattern, calling
+     * {@link StringSearch#processBytes(byte[])} if it is not cached.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @return an Object
+     */
+    public Object processBytes(StringSearch algorithm, byte[] pattern) {
+        Key lookup = new Key(algorithm, pattern, 0);
+        Entry e = map.get(lookup);
+        if (e != null) {
+            return hit(e);
+        }
+        return put(new Key(algorithm, pattern.clone(), 0),
+                algorithm.processBytes(pattern));
+    }
+
+    /**
+     * Returns the pre-processed pattern allowing k mismatches, calling
+     * {@link MismatchSearch#processBytes(byte[], int)} if it is not cached.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param k the editing distance
+     * @return an Object
+     */
+    public Object processBytes(MismatchSearch algorithm, byte[] pattern, int k) {
+        Key lookup = new Key(algorithm, pattern, k);
+        Entry e = map.get(lookup);
+        if (e != null) {
+            return hit(e);
+        }
+        return put(new Key(algorithm, pattern.clone(), k),
+                algorithm.processBytes(pattern, k));
+    }
+
+    /**
+     * Returns the pre-processed pattern, calling
+     * {@link StringSearch#processChars(char[])} if it is not cached.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the <code>char</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @return an Object
+     */
+    public Object processChars(StringSearch algorithm, char[] pattern) {
+        Key lookup = new Key(algorithm, pattern, 0);
+        Entry e = map.get(lookup);
+        if (e != null) {
+            return hit(e);
+        }
+        return put(new Key(algorithm, pattern.clone(), 0),
+                algorithm.processChars(pattern));
+    }
+
+    /**
+     * Returns the pre-processed pattern allowing k mismatches, calling
+     * {@link MismatchSearch#processChars(char[], int)} if it is not cached.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the <code>char</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param k the editing distance
+     * @return an Object
+     */
+    public Object processChars(MismatchSearch algorithm, char[] pattern, int k) {
+        Key lookup = new Key(algorithm, pattern, k);
+        Entry e = map.get(lookup);
+        if (e != null) {
+            return hit(e);
+        }
+        return put(new Key(algorithm, pattern.clone(), k),
+                algorithm.processChars(pattern, k));
+    }
+
+    /**
+     * Returns the pre-processed pattern.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @return an Object
+     * @see #processChars(StringSearch, char[])
+     */
+    public Object processString(StringSearch algorithm, String pattern) {
+        return processChars(algorithm, StringSearch.getChars(pattern));
+    }
+
+    /*
+     * Statistics
+     */
+
+    /**
+     * Returns the number of lookups that found a cached entry.
+     *
+     * @return a <code>long</code>
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that had to pre-process the pattern.
+     *
+     * @return a <code>long</code>
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of entries that were evicted.
+     *
+     * @return a <code>long</code>
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return an <code>int</code>
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the approximate number of bytes the cached pre-processed Objects
+     * occupy.
+     *
+     * @return a <code>long</code>
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return an <code>int</code>
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the maximum weight in bytes.
+     *
+     * @return a <code>long</code>
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Removes all entries. The statistics are not reset.
+     */
+    public void clear() {
+        Entry e;
+        while ((e = queue.poll()) != null) {
+            remove(e);
+        }
+    }
+
+    /**
+     * Returns a String representation of this Object.
+     *
+     * @return a String, never <code>null</code>
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer out = new StringBuffer(128);
+        out.append("{ PatternCache: size = ");
+        out.append(size());
+        out.append(", weight = ");
+        out.append(getWeight());
+        out.append(", hits = ");
+        out.append(getHitCount());
+        out.append(", misses = ");
+        out.append(getMissCount());
+        out.append(", evictions = ");
+        out.append(getEvictionCount());
+        out.append('}');
+        return out.toString();
+    }
+
+    /**
+     * Returns the approximate number of bytes a pre-processed Object occupies.
+     * Knows about the <code>int</code> arrays, {@link CharIntMap} instances and
+     * <code>Object</code> arrays returned by the algorithms in this package.
+     *
+     * @param processed the pre-processed Object, may be <code>null</code>
+     * @return the weight in bytes
+     */
+    protected long weigh(Object processed) {
+        if (processed == null) {
+            return 0L;
+        }
+        if (processed instanceof int[]) {
+            return 16L + (((int[]) processed).length << 2);
+        }
+        if (processed instanceof CharIntMap) {
+            return 48L + (((CharIntMap) processed).getExtent() << 2);
+        }
+        if (processed instanceof Object[]) {
+            Object[] o = (Object[]) processed;
+            long out = 16L + (o.length << 2);
+            for (int i = 0; i < o.length; ++i) {
+                out += weigh(o[i]);
+            }
+            return out;
+        }
+        return 16L;
+    }
+
+    private Object hit(Entry e) {
+        hits.incrementAndGet();
+        if (!e.referenced) {
+            e.referenced = true;
+        }
+        return e.processed;
+    }
+
+    private Object put(Key key, Object processed) {
+        misses.incrementAndGet();
+        long w = weigh(processed);
+        if (w > maximumWeight) {
+            return processed;
+        }
+        Entry e = new Entry(key, processed, w);
+        Entry existing = map.putIfAbsent(key, e);
+        if (existing != null) {
+            return existing.processed;
+        }
+        size.incrementAndGet();
+        weight.addAndGet(w);
+        queue.offer(e);
+        evict();
+        return processed;
+    }
+
+    /**
+     * Evicts entries until both limits are met. Referenced entries are moved to
+     * the end of the queue once.
+     */
+    private void evict() {
+        int passes = (size.get() << 1) + 1;
+        while ((size.get() > maximumSize || weight.get() > maximumWeight)
+                && passes-- > 0) {
+            Entry e = queue.poll();
+            if (e == null) {
+                return;
+            }
+            if (e.referenced) {
+                e.referenced = false;
+                queue.offer(e);
+            }
+            else if (remove(e)) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean remove(Entry e) {
+        if (map.remove(e.key, e)) {
+            size.decrementAndGet();
+            weight.addAndGet(-e.weight);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * A cached pre-processed Object.
+     */
+    private static final class Entry {
+
+        final Key key;
+
+        final Object processed;
+
+        final long weight;
+
+        volatile boolean referenced;
+
+        Entry(Key key, Object processed, long weight) {
+            this.key = key;
+            this.processed = processed;
+            this.weight = weight;
+        }
+
+    }
+
+    /**
+     * The key of an {@link Entry}. Lookup keys wrap the caller's pattern, keys
+     * that are stored in the map wrap a copy.
+     */
+    private static final class Key {
+
+        private final StringSearch algorithm;
+
+        private final Object pattern;
+
+        private final int k;
+
+        private final int hash;
+
+        Key(StringSearch algorithm, byte[] pattern, int k) {
+            this.algorithm = algorithm;
+            this.pattern = pattern;
+            this.k = k;
+            hash = (algorithm.hashCode() * 31 + Arrays.hashCode(pattern)) * 31 + k;
+        }
+
+        Key(StringSearch algorithm, char[] pattern, int k) {
+            this.algorithm = algorithm;
+            this.pattern = pattern;
+            this.k = k;
+            hash = ((algorithm.hashCode() * 31 + Arrays.hashCode(pattern)) * 31 + k) ^ 1;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if (hash != other.hash || k != other.k) {
+                return false;
+            }
+            if (pattern instanceof byte[]) {
+                if (!(other.pattern instanceof byte[])
+                        || !Arrays.equals((byte[]) pattern, (byte[]) other.pattern)) {
+                    return false;
+                }
+            }
+            else if (!(other.pattern instanceof char[])
+                    || !Arrays.equals((char[]) pattern, (char[]) other.pattern)) {
+                return false;
+            }
+            return algorithm.equals(other.algorithm);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,371 @@
+/*
+ * QGramIndex.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An inverted index of the q-grams of a collection of many small documents.
+ * <p>
+ * Each q-gram, a substring of <code>q</code> chars, maps to the ids of the
+ * documents containing it. The ids are stored in ascending order as
+ * variable-length deltas, usually one byte per posting. A search intersects
+ * the posting lists of the q-grams of the pattern, shortest first, and
+ * verifies the remaining candidates with a {@link StringSearch}. Patterns
+ * shorter than <code>q</code> cannot be filtered, so all documents are
+ * verified.
+ * <p>
+ * {@link #add(String)} assigns increasing ids, so postings are only ever
+ * appended. {@link #remove(int)} drops the document at once and its postings
+ * once as many documents have been removed as are left in the index.
+ * QGramIndex instances are not thread safe.
+ * <p>
+ * Example:
+ * <pre>
+ * QGramIndex index = new QGramIndex();
+ * for (String document : documents) {
+ *     index.add(document);
+ * }
+ * int[] ids = index.search("pattern");
+ * </pre>
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class QGramIndex {
+
+    /**
+     * The default length of the q-grams.
+     */
+    public static final int DEFAULT_Q = 3;
+
+    private static final int[] NONE = new int[0];
+
+    private final int q;
+
+    private final StringSearch verifier;
+
+    private final List<String> documents = new ArrayList<String>();
+
+    private final Map<Long, Postings> postings = new HashMap<Long, Postings>();
+
+    private int removed;
+
+    private int removedSinceCompaction;
+
+    /**
+     * Constructor for QGramIndex. Uses q-grams of {@link #DEFAULT_Q} chars
+     * and chooses an algorithm for each pattern (see
+     * {@link StringSearch#forPattern(String, TextProfile)}).
+     */
+    public QGramIndex() {
+        this(DEFAULT_Q, null);
+    }
+
+    /**
+     * Constructor for QGramIndex.
+     *
+     * @param q the length of the q-grams, from 1 to 4
+     * @param verifier the algorithm to verify candidates with, may be
+     * <code>null</code> to choose one for each pattern
+     */
+    public QGramIndex(int q, StringSearch verifier) {
+        if (q < 1 || q > 4) {
+            throw new IllegalArgumentException("q must be between 1 and 4");
+        }
+        this.q = q;
+        this.verifier = verifier;
+    }
+
+    /**
+     * Returns the length of the q-grams.
+     *
+     * @return int
+     */
+    public int getQ() {
+        return q;
+    }
+
+    /**
+     * Adds a document.
+     *
+     * @param document the document, may not be <code>null</code>
+     * @return the id of the document
+     */
+    public int add(String document) {
+        int id = documents.size();
+        documents.add(document);
+        for (int i = 0; i + q <= document.length(); ++i) {
+            Long gram = gram(document, i);
+            Postings p = postings.get(gram);
+            if (p == null) {
+                p = new Postings();
+                postings.put(gram, p);
+            }
+            p.add(id);
+        }
+        return id;
+    }
+
+    /**
+     * Removes a document.
+     *
+     * @param id the id of the document
+     * @return if the document was in the index
+     */
+    public boolean remove(int id) {
+        if (id < 0 || id >= documents.size() || documents.get(id) == null) {
+            return false;
+        }
+        documents.set(id, null);
+        ++removed;
+        if (++removedSinceCompaction > size()) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Returns a document.
+     *
+     * @param id the id of the document
+     * @return the document or <code>null</code> if it has been removed
+     */
+    public String get(int id) {
+        return id < 0 || id >= documents.size() ? null : documents.get(id);
+    }
+
+    /**
+     * Returns the number of documents in the index.
+     *
+     * @return int
+     */
+    public int size() {
+        return documents.size() - removed;
+    }
+
+    /**
+     * Returns the ids of the documents that contain the pattern.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the ids in ascending order, never <code>null</code>
+     */
+    public int[] search(String pattern) {
+        int[] candidates = candidates(pattern);
+        if (pattern.length() == 0) {
+            return candidates;
+        }
+        StringSearch s = verifier == null ? StringSearch.forPattern(pattern,
+                null) : verifier;
+        Object processed = s.processString(pattern);
+        int size = 0;
+        for (int id : candidates) {
+            String document = documents.get(id);
+            if (s.searchString(document, 0, document.length(), pattern,
+                    processed) != -1) {
+                candidates[size++] = id;
+            }
+        }
+        return Arrays.copyOf(candidates, size);
+    }
+
+    /**
+     * Returns the ids of the documents that contain all q-grams of the
+     * pattern. The documents may or may not contain the pattern itself.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the ids in ascending order, never <code>null</code>
+     */
+    public int[] candidates(String pattern) {
+        if (pattern.length() < q) {
+            int[] out = new int[size()];
+            int size = 0;
+            for (int id = 0; id < documents.size(); ++id) {
+                if (documents.get(id) != null) {
+                    out[size++] = id;
+                }
+            }
+            return out;
+        }
+        Postings[] lists = new Postings[pattern.length() - q + 1];
+        for (int i = 0; i < lists.length; ++i) {
+            lists[i] = postings.get(gram(pattern, i));
+            if (lists[i] == null) {
+                return NONE;
+            }
+        }
+        Arrays.sort(lists);
+
+        // Decoding a long list costs more than verifying a handful of
+        // candidates, so stop once the lists get a lot longer than the
+        // candidates.
+
+        int[] out = lists[0].decode();
+        int size = out.length;
+        for (int i = 1; i < lists.length && size > 0
+                && lists[i].count <= size << 5; ++i) {
+            if (lists[i] != lists[i - 1]) {
+                size = lists[i].intersect(out, size);
+            }
+        }
+        int live = 0;
+        for (int i = 0; i < size; ++i) {
+            if (documents.get(out[i]) != null) {
+                out[live++] = out[i];
+            }
+        }
+        return Arrays.copyOf(out, live);
+    }
+
+    /**
+     * Drops the postings of removed documents.
+     */
+    private void compact() {
+        Iterator<Postings> it = postings.values().iterator();
+        while (it.hasNext()) {
+            Postings p = it.next();
+            int[] ids = p.decode();
+            p.clear();
+            for (int id : ids) {
+                if (documents.get(id) != null) {
+                    p.add(id);
+                }
+            }
+            if (p.count == 0) {
+                it.remove();
+            }
+        }
+        removedSinceCompaction = 0;
+    }
+
+    private Long gram(String s, int off) {
+        long out = 0L;
+        for (int i = 0; i < q; ++i) {
+            out = out << 16 | s.charAt(off + i);
+        }
+        return out;
+    }
+
+    /**
+     * A list of document ids in ascending order, stored as variable-length
+     * deltas.
+     */
+    static final class Postings implements Comparable<Postings> {
+
+        byte[] data = new byte[4];
+
+        int length;
+
+        int count;
+
+        int last = -1;
+
+        void add(int id) {
+            if (id == last) {
+                return;
+            }
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, data.length << 1);
+            }
+            int delta = id - last - 1;
+            while (delta > 0x7F) {
+                data[length++] = (byte) (delta | 0x80);
+                delta >>>= 7;
+            }
+            data[length++] = (byte) delta;
+            last = id;
+            ++count;
+        }
+
+        void clear() {
+            length = 0;
+            count = 0;
+            last = -1;
+        }
+
+        int[] decode() {
+            int[] out = new int[count];
+            int id = -1;
+            int pos = 0;
+            for (int i = 0; i < count; ++i) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                while ((b = data[pos++]) < 0) {
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                }
+                id += (delta | b << shift) + 1;
+                out[i] = id;
+            }
+            return out;
+        }
+
+        /**
+         * Keeps the first <code>size</code> ids that are also in this list
+         * and returns their number.
+         */
+        int intersect(int[] ids, int size) {
+            int out = 0;
+            int j = 0;
+            int id = -1;
+            int pos = 0;
+            for (int i = 0; i < count && j < size; ++i) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                while ((b = data[pos++]) < 0) {
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                }
+                id += (delta | b << shift) + 1;
+                while (j < size && ids[j] < id) {
+                    ++j;
+                }
+                if (j < size && ids[j] == id) {
+                    ids[out++] = id;
+                    ++j;
+                }
+            }
+            return out;
+        }
+
+        public int compareTo(Postings o) {
+            return count < o.count ? -1 : count == o.count ? 0 : 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,656 @@
+/*
+ * Replacer.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Replaces all occurrences of one or more literal patterns in a single pass.
+ * <p>
+ * The patterns are pre-processed once per Replacer. Unchanged runs of the
+ * text are copied in bulk, so the output is written with one call per
+ * match and one for the rest. <code>char</code> arrays and Strings can be
+ * written to a StringBuilder or a Writer, <code>byte</code> arrays to an
+ * OutputStream or a ByteBuffer. For <code>bytes</code>, patterns and
+ * replacements are encoded in the Charset given to the constructor.
+ * <p>
+ * With several patterns, the leftmost match wins; of several matches at the
+ * same position, the longest wins, then the one that came first in the
+ * Map. Replaced text is not searched again. Each pattern is searched only
+ * when the previous match of it has been passed, so the cost is that of one
+ * search per pattern, not of one search per pattern and match.
+ * <p>
+ * Any {@link StringSearch} can be used. Case-insensitive algorithms and
+ * wildcards replace what they match. Algorithms that only search a prefix of
+ * long patterns, like {@link BNDM}, are verified against the whole pattern;
+ * their case-insensitive and wildcard variants cannot be used for such
+ * patterns. Replacer instances are thread safe.
+ * <p>
+ * Example:
+ * <pre>
+ * Map&lt;String, String&gt; m = new LinkedHashMap&lt;String, String&gt;();
+ * m.put("${name}", "Johann");
+ * m.put("${product}", "StringSearch");
+ * Replacer r = new Replacer(null, m);
+ * StringBuilder out = new StringBuilder();
+ * r.replace(template, out);
+ * </pre>
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class Replacer {
+
+    private final char[][] charPatterns;
+
+    private final char[][] charReplacements;
+
+    private final StringSearch[] charSearches;
+
+    private final Object[] charProcessed;
+
+    private final byte[][] bytePatterns;
+
+    private final byte[][] byteReplacements;
+
+    private final StringSearch[] byteSearches;
+
+    private final Object[] byteProcessed;
+
+    /**
+     * Constructor for Replacer. <code>bytes</code> are encoded in UTF-8.
+     *
+     * @param algorithm the algorithm or <code>null</code> to choose one per
+     * pattern with {@link StringSearch#forPattern(String, TextProfile)}
+     * @param pattern the pattern, may not be <code>null</code> or empty
+     * @param replacement the replacement, may not be <code>null</code>
+     */
+    public Replacer(StringSearch algorithm, String pattern, String replacement) {
+        this(algorithm, Collections.singletonMap(pattern, replacement));
+    }
+
+    /**
+     * Constructor for Replacer. <code>bytes</code> are encoded in UTF-8.
+     *
+     * @param algorithm the algorithm or <code>null</code> to choose one per
+     * pattern with {@link StringSearch#forPattern(String, TextProfile)}
+     * @param replacements the patterns and their replacements, may not be
+     * <code>null</code> or empty, no pattern may be empty
+     */
+    public Replacer(StringSearch algorithm, Map<String, String> replacements) {
+        this(algorithm, replacements, Charset.forName("UTF-8"));
+    }
+
+    /**
+     * Constructor for Replacer.
+     *
+     * @param algorithm the algorithm or <code>null</code> to choose one per
+     * pattern with {@link StringSearch#forPattern(String, TextProfile)}
+     * @param replacements the patterns and their replacements, may not be
+     * <code>null</code> or empty, no pattern may be empty
+     * @param charset the Charset that patterns and replacements are encoded in
+     * for <code>byte</code> texts, may not be <code>null</code>
+     * @throws IllegalArgumentException if there are no patterns, a pattern is
+     * empty or the algorithm cannot search a pattern completely
+     */
+    public Replacer(StringSearch algorithm, Map<String, String> replacements,
+            Charset charset) {
+        int n = replacements.size();
+        if (n == 0) {
+            throw new IllegalArgumentException("no patterns");
+        }
+        charPatterns = new char[n][];
+        charReplacements = new char[n][];
+        charSearches = new StringSearch[n];
+        charProcessed = new Object[n];
+        bytePatterns = new byte[n][];
+        byteReplacements = new byte[n][];
+        byteSearches = new StringSearch[n];
+        byteProcessed = new Object[n];
+        int i = 0;
+        for (Map.Entry<String, String> e : replacements.entrySet()) {
+            String pattern = e.getKey();
+            if (pattern.length() == 0) {
+                throw new IllegalArgumentException("pattern is empty");
+            }
+            charPatterns[i] = pattern.toCharArray();
+            charReplacements[i] = e.getValue().toCharArray();
+            bytePatterns[i] = pattern.getBytes(charset);
+            byteReplacements[i] = e.getValue().getBytes(charset);
+            charSearches[i] = algorithm == null ? StringSearch.forPattern(
+                    charPatterns[i], null) : algorithm;
+            byteSearches[i] = algorithm == null ? StringSearch.forPattern(
+                    bytePatterns[i], null) : algorithm;
+            if (!isComplete(charSearches[i], charPatterns[i].length)
+                    || !isComplete(byteSearches[i], bytePatterns[i].length)) {
+                throw new IllegalArgumentException(algorithm
+                        + " cannot search the whole pattern " + pattern);
+            }
+            charProcessed[i] = charSearches[i].processChars(charPatterns[i]);
+            byteProcessed[i] = byteSearches[i].processBytes(bytePatterns[i]);
+            ++i;
+        }
+    }
+
+    /**
+     * Returns if matches of the algorithm are full matches of a pattern or
+     * can be verified.
+     */
+    private static boolean isComplete(StringSearch search, int patternLength) {
+        return search.matchesExactly()
+                || search.processedLength(patternLength) == patternLength;
+    }
+
+    /*
+     * char methods
+     */
+
+    /**
+     * Replaces all matches in a String.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @return the text with all matches replaced, <code>text</code> itself if
+     * there are none
+     */
+    public String replace(String text) {
+        char[] t = StringSearch.getChars(text);
+        int[] next = first(t, 0, text.length());
+        if (best(next, charPatterns) == -1) {
+            return text;
+        }
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        try {
+            replace(t, 0, text.length(), next, new BuilderSink(out));
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Replaces all matches in a String and appends the result to a
+     * StringBuilder.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param out the StringBuilder, may not be <code>null</code>
+     * @return the number of replacements
+     */
+    public int replace(String text, StringBuilder out) {
+        return replace(StringSearch.getChars(text), 0, text.length(), out);
+    }
+
+    /**
+     * Replaces all matches in a String and writes the result to a Writer.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param out the Writer, may not be <code>null</code>
+     * @return the number of replacements
+     * @throws IOException if the Writer throws one
+     */
+    public int replace(String text, Writer out) throws IOException {
+        return replace(StringSearch.getChars(text), 0, text.length(), out);
+    }
+
+    /**
+     * Replaces all matches in <code>[textStart, textEnd)</code> and appends
+     * the result to a StringBuilder.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart the start of the text
+     * @param textEnd the end of the text (exclusive)
+     * @param out the StringBuilder, may not be <code>null</code>
+     * @return the number of replacements
+     */
+    public int replace(char[] text, int textStart, int textEnd,
+            StringBuilder out) {
+        try {
+            return replace(text, textStart, textEnd, new BuilderSink(out));
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Replaces all matches in <code>[textStart, textEnd)</code> and writes
+     * the result to a Writer.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart the start of the text
+     * @param textEnd the end of the text (exclusive)
+     * @param out the Writer, may not be <code>null</code>
+     * @return the number of replacements
+     * @throws IOException if the Writer throws one
+     */
+    public int replace(char[] text, int textStart, int textEnd, Writer out)
+            throws IOException {
+        return replace(text, textStart, textEnd, new WriterSink(out));
+    }
+
+    /*
+     * byte methods
+     */
+
+    /**
+     * Replaces all matches in a <code>byte</code> array.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @return the text with all matches replaced, <code>text</code> itself if
+     * there are none
+     */
+    public byte[] replace(byte[] text) {
+        int[] next = first(text, 0, text.length);
+        if (best(next, bytePatterns) == -1) {
+            return text;
+        }
+        ByteArraySink out = new ByteArraySink(text.length + 16);
+        try {
+            replace(text, 0, text.length, next, out);
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Replaces all matches in <code>[textStart, textEnd)</code> and writes
+     * the result to an OutputStream.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart the start of the text
+     * @param textEnd the end of the text (exclusive)
+     * @param out the OutputStream, may not be <code>null</code>
+     * @return the number of replacements
+     * @throws IOException if the OutputStream throws one
+     */
+    public int replace(byte[] text, int textStart, int textEnd,
+            OutputStream out) throws IOException {
+        return replace(text, textStart, textEnd, first(text, textStart,
+                textEnd), out);
+    }
+
+    /**
+     * Replaces all matches in <code>[textStart, textEnd)</code> and puts the
+     * result into a ByteBuffer.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart the start of the text
+     * @param textEnd the end of the text (exclusive)
+     * @param out the ByteBuffer, may not be <code>null</code>
+     * @return the number of replacements
+     * @throws java.nio.BufferOverflowException if the ByteBuffer is too
+     * small. Its position is undefined then.
+     */
+    public int replace(byte[] text, int textStart, int textEnd, ByteBuffer out) {
+        try {
+            return replace(text, textStart, textEnd, new ByteBufferSink(out));
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /*
+     * Matching
+     */
+
+    private int replace(char[] text, int textStart, int textEnd,
+            CharSink out) throws IOException {
+        return replace(text, textStart, textEnd, first(text, textStart,
+                textEnd), out);
+    }
+
+    /**
+     * Replaces all matches, starting with the first match of each pattern.
+     */
+    private int replace(char[] text, int textStart, int textEnd, int[] next,
+            CharSink out) throws IOException {
+        return next.length == 1 ? replaceOne(text, textStart, textEnd,
+                next[0], out) : replaceAll(text, textStart, textEnd, next, out);
+    }
+
+    private int replaceOne(char[] text, int textStart, int textEnd, int first,
+            CharSink out) throws IOException {
+        char[] pattern = charPatterns[0], replacement = charReplacements[0];
+        int copied = textStart;
+        int count = 0;
+        int hit = first;
+        while (hit != -1) {
+            out.write(text, copied, hit - copied);
+            out.write(replacement, 0, replacement.length);
+            copied = hit + pattern.length;
+            ++count;
+            hit = search(text, copied, textEnd, 0);
+        }
+        out.write(text, copied, textEnd - copied);
+        return count;
+    }
+
+    private int replaceAll(char[] text, int textStart, int textEnd,
+            int[] next, CharSink out) throws IOException {
+        int n = charPatterns.length;
+        int copied = textStart;
+        int count = 0;
+        int best;
+        while ((best = best(next, charPatterns)) != -1) {
+            int hit = next[best];
+            out.write(text, copied, hit - copied);
+            out.write(charReplacements[best], 0,
+                    charReplacements[best].length);
+            copied = hit + charPatterns[best].length;
+            ++count;
+            for (int i = 0; i < n; ++i) {
+                if (next[i] != -1 && next[i] < copied) {
+                    next[i] = search(text, copied, textEnd, i);
+                }
+            }
+        }
+        out.write(text, copied, textEnd - copied);
+        return count;
+    }
+
+    /**
+     * Returns the first match of each pattern.
+     */
+    private int[] first(char[] text, int textStart, int textEnd) {
+        int[] out = new int[charPatterns.length];
+        for (int i = 0; i < out.length; ++i) {
+            out[i] = search(text, textStart, textEnd, i);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the next match of pattern i. If the algorithm only searches a
+     * prefix of the pattern, the rest of the pattern is verified.
+     */
+    private int search(char[] text, int textStart, int textEnd, int i) {
+        char[] pattern = charPatterns[i];
+        StringSearch search = charSearches[i];
+        int hit = search.searchChars(text, textStart, textEnd, pattern,
+                charProcessed[i]);
+        int processed = search.processedLength(pattern.length);
+        while (hit != -1 && processed < pattern.length
+                && !matches(text, hit, textEnd, pattern, processed)) {
+            hit = search.searchChars(text, hit + 1, textEnd, pattern,
+                    charProcessed[i]);
+        }
+        return hit;
+    }
+
+    private static boolean matches(char[] text, int hit, int textEnd,
+            char[] pattern, int from) {
+        if (hit + pattern.length > textEnd) {
+            return false;
+        }
+        for (int j = from; j < pattern.length; ++j) {
+            if (text[hit + j] != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces all matches, starting with the first match of each pattern.
+     */
+    private int replace(byte[] text, int textStart, int textEnd, int[] next,
+            OutputStream out) throws IOException {
+        return next.length == 1 ? replaceOne(text, textStart, textEnd,
+                next[0], out) : replaceAll(text, textStart, textEnd, next, out);
+    }
+
+    private int replaceOne(byte[] text, int textStart, int textEnd, int first,
+            OutputStream out) throws IOException {
+        byte[] pattern = bytePatterns[0], replacement = byteReplacements[0];
+        int copied = textStart;
+        int count = 0;
+        int hit = first;
+        while (hit != -1) {
+            out.write(text, copied, hit - copied);
+            out.write(replacement, 0, replacement.length);
+            copied = hit + pattern.length;
+            ++count;
+            hit = search(text, copied, textEnd, 0);
+        }
+        out.write(text, copied, textEnd - copied);
+        return count;
+    }
+
+    private int replaceAll(byte[] text, int textStart, int textEnd,
+            int[] next, OutputStream out) throws IOException {
+        int n = bytePatterns.length;
+        int copied = textStart;
+        int count = 0;
+        int best;
+        while ((best = best(next, bytePatterns)) != -1) {
+            int hit = next[best];
+            out.write(text, copied, hit - copied);
+            out.write(byteReplacements[best], 0,
+                    byteReplacements[best].length);
+            copied = hit + bytePatterns[best].length;
+            ++count;
+            for (int i = 0; i < n; ++i) {
+                if (next[i] != -1 && next[i] < copied) {
+                    next[i] = search(text, copied, textEnd, i);
+                }
+            }
+        }
+        out.write(text, copied, textEnd - copied);
+        return count;
+    }
+
+    /**
+     * Returns the first match of each pattern.
+     */
+    private int[] first(byte[] text, int textStart, int textEnd) {
+        int[] out = new int[bytePatterns.length];
+        for (int i = 0; i < out.length; ++i) {
+            out[i] = search(text, textStart, textEnd, i);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the next match of pattern i. If the algorithm only searches a
+     * prefix of the pattern, the rest of the pattern is verified.
+     */
+    private int search(byte[] text, int textStart, int textEnd, int i) {
+        byte[] pattern = bytePatterns[i];
+        StringSearch search = byteSearches[i];
+        int hit = search.searchBytes(text, textStart, textEnd, pattern,
+                byteProcessed[i]);
+        int processed = search.processedLength(pattern.length);
+        while (hit != -1 && processed < pattern.length
+                && !matches(text, hit, textEnd, pattern, processed)) {
+            hit = search.searchBytes(text, hit + 1, textEnd, pattern,
+                    byteProcessed[i]);
+        }
+        return hit;
+    }
+
+    private static boolean matches(byte[] text, int hit, int textEnd,
+            byte[] pattern, int from) {
+        if (hit + pattern.length > textEnd) {
+            return false;
+        }
+        for (int j = from; j < pattern.length; ++j) {
+            if (text[hit + j] != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the leftmost, then longest match or -1.
+     */
+    private static int best(int[] next, char[][] patterns) {
+        int out = -1;
+        for (int i = 0; i < next.length; ++i) {
+            if (next[i] != -1 && (out == -1 || next[i] < next[out]
+                    || next[i] == next[out]
+                    && patterns[i].length > patterns[out].length)) {
+                out = i;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns the index of the leftmost, then longest match or -1.
+     */
+    private static int best(int[] next, byte[][] patterns) {
+        int out = -1;
+        for (int i = 0; i < next.length; ++i) {
+            if (next[i] != -1 && (out == -1 || next[i] < next[out]
+                    || next[i] == next[out]
+                    && patterns[i].length > patterns[out].length)) {
+                out = i;
+            }
+        }
+        return out;
+    }
+
+    /*
+     * Sinks
+     */
+
+    /**
+     * Receives the output of the <code>char</code> methods.
+     */
+    private interface CharSink {
+
+        void write(char[] c, int off, int len) throws IOException;
+
+    }
+
+    private static final class BuilderSink implements CharSink {
+
+        private final StringBuilder out;
+
+        BuilderSink(StringBuilder out) {
+            this.out = out;
+        }
+
+        public void write(char[] c, int off, int len) {
+            out.append(c, off, len);
+        }
+
+    }
+
+    private static final class WriterSink implements CharSink {
+
+        private final Writer out;
+
+        WriterSink(Writer out) {
+            this.out = out;
+        }
+
+        public void write(char[] c, int off, int len) throws IOException {
+            out.write(c, off, len);
+        }
+
+    }
+
+    /**
+     * An unsynchronized ByteArrayOutputStream.
+     */
+    private static final class ByteArraySink extends OutputStream {
+
+        private byte[] buf;
+
+        private int count;
+
+        ByteArraySink(int size) {
+            buf = new byte[size];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        private void ensureCapacity(int len) {
+            if (count + len > buf.length) {
+                byte[] larger = new byte[Math.max(buf.length << 1, count + len)];
+                System.arraycopy(buf, 0, larger, 0, count);
+                buf = larger;
+            }
+        }
+
+        byte[] toByteArray() {
+            if (count == buf.length) {
+                return buf;
+            }
+            byte[] out = new byte[count];
+            System.arraycopy(buf, 0, out, 0, count);
+            return out;
+        }
+
+    }
+
+    private static final class ByteBufferSink extends OutputStream {
+
+        private final ByteBuffer out;
+
+        ByteBufferSink(ByteBuffer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) {
+            out.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            out.put(b, off, len);
+        }
+
+    }
+
+}
@@ -0,0 +1,430 @@
+/*
+ * SearchPlanner.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Chooses the fastest algorithm for a pattern and a {@link TextProfile}.
+ * <p>
+ * Decisions are made from a calibration table keyed by the input type
+ * (<code>byte</code> or <code>char</code>), the size of the text's alphabet
+ * and the pattern length. The choice is refined by the expected shift of the
+ * Horspool algorithms, which is low if the pattern consists of symbols that
+ * are frequent in the text, and by the expected text length, because
+ * pre-processing dominates the search time for short texts.
+ * <p>
+ * The built-in table is read from <code>calibration.properties</code> in this
+ * package, which documents the format. It can be replaced by setting the
+ * <code>com.eaio.stringsearch.calibration</code> system property to the name
+ * of a file in the same format or by calling
+ * {@link #setDefault(SearchPlanner)}.
+ * <p>
+ * A hardened SearchPlanner never returns an algorithm whose worst case is
+ * <em>O(n&middot;m)</em> for the given pattern. The skip based algorithms
+ * are linear only if the last symbol of the pattern occurs nowhere else in
+ * it, which rules out all periodic patterns. Other patterns of more than two
+ * symbols are searched with {@link TwoWay} or the algorithm configured as
+ * <code>hardened.algorithm</code>. Enable it with <code>hardened=true</code>
+ * if both texts and patterns come from untrusted sources.
+ * <p>
+ * Algorithm instances are shared. All algorithms in this library are thread
+ * safe.
+ *
+ * @see StringSearch#forPattern(String, TextProfile)
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class SearchPlanner {
+
+    /**
+     * The name of the system property that points to a calibration file.
+     */
+    public static final String CALIBRATION_PROPERTY = "com.eaio.stringsearch.calibration";
+
+    private static final String[] INPUTS = { "bytes", "chars" };
+
+    private static final String[] ALPHABETS = { "small", "medium", "large" };
+
+    private static volatile SearchPlanner defaultPlanner;
+
+    private final Map<String, TreeMap<Integer, StringSearch>> table = new HashMap<String, TreeMap<Integer, StringSearch>>();
+
+    private final int smallAlphabet;
+
+    private final int mediumAlphabet;
+
+    private final double minimumSkipRatio;
+
+    private final StringSearch skipAlgorithm;
+
+    private final long shortTextLength;
+
+    private final StringSearch shortTextAlgorithm;
+
+    private final boolean hardened;
+
+    private final StringSearch hardenedAlgorithm;
+
+    /**
+     * Constructor for SearchPlanner.
+     *
+     * @param calibration the calibration table, may not be <code>null</code>
+     * @throws IllegalArgumentException if the table is incomplete or an
+     * algorithm cannot be instantiated
+     */
+    public SearchPlanner(Properties calibration) {
+        Map<String, StringSearch> instances = new HashMap<String, StringSearch>();
+        for (int i = 0; i < INPUTS.length; ++i) {
+            for (int j = 0; j < ALPHABETS.length; ++j) {
+                String prefix = INPUTS[i] + '.' + ALPHABETS[j] + '.';
+                TreeMap<Integer, StringSearch> lengths = new TreeMap<Integer, StringSearch>();
+                for (String key : calibration.stringPropertyNames()) {
+                    if (key.startsWith(prefix)) {
+                        String length = key.substring(prefix.length());
+                        int max;
+                        try {
+                            max = "max".equals(length) ? Integer.MAX_VALUE
+                                    : Integer.parseInt(length);
+                        }
+                        catch (NumberFormatException ex) {
+                            throw new IllegalArgumentException(key + ": "
+                                    + ex.getMessage());
+                        }
+                        StringSearch algorithm = instance(
+                                calibration.getProperty(key), instances);
+                        if (algorithm instanceof BNDM && max > 32) {
+                            throw new IllegalArgumentException(key
+                                    + ": BNDM is limited to 32 symbols");
+                        }
+                        lengths.put(max, algorithm);
+                    }
+                }
+                if (!lengths.containsKey(Integer.MAX_VALUE)) {
+                    throw new IllegalArgumentException("missing " + prefix
+                            + "max");
+                }
+                table.put(prefix, lengths);
+            }
+        }
+        smallAlphabet = parseInt(calibration, "alphabet.small");
+        mediumAlphabet = parseInt(calibration, "alphabet.medium");
+        try {
+            minimumSkipRatio = Double.parseDouble(required(calibration,
+                    "skip.minimumRatio"));
+        }
+        catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("skip.minimumRatio: "
+                    + ex.getMessage());
+        }
+        skipAlgorithm = instance(required(calibration, "skip.algorithm"),
+                instances);
+        shortTextLength = parseInt(calibration, "shortText.maximumLength");
+        shortTextAlgorithm = instance(required(calibration,
+                "shortText.algorithm"), instances);
+        hardened = Boolean.valueOf(calibration.getProperty("hardened",
+                "false").trim()).booleanValue();
+        hardenedAlgorithm = instance(calibration.getProperty(
+                "hardened.algorithm", "TwoWay"), instances);
+    }
+
+    /**
+     * Returns the SearchPlanner used by
+     * {@link StringSearch#forPattern(String, TextProfile)}. On first use, it is
+     * created from the file named by the {@value #CALIBRATION_PROPERTY} system
+     * property or from the built-in table.
+     *
+     * @return a SearchPlanner, never <code>null</code>
+     * @throws IllegalStateException if the calibration cannot be read
+     */
+    public static SearchPlanner getDefault() {
+        SearchPlanner out = defaultPlanner;
+        if (out == null) {
+            synchronized (SearchPlanner.class) {
+                out = defaultPlanner;
+                if (out == null) {
+                    out = defaultPlanner = new SearchPlanner(loadCalibration());
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Replaces the default SearchPlanner.
+     *
+     * @param planner the new SearchPlanner or <code>null</code> to reload the
+     * calibration on next use
+     */
+    public static void setDefault(SearchPlanner planner) {
+        defaultPlanner = planner;
+    }
+
+    /**
+     * Returns the built-in calibration table.
+     *
+     * @return a Properties instance, never <code>null</code>
+     * @throws IllegalStateException if the table cannot be read
+     */
+    public static Properties getBuiltInCalibration() {
+        InputStream in = SearchPlanner.class.getResourceAsStream("calibration.properties");
+        if (in == null) {
+            throw new IllegalStateException("calibration.properties not found");
+        }
+        return load(in, "calibration.properties");
+    }
+
+    private static Properties loadCalibration() {
+        String file = null;
+        try {
+            file = System.getProperty(CALIBRATION_PROPERTY);
+        }
+        catch (SecurityException ex) {
+            // Ignored.
+        }
+        if (file == null) {
+            return getBuiltInCalibration();
+        }
+        try {
+            return load(new FileInputStream(file), file);
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException("cannot read " + file + ": "
+                    + ex.getMessage());
+        }
+    }
+
+    private static Properties load(InputStream in, String name) {
+        Properties out = new Properties();
+        try {
+            out.load(in);
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException("cannot read " + name + ": "
+                    + ex.getMessage());
+        }
+        finally {
+            try {
+                in.close();
+            }
+            catch (IOException ex) { /* Ignored */ }
+        }
+        return out;
+    }
+
+    /**
+     * Returns if this SearchPlanner only chooses algorithms that are linear in
+     * the length of the text.
+     *
+     * @return boolean
+     */
+    public boolean isHardened() {
+        return hardened;
+    }
+
+    /*
+     * Planning methods
+     */
+
+    /**
+     * Returns the fastest algorithm to search for the pattern in
+     * <code>byte</code> arrays described by the profile.
+     *
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param profile the TextProfile, may be <code>null</code>
+     * @return a StringSearch instance, never <code>null</code>
+     */
+    public StringSearch forPattern(byte[] pattern, TextProfile profile) {
+        char[] symbols = new char[pattern.length];
+        for (int i = 0; i < pattern.length; ++i) {
+            symbols[i] = (char) (pattern[i] & 0xff);
+        }
+        return plan("bytes.", symbols, profile);
+    }
+
+    /**
+     * Returns the fastest algorithm to search for the pattern in
+     * <code>char</code> arrays and Strings described by the profile.
+     *
+     * @param pattern the <code>char</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param profile the TextProfile, may be <code>null</code>
+     * @return a StringSearch instance, never <code>null</code>
+     */
+    public StringSearch forPattern(char[] pattern, TextProfile profile) {
+        return plan("chars.", pattern, profile);
+    }
+
+    /**
+     * Returns the fastest algorithm to search for the pattern in
+     * <code>char</code> arrays and Strings described by the profile.
+     *
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @param profile the TextProfile, may be <code>null</code>
+     * @return a StringSearch instance, never <code>null</code>
+     */
+    public StringSearch forPattern(String pattern, TextProfile profile) {
+        return forPattern(StringSearch.getChars(pattern), profile);
+    }
+
+    private StringSearch plan(String input, char[] pattern, TextProfile profile) {
+        TextProfile p = profile == null ? TextProfile.UNKNOWN : profile;
+        int m = pattern.length;
+
+        String alphabet;
+        if (p.getAlphabetSize() <= smallAlphabet) {
+            alphabet = "small.";
+        }
+        else if (p.getAlphabetSize() <= mediumAlphabet) {
+            alphabet = "medium.";
+        }
+        else {
+            alphabet = "large.";
+        }
+        StringSearch out = table.get(input + alphabet).ceilingEntry(m).getValue();
+
+        if (m > 2 && m <= 32) {
+            long length = p.getExpectedLength();
+            if (length >= 0 && length <= shortTextLength) {
+                out = shortTextAlgorithm;
+            }
+            else if (out instanceof BoyerMooreHorspool
+                    && expectedSkipRatio(pattern, p) < minimumSkipRatio) {
+                out = skipAlgorithm;
+            }
+        }
+        if (hardened && m > 2 && !isLinear(out, pattern)) {
+            out = hardenedAlgorithm;
+        }
+        return out;
+    }
+
+    /**
+     * Returns if the algorithm's worst case is linear for the pattern. After
+     * the last symbol of the pattern has been matched, the Horspool
+     * algorithms shift by its distance to the previous occurrence in the
+     * pattern, so they are linear if there is none.
+     */
+    private static boolean isLinear(StringSearch algorithm, char[] pattern) {
+        if (algorithm instanceof TwoWay) {
+            return true;
+        }
+        if (algorithm.getClass() != BoyerMooreHorspool.class
+                && algorithm.getClass() != BoyerMooreHorspoolRaita.class) {
+            return false;
+        }
+        char last = pattern[pattern.length - 1];
+        for (int i = 0; i < pattern.length - 1; ++i) {
+            if (pattern[i] == last) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the expected shift of the Horspool algorithms divided by the
+     * pattern length.
+     */
+    private double expectedSkipRatio(char[] pattern, TextProfile profile) {
+        CharIntMap shifts = (CharIntMap) new BoyerMooreHorspool().processChars(pattern);
+        return profile.getExpectedShift(shifts, pattern.length)
+                / pattern.length;
+    }
+
+    private static String required(Properties calibration, String key) {
+        String out = calibration.getProperty(key);
+        if (out == null) {
+            throw new IllegalArgumentException("missing " + key);
+        }
+        return out.trim();
+    }
+
+    private static int parseInt(Properties calibration, String key) {
+        try {
+            return Integer.parseInt(required(calibration, key));
+        }
+        catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(key + ": " + ex.getMessage());
+        }
+    }
+
+    private static StringSearch instance(String name,
+            Map<String, StringSearch> instances) {
+        String className = name.trim();
+        if (className.indexOf('.') == -1) {
+            className = SearchPlanner.class.getPackage().getName() + '.'
+                    + className;
+        }
+        StringSearch out = instances.get(className);
+        if (out == null) {
+            try {
+                Class<?> c = Class.forName(className);
+                if (!StringSearch.class.isAssignableFrom(c)) {
+                    throw new IllegalArgumentException(className
+                            + " is not a StringSearch");
+                }
+                out = (StringSearch) c.getDeclaredConstructor().newInstance();
+            }
+            catch (ClassNotFoundException ex) {
+                throw new IllegalArgumentException("unknown algorithm "
+                        + className);
+            }
+            catch (InstantiationException ex) {
+                throw new IllegalArgumentException("cannot instantiate "
+                        + className);
+            }
+            catch (IllegalAccessException ex) {
+                throw new IllegalArgumentException("cannot instantiate "
+                        + className);
+            }
+            catch (NoSuchMethodException ex) {
+                throw new IllegalArgumentException("cannot instantiate "
+                        + className);
+            }
+            catch (InvocationTargetException ex) {
+                throw new IllegalArgumentException("cannot instantiate "
+                        + className);
+            }
+            instances.put(className, out);
+        }
+        return out;
+    }
+
+}
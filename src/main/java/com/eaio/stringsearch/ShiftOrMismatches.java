@@ -112,7 +112,7 @@ public class ShiftOrMismatches extends MismatchSearch {
             mask <<= b;
             }
 
-        return new Object[] { T, mask - 1, ovmask, lim, b };
+        return new Object[] { T, new int[] { mask - 1, ovmask, lim, b } };
     }
 
     /**
@@ -147,7 +147,7 @@ public class ShiftOrMismatches extends MismatchSearch {
             mask <<= b;
             }
 
-        return new Object[] { T, mask - 1, ovmask, lim, b };
+        return new Object[] { T, new int[] { mask - 1, ovmask, lim, b } };
     }
 
     /**
@@ -158,12 +158,26 @@ public class ShiftOrMismatches extends MismatchSearch {
     public int[] searchBytes(byte[] text, int textStart, int textEnd,
             byte[] pattern, Object processed, int k) {
 
+        long r = searchBytesPacked(text, textStart, textEnd, pattern,
+                processed, k);
+        return new int[] { position(r), mismatches(r) };
+    }
+
+    /**
+     * @see com.eaio.stringsearch.MismatchSearch#searchBytesPacked(byte[], int,
+     * int, byte[], Object, int)
+     */
+    @Override
+    public long searchBytesPacked(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed, int k) {
+
         Object[] o = (Object[]) processed;
         int[] T = (int[]) o[0];
-        final int mask = (Integer) o[1];
-        final int ovmask = (Integer) o[2];
-        final int lim = (Integer) o[3];
-        final int b = (Integer) o[4];
+        int[] p = parameters(o);
+        final int mask = p[0];
+        final int ovmask = p[1];
+        final int lim = p[2];
+        final int b = p[3];
         final int l = Math.min(pattern.length, 31 / b);
 
         int s = mask & ~ovmask;
@@ -174,11 +188,11 @@ public class ShiftOrMismatches extends MismatchSearch {
             ov = ((ov << b) | (s & ovmask)) & mask;
             s &= ~ovmask;
             if ((s | ov) < lim) {
-                return new int[] { i - l + 1, s >> b * (l - 1) };
+                return pack(i - l + 1, s >> b * (l - 1));
                 }
             }
 
-        return new int[] { -1, 0 };
+        return pack(-1, 0);
     }
 
     /**
@@ -189,12 +203,26 @@ public class ShiftOrMismatches extends MismatchSearch {
     public int[] searchChars(char[] text, int textStart, int textEnd,
             char[] pattern, Object processed, int k) {
 
+        long r = searchCharsPacked(text, textStart, textEnd, pattern,
+                processed, k);
+        return new int[] { position(r), mismatches(r) };
+    }
+
+    /**
+     * @see com.eaio.stringsearch.MismatchSearch#searchCharsPacked(char[], int,
+     * int, char[], Object, int)
+     */
+    @Override
+    public long searchCharsPacked(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed, int k) {
+
         Object[] o = (Object[]) processed;
         CharIntMap T = (CharIntMap) o[0];
-        final int mask = (Integer) o[1];
-        final int ovmask = (Integer) o[2];
-        final int lim = (Integer) o[3];
-        final int b = (Integer) o[4];
+        int[] p = parameters(o);
+        final int mask = p[0];
+        final int ovmask = p[1];
+        final int lim = p[2];
+        final int b = p[3];
         final int l = Math.min(pattern.length, 31 / b);
 
         int s = mask & ~ovmask;
@@ -205,11 +233,119 @@ public class ShiftOrMismatches extends MismatchSearch {
             ov = ((ov << b) | (s & ovmask)) & mask;
             s &= ~ovmask;
             if ((s | ov) < lim) {
-                return new int[] { i - l + 1, s >> b * (l - 1) };
+                return pack(i - l + 1, s >> b * (l - 1));
                 }
             }
 
-        return new int[] { -1, 0 };
+        return pack(-1, 0);
+    }
+
+    /**
+     * Processes the reversed first
+     * <code>31 / &lceil; log<sub>2</sub>(k + 1) &rceil;</code> bytes of the
+     * pattern.
+     *
+     * @see com.eaio.stringsearch.MismatchSearch#processBytesBackward(byte[],
+     * int)
+     */
+    @Override
+    public Object processBytesBackward(byte[] pattern, int k) {
+        int l = Math.min(pattern.length, 31 / (clog2(k + 1) + 1));
+        return processBytes(reverse(pattern, l), k);
+    }
+
+    /**
+     * Processes the reversed first
+     * <code>31 / &lceil; log<sub>2</sub>(k + 1) &rceil;</code>
+     * <code>char</code>s of the pattern.
+     *
+     * @see com.eaio.stringsearch.MismatchSearch#processCharsBackward(char[],
+     * int)
+     */
+    @Override
+    public Object processCharsBackward(char[] pattern, int k) {
+        int l = Math.min(pattern.length, 31 / (clog2(k + 1) + 1));
+        return processChars(reverse(pattern, l), k);
+    }
+
+    /**
+     * Reads the text from the end to the start with the automaton of the
+     * reversed pattern.
+     *
+     * @see com.eaio.stringsearch.MismatchSearch#searchBytesBackwardPacked(byte[],
+     * int, int, byte[], Object, int)
+     */
+    @Override
+    public long searchBytesBackwardPacked(byte[] text, int textStart,
+            int textEnd, byte[] pattern, Object processed, int k) {
+
+        Object[] o = (Object[]) processed;
+        int[] T = (int[]) o[0];
+        int[] p = parameters(o);
+        final int mask = p[0];
+        final int ovmask = p[1];
+        final int lim = p[2];
+        final int b = p[3];
+        final int l = Math.min(pattern.length, 31 / b);
+
+        int s = mask & ~ovmask;
+        int ov = ovmask;
+
+        for (int i = Math.min(text.length, textEnd) - 1; i >= textStart; --i) {
+            s = ((s << b) + T[index(text[i])]) & mask;
+            ov = ((ov << b) | (s & ovmask)) & mask;
+            s &= ~ovmask;
+            if ((s | ov) < lim) {
+                return pack(i, s >> b * (l - 1));
+            }
+        }
+
+        return pack(-1, 0);
+    }
+
+    /**
+     * @see com.eaio.stringsearch.MismatchSearch#searchCharsBackwardPacked(char[],
+     * int, int, char[], Object, int)
+     * @see #searchBytesBackwardPacked(byte[], int, int, byte[], Object, int)
+     */
+    @Override
+    public long searchCharsBackwardPacked(char[] text, int textStart,
+            int textEnd, char[] pattern, Object processed, int k) {
+
+        Object[] o = (Object[]) processed;
+        CharIntMap T = (CharIntMap) o[0];
+        int[] p = parameters(o);
+        final int mask = p[0];
+        final int ovmask = p[1];
+        final int lim = p[2];
+        final int b = p[3];
+        final int l = Math.min(pattern.length, 31 / b);
+
+        int s = mask & ~ovmask;
+        int ov = ovmask;
+
+        for (int i = Math.min(text.length, textEnd) - 1; i >= textStart; --i) {
+            s = ((s << b) + T.get(text[i])) & mask;
+            ov = ((ov << b) | (s & ovmask)) & mask;
+            s &= ~ovmask;
+            if ((s | ov) < lim) {
+                return pack(i, s >> b * (l - 1));
+            }
+        }
+
+        return pack(-1, 0);
+    }
+
+    /**
+     * Returns mask, ovmask, lim and b. Pre-processed Objects of StringSearch
+     * 2.2 and earlier contain them as Integers.
+     */
+    private static int[] parameters(Object[] o) {
+        if (o[1] instanceof int[]) {
+            return (int[]) o[1];
+        }
+        return new int[] { (Integer) o[1], (Integer) o[2], (Integer) o[3],
+                (Integer) o[4] };
     }
 
     /**
@@ -0,0 +1,267 @@
+/*
+ * Signature.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A small bit set of the 3-grams of a text that is stored alongside the text
+ * so that searches can skip texts that cannot contain a pattern.
+ * <p>
+ * Every 3-gram sets one bit, a Bloom filter with one hash function. A text
+ * can only contain a pattern if its Signature contains all bits of the
+ * Signature of the pattern (see {@link #mayContain(Signature)}). False
+ * positives are possible, false negatives are not. With the
+ * {@link #DEFAULT_BITS} and texts of 200 symbols, about one in three bits is
+ * set and a pattern of 8 symbols is rejected in more than 99 % of the texts
+ * that do not contain it. Longer texts need larger Signatures.
+ * <p>
+ * The 3-gram is kept in one <code>long</code> and shifted by 16 bits per
+ * symbol, so <code>bytes</code> and <code>chars</code> are hashed alike and
+ * the Signature of ISO-8859-1 encoded <code>bytes</code> equals the Signature
+ * of the <code>chars</code>. Signatures do not depend on the platform and can
+ * be stored with {@link #toLongArray()} and restored with
+ * {@link #valueOf(long[])}.
+ * <p>
+ * The <code>searchBatch</code> methods of {@link StringSearch} that take
+ * Signatures skip texts whose Signature rules out the pattern.
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class Signature implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default number of bits.
+     */
+    public static final int DEFAULT_BITS = 512;
+
+    private static final long MASK = (1L << 48) - 1L;
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private final long[] words;
+
+    private final int shift;
+
+    private Signature(long[] words) {
+        this.words = words;
+        shift = 64 - Integer.numberOfTrailingZeros(words.length << 6);
+    }
+
+    private static Signature empty(int bits) {
+        if (bits < 64 || Integer.bitCount(bits) != 1) {
+            throw new IllegalArgumentException(
+                    "bits must be a power of 2 and at least 64");
+        }
+        return new Signature(new long[bits >>> 6]);
+    }
+
+    /**
+     * Returns the Signature of a text with the {@link #DEFAULT_BITS}.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @return a Signature, never <code>null</code>
+     */
+    public static Signature of(byte[] text) {
+        return of(text, 0, text.length, DEFAULT_BITS);
+    }
+
+    /**
+     * Returns the Signature of a range of a text.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart the start of the range
+     * @param textEnd the end of the range (exclusive)
+     * @param bits the number of bits, a power of 2 and at least 64
+     * @return a Signature, never <code>null</code>
+     */
+    public static Signature of(byte[] text, int textStart, int textEnd,
+            int bits) {
+        Signature out = empty(bits);
+        long gram = 0L;
+        for (int i = textStart; i < textEnd; ++i) {
+            gram = (gram << 16 | text[i] & 0xFF) & MASK;
+            if (i - textStart >= 2) {
+                out.set(gram);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns the Signature of a text with the {@link #DEFAULT_BITS}.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @return a Signature, never <code>null</code>
+     */
+    public static Signature of(CharSequence text) {
+        return of(text, DEFAULT_BITS);
+    }
+
+    /**
+     * Returns the Signature of a text.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param bits the number of bits, a power of 2 and at least 64
+     * @return a Signature, never <code>null</code>
+     */
+    public static Signature of(CharSequence text, int bits) {
+        Signature out = empty(bits);
+        long gram = 0L;
+        for (int i = 0; i < text.length(); ++i) {
+            gram = (gram << 16 | text.charAt(i)) & MASK;
+            if (i >= 2) {
+                out.set(gram);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns the Signature of a range of a text.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart the start of the range
+     * @param textEnd the end of the range (exclusive)
+     * @param bits the number of bits, a power of 2 and at least 64
+     * @return a Signature, never <code>null</code>
+     */
+    public static Signature of(char[] text, int textStart, int textEnd,
+            int bits) {
+        Signature out = empty(bits);
+        long gram = 0L;
+        for (int i = textStart; i < textEnd; ++i) {
+            gram = (gram << 16 | text[i]) & MASK;
+            if (i - textStart >= 2) {
+                out.set(gram);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Restores a Signature from the array returned by {@link #toLongArray()}.
+     *
+     * @param words the words, may not be <code>null</code>
+     * @return a Signature, never <code>null</code>
+     */
+    public static Signature valueOf(long[] words) {
+        Signature out = empty(words.length << 6);
+        System.arraycopy(words, 0, out.words, 0, words.length);
+        return out;
+    }
+
+    private void set(long gram) {
+        int bit = (int) (gram * GOLDEN >>> shift);
+        words[bit >>> 6] |= 1L << bit;
+    }
+
+    /**
+     * Returns the number of bits.
+     *
+     * @return int
+     */
+    public int size() {
+        return words.length << 6;
+    }
+
+    /**
+     * Returns if a text with this Signature may contain a pattern with the
+     * given Signature.
+     *
+     * @param pattern the Signature of the pattern, may not be
+     * <code>null</code>
+     * @return <code>false</code> if the text cannot contain the pattern
+     * @throws IllegalArgumentException if the Signatures differ in size
+     */
+    public boolean mayContain(Signature pattern) {
+        long[] p = pattern.words;
+        if (p.length != words.length) {
+            throw new IllegalArgumentException("sizes differ");
+        }
+        for (int i = 0; i < p.length; ++i) {
+            if ((words[i] & p[i]) != p[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns if a text with this Signature may contain the pattern.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return <code>false</code> if the text cannot contain the pattern
+     */
+    public boolean mayContain(byte[] pattern) {
+        return mayContain(of(pattern, 0, pattern.length, size()));
+    }
+
+    /**
+     * Returns if a text with this Signature may contain the pattern.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return <code>false</code> if the text cannot contain the pattern
+     */
+    public boolean mayContain(CharSequence pattern) {
+        return mayContain(of(pattern, size()));
+    }
+
+    /**
+     * Returns the bits of this Signature.
+     *
+     * @return a new <code>long</code> array
+     */
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Signature
+                && Arrays.equals(words, ((Signature) obj).words);
+    }
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+}
@@ -0,0 +1,428 @@
+/*
+ * StreamSearch.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Searches a pattern in an {@link InputStream} of any length, optionally
+ * reading or decompressing the stream on a second thread.
+ * <p>
+ * The stream is read into a ring of reusable buffers. With more than one
+ * buffer, a reader thread fills the buffers while the calling thread searches
+ * the filled ones, so decompressing and searching overlap. The last
+ * <code>m - 1</code> bytes of each buffer are carried over into the next one,
+ * so matches that cross buffer boundaries are found. Positions are reported
+ * as offsets in the (uncompressed) stream. Overlapping matches are reported.
+ * <p>
+ * {@link #searchGzip(InputStream, Listener)} decompresses gzip streams,
+ * including streams of several concatenated members, with
+ * {@link java.util.zip.Inflater}. Other formats, such as raw deflate
+ * streams, can be wrapped in a {@link java.util.zip.InflaterInputStream} and
+ * passed to {@link #search(InputStream, Listener)} so that they are
+ * decompressed on the reader thread.
+ * <p>
+ * StreamSearch instances are thread safe. Streams are not closed.
+ * <p>
+ * Example:
+ * <pre>
+ * StreamSearch s = new StreamSearch(new BoyerMooreHorspool(),
+ *         "ERROR".getBytes());
+ * long first = s.indexOfGzip(new FileInputStream("app.log.gz"));
+ * </pre>
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class StreamSearch {
+
+    /**
+     * The default size of a buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 18;
+
+    /**
+     * The default number of buffers.
+     */
+    public static final int DEFAULT_BUFFERS = 4;
+
+    /**
+     * Receives the matches of a search.
+     */
+    public interface Listener {
+
+        /**
+         * Called for each match in the order of the matches.
+         *
+         * @param offset the offset of the match in the stream
+         * @return if searching should continue
+         */
+        boolean found(long offset);
+
+    }
+
+    private final StringSearch algorithm;
+
+    private final byte[] pattern;
+
+    private final Object processed;
+
+    private final int bufferSize;
+
+    private final int buffers;
+
+    /**
+     * Constructor for StreamSearch. Uses {@link #DEFAULT_BUFFERS} buffers of
+     * {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the pattern, may not be <code>null</code> or empty
+     */
+    public StreamSearch(StringSearch algorithm, byte[] pattern) {
+        this(algorithm, pattern, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFERS);
+    }
+
+    /**
+     * Constructor for StreamSearch.
+     *
+     * @param algorithm the algorithm, may not be <code>null</code>
+     * @param pattern the pattern, may not be <code>null</code> or empty
+     * @param bufferSize the number of bytes read into each buffer
+     * @param buffers the number of buffers, 1 to read the stream in the
+     * calling thread
+     */
+    public StreamSearch(StringSearch algorithm, byte[] pattern,
+            int bufferSize, int buffers) {
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("pattern is empty");
+        }
+        if (bufferSize < 1 || buffers < 1) {
+            throw new IllegalArgumentException(
+                    "bufferSize and buffers must be positive");
+        }
+        this.algorithm = algorithm;
+        this.pattern = pattern.clone();
+        processed = algorithm.processBytes(this.pattern);
+        this.bufferSize = bufferSize;
+        this.buffers = buffers;
+    }
+
+    /**
+     * Returns the offset of the first match.
+     *
+     * @param in the stream, may not be <code>null</code>
+     * @return the offset or -1 if the pattern was not found
+     * @throws IOException if the stream cannot be read
+     */
+    public long indexOf(InputStream in) throws IOException {
+        First first = new First();
+        search(in, first);
+        return first.offset;
+    }
+
+    /**
+     * Returns the offset of the first match in a gzip stream.
+     *
+     * @param in the compressed stream, may not be <code>null</code>
+     * @return the offset in the uncompressed data or -1 if the pattern was
+     * not found
+     * @throws IOException if the stream cannot be read or is not in gzip
+     * format
+     */
+    public long indexOfGzip(InputStream in) throws IOException {
+        First first = new First();
+        searchGzip(in, first);
+        return first.offset;
+    }
+
+    /**
+     * Searches a gzip stream.
+     *
+     * @param in the compressed stream, may not be <code>null</code>
+     * @param listener the Listener, may be <code>null</code> to count matches
+     * @return the number of matches
+     * @throws IOException if the stream cannot be read or is not in gzip
+     * format
+     */
+    public long searchGzip(InputStream in, Listener listener)
+            throws IOException {
+        GzipInputStream gzip = new GzipInputStream(in);
+        try {
+            return search(gzip, listener);
+        }
+        finally {
+            gzip.end();
+        }
+    }
+
+    /**
+     * Searches a stream.
+     *
+     * @param in the stream, may not be <code>null</code>
+     * @param listener the Listener, may be <code>null</code> to count matches
+     * @return the number of matches
+     * @throws IOException if the stream cannot be read
+     */
+    public long search(InputStream in, Listener listener) throws IOException {
+        Window w = new Window(listener);
+        if (buffers == 1) {
+            Chunk c = new Chunk(pattern.length - 1 + bufferSize);
+            while (c.fill(in, pattern.length - 1) && w.search(c)) {
+                // Next buffer.
+            }
+            return w.count;
+        }
+        Reader reader = new Reader(in);
+        Thread t = new Thread(reader, "StreamSearch reader");
+        t.setDaemon(true);
+        t.start();
+        boolean interrupted = false;
+        try {
+            while (true) {
+                Chunk c;
+                try {
+                    c = reader.full.take();
+                }
+                catch (InterruptedException ex) {
+                    interrupted = true;
+                    throw new IOException("Interrupted");
+                }
+                if (c.length < 0) {
+                    reader.rethrow();
+                    return w.count;
+                }
+                boolean more = w.search(c);
+                reader.free.add(c);
+                if (!more) {
+                    return w.count;
+                }
+            }
+        }
+        finally {
+
+            // Interrupting the reader could close an interruptible channel,
+            // so it is woken up with an empty buffer instead.
+
+            reader.cancelled = true;
+            reader.free.offer(new Chunk(0));
+            while (t.isAlive()) {
+                try {
+                    t.join();
+                }
+                catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * A buffer. The data starts at <code>pattern.length - 1</code>, the
+     * bytes before it receive the end of the previous buffer.
+     */
+    static final class Chunk {
+
+        final byte[] data;
+
+        int length;
+
+        Chunk(int capacity) {
+            data = new byte[capacity];
+        }
+
+        /**
+         * Fills the buffer from the stream. Returns <code>false</code> if the
+         * stream has ended.
+         */
+        boolean fill(InputStream in, int offset) throws IOException {
+            length = 0;
+            int n;
+            while (offset + length < data.length
+                    && (n = in.read(data, offset + length, data.length - offset
+                            - length)) != -1) {
+                length += n;
+            }
+            return length > 0;
+        }
+
+    }
+
+    /**
+     * Searches the buffers in order and carries the last bytes of each
+     * buffer over into the next.
+     */
+    private final class Window {
+
+        private final Listener listener;
+
+        private final int reserve = pattern.length - 1;
+
+        private final byte[] carry = new byte[reserve];
+
+        private int carried;
+
+        /**
+         * The offset of the first byte of the next buffer in the stream.
+         */
+        private long offset;
+
+        /**
+         * The offset of the last match. Algorithms that only search a prefix
+         * of the pattern report matches that run past the end of a buffer,
+         * and the carried over bytes would find them again.
+         */
+        private long reported = -1L;
+
+        long count;
+
+        Window(Listener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Searches a buffer. Returns <code>false</code> if the Listener
+         * stopped the search.
+         */
+        boolean search(Chunk c) {
+            byte[] data = c.data;
+            int from = reserve - carried;
+            int to = reserve + c.length;
+            System.arraycopy(carry, 0, data, from, carried);
+            long base = offset - reserve;
+            boolean more = true;
+            int pos = from - 1;
+            while ((pos = algorithm.searchBytes(data, pos + 1, to, pattern,
+                    processed)) != -1) {
+                if (base + pos <= reported) {
+                    continue;
+                }
+                reported = base + pos;
+                ++count;
+                if (listener != null && !listener.found(reported)) {
+                    more = false;
+                    break;
+                }
+            }
+            carried = Math.min(reserve, to - from);
+            System.arraycopy(data, to - carried, carry, 0, carried);
+            offset += c.length;
+            return more;
+        }
+
+    }
+
+    /**
+     * Fills the buffers on the reader thread. A Chunk with a negative length
+     * ends the stream.
+     */
+    private final class Reader implements Runnable {
+
+        private final InputStream in;
+
+        final BlockingQueue<Chunk> free = new ArrayBlockingQueue<Chunk>(
+                buffers);
+
+        final BlockingQueue<Chunk> full = new ArrayBlockingQueue<Chunk>(
+                buffers + 1);
+
+        volatile boolean cancelled;
+
+        private volatile Throwable failure;
+
+        Reader(InputStream in) {
+            this.in = in;
+            for (int i = 0; i < buffers; ++i) {
+                free.add(new Chunk(pattern.length - 1 + bufferSize));
+            }
+        }
+
+        /**
+         * @see java.lang.Runnable#run()
+         */
+        public void run() {
+            try {
+                while (true) {
+                    Chunk c = free.take();
+                    if (cancelled || !c.fill(in, pattern.length - 1)) {
+                        break;
+                    }
+                    full.put(c);
+                }
+            }
+            catch (InterruptedException ex) {
+                failure = new IOException("Interrupted");
+            }
+            catch (Throwable t) {
+                failure = t;
+            }
+            Chunk end = new Chunk(0);
+            end.length = -1;
+            full.add(end);
+        }
+
+        void rethrow() throws IOException {
+            Throwable t = failure;
+            if (t instanceof IOException) {
+                throw (IOException) t;
+            }
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+        }
+
+    }
+
+    /**
+     * Stops at the first match.
+     */
+    private static final class First implements Listener {
+
+        long offset = -1L;
+
+        /**
+         * @see com.eaio.stringsearch.StreamSearch.Listener#found(long)
+         */
+        public boolean found(long offset) {
+            this.offset = offset;
+            return false;
+        }
+
+    }
+
+}
@@ -33,6 +33,8 @@ import java.security.AccessControlException;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * The base class for pattern matching algorithm implementations.
@@ -49,12 +51,23 @@ import java.security.PrivilegedExceptionAction;
  * the {@link java.io.Serializable} interface and make it possible to
  * serialize pre-processed Objects to disk.
  * <p>
+ * The convenience methods that do not take a pre-processed Object pre-process
+ * the pattern on every call unless a {@link PatternCache} has been installed
+ * with {@link #setPatternCache(PatternCache)}.
+ * <p>
  * When this Class is loaded, an attempt is made to obtain {@link java.lang.reflect.Field} instances of
  * the "offset" and the "value" fields of the {@link java.lang.String} class.
  * These fields are set as accessible. If this succeeds, StringSearch will use
- * Reflection to access the underlying <code>char</code> array in Strings. If
- * not, the <code>char</code> array will be cloned by calling
- * {@link java.lang.String#toCharArray()}.</p>
+ * Reflection to access the underlying <code>char</code> array in Strings.
+ * Java 7 and 8 have no "offset" field, so only the "value" field is used. If
+ * the <code>char</code> array cannot be accessed, the text is copied into a
+ * per-thread buffer instead.
+ * <p>
+ * Searching with a pre-processed pattern does not allocate memory, except for
+ * the result arrays of the {@link MismatchSearch} methods (see
+ * {@link MismatchSearch#searchCharsPacked(char[], int, int, char[], Object, int)})
+ * and for Strings of more than 8K <code>chars</code> if Reflection cannot
+ * be used.</p>
  *
  * @see <a href="http://johannburkard.de/software/stringsearch/" target="_top">
  * StringSearch &#8211; high-performance pattern matching algorithms in Java</a>
@@ -78,17 +91,46 @@ public abstract class StringSearch {
      */
     static StringAccess activeStringAccess;
 
+    /**
+     * The PatternCache used by the convenience methods, may be
+     * <code>null</code>.
+     */
+    private static volatile PatternCache patternCache;
+
     /**
      * The StringAccess class implements the strategy to convert Strings to
      * <code>char</code> arrays and calls the appropriate
      * <code>searchChars</code> method in the given StringSearch instance.
+     * <p>
+     * Texts of up to {@link #MAX_BUFFER} <code>chars</code> are copied into a
+     * per-thread buffer, and the <code>char</code> array of the last pattern
+     * is kept per thread, so searching with a pre-processed pattern does not
+     * allocate. Longer texts are copied into a new array.
+     * <p>
+     * The buffers are kept until the thread ends, so every thread that has
+     * searched a String retains up to 16 KB plus the last pattern. In pooled
+     * threads, they also keep the class loader of this library reachable.
      */
     static class StringAccess {
 
         /**
-         * Instances are created in StringSearch only.
+         * The maximum length of the text buffer.
          */
-        private StringAccess() {
+        static final int MAX_BUFFER = 1 << 13;
+
+        private static final ThreadLocal<Buffers> buffers = new ThreadLocal<Buffers>() {
+
+            @Override
+            protected Buffers initialValue() {
+                return new Buffers();
+            }
+
+        };
+
+        /**
+         * Instances are created in this package only.
+         */
+        StringAccess() {
             super();
         }
 
@@ -99,9 +141,16 @@ public abstract class StringSearch {
         int searchString(String text, int textStart, int textEnd,
                 String pattern, Object processed, StringSearch instance) {
 
-            return instance.searchChars(text.toCharArray(), textStart, textEnd,
-                    pattern.toCharArray(), processed);
-
+            Buffers b = buffers.get();
+            int start = Math.max(textStart, 0);
+            int end = Math.min(textEnd, text.length());
+            if (end - start > MAX_BUFFER) {
+                return instance.searchChars(text.toCharArray(), textStart,
+                        textEnd, b.pattern(pattern), processed);
+            }
+            int r = instance.searchChars(b.text(text, start, end), 0, end
+                    - start, b.pattern(pattern), processed);
+            return r == -1 ? -1 : r + start;
         }
 
         /**
@@ -111,8 +160,16 @@ public abstract class StringSearch {
         int searchString(String text, int textStart, int textEnd,
                 String pattern, StringSearch instance) {
 
-            return instance.searchChars(text.toCharArray(), textStart, textEnd,
-                    pattern.toCharArray());
+            Buffers b = buffers.get();
+            int start = Math.max(textStart, 0);
+            int end = Math.min(textEnd, text.length());
+            if (end - start > MAX_BUFFER) {
+                return instance.searchChars(text.toCharArray(), textStart,
+                        textEnd, b.pattern(pattern));
+            }
+            int r = instance.searchChars(b.text(text, start, end), 0, end
+                    - start, b.pattern(pattern));
+            return r == -1 ? -1 : r + start;
         }
 
         /**
@@ -122,8 +179,19 @@ public abstract class StringSearch {
         int[] searchString(String text, int textStart, int textEnd,
                 String pattern, int k, MismatchSearch instance) {
 
-            return instance.searchChars(text.toCharArray(), textStart, textEnd,
-                    pattern.toCharArray(), k);
+            Buffers b = buffers.get();
+            int start = Math.max(textStart, 0);
+            int end = Math.min(textEnd, text.length());
+            if (end - start > MAX_BUFFER) {
+                return instance.searchChars(text.toCharArray(), textStart,
+                        textEnd, b.pattern(pattern), k);
+            }
+            int[] r = instance.searchChars(b.text(text, start, end), 0, end
+                    - start, b.pattern(pattern), k);
+            if (r[0] != -1) {
+                r[0] += start;
+            }
+            return r;
         }
 
         /**
@@ -133,8 +201,43 @@ public abstract class StringSearch {
         int[] searchString(String text, int textStart, int textEnd,
                 String pattern, Object processed, int k, MismatchSearch instance) {
 
-            return instance.searchChars(text.toCharArray(), textStart, textEnd,
-                    pattern.toCharArray(), processed, k);
+            Buffers b = buffers.get();
+            int start = Math.max(textStart, 0);
+            int end = Math.min(textEnd, text.length());
+            if (end - start > MAX_BUFFER) {
+                return instance.searchChars(text.toCharArray(), textStart,
+                        textEnd, b.pattern(pattern), processed, k);
+            }
+            int[] r = instance.searchChars(b.text(text, start, end), 0, end
+                    - start, b.pattern(pattern), processed, k);
+            if (r[0] != -1) {
+                r[0] += start;
+            }
+            return r;
+        }
+
+        /**
+         * Searches a pattern inside a text, using the pre-processed Object and
+         * at most k mismatches, using the given MismatchSearch instance.
+         * Returns the result packed into a <code>long</code>.
+         *
+         * @see MismatchSearch#searchCharsPacked(char[], int, int, char[],
+         * Object, int)
+         */
+        long searchStringPacked(String text, int textStart, int textEnd,
+                String pattern, Object processed, int k, MismatchSearch instance) {
+
+            Buffers b = buffers.get();
+            int start = Math.max(textStart, 0);
+            int end = Math.min(textEnd, text.length());
+            if (end - start > MAX_BUFFER) {
+                return instance.searchCharsPacked(text.toCharArray(),
+                        textStart, textEnd, b.pattern(pattern), processed, k);
+            }
+            long r = instance.searchCharsPacked(b.text(text, start, end), 0,
+                    end - start, b.pattern(pattern), processed, k);
+            return MismatchSearch.position(r) == -1 ? r : r
+                    + ((long) start << 32);
         }
 
         /**
@@ -149,6 +252,45 @@ public abstract class StringSearch {
 
     }
 
+    /**
+     * The per-thread buffers of the StringAccess class.
+     */
+    private static final class Buffers {
+
+        private char[] text = new char[64];
+
+        private String pattern;
+
+        private char[] patternChars;
+
+        /**
+         * Copies the given range of the text to the beginning of the buffer.
+         */
+        char[] text(String s, int start, int end) {
+            if (text.length < end - start) {
+                text = new char[Math.min(StringAccess.MAX_BUFFER, Math.max(end
+                        - start, text.length << 1))];
+            }
+            if (start < end) {
+                s.getChars(start, end, text, 0);
+            }
+            return text;
+        }
+
+        /**
+         * Returns the <code>char</code> array of the pattern, which is reused
+         * if the pattern equals the previous one.
+         */
+        char[] pattern(String p) {
+            if (!p.equals(pattern)) {
+                patternChars = p.toCharArray();
+                pattern = p;
+            }
+            return patternChars;
+        }
+
+    }
+
     /**
      * The ReflectionStringAccess class is used if Reflection can be used to access the
      * underlying <code>char</code> array in Strings to avoid the cloning
@@ -162,13 +304,21 @@ public abstract class StringSearch {
          * Instances are created in StringSearch only.
          *
          * @param value the "value" field in String
-         * @param offset the "offset" field in String
+         * @param offset the "offset" field in String or <code>null</code> if
+         * Strings do not share <code>char</code> arrays
          */
         private ReflectionStringAccess(Field value, Field offset) {
             this.value = value;
             this.offset = offset;
         }
 
+        /**
+         * Returns the offset of the String in its <code>char</code> array.
+         */
+        private int offset(String s) throws IllegalAccessException {
+            return offset == null ? 0 : offset.getInt(s);
+        }
+
         /**
          * @see com.eaio.stringsearch.StringSearch.StringAccess#searchString(
          * String, int, int, String, Object, StringSearch)
@@ -180,7 +330,7 @@ public abstract class StringSearch {
             int l = text.length();
             if (l > crossover) {
                 try {
-                    int o = offset.getInt(text);
+                    int o = offset(text);
                     char[] t = (char[]) value.get(text);
                     return instance.searchChars(t, textStart + o, textEnd + o,
                             getChars(pattern), processed)
@@ -206,7 +356,7 @@ public abstract class StringSearch {
             int l = text.length();
             if (l > crossover) {
                 try {
-                    int o = offset.getInt(text);
+                    int o = offset(text);
                     char[] t = (char[]) value.get(text);
                     return instance.searchChars(t, textStart + o, textEnd + o,
                             getChars(pattern))
@@ -231,7 +381,7 @@ public abstract class StringSearch {
             int l = text.length();
             if (l > crossover) {
                 try {
-                    int o = offset.getInt(text);
+                    int o = offset(text);
                     char[] t = (char[]) value.get(text);
                     int[] r = instance.searchChars(t, textStart + o, textEnd
                             + o, getChars(pattern), k);
@@ -259,7 +409,7 @@ public abstract class StringSearch {
             int l = text.length();
             if (l > crossover) {
                 try {
-                    int o = offset.getInt(text);
+                    int o = offset(text);
                     char[] t = (char[]) value.get(text);
                     int[] r = instance.searchChars(t, textStart + o, textEnd
                             + o, getChars(pattern), processed, k);
@@ -276,6 +426,32 @@ public abstract class StringSearch {
                     processed, k, instance);
         }
 
+        /**
+         * @see com.eaio.stringsearch.StringSearch.StringAccess#searchStringPacked(
+         * String, int, int, String, Object, int, MismatchSearch)
+         */
+        @Override
+        long searchStringPacked(String text, int textStart, int textEnd,
+                String pattern, Object processed, int k, MismatchSearch instance) {
+
+            int l = text.length();
+            if (l > crossover) {
+                try {
+                    int o = offset(text);
+                    char[] t = (char[]) value.get(text);
+                    long r = instance.searchCharsPacked(t, textStart + o,
+                            textEnd + o, getChars(pattern), processed, k);
+                    return MismatchSearch.position(r) == -1 ? r : r
+                            - ((long) o << 32);
+                }
+                catch (IllegalAccessException ex) {
+                    activeStringAccess = new StringAccess();
+                }
+            }
+            return super.searchStringPacked(text, textStart, textEnd, pattern,
+                    processed, k, instance);
+        }
+
         /**
          * Tries to return the underlying <code>char</code> array directly.
          * Only works if the "offset" field is 0 and the "count" field is equal
@@ -289,7 +465,7 @@ public abstract class StringSearch {
             int l = s.length();
             if (l > crossover) {
                 try {
-                    if (offset.getInt(s) != 0) {
+                    if (offset(s) != 0) {
                         return super.getChars(s);
                     }
                     char[] c = (char[]) value.get(s);
@@ -357,8 +533,11 @@ public abstract class StringSearch {
         catch (SecurityException ex) {
             // Ignored.
         }
+        catch (RuntimeException ex) {
+            // InaccessibleObjectException on Java 9 and later. Ignored.
+        }
 
-        if (value != null && offset != null) {
+        if (value != null) {
             StringSearch.activeStringAccess = new ReflectionStringAccess(value,
                     offset);
             try {
@@ -397,6 +576,69 @@ public abstract class StringSearch {
         return activeStringAccess.getChars(s);
     }
 
+    /**
+     * Installs a {@link PatternCache} that is used by all convenience methods
+     * that do not take a pre-processed Object. Pass <code>null</code> to stop
+     * caching, which is the default.
+     * 
+     * @param cache the PatternCache, may be <code>null</code>
+     */
+    public static void setPatternCache(PatternCache cache) {
+        patternCache = cache;
+    }
+
+    /**
+     * Returns the {@link PatternCache} used by the convenience methods.
+     * 
+     * @return a PatternCache, may be <code>null</code>
+     * @see #setPatternCache(PatternCache)
+     */
+    public static PatternCache getPatternCache() {
+        return patternCache;
+    }
+
+    /**
+     * Returns the fastest algorithm to search for the pattern in
+     * <code>byte</code> arrays described by the profile.
+     * 
+     * @param pattern the <code>byte</code> array containing the pattern, may not
+     * be <code>null</code>
+     * @param profile the TextProfile, may be <code>null</code>
+     * @return a StringSearch instance, never <code>null</code>
+     * @see SearchPlanner#getDefault()
+     */
+    public static StringSearch forPattern(byte[] pattern, TextProfile profile) {
+        return SearchPlanner.getDefault().forPattern(pattern, profile);
+    }
+
+    /**
+     * Returns the fastest algorithm to search for the pattern in
+     * <code>char</code> arrays described by the profile.
+     * 
+     * @param pattern the <code>char</code> array containing the pattern, may not
+     * be <code>null</code>
+     * @param profile the TextProfile, may be <code>null</code>
+     * @return a StringSearch instance, never <code>null</code>
+     * @see SearchPlanner#getDefault()
+     */
+    public static StringSearch forPattern(char[] pattern, TextProfile profile) {
+        return SearchPlanner.getDefault().forPattern(pattern, profile);
+    }
+
+    /**
+     * Returns the fastest algorithm to search for the pattern in Strings
+     * described by the profile.
+     * 
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @param profile the TextProfile, may be <code>null</code>
+     * @return a StringSearch instance, never <code>null</code>
+     * @see SearchPlanner#getDefault()
+     */
+    public static StringSearch forPattern(String pattern, TextProfile profile) {
+        return SearchPlanner.getDefault().forPattern(pattern, profile);
+    }
+
     /**
      * Constructor for StringSearch. Note that it is not required to create
      * multiple instances of an algorithm. This constructor does nothing.
@@ -442,6 +684,36 @@ public abstract class StringSearch {
         return processChars(getChars(pattern));
     }
 
+    /**
+     * Pre-processes a <code>byte</code> array through the {@link PatternCache}
+     * if one is installed.
+     * 
+     * @param pattern the <code>byte</code> array containing the pattern, may not
+     * be <code>null</code>
+     * @return an Object
+     * @see #setPatternCache(PatternCache)
+     */
+    final Object processBytesCached(byte[] pattern) {
+        PatternCache cache = patternCache;
+        return cache == null ? processBytes(pattern) : cache.processBytes(this,
+                pattern);
+    }
+
+    /**
+     * Pre-processes a <code>char</code> array through the {@link PatternCache}
+     * if one is installed.
+     * 
+     * @param pattern a <code>char</code> array containing the pattern, may not be
+     * <code>null</code>
+     * @return an Object
+     * @see #setPatternCache(PatternCache)
+     */
+    final Object processCharsCached(char[] pattern) {
+        PatternCache cache = patternCache;
+        return cache == null ? processChars(pattern) : cache.processChars(this,
+                pattern);
+    }
+
     /* Byte searching methods */
 
     /**
@@ -456,7 +728,8 @@ public abstract class StringSearch {
      * @see #searchBytes(byte[], int, int, byte[], Object)
      */
     public final int searchBytes(byte[] text, byte[] pattern) {
-        return searchBytes(text, 0, text.length, pattern, processBytes(pattern));
+        return searchBytes(text, 0, text.length, pattern,
+                processBytesCached(pattern));
     }
 
     /**
@@ -489,7 +762,7 @@ public abstract class StringSearch {
      */
     public final int searchBytes(byte[] text, int textStart, byte[] pattern) {
         return searchBytes(text, textStart, text.length, pattern,
-                processBytes(pattern));
+                processBytesCached(pattern));
     }
 
     /**
@@ -527,7 +800,7 @@ public abstract class StringSearch {
             byte[] pattern) {
 
         return searchBytes(text, textStart, textEnd, pattern,
-                processBytes(pattern));
+                processBytesCached(pattern));
     }
 
     /**
@@ -561,7 +834,8 @@ public abstract class StringSearch {
      * @see #searchChars(char[], int, int, char[], Object)
      */
     public final int searchChars(char[] text, char[] pattern) {
-        return searchChars(text, 0, text.length, pattern, processChars(pattern));
+        return searchChars(text, 0, text.length, pattern,
+                processCharsCached(pattern));
     }
 
     /**
@@ -595,7 +869,7 @@ public abstract class StringSearch {
      */
     public final int searchChars(char[] text, int textStart, char[] pattern) {
         return searchChars(text, textStart, text.length, pattern,
-                processChars(pattern));
+                processCharsCached(pattern));
     }
 
     /**
@@ -634,7 +908,7 @@ public abstract class StringSearch {
             char[] pattern) {
 
         return searchChars(text, textStart, textEnd, pattern,
-                processChars(pattern));
+                processCharsCached(pattern));
     }
 
     /**
@@ -764,6 +1038,442 @@ public abstract class StringSearch {
                 textEnd, pattern, processed, this);
     }
 
+    /* Backward searching methods */
+
+    /**
+     * Pre-processes a <code>byte</code> array for the backward searching
+     * methods. Algorithms that search backwards natively process the reversed
+     * pattern, so the skips of the backward scan mirror those of the forward
+     * scan. The default implementation returns
+     * {@link #processBytes(byte[])}.
+     *
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @return an Object
+     * @see #searchBytesBackward(byte[], int, int, byte[], Object)
+     */
+    public Object processBytesBackward(byte[] pattern) {
+        return processBytes(pattern);
+    }
+
+    /**
+     * Pre-processes a <code>char</code> array for the backward searching
+     * methods. The default implementation returns
+     * {@link #processChars(char[])}.
+     *
+     * @param pattern a <code>char</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @return an Object
+     * @see #processBytesBackward(byte[])
+     */
+    public Object processCharsBackward(char[] pattern) {
+        return processChars(pattern);
+    }
+
+    /**
+     * Pre-processes a String for the backward searching methods.
+     *
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @return an Object
+     * @see #processCharsBackward(char[])
+     */
+    public Object processStringBackward(String pattern) {
+        return processCharsBackward(getChars(pattern));
+    }
+
+    /**
+     * Returns the position of the last occurrence of the pattern in the text.
+     * Returns -1 if the pattern was not found.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see #searchBytesBackward(byte[], int, int, byte[], Object)
+     */
+    public final int searchBytesBackward(byte[] text, byte[] pattern) {
+        return searchBytesBackward(text, 0, text.length, pattern,
+                processBytesBackward(pattern));
+    }
+
+    /**
+     * Returns the position of the last occurrence of the pattern in the text.
+     * Returns -1 if the pattern was not found.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart the smallest position at which the pattern may start
+     * @param textEnd the position at which the pattern must end at the latest
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see #searchBytesBackward(byte[], int, int, byte[], Object)
+     */
+    public final int searchBytesBackward(byte[] text, int textStart,
+            int textEnd, byte[] pattern) {
+
+        return searchBytesBackward(text, textStart, textEnd, pattern,
+                processBytesBackward(pattern));
+    }
+
+    /**
+     * Returns the position of the last occurrence of the pattern in the text,
+     * like {@link String#lastIndexOf(String)}. Returns -1 if the pattern was
+     * not found.
+     * <p>
+     * The default implementation searches forward and returns the last hit.
+     * Subclasses that scan the text backwards override it.
+     *
+     * @param text the <code>byte</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart the smallest position at which the pattern may start
+     * @param textEnd the position at which the pattern must end at the latest
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from
+     * {@link #processBytesBackward(byte[])}, may not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     */
+    public int searchBytesBackward(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed) {
+
+        int out = -1;
+        int pos = searchBytes(text, textStart, textEnd, pattern, processed);
+        while (pos != -1) {
+            out = pos;
+            pos = pos + 1 < textEnd ? searchBytes(text, pos + 1, textEnd,
+                    pattern, processed) : -1;
+        }
+        return out;
+    }
+
+    /**
+     * Returns the position of the last occurrence of the pattern in the text.
+     * Returns -1 if the pattern was not found.
+     *
+     * @param text the <code>char</code> array containing the text, may not be
+     * <code>null</code>
+     * @param pattern the <code>char</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see #searchCharsBackward(char[], int, int, char[], Object)
+     */
+    public final int searchCharsBackward(char[] text, char[] pattern) {
+        return searchCharsBackward(text, 0, text.length, pattern,
+                processCharsBackward(pattern));
+    }
+
+    /**
+     * Returns the position of the last occurrence of the pattern in the text.
+     * Returns -1 if the pattern was not found.
+     *
+     * @param text the <code>char</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart the smallest position at which the pattern may start
+     * @param textEnd the position at which the pattern must end at the latest
+     * @param pattern the <code>char</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see #searchCharsBackward(char[], int, int, char[], Object)
+     */
+    public final int searchCharsBackward(char[] text, int textStart,
+            int textEnd, char[] pattern) {
+
+        return searchCharsBackward(text, textStart, textEnd, pattern,
+                processCharsBackward(pattern));
+    }
+
+    /**
+     * Returns the position of the last occurrence of the pattern in the text.
+     * Returns -1 if the pattern was not found.
+     * <p>
+     * The default implementation searches forward and returns the last hit.
+     * Subclasses that scan the text backwards override it.
+     *
+     * @param text the <code>char</code> array containing the text, may not be
+     * <code>null</code>
+     * @param textStart the smallest position at which the pattern may start
+     * @param textEnd the position at which the pattern must end at the latest
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from
+     * {@link #processCharsBackward(char[])}, may not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     */
+    public int searchCharsBackward(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed) {
+
+        int out = -1;
+        int pos = searchChars(text, textStart, textEnd, pattern, processed);
+        while (pos != -1) {
+            out = pos;
+            pos = pos + 1 < textEnd ? searchChars(text, pos + 1, textEnd,
+                    pattern, processed) : -1;
+        }
+        return out;
+    }
+
+    /**
+     * Returns the position of the last occurrence of the pattern in the text.
+     * Returns -1 if the pattern was not found.
+     *
+     * @param text the String containing the text, may not be <code>null</code>
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see #searchCharsBackward(char[], int, int, char[], Object)
+     */
+    public final int searchStringBackward(String text, String pattern) {
+        return searchStringBackward(text, 0, text.length(), pattern,
+                processStringBackward(pattern));
+    }
+
+    /**
+     * Returns the position of the last occurrence of the pattern in the text.
+     * Returns -1 if the pattern was not found.
+     *
+     * @param text the String containing the text, may not be <code>null</code>
+     * @param textStart the smallest position at which the pattern may start
+     * @param textEnd the position at which the pattern must end at the latest
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @param processed an Object as returned from
+     * {@link #processStringBackward(String)}, may not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see #searchCharsBackward(char[], int, int, char[], Object)
+     */
+    public final int searchStringBackward(String text, int textStart,
+            int textEnd, String pattern, Object processed) {
+
+        return searchCharsBackward(getChars(text), textStart, Math.min(textEnd,
+                text.length()), getChars(pattern), processed);
+    }
+
+    /**
+     * Returns the first <code>length</code> elements of the pattern in reverse
+     * order.
+     *
+     * @param pattern the <code>byte</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param length the number of elements
+     * @return a new <code>byte</code> array
+     */
+    static byte[] reverse(byte[] pattern, int length) {
+        byte[] out = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            out[i] = pattern[length - 1 - i];
+        }
+        return out;
+    }
+
+    /**
+     * Returns the first <code>length</code> elements of the pattern in reverse
+     * order.
+     *
+     * @param pattern the <code>char</code> array containing the pattern, may
+     * not be <code>null</code>
+     * @param length the number of elements
+     * @return a new <code>char</code> array
+     */
+    static char[] reverse(char[] pattern, int length) {
+        char[] out = new char[length];
+        for (int i = 0; i < length; ++i) {
+            out[i] = pattern[length - 1 - i];
+        }
+        return out;
+    }
+
+    /* Batch searching methods */
+
+    /**
+     * Searches a pre-processed pattern in many <code>byte</code> arrays. The
+     * pattern is pre-processed once, and each text is searched with
+     * {@link #searchBytes(byte[], int, int, byte[], Object)}.
+     *
+     * @param texts the texts, may not be <code>null</code>
+     * @param starts the positions at which searching starts in each text, may
+     * be <code>null</code> to search from the start of each text
+     * @param ends the positions at which searching stops in each text, may be
+     * <code>null</code> to search to the end of each text
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from {@link #processBytes(byte[])},
+     * may not be <code>null</code>
+     * @param results an array for the results that is reused if it is long
+     * enough, may be <code>null</code>
+     * @return the position of the pattern in each text or -1, in the first
+     * <code>texts.length</code> elements
+     * @see #searchBatch(byte[][], int[], int[], byte[], Object, int[],
+     * Executor)
+     */
+    public final int[] searchBatch(byte[][] texts, int[] starts, int[] ends,
+            byte[] pattern, Object processed, int[] results) {
+
+        return searchBatch(texts, starts, ends, pattern, processed, results,
+                null);
+    }
+
+    /**
+     * Searches a pre-processed pattern in many <code>byte</code> arrays,
+     * spreading large batches across an {@link Executor}. Any Executor can be
+     * used, such as a thread pool or one that starts a virtual thread per
+     * task. The calling thread searches one slice of texts itself and waits
+     * for the others.
+     *
+     * @param texts the texts, may not be <code>null</code>
+     * @param starts the positions at which searching starts in each text, may
+     * be <code>null</code> to search from the start of each text
+     * @param ends the positions at which searching stops in each text, may be
+     * <code>null</code> to search to the end of each text
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from {@link #processBytes(byte[])},
+     * may not be <code>null</code>
+     * @param results an array for the results that is reused if it is long
+     * enough, may be <code>null</code>
+     * @param executor the Executor, may be <code>null</code> to search in the
+     * calling thread
+     * @return the position of the pattern in each text or -1, in the first
+     * <code>texts.length</code> elements
+     */
+    public final int[] searchBatch(byte[][] texts, int[] starts, int[] ends,
+            byte[] pattern, Object processed, int[] results, Executor executor) {
+
+        return new BatchSearch(this, texts, starts, ends, null, pattern,
+                processed, results).run(executor);
+    }
+
+    /**
+     * Searches a pre-processed pattern in many <code>byte</code> arrays,
+     * skipping texts whose {@link Signature} shows that they cannot contain
+     * the pattern. Signatures are only used if this algorithm
+     * {@link #matchesExactly() matches exactly}.
+     *
+     * @param texts the texts, may not be <code>null</code>
+     * @param starts the positions at which searching starts in each text, may
+     * be <code>null</code> to search from the start of each text
+     * @param ends the positions at which searching stops in each text, may be
+     * <code>null</code> to search to the end of each text
+     * @param signatures the Signature of each whole text, may be
+     * <code>null</code> and may contain <code>null</code> elements for texts
+     * without a Signature
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from {@link #processBytes(byte[])},
+     * may not be <code>null</code>
+     * @param results an array for the results that is reused if it is long
+     * enough, may be <code>null</code>
+     * @param executor the Executor, may be <code>null</code> to search in the
+     * calling thread
+     * @return the position of the pattern in each text or -1, in the first
+     * <code>texts.length</code> elements
+     * @see #searchBatch(byte[][], int[], int[], byte[], Object, int[],
+     * Executor)
+     */
+    public final int[] searchBatch(byte[][] texts, int[] starts, int[] ends,
+            Signature[] signatures, byte[] pattern, Object processed,
+            int[] results, Executor executor) {
+
+        return new BatchSearch(this, texts, starts, ends, signatures, pattern,
+                processed, results).run(executor);
+    }
+
+    /**
+     * Searches a pattern in many CharSequences.
+     *
+     * @param texts the texts, may not be <code>null</code>
+     * @param pattern the String containing the pattern, may not be
+     * <code>null</code>
+     * @param results an array for the results that is reused if it is long
+     * enough, may be <code>null</code>
+     * @return the position of the pattern in each text or -1, in the first
+     * <code>texts.size()</code> elements
+     * @see #searchBatch(List, char[], Object, int[], Executor)
+     */
+    public final int[] searchBatch(List<? extends CharSequence> texts,
+            String pattern, int[] results) {
+
+        char[] p = getChars(pattern);
+        return searchBatch(texts, p, processCharsCached(p), results, null);
+    }
+
+    /**
+     * Searches a pre-processed pattern in many CharSequences, spreading large
+     * batches across an {@link Executor}. Each text is copied into a buffer
+     * that is reused for all texts of a slice and searched with
+     * {@link #searchChars(char[], int, int, char[], Object)}.
+     *
+     * @param texts the texts, may not be <code>null</code>
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from {@link #processChars(char[])},
+     * may not be <code>null</code>
+     * @param results an array for the results that is reused if it is long
+     * enough, may be <code>null</code>
+     * @param executor the Executor, may be <code>null</code> to search in the
+     * calling thread
+     * @return the position of the pattern in each text or -1, in the first
+     * <code>texts.size()</code> elements
+     * @see #searchBatch(byte[][], int[], int[], byte[], Object, int[],
+     * Executor)
+     */
+    public final int[] searchBatch(List<? extends CharSequence> texts,
+            char[] pattern, Object processed, int[] results, Executor executor) {
+
+        return new BatchSearch(this, texts, null, pattern, processed, results)
+                .run(executor);
+    }
+
+    /**
+     * Searches a pre-processed pattern in many CharSequences, skipping texts
+     * whose {@link Signature} shows that they cannot contain the pattern.
+     * Signatures are only used if this algorithm
+     * {@link #matchesExactly() matches exactly}.
+     *
+     * @param texts the texts, may not be <code>null</code>
+     * @param signatures the Signature of each text, may be <code>null</code>
+     * and may contain <code>null</code> elements for texts without a
+     * Signature
+     * @param pattern the pattern to search for, may not be <code>null</code>
+     * @param processed an Object as returned from {@link #processChars(char[])},
+     * may not be <code>null</code>
+     * @param results an array for the results that is reused if it is long
+     * enough, may be <code>null</code>
+     * @param executor the Executor, may be <code>null</code> to search in the
+     * calling thread
+     * @return the position of the pattern in each text or -1, in the first
+     * <code>texts.size()</code> elements
+     * @see #searchBatch(List, char[], Object, int[], Executor)
+     */
+    public final int[] searchBatch(List<? extends CharSequence> texts,
+            Signature[] signatures, char[] pattern, Object processed,
+            int[] results, Executor executor) {
+
+        return new BatchSearch(this, texts, signatures, pattern, processed,
+                results).run(executor);
+    }
+
+    /**
+     * Returns if this algorithm only finds exact occurrences of the pattern.
+     * Algorithms that ignore case, support wildcards or allow mismatches
+     * return <code>false</code>, so that searches do not skip texts based on
+     * the q-grams of the pattern.
+     *
+     * @return <code>true</code>
+     * @see Signature
+     */
+    public boolean matchesExactly() {
+        return true;
+    }
+
+    /**
+     * Returns how many symbols of a pattern are searched for. Algorithms that
+     * only process a prefix of long patterns return less than the pattern
+     * length.
+     *
+     * @param patternLength the length of the pattern
+     * @return the length of the prefix that is searched for
+     */
+    int processedLength(int patternLength) {
+        return patternLength;
+    }
+
     /**
      * Returns if the Object's class matches this Object's class.
      * 
@@ -0,0 +1,609 @@
+/*
+ * TextIndex.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A suffix array index of an immutable text for answering many queries
+ * against the same text.
+ * <p>
+ * The suffix array is built with the SA-IS algorithm by Nong, Zhang and Chan
+ * in linear time, the LCP array (the length of the longest common prefix of
+ * each suffix and its predecessor in the suffix array) with Kasai's algorithm.
+ * Queries use binary search over the suffix array in
+ * <em>O(m&middot;log n)</em>, skipping the prefix that the pattern is known to
+ * share with both ends of the search interval. {@link #count(byte[])} does not
+ * touch the hits, {@link #locate(byte[])} returns them in ascending order.
+ * <p>
+ * An index is built over either a <code>byte</code> or a <code>char</code>
+ * array and answers queries of the same type. <code>byte</code>s are compared
+ * unsigned. The text is not copied and may not be modified afterwards. The
+ * index needs 8 bytes per symbol in addition to the text and up to about 20
+ * bytes per symbol while it is built.
+ * <p>
+ * TextIndex instances are thread safe and serializable, so an index can be
+ * written to disk once and reloaded instead of being rebuilt.
+ * <p>
+ * Example:
+ * <pre>
+ * TextIndex index = new TextIndex(text);
+ * int hits = index.count("Software".getBytes());
+ * int[] positions = index.locate("Software".getBytes());
+ * </pre>
+ *
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @see <a href="https://doi.org/10.1109/DCC.2009.42" target="_top">Nong, Zhang
+ * and Chan: Linear Suffix Array Construction by Almost Pure Induced-Sorting</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class TextIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Texts shorter than this are sorted by comparing their suffixes.
+     */
+    private static final int NAIVE_THRESHOLD = 10;
+
+    private final byte[] bytes;
+
+    private final char[] chars;
+
+    private final int[] sa;
+
+    private final int[] lcp;
+
+    /**
+     * Constructor for TextIndex.
+     *
+     * @param text the text, may not be <code>null</code> and may not be
+     * modified afterwards
+     */
+    public TextIndex(byte[] text) {
+        bytes = text;
+        chars = null;
+        int[] s = new int[text.length];
+        for (int i = 0; i < s.length; ++i) {
+            s[i] = text[i] & 0xFF;
+        }
+        sa = sais(s, 255);
+        lcp = lcp(s, sa);
+    }
+
+    /**
+     * Constructor for TextIndex.
+     *
+     * @param text the text, may not be <code>null</code> and may not be
+     * modified afterwards
+     */
+    public TextIndex(char[] text) {
+        bytes = null;
+        chars = text;
+        int[] s = new int[text.length];
+        int upper = 0;
+        for (int i = 0; i < s.length; ++i) {
+            s[i] = text[i];
+            upper = Math.max(upper, s[i]);
+        }
+        sa = sais(s, upper);
+        lcp = lcp(s, sa);
+    }
+
+    /**
+     * Constructor for TextIndex.
+     *
+     * @param text the text, may not be <code>null</code>
+     */
+    public TextIndex(String text) {
+        this(text.toCharArray());
+    }
+
+    /**
+     * Returns the length of the text.
+     *
+     * @return int
+     */
+    public int length() {
+        return sa.length;
+    }
+
+    /**
+     * Returns the position of the suffix with the given rank.
+     *
+     * @param rank the rank, between 0 and {@link #length()}
+     * @return the position of the suffix in the text
+     */
+    public int suffix(int rank) {
+        return sa[rank];
+    }
+
+    /**
+     * Returns the length of the longest common prefix of the suffix with the
+     * given rank and the suffix with the previous rank.
+     *
+     * @param rank the rank, between 0 and {@link #length()}
+     * @return the length, 0 for rank 0
+     */
+    public int lcp(int rank) {
+        return lcp[rank];
+    }
+
+    /* Byte methods */
+
+    /**
+     * Returns the number of occurrences of the pattern.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the number of occurrences
+     * @throws UnsupportedOperationException if this is an index of a
+     * <code>char</code> array
+     */
+    public int count(byte[] pattern) {
+        int lo = bound(pattern, 0, false);
+        return bound(pattern, lo, true) - lo;
+    }
+
+    /**
+     * Returns the positions of all occurrences of the pattern in ascending
+     * order.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return an <code>int</code> array, never <code>null</code>
+     * @throws UnsupportedOperationException if this is an index of a
+     * <code>char</code> array
+     */
+    public int[] locate(byte[] pattern) {
+        int lo = bound(pattern, 0, false);
+        return positions(lo, bound(pattern, lo, true));
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern. Returns -1
+     * if the pattern was not found.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see StringSearch#searchBytes(byte[], byte[])
+     */
+    public int searchBytes(byte[] pattern) {
+        return searchBytes(0, sa.length, pattern);
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern between
+     * textStart and textEnd. Returns -1 if the pattern was not found.
+     *
+     * @param textStart at which position in the text the comparing should start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see StringSearch#searchBytes(byte[], int, int, byte[])
+     */
+    public int searchBytes(int textStart, int textEnd, byte[] pattern) {
+        int lo = bound(pattern, 0, false);
+        return first(lo, bound(pattern, lo, true), textStart, textEnd
+                - pattern.length);
+    }
+
+    /* Char methods */
+
+    /**
+     * Returns the number of occurrences of the pattern.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the number of occurrences
+     * @throws UnsupportedOperationException if this is an index of a
+     * <code>byte</code> array
+     */
+    public int count(char[] pattern) {
+        int lo = bound(pattern, 0, false);
+        return bound(pattern, lo, true) - lo;
+    }
+
+    /**
+     * Returns the positions of all occurrences of the pattern in ascending
+     * order.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return an <code>int</code> array, never <code>null</code>
+     * @throws UnsupportedOperationException if this is an index of a
+     * <code>byte</code> array
+     */
+    public int[] locate(char[] pattern) {
+        int lo = bound(pattern, 0, false);
+        return positions(lo, bound(pattern, lo, true));
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern. Returns -1
+     * if the pattern was not found.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see StringSearch#searchChars(char[], char[])
+     */
+    public int searchChars(char[] pattern) {
+        return searchChars(0, sa.length, pattern);
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern between
+     * textStart and textEnd. Returns -1 if the pattern was not found.
+     *
+     * @param textStart at which position in the text the comparing should start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see StringSearch#searchChars(char[], int, int, char[])
+     */
+    public int searchChars(int textStart, int textEnd, char[] pattern) {
+        int lo = bound(pattern, 0, false);
+        return first(lo, bound(pattern, lo, true), textStart, textEnd
+                - pattern.length);
+    }
+
+    /* String methods */
+
+    /**
+     * Returns the number of occurrences of the pattern.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the number of occurrences
+     * @see #count(char[])
+     */
+    public int count(String pattern) {
+        return count(StringSearch.getChars(pattern));
+    }
+
+    /**
+     * Returns the positions of all occurrences of the pattern in ascending
+     * order.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return an <code>int</code> array, never <code>null</code>
+     * @see #locate(char[])
+     */
+    public int[] locate(String pattern) {
+        return locate(StringSearch.getChars(pattern));
+    }
+
+    /**
+     * Returns the position of the first occurrence of the pattern. Returns -1
+     * if the pattern was not found.
+     *
+     * @param pattern the pattern, may not be <code>null</code>
+     * @return the position in the text or -1 if the pattern was not found
+     * @see #searchChars(char[])
+     */
+    public int searchString(String pattern) {
+        return searchChars(StringSearch.getChars(pattern));
+    }
+
+    /*
+     * Queries
+     */
+
+    /**
+     * Returns the first rank in <code>[from, n)</code> whose suffix is not
+     * smaller than the pattern or, if <code>upper</code> is set, the first
+     * rank whose suffix is larger and does not start with the pattern.
+     */
+    private int bound(byte[] pattern, int from, boolean upper) {
+        if (bytes == null) {
+            throw new UnsupportedOperationException("index of chars");
+        }
+        final int m = pattern.length;
+        final int n = sa.length;
+        int lo = from, hi = n, loLcp = 0, hiLcp = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int pos = sa[mid];
+            int j = Math.min(loLcp, hiLcp);
+            int end = Math.min(m, n - pos);
+            while (j < end && bytes[pos + j] == pattern[j]) {
+                ++j;
+            }
+            boolean right;
+            if (j == m) {
+                right = upper;
+            }
+            else if (j == end) {
+                right = true;
+            }
+            else {
+                right = (bytes[pos + j] & 0xFF) < (pattern[j] & 0xFF);
+            }
+            if (right) {
+                lo = mid + 1;
+                loLcp = j;
+            }
+            else {
+                hi = mid;
+                hiLcp = j;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @see #bound(byte[], int, boolean)
+     */
+    private int bound(char[] pattern, int from, boolean upper) {
+        if (chars == null) {
+            throw new UnsupportedOperationException("index of bytes");
+        }
+        final int m = pattern.length;
+        final int n = sa.length;
+        int lo = from, hi = n, loLcp = 0, hiLcp = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int pos = sa[mid];
+            int j = Math.min(loLcp, hiLcp);
+            int end = Math.min(m, n - pos);
+            while (j < end && chars[pos + j] == pattern[j]) {
+                ++j;
+            }
+            boolean right;
+            if (j == m) {
+                right = upper;
+            }
+            else if (j == end) {
+                right = true;
+            }
+            else {
+                right = chars[pos + j] < pattern[j];
+            }
+            if (right) {
+                lo = mid + 1;
+                loLcp = j;
+            }
+            else {
+                hi = mid;
+                hiLcp = j;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the sorted positions of the suffixes in <code>[lo, hi)</code>.
+     */
+    private int[] positions(int lo, int hi) {
+        int[] out = Arrays.copyOfRange(sa, lo, hi);
+        Arrays.sort(out);
+        return out;
+    }
+
+    /**
+     * Returns the smallest position in <code>[min, max]</code> of the
+     * suffixes in <code>[lo, hi)</code> or -1.
+     */
+    private int first(int lo, int hi, int min, int max) {
+        int out = Integer.MAX_VALUE;
+        for (int i = lo; i < hi; ++i) {
+            int pos = sa[i];
+            if (pos >= min && pos <= max && pos < out) {
+                out = pos;
+            }
+        }
+        return out == Integer.MAX_VALUE ? -1 : out;
+    }
+
+    /*
+     * Construction
+     */
+
+    /**
+     * Returns the suffix array of s, whose symbols are in
+     * <code>[0, upper]</code>.
+     */
+    static int[] sais(int[] s, int upper) {
+        final int n = s.length;
+        if (n < NAIVE_THRESHOLD) {
+            return naive(s);
+        }
+
+        int[] sa = new int[n];
+        boolean[] ls = new boolean[n];
+        for (int i = n - 2; i >= 0; --i) {
+            ls[i] = s[i] == s[i + 1] ? ls[i + 1] : s[i] < s[i + 1];
+        }
+
+        int[] sumL = new int[upper + 2];
+        int[] sumS = new int[upper + 2];
+        for (int i = 0; i < n; ++i) {
+            if (!ls[i]) {
+                ++sumS[s[i]];
+            }
+            else {
+                ++sumL[s[i] + 1];
+            }
+        }
+        for (int i = 0; i <= upper; ++i) {
+            sumS[i] += sumL[i];
+            if (i < upper) {
+                sumL[i + 1] += sumS[i];
+            }
+        }
+
+        int[] lmsMap = new int[n + 1];
+        Arrays.fill(lmsMap, -1);
+        int m = 0;
+        for (int i = 1; i < n; ++i) {
+            if (!ls[i - 1] && ls[i]) {
+                lmsMap[i] = m++;
+            }
+        }
+        int[] lms = new int[m];
+        for (int i = 1, j = 0; i < n; ++i) {
+            if (!ls[i - 1] && ls[i]) {
+                lms[j++] = i;
+            }
+        }
+
+        int[] buf = new int[upper + 2];
+        induce(s, sa, ls, lms, m, sumS, sumL, buf);
+
+        if (m > 0) {
+            int[] sortedLms = new int[m];
+            for (int i = 0, j = 0; i < n; ++i) {
+                if (lmsMap[sa[i]] != -1) {
+                    sortedLms[j++] = sa[i];
+                }
+            }
+            int[] recS = new int[m];
+            int recUpper = 0;
+            recS[lmsMap[sortedLms[0]]] = 0;
+            for (int i = 1; i < m; ++i) {
+                int l = sortedLms[i - 1], r = sortedLms[i];
+                int endL = lmsMap[l] + 1 < m ? lms[lmsMap[l] + 1] : n;
+                int endR = lmsMap[r] + 1 < m ? lms[lmsMap[r] + 1] : n;
+                boolean same = true;
+                if (endL - l != endR - r) {
+                    same = false;
+                }
+                else {
+                    while (l < endL && s[l] == s[r]) {
+                        ++l;
+                        ++r;
+                    }
+                    if (l == n || s[l] != s[r]) {
+                        same = false;
+                    }
+                }
+                if (!same) {
+                    ++recUpper;
+                }
+                recS[lmsMap[sortedLms[i]]] = recUpper;
+            }
+            lmsMap = null;
+            int[] recSa = sais(recS, recUpper);
+            for (int i = 0; i < m; ++i) {
+                sortedLms[i] = lms[recSa[i]];
+            }
+            induce(s, sa, ls, sortedLms, m, sumS, sumL, buf);
+        }
+        return sa;
+    }
+
+    /**
+     * Induces the order of all suffixes from the order of the LMS suffixes.
+     */
+    private static void induce(int[] s, int[] sa, boolean[] ls, int[] lms,
+            int m, int[] sumS, int[] sumL, int[] buf) {
+        final int n = s.length;
+        Arrays.fill(sa, -1);
+        System.arraycopy(sumS, 0, buf, 0, buf.length);
+        for (int i = 0; i < m; ++i) {
+            int d = lms[i];
+            if (d != n) {
+                sa[buf[s[d]]++] = d;
+            }
+        }
+        System.arraycopy(sumL, 0, buf, 0, buf.length);
+        sa[buf[s[n - 1]]++] = n - 1;
+        for (int i = 0; i < n; ++i) {
+            int v = sa[i];
+            if (v >= 1 && !ls[v - 1]) {
+                sa[buf[s[v - 1]]++] = v - 1;
+            }
+        }
+        System.arraycopy(sumL, 0, buf, 0, buf.length);
+        for (int i = n - 1; i >= 0; --i) {
+            int v = sa[i];
+            if (v >= 1 && ls[v - 1]) {
+                sa[--buf[s[v - 1] + 1]] = v - 1;
+            }
+        }
+    }
+
+    /**
+     * Sorts the suffixes of a short text by comparing them.
+     */
+    private static int[] naive(int[] s) {
+        int n = s.length;
+        int[] sa = new int[n];
+        for (int i = 0; i < n; ++i) {
+            sa[i] = i;
+        }
+        for (int i = 1; i < n; ++i) {
+            int v = sa[i];
+            int j = i;
+            while (j > 0 && compare(s, sa[j - 1], v) > 0) {
+                sa[j] = sa[j - 1];
+                --j;
+            }
+            sa[j] = v;
+        }
+        return sa;
+    }
+
+    private static int compare(int[] s, int a, int b) {
+        while (a < s.length && b < s.length) {
+            if (s[a] != s[b]) {
+                return s[a] < s[b] ? -1 : 1;
+            }
+            ++a;
+            ++b;
+        }
+        return a == s.length ? b == s.length ? 0 : -1 : 1;
+    }
+
+    /**
+     * Returns the LCP array of s and its suffix array with Kasai's algorithm.
+     */
+    static int[] lcp(int[] s, int[] sa) {
+        final int n = s.length;
+        int[] rank = new int[n];
+        for (int i = 0; i < n; ++i) {
+            rank[sa[i]] = i;
+        }
+        int[] out = new int[n];
+        int h = 0;
+        for (int i = 0; i < n; ++i) {
+            if (h > 0) {
+                --h;
+            }
+            if (rank[i] == 0) {
+                h = 0;
+                continue;
+            }
+            int j = sa[rank[i] - 1];
+            while (i + h < n && j + h < n && s[i + h] == s[j + h]) {
+                ++h;
+            }
+            out[rank[i]] = h;
+        }
+        return out;
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * TextProfile.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+/**
+ * Describes the texts a pattern will be searched in. A TextProfile is either
+ * created from the expected text length and alphabet size or from a sample
+ * of the text, in which case the frequency of every symbol is known, too.
+ * <p>
+ * TextProfiles are immutable and used by the {@link SearchPlanner}.
+ *
+ * @see StringSearch#forPattern(String, TextProfile)
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class TextProfile {
+
+    /**
+     * A profile of texts of unknown length over an alphabet of 64 symbols.
+     */
+    public static final TextProfile UNKNOWN = new TextProfile(-1L, 64);
+
+    /**
+     * A profile of nucleotide sequences of unknown length.
+     */
+    public static final TextProfile DNA = new TextProfile(-1L, 4);
+
+    /**
+     * A profile of natural language text of unknown length.
+     */
+    public static final TextProfile NATURAL_LANGUAGE = new TextProfile(-1L, 64);
+
+    /**
+     * A profile of binary data of unknown length.
+     */
+    public static final TextProfile BINARY = new TextProfile(-1L, 256);
+
+    private final long expectedLength;
+
+    private final int alphabetSize;
+
+    private final CharIntMap counts;
+
+    private final int total;
+
+    /**
+     * Constructor for TextProfile.
+     *
+     * @param expectedLength the expected length of the texts or -1 if unknown
+     * @param alphabetSize the number of distinct symbols in the texts, must be
+     * positive
+     * @throws IllegalArgumentException if alphabetSize is not positive
+     */
+    public TextProfile(long expectedLength, int alphabetSize) {
+        if (alphabetSize <= 0) {
+            throw new IllegalArgumentException("alphabetSize must be positive");
+        }
+        this.expectedLength = expectedLength;
+        this.alphabetSize = alphabetSize;
+        counts = null;
+        total = 0;
+    }
+
+    /**
+     * Constructor for TextProfile. Determines the alphabet size and the symbol
+     * frequencies from a sample of the text. <code>bytes</code> are
+     * interpreted as <code>unsigned bytes</code>.
+     *
+     * @param sample a sample of the text, may not be <code>null</code> or
+     * empty
+     * @param expectedLength the expected length of the texts or -1 if unknown
+     * @throws IllegalArgumentException if the sample is empty
+     */
+    public TextProfile(byte[] sample, long expectedLength) {
+        if (sample.length == 0) {
+            throw new IllegalArgumentException("sample may not be empty");
+        }
+        this.expectedLength = expectedLength;
+        counts = new CharIntMap(256, (char) 0, 0);
+        for (int i = 0; i < sample.length; ++i) {
+            char c = (char) (sample[i] & 0xff);
+            counts.set(c, counts.get(c) + 1);
+        }
+        total = sample.length;
+        alphabetSize = distinct(counts);
+    }
+
+    /**
+     * Constructor for TextProfile. Determines the alphabet size and the symbol
+     * frequencies from a sample of the text.
+     *
+     * @param sample a sample of the text, may not be <code>null</code> or
+     * empty
+     * @param expectedLength the expected length of the texts or -1 if unknown
+     * @throws IllegalArgumentException if the sample is empty
+     */
+    public TextProfile(char[] sample, long expectedLength) {
+        if (sample.length == 0) {
+            throw new IllegalArgumentException("sample may not be empty");
+        }
+        this.expectedLength = expectedLength;
+        char min = Character.MAX_VALUE;
+        char max = Character.MIN_VALUE;
+        for (int i = 0; i < sample.length; i++) {
+            max = max > sample[i] ? max : sample[i];
+            min = min < sample[i] ? min : sample[i];
+        }
+        counts = new CharIntMap(max - min + 1, min, 0);
+        for (int i = 0; i < sample.length; ++i) {
+            counts.set(sample[i], counts.get(sample[i]) + 1);
+        }
+        total = sample.length;
+        alphabetSize = distinct(counts);
+    }
+
+    private static int distinct(CharIntMap counts) {
+        int out = 0;
+        for (int i = 0; i < counts.getExtent(); ++i) {
+            if (counts.get((char) (counts.getLowest() + i)) != 0) {
+                ++out;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns the expected length of the texts.
+     *
+     * @return the length or -1 if unknown
+     */
+    public long getExpectedLength() {
+        return expectedLength;
+    }
+
+    /**
+     * Returns the number of distinct symbols in the texts.
+     *
+     * @return an <code>int</code>
+     */
+    public int getAlphabetSize() {
+        return alphabetSize;
+    }
+
+    /**
+     * Returns if the symbol frequencies are known from a sample.
+     *
+     * @return boolean
+     */
+    public boolean hasFrequencies() {
+        return counts != null;
+    }
+
+    /**
+     * Returns the expected relative frequency of the given symbol. Without a
+     * sample, all symbols are assumed to be uniformly distributed.
+     *
+     * @param c the symbol
+     * @return a value between 0 and 1
+     */
+    public double getFrequency(char c) {
+        if (counts == null) {
+            return 1.0d / alphabetSize;
+        }
+        return (double) counts.get(c) / total;
+    }
+
+    /**
+     * Returns the expected shift of a Boyer-Moore-Horspool style algorithm
+     * given the shift of every symbol. Symbols that are not in the sample
+     * (or, without a sample, symbols that are not in the pattern) are assumed
+     * to shift by the pattern length.
+     *
+     * @param shifts the shift table, may not be <code>null</code>
+     * @param patternLength the length of the pattern
+     * @return the expected shift
+     */
+    double getExpectedShift(CharIntMap shifts, int patternLength) {
+        double out = 0.0d;
+        if (counts == null) {
+            int distinct = 0;
+            for (int i = 0; i < shifts.getExtent(); ++i) {
+                int s = shifts.get((char) (shifts.getLowest() + i));
+                if (s < patternLength) {
+                    out += s;
+                    ++distinct;
+                }
+            }
+            out /= alphabetSize;
+            if (distinct < alphabetSize) {
+                out += (double) (alphabetSize - distinct) / alphabetSize
+                        * patternLength;
+            }
+        }
+        else {
+            for (int i = 0; i < counts.getExtent(); ++i) {
+                char c = (char) (counts.getLowest() + i);
+                int n = counts.get(c);
+                if (n != 0) {
+                    out += (double) n * shifts.get(c);
+                }
+            }
+            out /= total;
+        }
+        return out;
+    }
+
+    /**
+     * Returns a String representation of this Object.
+     *
+     * @return a String, never <code>null</code>
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuffer out = new StringBuffer(64);
+        out.append("{ TextProfile: expectedLength = ");
+        out.append(expectedLength);
+        out.append(", alphabetSize = ");
+        out.append(alphabetSize);
+        out.append(", sampled = ");
+        out.append(counts != null);
+        out.append('}');
+        return out.toString();
+    }
+
+}
@@ -0,0 +1,331 @@
+/*
+ * TwoWay.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+/**
+ * An implementation of the Two-Way String searching algorithm by Maxime
+ * Crochemore and Dominique Perrin. See "Two-way string-matching" (appeared in
+ * <em>Journal of the ACM, 38(3):651-675</em>).
+ * <p>
+ * The pattern is split at a critical factorization into a left and a right
+ * part. The right part is compared from left to right, then the left part from
+ * right to left. Shifts are derived from the period of the pattern, and for
+ * periodic patterns, the prefix that is known to match after a shift is not
+ * compared again.
+ * <p>
+ * Unlike the skip based algorithms, whose worst case is
+ * <em>O(n&middot;m)</em>, this algorithm never performs more than
+ * <em>2n</em> comparisons and uses constant extra space. Pre-processing is
+ * <em>O(m)</em>. It is the algorithm of choice if both the text and the
+ * pattern come from untrusted sources, for example, texts like
+ * <code>aaaa&#8230;a</code> and patterns like <code>aa&#8230;ab</code>.
+ *
+ * @see SearchPlanner#isHardened()
+ * @see <a href="http://www-igm.univ-mlv.fr/~lecroq/string/node26.html">
+ * Two Way algorithm</a>
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class TwoWay extends StringSearch {
+
+    /**
+     * The number of symbol comparisons per symbol of text after which guarded
+     * searches continue with this algorithm.
+     *
+     * @see BoyerMooreHorspool#BoyerMooreHorspool(boolean)
+     * @see BNDM#BNDM(boolean)
+     */
+    static final int GUARD_RATIO = 4;
+
+    private static final TwoWay continuation = new TwoWay();
+
+    /**
+     * Pre-processing of the pattern. Returns an <code>int</code> array
+     * containing the critical position, the period and whether the pattern is
+     * periodic, which is serializable.
+     *
+     * @see com.eaio.stringsearch.StringSearch#processBytes(byte[])
+     */
+    @Override
+    public Object processBytes(byte[] pattern) {
+        int[] forward = maximalSuffix(pattern, false);
+        int[] backward = maximalSuffix(pattern, true);
+        int[] out = forward[0] > backward[0] ? forward : backward;
+        int ell = out[0], period = out[1];
+        for (int i = 0; i <= ell; ++i) {
+            if (pattern[i] != pattern[i + period]) {
+                return nonPeriodic(pattern.length, ell);
+            }
+        }
+        return new int[] { ell, period, 1 };
+    }
+
+    /**
+     * Pre-processing of the pattern. Returns an <code>int</code> array
+     * containing the critical position, the period and whether the pattern is
+     * periodic, which is serializable.
+     *
+     * @see com.eaio.stringsearch.StringSearch#processChars(char[])
+     */
+    @Override
+    public Object processChars(char[] pattern) {
+        int[] forward = maximalSuffix(pattern, false);
+        int[] backward = maximalSuffix(pattern, true);
+        int[] out = forward[0] > backward[0] ? forward : backward;
+        int ell = out[0], period = out[1];
+        for (int i = 0; i <= ell; ++i) {
+            if (pattern[i] != pattern[i + period]) {
+                return nonPeriodic(pattern.length, ell);
+            }
+        }
+        return new int[] { ell, period, 1 };
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchBytes(byte[], int, int,
+     * byte[], java.lang.Object)
+     */
+    @Override
+    public int searchBytes(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed) {
+
+        int[] p = (int[]) processed;
+        final int ell = p[0], period = p[1], m = pattern.length;
+        final int last = Math.min(textEnd, text.length) - m;
+
+        int i, j = Math.max(textStart, 0);
+
+        if (p[2] != 0) {
+            int memory = -1;
+            while (j <= last) {
+                i = Math.max(ell, memory) + 1;
+                while (i < m && pattern[i] == text[i + j]) {
+                    ++i;
+                }
+                if (i >= m) {
+                    i = ell;
+                    while (i > memory && pattern[i] == text[i + j]) {
+                        --i;
+                    }
+                    if (i <= memory) {
+                        return j;
+                    }
+                    j += period;
+                    memory = m - period - 1;
+                }
+                else {
+                    j += i - ell;
+                    memory = -1;
+                }
+            }
+        }
+        else {
+            while (j <= last) {
+                i = ell + 1;
+                while (i < m && pattern[i] == text[i + j]) {
+                    ++i;
+                }
+                if (i >= m) {
+                    i = ell;
+                    while (i >= 0 && pattern[i] == text[i + j]) {
+                        --i;
+                    }
+                    if (i < 0) {
+                        return j;
+                    }
+                    j += period;
+                }
+                else {
+                    j += i - ell;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchChars(char[], int, int,
+     * char[], Object)
+     */
+    @Override
+    public int searchChars(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed) {
+
+        int[] p = (int[]) processed;
+        final int ell = p[0], period = p[1], m = pattern.length;
+        final int last = Math.min(textEnd, text.length) - m;
+
+        int i, j = Math.max(textStart, 0);
+
+        if (p[2] != 0) {
+            int memory = -1;
+            while (j <= last) {
+                i = Math.max(ell, memory) + 1;
+                while (i < m && pattern[i] == text[i + j]) {
+                    ++i;
+                }
+                if (i >= m) {
+                    i = ell;
+                    while (i > memory && pattern[i] == text[i + j]) {
+                        --i;
+                    }
+                    if (i <= memory) {
+                        return j;
+                    }
+                    j += period;
+                    memory = m - period - 1;
+                }
+                else {
+                    j += i - ell;
+                    memory = -1;
+                }
+            }
+        }
+        else {
+            while (j <= last) {
+                i = ell + 1;
+                while (i < m && pattern[i] == text[i + j]) {
+                    ++i;
+                }
+                if (i >= m) {
+                    i = ell;
+                    while (i >= 0 && pattern[i] == text[i + j]) {
+                        --i;
+                    }
+                    if (i < 0) {
+                        return j;
+                    }
+                    j += period;
+                }
+                else {
+                    j += i - ell;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Searches the rest of the text after a guarded search exceeded its
+     * budget.
+     */
+    static int continueSearch(byte[] text, int textStart, int textEnd,
+            byte[] pattern) {
+        return continuation.searchBytes(text, textStart, textEnd, pattern,
+                continuation.processBytes(pattern));
+    }
+
+    /**
+     * Searches the rest of the text after a guarded search exceeded its
+     * budget.
+     */
+    static int continueSearch(char[] text, int textStart, int textEnd,
+            char[] pattern) {
+        return continuation.searchChars(text, textStart, textEnd, pattern,
+                continuation.processChars(pattern));
+    }
+
+    /**
+     * Returns the processed form of a non-periodic pattern, whose shift after
+     * a match of the right part is at least as long as the longer part.
+     */
+    private static int[] nonPeriodic(int m, int ell) {
+        return new int[] { ell, Math.max(ell + 1, m - ell - 1) + 1, 0 };
+    }
+
+    /**
+     * Computes the maximal suffix of the pattern for the normal or the
+     * reversed order of the alphabet.
+     *
+     * @return the position before the maximal suffix and its period
+     */
+    private static int[] maximalSuffix(byte[] pattern, boolean reversed) {
+        int ms = -1, j = 0, k = 1, p = 1;
+        while (j + k < pattern.length) {
+            byte a = pattern[j + k], b = pattern[ms + k];
+            if (reversed ? a > b : a < b) {
+                j += k;
+                k = 1;
+                p = j - ms;
+            }
+            else if (a == b) {
+                if (k != p) {
+                    ++k;
+                }
+                else {
+                    j += p;
+                    k = 1;
+                }
+            }
+            else {
+                ms = j;
+                j = ms + 1;
+                k = p = 1;
+            }
+        }
+        return new int[] { ms, p };
+    }
+
+    /**
+     * Computes the maximal suffix of the pattern for the normal or the
+     * reversed order of the alphabet.
+     *
+     * @return the position before the maximal suffix and its period
+     */
+    private static int[] maximalSuffix(char[] pattern, boolean reversed) {
+        int ms = -1, j = 0, k = 1, p = 1;
+        while (j + k < pattern.length) {
+            char a = pattern[j + k], b = pattern[ms + k];
+            if (reversed ? a > b : a < b) {
+                j += k;
+                k = 1;
+                p = j - ms;
+            }
+            else if (a == b) {
+                if (k != p) {
+                    ++k;
+                }
+                else {
+                    j += p;
+                    k = 1;
+                }
+            }
+            else {
+                ms = j;
+                j = ms + 1;
+                k = p = 1;
+            }
+        }
+        return new int[] { ms, p };
+    }
+
+}
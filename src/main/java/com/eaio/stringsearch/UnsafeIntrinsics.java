@@ -0,0 +1,122 @@
+/*
+ * UnsafeIntrinsics.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.lang.reflect.Field;
+import java.security.AccessControlException;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+/**
+ * The {@link Intrinsics} for Java 6 to 10. Words are read with
+ * <code>sun.misc.Unsafe</code> if it can be obtained and the platform
+ * supports unaligned access.
+ * <p>
+ * <code>Unsafe</code> is not imported because <code>@SuppressWarnings</code>
+ * does not cover import statements.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+@SuppressWarnings("sunapi")
+final class UnsafeIntrinsics extends Intrinsics {
+
+    private static final sun.misc.Unsafe unsafe;
+
+    private static final long byteArrayOffset;
+
+    static {
+        sun.misc.Unsafe u = null;
+        long offset = 0L;
+        try {
+            if (unaligned()) {
+                u = AccessController.doPrivileged(new PrivilegedExceptionAction<sun.misc.Unsafe>() {
+
+                    @Override
+                    public sun.misc.Unsafe run() throws Exception {
+                        Field f = sun.misc.Unsafe.class
+                                .getDeclaredField("theUnsafe");
+                        f.setAccessible(true);
+                        return (sun.misc.Unsafe) f.get(null);
+                    }
+
+                });
+                offset = u.arrayBaseOffset(byte[].class);
+                if (u.arrayIndexScale(byte[].class) != 1) {
+                    u = null;
+                }
+            }
+        }
+        catch (AccessControlException ex) {
+            // Ignored.
+        }
+        catch (PrivilegedActionException ex) {
+            // Ignored.
+        }
+        catch (RuntimeException ex) {
+            // Ignored.
+        }
+        catch (LinkageError err) {
+            // Ignored.
+        }
+        unsafe = u;
+        byteArrayOffset = offset;
+    }
+
+    @Override
+    boolean readsWords() {
+        return unsafe != null;
+    }
+
+    @Override
+    long getLong(byte[] a, int index) {
+        return unsafe.getLong(a, byteArrayOffset + index);
+    }
+
+    @Override
+    int mismatch(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int mismatch(char[] a, int aFrom, char[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
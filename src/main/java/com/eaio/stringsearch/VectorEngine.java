@@ -0,0 +1,67 @@
+/*
+ * VectorEngine.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+/**
+ * A search loop that uses SIMD instructions. Implementations are compiled
+ * for newer Java versions and live in the <code>META-INF/versions</code>
+ * directories of the multi-release JAR file.
+ *
+ * @see VectorSearch
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+interface VectorEngine {
+
+    /**
+     * Returns the position of the first occurrence of the pattern in the
+     * text.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart at which position in the text the comparing should
+     * start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern, may not be <code>null</code> or empty
+     * @return the position in the text or -1 if the pattern was not found
+     */
+    int indexOf(byte[] text, int textStart, int textEnd, byte[] pattern);
+
+    /**
+     * Returns the position of the first occurrence of the pattern in the
+     * text.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param textStart at which position in the text the comparing should
+     * start
+     * @param textEnd at which position in the text comparing should stop
+     * @param pattern the pattern, may not be <code>null</code> or empty
+     * @return the position in the text or -1 if the pattern was not found
+     */
+    int indexOf(char[] text, int textStart, int textEnd, char[] pattern);
+
+}
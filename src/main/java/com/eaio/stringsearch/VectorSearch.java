@@ -0,0 +1,139 @@
+/*
+ * VectorSearch.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * A SIMD implementation of the "first and last symbol" filter. For each block
+ * of positions as wide as a vector register, the first symbol of the pattern
+ * is compared against the text at these positions and the last symbol of the
+ * pattern against the text <code>m - 1</code> positions later. Only
+ * positions where both match are verified.
+ * <p>
+ * The vector loop is built on the <code>jdk.incubator.vector</code> module
+ * and is used on Java 17 and later if the module has been added to the VM
+ * with <code>--add-modules jdk.incubator.vector</code>. Otherwise, this
+ * class behaves exactly like its superclass
+ * {@link BoyerMooreHorspoolRaita}. Use {@link #usesVectors()} to find out
+ * which is the case.
+ * <p>
+ * This algorithm is fastest for short and medium patterns in texts over small
+ * alphabets, where the shifts of the skip based algorithms are short.
+ *
+ * @see <a href="http://0x80.pl/articles/simd-strfind.html">SIMD-friendly
+ * algorithms for substring searching</a>
+ * @see <a href="http://johannburkard.de/software/stringsearch/">StringSearch
+ * &#8211; high-performance pattern matching algorithms in Java</a>
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class VectorSearch extends BoyerMooreHorspoolRaita {
+
+    private static final VectorEngine engine = loadEngine();
+
+    /**
+     * Returns the vector engine or <code>null</code> if it cannot be loaded on
+     * this VM.
+     */
+    private static VectorEngine loadEngine() {
+        try {
+            VectorEngine out = (VectorEngine) Class.forName(
+                    "com.eaio.stringsearch.IncubatorVectorEngine").getDeclaredConstructor().newInstance();
+            // Links the vector classes.
+            if (out.indexOf(new byte[] { 1, 2, 3, 1, 2 }, 0, 5, new byte[] {
+                    3, 1 }) == 2
+                    && out.indexOf(new char[] { 1, 2, 3, 1, 2 }, 0, 5,
+                            new char[] { 3, 1 }) == 2) {
+                return out;
+            }
+        }
+        catch (ClassNotFoundException ex) {
+            // Older than Java 17 or not a multi-release JAR file.
+        }
+        catch (InstantiationException ex) {
+            // Ignored.
+        }
+        catch (IllegalAccessException ex) {
+            // Ignored.
+        }
+        catch (NoSuchMethodException ex) {
+            // Ignored.
+        }
+        catch (InvocationTargetException ex) {
+            // Ignored.
+        }
+        catch (LinkageError err) {
+            // jdk.incubator.vector has not been added.
+        }
+        catch (RuntimeException ex) {
+            // Ignored.
+        }
+        return null;
+    }
+
+    /**
+     * Returns if SIMD instructions are used.
+     *
+     * @return boolean
+     */
+    public static boolean usesVectors() {
+        return engine != null;
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchBytes(byte[], int, int,
+     * byte[], java.lang.Object)
+     */
+    @Override
+    public int searchBytes(byte[] text, int textStart, int textEnd,
+            byte[] pattern, Object processed) {
+
+        if (engine == null || pattern.length == 0) {
+            return super.searchBytes(text, textStart, textEnd, pattern,
+                    processed);
+        }
+        return engine.indexOf(text, textStart, textEnd, pattern);
+    }
+
+    /**
+     * @see com.eaio.stringsearch.StringSearch#searchChars(char[], int, int,
+     * char[], Object)
+     */
+    @Override
+    public int searchChars(char[] text, int textStart, int textEnd,
+            char[] pattern, Object processed) {
+
+        if (engine == null || pattern.length == 0) {
+            return super.searchChars(text, textStart, textEnd, pattern,
+                    processed);
+        }
+        return engine.indexOf(text, textStart, textEnd, pattern);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Java11Intrinsics.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * The {@link Intrinsics} for Java 11 and later. Words are read with a
+ * <code>byte</code> array view {@link VarHandle} and ranges are compared with
+ * the vectorized {@link Arrays#mismatch(byte[], int, int, byte[], int, int)}
+ * methods. Neither needs <code>sun.misc.Unsafe</code>.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+final class Java11Intrinsics extends Intrinsics {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(
+            long[].class, ByteOrder.nativeOrder());
+
+    private static final boolean unaligned = unaligned();
+
+    @Override
+    boolean readsWords() {
+        return unaligned;
+    }
+
+    @Override
+    long getLong(byte[] a, int index) {
+        return (long) LONGS.get(a, index);
+    }
+
+    @Override
+    int mismatch(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom
+                + length);
+    }
+
+    @Override
+    int mismatch(char[] a, int aFrom, char[] b, int bFrom, int length) {
+        return Arrays.mismatch(a, aFrom, aFrom + length, b, bFrom, bFrom
+                + length);
+    }
+
+}
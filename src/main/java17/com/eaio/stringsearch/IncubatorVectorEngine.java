@@ -0,0 +1,122 @@
+/*
+ * IncubatorVectorEngine.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import java.util.Arrays;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link VectorEngine} for Java 17 and later, built on the
+ * <code>jdk.incubator.vector</code> module. <code>chars</code> are loaded as
+ * <code>shorts</code>.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+final class IncubatorVectorEngine implements VectorEngine {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(byte[] text, int textStart, int textEnd, byte[] pattern) {
+        final int m = pattern.length;
+        final int end = Math.min(textEnd, text.length);
+        final int width = BYTES.length();
+        final byte first = pattern[0];
+        final byte last = pattern[m - 1];
+        final ByteVector firsts = ByteVector.broadcast(BYTES, first);
+        final ByteVector lasts = ByteVector.broadcast(BYTES, last);
+
+        int i = Math.max(textStart, 0);
+        for (; i + m - 1 + width <= end; i += width) {
+            VectorMask<Byte> candidates = ByteVector.fromArray(BYTES, text, i).eq(
+                    firsts).and(ByteVector.fromArray(BYTES, text, i + m - 1).eq(lasts));
+            if (candidates.anyTrue()) {
+                long bits = candidates.toLong();
+                while (bits != 0L) {
+                    int j = i + Long.numberOfTrailingZeros(bits);
+                    if (m <= 2 || Arrays.equals(text, j + 1, j + m - 1,
+                            pattern, 1, m - 1)) {
+                        return j;
+                    }
+                    bits &= bits - 1L;
+                }
+            }
+        }
+        for (; i <= end - m; ++i) {
+            if (text[i] == first && text[i + m - 1] == last && (m <= 2
+                    || Arrays.equals(text, i + 1, i + m - 1, pattern, 1, m - 1))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(char[] text, int textStart, int textEnd, char[] pattern) {
+        final int m = pattern.length;
+        final int end = Math.min(textEnd, text.length);
+        final int width = SHORTS.length();
+        final char first = pattern[0];
+        final char last = pattern[m - 1];
+        final ShortVector firsts = ShortVector.broadcast(SHORTS, (short) first);
+        final ShortVector lasts = ShortVector.broadcast(SHORTS, (short) last);
+
+        int i = Math.max(textStart, 0);
+        for (; i + m - 1 + width <= end; i += width) {
+            VectorMask<Short> candidates = ShortVector.fromCharArray(SHORTS,
+                    text, i).eq(firsts).and(
+                    ShortVector.fromCharArray(SHORTS, text, i + m - 1).eq(lasts));
+            if (candidates.anyTrue()) {
+                long bits = candidates.toLong();
+                while (bits != 0L) {
+                    int j = i + Long.numberOfTrailingZeros(bits);
+                    if (m <= 2 || Arrays.equals(text, j + 1, j + m - 1,
+                            pattern, 1, m - 1)) {
+                        return j;
+                    }
+                    bits &= bits - 1L;
+                }
+            }
+        }
+        for (; i <= end - m; ++i) {
+            if (text[i] == first && text[i + m - 1] == last && (m <= 2
+                    || Arrays.equals(text, i + 1, i + m - 1, pattern, 1, m - 1))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * AbstractGuardedSearchTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Base class for the tests of the guarded mode of an algorithm.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public abstract class AbstractGuardedSearchTest extends AbstractStringSearchTest {
+
+    /**
+     * Creates an instance of the algorithm in unguarded mode.
+     *
+     * @return a new instance
+     */
+    protected abstract StringSearch createUnguardedInstance();
+
+    /**
+     * Returns if the instance is in guarded mode.
+     */
+    protected abstract boolean isGuarded(StringSearch s);
+
+    /**
+     * Returns how often the instance switched to the linear algorithm.
+     */
+    protected abstract int fallbacks(StringSearch s);
+
+    @Test
+    public void adversarialInput() {
+        char[] text = new char[200000];
+        Arrays.fill(text, 'a');
+        char[] pattern = new char[30];
+        Arrays.fill(pattern, 'a');
+        pattern[0] = 'b';
+        StringSearch s = createInstance();
+        assertTrue(isGuarded(s));
+        assertEquals(0, fallbacks(s));
+        assertEquals(-1, s.searchChars(text, pattern));
+        assertEquals(1, fallbacks(s));
+        text[150000] = 'b';
+        assertEquals(150000, s.searchChars(text, pattern));
+        assertEquals(-1, s.searchChars(text, 150001, pattern));
+        byte[] bytes = new String(text).getBytes();
+        assertEquals(150000, s.searchBytes(bytes, new String(pattern).getBytes()));
+        assertEquals(150000, s.searchBytes(bytes, 100, 150030,
+                new String(pattern).getBytes()));
+        assertEquals(-1, s.searchBytes(bytes, 100, 150029,
+                new String(pattern).getBytes()));
+        assertEquals(6, fallbacks(s));
+
+        StringSearch unguarded = createUnguardedInstance();
+        assertFalse(isGuarded(unguarded));
+        assertEquals(150000, unguarded.searchChars(text, pattern));
+        assertEquals(0, fallbacks(unguarded));
+    }
+
+    @Test
+    public void ordinaryInputDoesNotSwitch() {
+        StringSearch s = createInstance();
+        assertEquals(LICENSE_STRING.indexOf("Software"), s.searchString(
+                LICENSE_STRING, "Software"));
+        assertEquals(-1, s.searchString(LICENSE_STRING, "Hardware"));
+        assertEquals(0, fallbacks(s));
+    }
+
+}
@@ -30,10 +30,16 @@ package com.eaio.stringsearch;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
 /**
  * Base class of pattern matching algorithms.
  *
@@ -52,6 +58,8 @@ public abstract class AbstractStringSearchTest {
             + "The above copyright notice and this permission notice shall be included "
             + "in all copies or substantial portions of the Software.";
 
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
     /* MismatchSearch methods */
 
     public void assertHit(int pos, int k, String text, String pattern,
@@ -358,6 +366,108 @@ public abstract class AbstractStringSearchTest {
         }
     }
 
+    @Test
+    public void corpora() {
+        int[] lengths = { 1, 2, 7, 31 };
+        for (CorpusGenerator.Kind kind : CorpusGenerator.Kind.values()) {
+            CorpusGenerator g = new CorpusGenerator(kind, 4711L);
+            for (int i = 0; i < lengths.length; ++i) {
+                char[] chars = g.chars(16384);
+                char[] charPattern = g.charPattern(lengths[i]);
+                int[] planted = g.plant(chars, charPattern, 8);
+                Object processed = o.processChars(charPattern);
+                List<Integer> hits = new ArrayList<Integer>();
+                int pos = -1;
+                while ((pos = o.searchChars(chars, pos + 1, chars.length,
+                        charPattern, processed)) != -1) {
+                    hits.add(pos);
+                }
+                assertHits(kind + " " + lengths[i], naive(chars, charPattern),
+                        planted, hits);
+
+                byte[] bytes = g.bytes(16384);
+                byte[] bytePattern = g.bytePattern(lengths[i]);
+                planted = g.plant(bytes, bytePattern, 8);
+                processed = o.processBytes(bytePattern);
+                hits.clear();
+                pos = -1;
+                while ((pos = o.searchBytes(bytes, pos + 1, bytes.length,
+                        bytePattern, processed)) != -1) {
+                    hits.add(pos);
+                }
+                assertHits(kind + " " + lengths[i], naive(new String(bytes,
+                        ISO_8859_1).toCharArray(), new String(bytePattern,
+                        ISO_8859_1).toCharArray()),
+                        planted, hits);
+            }
+        }
+    }
+
+    /**
+     * Asserts that all planted hits were found and, for exact algorithms, that
+     * exactly the expected hits were found.
+     */
+    private void assertHits(String message, List<Integer> expected,
+            int[] planted, List<Integer> hits) {
+        assertEquals(message, 8, planted.length);
+        for (int i = 0; i < planted.length; ++i) {
+            assertTrue(message, hits.contains(planted[i]));
+        }
+        if (!caseInsensitive && !wildcardsSearch) {
+            assertEquals(message, expected, hits);
+        }
+    }
+
+    private static List<Integer> naive(char[] text, char[] pattern) {
+        List<Integer> out = new ArrayList<Integer>();
+        for (int i = 0; i <= text.length - pattern.length; ++i) {
+            int j = 0;
+            while (j < pattern.length && text[i + j] == pattern[j]) {
+                ++j;
+            }
+            if (j == pattern.length) {
+                out.add(i);
+            }
+        }
+        return out;
+    }
+
+    @Test
+    public void backward() {
+        Random r = new Random(11L);
+        char[] text = new char[4000];
+        for (int i = 0; i < text.length; ++i) {
+            text[i] = (char) ('a' + r.nextInt(4));
+        }
+        String t = new String(text);
+        byte[] bytes = t.getBytes();
+        for (int i = 0; i < 300; ++i) {
+            int m = 1 + r.nextInt(12);
+            int start = r.nextInt(text.length - m);
+            String p = t.substring(start, start + m);
+            int textEnd = r.nextInt(text.length + 1);
+            int textStart = r.nextInt(textEnd + 1);
+            int expected = t.substring(0, textEnd).lastIndexOf(p);
+            if (expected < textStart) {
+                expected = -1;
+            }
+            assertEquals(expected, o.searchStringBackward(t, textStart,
+                    textEnd, p, o.processStringBackward(p)));
+            assertEquals(expected, o.searchBytesBackward(bytes, textStart,
+                    textEnd, p.getBytes()));
+            assertEquals(expected, o.searchCharsBackward(text, textStart,
+                    textEnd, p.toCharArray()));
+        }
+        assertEquals(LICENSE_STRING.lastIndexOf("the"), o.searchStringBackward(
+                LICENSE_STRING, "the"));
+        assertEquals(LICENSE_STRING.lastIndexOf("Software"),
+                o.searchBytesBackward(LICENSE_STRING.getBytes(),
+                        "Software".getBytes()));
+        assertEquals(-1, o.searchStringBackward("abc", "abcd"));
+        assertEquals(0, o.searchCharsBackward("abc".toCharArray(),
+                "abc".toCharArray()));
+    }
+
     @Test
     public void twoInstancesHaveIdenticalHashCodes() {
         StringSearch o1 = o;
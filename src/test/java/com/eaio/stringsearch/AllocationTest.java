@@ -0,0 +1,211 @@
+/*
+ * AllocationTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static com.eaio.stringsearch.AbstractStringSearchTest.LICENSE_STRING;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Asserts that searching with a pre-processed pattern does not allocate
+ * memory. Skipped if the VM cannot measure the memory allocated by a thread.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class AllocationTest {
+
+    /**
+     * Allows for a few allocations by the VM itself.
+     */
+    private static final long TOLERANCE = 4096L;
+
+    private static final int CALLS = 10000;
+
+    private static final StringSearch[] ALGORITHMS = { new BNDM(),
+            new BNDMCI(), new BNDMWildcards(), new BNDMWildcardsCI(),
+            new BoyerMooreHorspool(), new BoyerMooreHorspoolRaita(),
+            new ShiftOrMismatches() };
+
+    private static final String[] PATTERNS = { "e", "ab", "portions", "Software" };
+
+    private com.sun.management.ThreadMXBean bean;
+
+    private int sink;
+
+    /**
+     * A search call.
+     */
+    private interface Search {
+
+        long run();
+
+    }
+
+    @Before
+    public void checkSupport() {
+        Object b = ManagementFactory.getThreadMXBean();
+        assumeTrue(b instanceof com.sun.management.ThreadMXBean);
+        bean = (com.sun.management.ThreadMXBean) b;
+        assumeTrue(bean.isThreadAllocatedMemorySupported());
+        bean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void searchBytes() {
+        final byte[] text = LICENSE_STRING.getBytes();
+        for (final StringSearch s : ALGORITHMS) {
+            for (String p : PATTERNS) {
+                final byte[] pattern = p.getBytes();
+                final Object processed = s.processBytes(pattern);
+                assertNoAllocation(s + " " + p, new Search() {
+
+                    @Override
+                    public long run() {
+                        return s.searchBytes(text, pattern, processed);
+                    }
+
+                });
+            }
+        }
+    }
+
+    @Test
+    public void searchChars() {
+        final char[] text = LICENSE_STRING.toCharArray();
+        for (final StringSearch s : ALGORITHMS) {
+            for (String p : PATTERNS) {
+                final char[] pattern = p.toCharArray();
+                final Object processed = s.processChars(pattern);
+                assertNoAllocation(s + " " + p, new Search() {
+
+                    @Override
+                    public long run() {
+                        return s.searchChars(text, pattern, processed);
+                    }
+
+                });
+            }
+        }
+    }
+
+    @Test
+    public void searchString() {
+        searchStrings();
+    }
+
+    @Test
+    public void searchStringWithoutReflection() {
+        StringSearch.StringAccess active = StringSearch.activeStringAccess;
+        StringSearch.activeStringAccess = new StringSearch.StringAccess();
+        try {
+            searchStrings();
+        }
+        finally {
+            StringSearch.activeStringAccess = active;
+        }
+    }
+
+    private void searchStrings() {
+        for (final StringSearch s : ALGORITHMS) {
+            for (final String pattern : PATTERNS) {
+                final Object processed = s.processString(pattern);
+                assertNoAllocation(s + " " + pattern, new Search() {
+
+                    @Override
+                    public long run() {
+                        return s.searchString(LICENSE_STRING, 1, pattern,
+                                processed);
+                    }
+
+                });
+            }
+        }
+    }
+
+    @Test
+    public void searchPacked() {
+        final MismatchSearch s = new ShiftOrMismatches();
+        final byte[] bytes = LICENSE_STRING.getBytes();
+        final char[] chars = LICENSE_STRING.toCharArray();
+        final byte[] bytePattern = "partions".getBytes();
+        final char[] charPattern = "partions".toCharArray();
+        final Object processedBytes = s.processBytes(bytePattern, 1);
+        final Object processedChars = s.processString("partions", 1);
+        assertEquals(538, MismatchSearch.position(s.searchStringPacked(
+                LICENSE_STRING, 0, LICENSE_STRING.length(), "partions",
+                processedChars, 1)));
+        assertNoAllocation("bytes", new Search() {
+
+            @Override
+            public long run() {
+                return s.searchBytesPacked(bytes, 0, bytes.length,
+                        bytePattern, processedBytes, 1);
+            }
+
+        });
+        assertNoAllocation("chars", new Search() {
+
+            @Override
+            public long run() {
+                return s.searchCharsPacked(chars, 0, chars.length,
+                        charPattern, processedChars, 1);
+            }
+
+        });
+        assertNoAllocation("String", new Search() {
+
+            @Override
+            public long run() {
+                return s.searchStringPacked(LICENSE_STRING, 0,
+                        LICENSE_STRING.length(), "partions", processedChars, 1);
+            }
+
+        });
+    }
+
+    private void assertNoAllocation(String message, Search search) {
+        for (int i = 0; i < 100; ++i) {
+            sink += search.run();
+        }
+        long id = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(id);
+        for (int i = 0; i < CALLS; ++i) {
+            sink += search.run();
+        }
+        long allocated = bean.getThreadAllocatedBytes(id) - before;
+        assertTrue(message + ": " + allocated + " bytes allocated",
+                allocated < TOLERANCE);
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * BatchSearchTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+/**
+ * Test case for the <code>searchBatch</code> methods of {@link StringSearch}.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class BatchSearchTest {
+
+    private static final ExecutorService EXECUTOR = Executors
+            .newFixedThreadPool(3);
+
+    @AfterClass
+    public static void shutdown() {
+        EXECUTOR.shutdown();
+    }
+
+    @Test
+    public void bytes() {
+        byte[][] texts = { "Host: example.com".getBytes(),
+                "Accept: */*".getBytes(), "X-Host: example.org".getBytes(),
+                new byte[0] };
+        byte[] pattern = "Host".getBytes();
+        StringSearch s = new BoyerMooreHorspool();
+        Object processed = s.processBytes(pattern);
+        int[] results = s.searchBatch(texts, null, null, pattern, processed,
+                null);
+        assertArrayEquals(new int[] { 0, -1, 2, -1 }, results);
+
+        int[] reused = new int[10];
+        assertSame(reused, s.searchBatch(texts, new int[] { 1, 0, 0, 0 },
+                new int[] { 17, 11, 5, 0 }, pattern, processed, reused));
+        assertArrayEquals(new int[] { -1, -1, -1, -1 }, Arrays.copyOf(reused, 4));
+    }
+
+    @Test
+    public void signatures() {
+        String[] strings = { "Host: example.com", "Accept: */*",
+                "X-Host: example.org", "", "HOST: EXAMPLE.COM" };
+        byte[][] texts = new byte[strings.length][];
+        Signature[] signatures = new Signature[strings.length];
+        List<String> list = new ArrayList<String>();
+        for (int i = 0; i < strings.length; ++i) {
+            texts[i] = strings[i].getBytes();
+            signatures[i] = Signature.of(texts[i]);
+            list.add(strings[i]);
+        }
+        signatures[2] = Signature.of(strings[2], 64);
+        signatures[3] = null;
+        byte[] pattern = "Host: ex".getBytes();
+        StringSearch s = new BoyerMooreHorspool();
+        assertTrue(s.matchesExactly());
+        assertArrayEquals(new int[] { 0, -1, 2, -1, -1 }, s.searchBatch(
+                texts, null, null, signatures, pattern,
+                s.processBytes(pattern), null, null));
+        char[] chars = "Host: ex".toCharArray();
+        assertArrayEquals(new int[] { 0, -1, 2, -1, -1 }, s.searchBatch(list,
+                signatures, chars, s.processChars(chars), null, EXECUTOR));
+
+        // Signatures are ignored by algorithms that do not match exactly.
+
+        StringSearch ci = new BNDMCI();
+        assertFalse(ci.matchesExactly());
+        assertFalse(new ShiftOrMismatches().matchesExactly());
+        assertFalse(new BNDMWildcardsCI().matchesExactly());
+        assertFalse(new ParallelSearch(ci).matchesExactly());
+        assertArrayEquals(new int[] { 0, -1, 2, -1, 0 }, ci.searchBatch(list,
+                signatures, chars, ci.processChars(chars), null, null));
+    }
+
+    @Test
+    public void signaturesOfLongPatterns() {
+        String prefix = "abcdefghijklmnopqrstuvwxyzABCDEF";
+        List<String> list = Arrays.asList(prefix + "zzzzzzzz", "ghijklmn");
+        byte[][] texts = { list.get(0).getBytes(), list.get(1).getBytes() };
+        Signature[] signatures = { Signature.of(texts[0]),
+                Signature.of(texts[1]) };
+        byte[] pattern = (prefix + "GHIJKLMN").getBytes();
+        char[] chars = (prefix + "GHIJKLMN").toCharArray();
+
+        // BNDM only searches for the first 32 symbols.
+
+        StringSearch[] algorithms = { new BNDM(), new ParallelSearch(new BNDM()) };
+        for (StringSearch s : algorithms) {
+            assertTrue(s.matchesExactly());
+            assertEquals(0, s.searchBytes(texts[0], pattern));
+            assertArrayEquals(new int[] { 0, -1 }, s.searchBatch(texts, null,
+                    null, signatures, pattern, s.processBytes(pattern), null,
+                    null));
+            assertArrayEquals(new int[] { 0, -1 }, s.searchBatch(list,
+                    signatures, chars, s.processChars(chars), null, null));
+        }
+    }
+
+    @Test
+    public void charSequences() {
+        List<CharSequence> texts = new LinkedList<CharSequence>();
+        texts.add("keksbassbla");
+        texts.add(new StringBuilder("bassbass"));
+        texts.add(new StringBuffer("bas"));
+        texts.add(AbstractStringSearchTest.LICENSE_STRING);
+        int[] results = new BNDM().searchBatch(texts, "bass", null);
+        assertArrayEquals(new int[] { 4, 0, -1, -1 }, results);
+    }
+
+    @Test
+    public void executorAgainstSequential() {
+        Random r = new Random(3L);
+        int n = BatchSearch.MIN_SLICE * 10 + 17;
+        byte[][] texts = new byte[n][];
+        List<String> strings = new ArrayList<String>(n);
+        for (int i = 0; i < n; ++i) {
+            byte[] text = new byte[r.nextInt(80)];
+            for (int j = 0; j < text.length; ++j) {
+                text[j] = (byte) ('a' + r.nextInt(4));
+            }
+            texts[i] = text;
+            strings.add(new String(text));
+        }
+        byte[] pattern = "abcab".getBytes();
+        StringSearch[] algorithms = { new BoyerMooreHorspoolRaita(),
+                new BNDM(), new ShiftOrMismatches() };
+        for (StringSearch s : algorithms) {
+            Object processed = s.processBytes(pattern);
+            int[] sequential = s.searchBatch(texts, null, null, pattern,
+                    processed, null);
+            int[] parallel = s.searchBatch(texts, null, null, pattern,
+                    processed, new int[n], EXECUTOR);
+            assertArrayEquals(sequential, parallel);
+            char[] charPattern = "abcab".toCharArray();
+            assertArrayEquals(sequential, s.searchBatch(strings, charPattern,
+                    s.processChars(charPattern), null, EXECUTOR));
+            for (int i = 0; i < n; ++i) {
+                assertEquals(strings.get(i).indexOf("abcab"), sequential[i]);
+            }
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void exceptionsArePropagated() {
+        byte[][] texts = new byte[BatchSearch.MIN_SLICE * 4][];
+        Arrays.fill(texts, new byte[10]);
+        texts[texts.length - 1] = null;
+        StringSearch s = new BoyerMooreHorspool();
+        s.searchBatch(texts, null, null, "aaa".getBytes(),
+                s.processBytes("aaa".getBytes()), null, EXECUTOR);
+    }
+
+}
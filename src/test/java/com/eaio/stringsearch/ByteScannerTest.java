@@ -0,0 +1,182 @@
+/*
+ * ByteScannerTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link ByteScanner} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class ByteScannerTest {
+
+    private static final byte[] SYMBOLS = { 0, 1, 'a', 'b', '\n', 0x7F,
+            (byte) 0x80, (byte) 0xFF };
+
+    @Test
+    public void usesWordReadsOnCommonPlatforms() {
+        String arch = System.getProperty("os.arch");
+        if ("amd64".equals(arch) || "x86_64".equals(arch)
+                || "aarch64".equals(arch)) {
+            assertTrue(ByteScanner.readsWords());
+        }
+    }
+
+    @Test
+    public void singleBytes() {
+        Random r = new Random(42L);
+        for (int n = 0; n < 40; ++n) {
+            byte[] text = text(r, n);
+            for (int start = 0; start <= n; ++start) {
+                for (int end = start; end <= n + 1; ++end) {
+                    for (byte b : SYMBOLS) {
+                        int expected = naive(text, start, end, b);
+                        assertEquals(expected, ByteScanner.indexOf(text, start,
+                                end, b));
+                        assertEquals(expected, ByteScanner.indexOfBytewise(
+                                text, start, end, b));
+                        if (ByteScanner.readsWords()) {
+                            assertEquals(expected,
+                                    ByteScanner.indexOfWordwise(text, start,
+                                            end, b));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void lastIndexOfAndCount() {
+        Random r = new Random(43L);
+        for (int n = 0; n < 40; ++n) {
+            byte[] text = text(r, n);
+            for (int start = 0; start <= n; ++start) {
+                for (int end = start; end <= n + 1; ++end) {
+                    for (byte b : SYMBOLS) {
+                        int last = -1;
+                        int count = 0;
+                        for (int i = start; i < Math.min(end, n); ++i) {
+                            if (text[i] == b) {
+                                last = i;
+                                ++count;
+                            }
+                        }
+                        assertEquals(last, ByteScanner.lastIndexOf(text,
+                                start, end, b));
+                        assertEquals(last, ByteScanner.lastIndexOfBytewise(
+                                text, start, end, b));
+                        assertEquals(count, ByteScanner.count(text, start,
+                                end, b));
+                        assertEquals(count, ByteScanner.countBytewise(text,
+                                start, end, b));
+                        if (ByteScanner.readsWords()) {
+                            assertEquals(last,
+                                    ByteScanner.lastIndexOfWordwise(text,
+                                            start, end, b));
+                            assertEquals(count, ByteScanner.countWordwise(
+                                    text, start, end, b));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void pairsOfBytes() {
+        Random r = new Random(42L);
+        for (int n = 0; n < 40; ++n) {
+            byte[] text = text(r, n);
+            for (int start = 0; start <= n; ++start) {
+                for (int end = start; end <= n + 1; ++end) {
+                    for (byte b0 : SYMBOLS) {
+                        for (byte b1 : SYMBOLS) {
+                            int expected = naive(text, start, end, b0, b1);
+                            assertEquals(expected, ByteScanner.indexOf(text,
+                                    start, end, b0, b1));
+                            assertEquals(expected,
+                                    ByteScanner.indexOfBytewise(text, start,
+                                            end, b0, b1));
+                            if (ByteScanner.readsWords()) {
+                                assertEquals(expected,
+                                        ByteScanner.indexOfWordwise(text,
+                                                start, end, b0, b1));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void noFalsePositivesFromBorrows() {
+        // With the (x - 0x01..) & ~x & 0x80.. test, the zero byte from '`'
+        // borrows from the 0x01 byte from 'a' ^ '`', flagging position 1 as
+        // a '`', and 'z' follows.
+        byte[] text = "`az.......".getBytes();
+        assertEquals(-1, ByteScanner.indexOf(text, 0, text.length, (byte) '`',
+                (byte) 'z'));
+        assertEquals(1, ByteScanner.indexOf(text, 0, text.length, (byte) 'a',
+                (byte) 'z'));
+    }
+
+    private static byte[] text(Random r, int length) {
+        byte[] out = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            out[i] = SYMBOLS[r.nextInt(SYMBOLS.length)];
+        }
+        return out;
+    }
+
+    private static int naive(byte[] text, int start, int end, byte b) {
+        for (int i = start; i < Math.min(end, text.length); ++i) {
+            if (text[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int naive(byte[] text, int start, int end, byte b0, byte b1) {
+        for (int i = start; i < Math.min(end, text.length) - 1; ++i) {
+            if (text[i] == b0 && text[i + 1] == b1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * FMIndexTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Test case for the {@link FMIndex} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class FMIndexTest {
+
+    @Test
+    public void queriesAgainstTextIndex() {
+        CorpusGenerator.Kind[] kinds = { CorpusGenerator.Kind.ENGLISH,
+                CorpusGenerator.Kind.DNA, CorpusGenerator.Kind.PERIODIC };
+        int[] sampleRates = { 1, 5, 32 };
+        for (CorpusGenerator.Kind kind : kinds) {
+            CorpusGenerator g = new CorpusGenerator(kind, 9L);
+            byte[] text = g.bytes(20000);
+            TextIndex expected = new TextIndex(text);
+            for (int sampleRate : sampleRates) {
+                FMIndex index = new FMIndex(text, sampleRate);
+                assertEquals(text.length, index.length());
+                assertEquals(sampleRate, index.getSampleRate());
+                for (int m = 1; m < 40; m += 3) {
+                    byte[] p = g.bytePattern(m);
+                    assertEquals(expected.count(p), index.count(p));
+                    assertArrayEquals(expected.locate(p), index.locate(p));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void allByteValues() {
+        Random r = new Random(3L);
+        byte[] text = new byte[5000];
+        r.nextBytes(text);
+        text[100] = 0;
+        text[101] = 0;
+        text[4999] = 0;
+        TextIndex expected = new TextIndex(text);
+        FMIndex index = new FMIndex(text, 7);
+        for (int sym = 0; sym < 256; ++sym) {
+            byte[] p = { (byte) sym };
+            assertEquals(expected.count(p), index.count(p));
+            assertArrayEquals(expected.locate(p), index.locate(p));
+        }
+        byte[] p = Arrays.copyOfRange(text, 98, 102);
+        assertArrayEquals(expected.locate(p), index.locate(p));
+        p = Arrays.copyOfRange(text, 4990, 5000);
+        assertArrayEquals(new int[] { 4990 }, index.locate(p));
+    }
+
+    @Test
+    public void rank() {
+        Random r = new Random(8L);
+        for (int n = 0; n < 3000; n += 1 + n / 3) {
+            long[] blocks = FMIndex.Bits.blocks(n);
+            boolean[] expected = new boolean[n];
+            for (int i = 0; i < n; ++i) {
+                if (r.nextInt(3) == 0) {
+                    expected[i] = true;
+                    FMIndex.Bits.set(blocks, i);
+                }
+            }
+            FMIndex.Bits bits = FMIndex.Bits.count(blocks);
+            int ones = 0;
+            for (int i = 0; i <= n; ++i) {
+                assertEquals(ones, bits.rank1(i));
+                if (i < n) {
+                    assertEquals(expected[i], bits.get(i));
+                    ones += expected[i] ? 1 : 0;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shortTexts() {
+        assertEquals(0, new FMIndex(new byte[0]).count("a".getBytes()));
+        assertEquals(1, new FMIndex("a".getBytes()).count("a".getBytes()));
+        assertEquals(0, new FMIndex("a".getBytes()).count("aa".getBytes()));
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, new FMIndex(
+                "aaaaa".getBytes(), 2).locate("aa".getBytes()));
+        assertArrayEquals(new int[] { 0, 1, 2 }, new FMIndex("abc".getBytes())
+                .locate(new byte[0]));
+    }
+
+    @Test
+    public void mapped() throws Exception {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.LOG, 4L);
+        byte[] text = g.bytes(100000);
+        FMIndex index = new FMIndex(text, 16);
+        File file = File.createTempFile("fmindex", ".idx");
+        try {
+            index.writeTo(file);
+            FMIndex copy = FMIndex.map(file);
+            assertEquals(text.length, copy.length());
+            assertEquals(16, copy.getSampleRate());
+            for (int m = 1; m < 30; m += 4) {
+                byte[] p = g.bytePattern(m);
+                assertEquals(index.count(p), copy.count(p));
+                assertArrayEquals(index.locate(p), copy.locate(p));
+            }
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sampleRateMustBePositive() {
+        new FMIndex("abc".getBytes(), 0);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * GuardedBoyerMooreHorspoolTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+/**
+ * Test case for the guarded mode of the {@link BoyerMooreHorspool} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class GuardedBoyerMooreHorspoolTest extends AbstractGuardedSearchTest {
+
+    @Override
+    protected StringSearch createInstance() {
+        return new CountingBoyerMooreHorspool(true);
+    }
+
+    @Override
+    protected StringSearch createUnguardedInstance() {
+        return new CountingBoyerMooreHorspool(false);
+    }
+
+    @Override
+    protected boolean isGuarded(StringSearch s) {
+        return ((BoyerMooreHorspool) s).isGuarded();
+    }
+
+    @Override
+    protected int fallbacks(StringSearch s) {
+        return ((CountingBoyerMooreHorspool) s).fallbacks;
+    }
+
+    /**
+     * Counts how often searches switch to the linear algorithm.
+     */
+    static class CountingBoyerMooreHorspool extends BoyerMooreHorspool {
+
+        int fallbacks;
+
+        CountingBoyerMooreHorspool(boolean guarded) {
+            super(guarded);
+        }
+
+        @Override
+        void onFallback() {
+            ++fallbacks;
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * HashQTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Test case for the {@link HashQ} class with the pattern lengths it is meant
+ * for.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class HashQTest {
+
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    private static final int[] LENGTHS = { 16, 64, 250, 1000 };
+
+    @Test
+    public void longPatterns() {
+        HashQ[] algorithms = { new Hash3(), new Hash5(), new Hash8() };
+        for (CorpusGenerator.Kind kind : CorpusGenerator.Kind.values()) {
+            CorpusGenerator g = new CorpusGenerator(kind, 42L);
+            for (int i = 0; i < LENGTHS.length; ++i) {
+                char[] text = g.chars(1 << 16);
+                char[] pattern = g.charPattern(LENGTHS[i]);
+                int[] hits = g.plant(text, pattern, 4);
+                String t = new String(text), p = new String(pattern);
+                byte[] bytes = g.bytes(1 << 16);
+                byte[] bytePattern = g.bytePattern(LENGTHS[i]);
+                g.plant(bytes, bytePattern, 4);
+                String bt = new String(bytes, ISO_8859_1);
+                String bp = new String(bytePattern, ISO_8859_1);
+                for (int j = 0; j < algorithms.length; ++j) {
+                    String message = algorithms[j].getQ() + " " + kind + " "
+                            + LENGTHS[i];
+                    Object processed = algorithms[j].processChars(pattern);
+                    int expected = t.indexOf(p), found = 0;
+                    while (expected != -1) {
+                        assertEquals(message, expected,
+                                algorithms[j].searchChars(text, found,
+                                        pattern, processed));
+                        found = expected + 1;
+                        expected = t.indexOf(p, found);
+                    }
+                    assertEquals(message, -1, algorithms[j].searchChars(text,
+                            found, pattern, processed));
+                    assertTrue(message, found > hits[hits.length - 1]);
+                    processed = algorithms[j].processBytes(bytePattern);
+                    assertEquals(message, bt.indexOf(bp),
+                            algorithms[j].searchBytes(bytes, bytePattern,
+                                    processed));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void qMustBeAtLeastTwo() {
+        new HashQ(1) {};
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * IntrinsicsTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link Intrinsics} class and its implementations.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class IntrinsicsTest {
+
+    @Test
+    public void usesVersionedImplementation() {
+        if (Boolean.getBoolean("com.eaio.stringsearch.multiRelease")) {
+            assertEquals("com.eaio.stringsearch.Java11Intrinsics",
+                    Intrinsics.INSTANCE.getClass().getName());
+        }
+    }
+
+    @Test
+    public void mismatch() {
+        Intrinsics[] all = { Intrinsics.INSTANCE, new UnsafeIntrinsics() };
+        Random r = new Random(42L);
+        for (int n = 0; n < 1000; ++n) {
+            int length = r.nextInt(80);
+            byte[] a = new byte[length + 10];
+            r.nextBytes(a);
+            byte[] b = new byte[length + 10];
+            int aFrom = r.nextInt(10), bFrom = r.nextInt(10);
+            System.arraycopy(a, aFrom, b, bFrom, length);
+            int expected = -1;
+            if (length > 0 && r.nextBoolean()) {
+                expected = r.nextInt(length);
+                ++b[bFrom + expected];
+            }
+            char[] c = new char[a.length];
+            char[] d = new char[b.length];
+            for (int i = 0; i < a.length; ++i) {
+                c[i] = (char) (a[i] << 8);
+                d[i] = (char) (b[i] << 8);
+            }
+            for (int i = 0; i < all.length; ++i) {
+                assertEquals(expected, all[i].mismatch(a, aFrom, b, bFrom, length));
+                assertEquals(expected, all[i].mismatch(c, aFrom, d, bFrom, length));
+            }
+        }
+    }
+
+    @Test
+    public void getLong() {
+        byte[] a = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        Intrinsics[] all = { Intrinsics.INSTANCE, new UnsafeIntrinsics() };
+        boolean littleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+        for (int i = 0; i < all.length; ++i) {
+            if (all[i].readsWords()) {
+                long x = all[i].getLong(a, 1);
+                for (int j = 0; j < 8; ++j) {
+                    int shift = littleEndian ? j * 8 : (7 - j) * 8;
+                    assertEquals(j + 1, (int) (x >>> shift) & 0xFF);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * LineMatcherTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Test case for the {@link LineMatcher} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class LineMatcherTest {
+
+    @Test
+    public void eachLineOnce() {
+        byte[] text = "ab ab ab\nnothing\r\nab\n\nxxab".getBytes();
+        Collector c = new Collector();
+        LineMatcher m = new LineMatcher(new BoyerMooreHorspool(),
+                "ab".getBytes(), true);
+        assertEquals(3L, m.match(text, 0, text.length, c));
+        assertEquals("[1:0:ab ab ab, 3:18:ab, 5:22:xxab]", c.lines.toString());
+        assertEquals(3L, m.match(text, 0, text.length, null));
+
+        c = new Collector();
+        assertEquals(1L, new LineMatcher(new BNDM(), "nothing".getBytes())
+                .match(text, 0, text.length, c));
+        assertEquals("[-1:9:nothing\r]", c.lines.toString());
+    }
+
+    @Test
+    public void againstSplitLines() throws IOException {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.LOG, 3L);
+        byte[] text = g.bytes(200000);
+        String[] lines = new String(text, "ISO-8859-1").split("\n", -1);
+        String[] patterns = { "ERROR", "worker-1", "refused", "zzz", "7" };
+        StringSearch[] algorithms = { new BoyerMooreHorspoolRaita(),
+                new ShiftOrMismatches(), new TwoWay() };
+        for (String pattern : patterns) {
+            List<String> expected = new ArrayList<String>();
+            long offset = 0L;
+            for (int i = 0; i < lines.length; ++i) {
+                if (lines[i].contains(pattern)) {
+                    expected.add((i + 1) + ":" + offset + ":" + lines[i]);
+                }
+                offset += lines[i].length() + 1;
+            }
+            for (StringSearch algorithm : algorithms) {
+                LineMatcher m = new LineMatcher(algorithm, pattern.getBytes(),
+                        true, 16);
+                Collector c = new Collector();
+                m.match(text, 0, text.length, c);
+                assertEquals(expected, c.lines);
+                c = new Collector();
+                assertEquals(expected.size(), m.match(new Trickle(text), c));
+                assertEquals(expected, c.lines);
+            }
+        }
+    }
+
+    @Test
+    public void longLinesGrowTheBuffer() throws IOException {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            buf.append("abcdefgh");
+        }
+        buf.append("needle\nshort needle\nlast line without break needle");
+        byte[] text = buf.toString().getBytes();
+        Collector c = new Collector();
+        assertEquals(3L, new LineMatcher(new BNDM(), "needle".getBytes(),
+                true, 8).match(new ByteArrayInputStream(text), c));
+        assertEquals("2:8007:short needle", c.lines.get(1));
+        assertEquals("3:8020:last line without break needle", c.lines.get(2));
+    }
+
+    @Test
+    public void listenerStopsMatching() throws IOException {
+        byte[] text = "a\na\na\na\n".getBytes();
+        LineMatcher m = new LineMatcher(new BoyerMooreHorspool(), "a"
+                .getBytes(), false, 2);
+        LineMatcher.Listener first = new LineMatcher.Listener() {
+
+            public boolean line(byte[] text, int start, int end, long number,
+                    long offset) {
+                return false;
+            }
+
+        };
+        assertEquals(1L, m.match(text, 0, text.length, first));
+        assertEquals(1L, m.match(new ByteArrayInputStream(text), first));
+    }
+
+    @Test
+    public void inexactMatchesDoNotSpanLines() {
+        byte[] text = "xab\ncd\nbxc\nab.d\n".getBytes();
+        Collector c = new Collector();
+        new LineMatcher(new BNDMWildcards(), "b.c".getBytes(), true).match(
+                text, 0, text.length, c);
+        assertEquals("[3:7:bxc]", c.lines.toString());
+        assertEquals(0L, new LineMatcher(new BNDMWildcards(), "ab.c"
+                .getBytes()).match(text, 0, text.length, null));
+    }
+
+    @Test
+    public void prefixMatchesDoNotJoinLines() throws IOException {
+        String p33 = "0123456789ABCDEFGHIJKLMNOPQRSTUVW";
+        byte[] text = ("xx" + p33.substring(0, 32) + "\nzzzzz\n" + p33
+                + "X\nxx" + p33.substring(0, 32) + "Y\n").getBytes();
+        Collector c = new Collector();
+        LineMatcher m = new LineMatcher(new BNDM(), p33.getBytes(), true);
+        m.match(text, 0, text.length, c);
+        assertEquals("[3:41:" + p33 + "X]", c.lines.toString());
+        c = new Collector();
+        m.match(new Trickle(text), c);
+        assertEquals("[3:41:" + p33 + "X]", c.lines.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void patternsMayNotContainLineBreaks() {
+        new LineMatcher(new BNDM(), "a\nb".getBytes());
+    }
+
+    private static final class Collector implements LineMatcher.Listener {
+
+        final List<String> lines = new ArrayList<String>();
+
+        public boolean line(byte[] text, int start, int end, long number,
+                long offset) {
+            try {
+                lines.add(number + ":" + offset + ":"
+                        + new String(text, start, end - start, "ISO-8859-1"));
+            }
+            catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * Returns at most 1000 bytes per read.
+     */
+    private static final class Trickle extends InputStream {
+
+        private final byte[] data;
+
+        private int pos;
+
+        Trickle(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return pos == data.length ? -1 : data[pos++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (pos == data.length) {
+                return -1;
+            }
+            int n = Math.min(Math.min(len, 1000), data.length - pos);
+            System.arraycopy(data, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+    }
+
+}
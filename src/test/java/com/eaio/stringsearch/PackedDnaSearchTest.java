@@ -0,0 +1,137 @@
+/*
+ * PackedDnaSearchTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Test case for the {@link PackedDnaSearch} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class PackedDnaSearchTest {
+
+    private static final int[] LENGTHS = { 1, 2, 5, 31, 32, 33, 63, 64, 65,
+            100 };
+
+    @Test
+    public void forwardStrand() {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.DNA, 42L);
+        Random r = new Random(42L);
+        char[] text = g.chars(20000);
+        for (int i = 0; i < text.length; i += 500 + r.nextInt(500)) {
+            text[i] = 'N';
+        }
+        for (int i = 0; i < LENGTHS.length; ++i) {
+            char[] pattern = g.charPattern(LENGTHS[i]);
+            g.plant(text, pattern, 5);
+            String t = new String(text), p = new String(pattern);
+            PackedDna dna = PackedDna.pack(t);
+            PackedDnaSearch s = new PackedDnaSearch(p);
+            assertEquals(LENGTHS[i], s.length());
+            long from = 0L;
+            int expected;
+            do {
+                expected = t.indexOf(p, (int) from);
+                long found = s.indexOf(dna, from);
+                assertEquals(p, expected, found);
+                from = found + 1;
+            }
+            while (expected != -1);
+            assertEquals(-1L, s.indexOf(dna, 0L, LENGTHS[i] - 1));
+        }
+    }
+
+    @Test
+    public void maskedBasesNeverMatch() {
+        PackedDna dna = PackedDna.pack("ACGTNACGTAAAA");
+        assertEquals(-1L, new PackedDnaSearch("TA").indexOf(dna, 0L, 9L));
+        assertEquals(8L, new PackedDnaSearch("TA").indexOf(dna));
+        assertEquals(-1L, new PackedDnaSearch("GTAAC").indexOf(dna));
+        assertEquals(-1L, new PackedDnaSearch("GTNAC").indexOf(dna));
+        assertEquals(7L, new PackedDnaSearch("GTNAA").indexOf(dna));
+        assertEquals(-1L, new PackedDnaSearch("GTNACGTNAA").indexOf(dna));
+        assertEquals(0L, new PackedDnaSearch("nn").indexOf(dna));
+        assertEquals(5L, new PackedDnaSearch("nn").indexOf(dna, 3L));
+    }
+
+    @Test
+    public void reverseComplement() {
+        PackedDna dna = PackedDna.pack("TTTTGGCATTTTATGCCTTT");
+        PackedDnaSearch s = new PackedDnaSearch("ATGCC", true);
+        assertEquals(4L, s.indexOf(dna));
+        assertTrue(s.matchesReverseComplement(dna, 4L));
+        assertFalse(s.matchesForward(dna, 4L));
+        assertEquals(12L, s.indexOf(dna, 5L));
+        assertTrue(s.matchesForward(dna, 12L));
+        assertEquals(12L, new PackedDnaSearch("ATGCC").indexOf(dna));
+        assertEquals(-1L, s.indexOf(dna, 13L));
+
+        // Palindromes are only searched once.
+        PackedDnaSearch palindrome = new PackedDnaSearch("GAATTC", true);
+        assertEquals(2L, palindrome.indexOf(PackedDna.pack("AAGAATTCAA")));
+    }
+
+    @Test
+    public void bothStrandsAgainstNaive() {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.DNA, 7L);
+        String t = new String(g.chars(5000));
+        PackedDna dna = PackedDna.pack(t);
+        for (int i = 0; i < LENGTHS.length; ++i) {
+            String p = t.substring(1000 + i * 300, 1000 + i * 300 + LENGTHS[i]);
+            String rc = reverseComplement(p);
+            PackedDnaSearch s = new PackedDnaSearch(p, true);
+            for (int from = 0; from < 5000; from += 611) {
+                int f = t.indexOf(p, from), r = t.indexOf(rc, from);
+                int expected = f == -1 ? r : r == -1 ? f : Math.min(f, r);
+                assertEquals(p, expected, s.indexOf(dna, from));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPattern() {
+        new PackedDnaSearch("ACGU");
+    }
+
+    private static String reverseComplement(String s) {
+        StringBuilder out = new StringBuilder();
+        for (int i = s.length() - 1; i >= 0; --i) {
+            out.append("TGCA".charAt("ACGT".indexOf(s.charAt(i))));
+        }
+        return out.toString();
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * PackedDnaTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link PackedDna} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class PackedDnaTest {
+
+    @Test
+    public void packing() {
+        PackedDna dna = PackedDna.pack("ACGTacgtNRY\nAC\r\nGT");
+        assertEquals(15L, dna.length());
+        assertEquals("ACGTACGTNNNACGT", dna.substring(0L, dna.length()));
+        assertEquals("ACGTACGTNNNACGT", dna.toString());
+        assertFalse(dna.isMasked(7L));
+        assertTrue(dna.isMasked(8L));
+        assertEquals('G', dna.charAt(14L - 1L));
+        assertArrayEquals(dna.substring(0L, 15L).getBytes(), PackedDna.pack(
+                "ACGTacgtNRY\nAC\r\nGT".getBytes()).substring(0L, 15L).getBytes());
+    }
+
+    @Test
+    public void withoutMaskedBases() {
+        PackedDna dna = PackedDna.pack("ACGT");
+        assertFalse(dna.isMasked(0L, 4L));
+        assertEquals(3, dna.symbol(3L));
+    }
+
+    @Test
+    public void maskedRanges() {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 300; ++i) {
+            b.append(i == 70 || i == 200 ? 'N' : "ACGT".charAt(i & 3));
+        }
+        PackedDna dna = PackedDna.pack(b);
+        for (int from = 0; from < 300; from += 7) {
+            for (int to = from; to <= 300; to += 5) {
+                boolean expected = from <= 70 && to > 70 || from <= 200
+                        && to > 200;
+                assertEquals(from + ", " + to, expected, dna.isMasked(
+                        (long) from, (long) to));
+            }
+        }
+    }
+
+    @Test
+    public void builderGrows() {
+        PackedDna.Builder b = new PackedDna.Builder(1L);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; ++i) {
+            char c = i % 997 == 0 ? 'N' : "TGCA".charAt(i * 7 % 4);
+            b.append(String.valueOf(c));
+            expected.append(c);
+        }
+        assertEquals(10000L, b.length());
+        assertEquals(expected.toString(), b.build().substring(0L, 10000L));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void charAtOutOfRange() {
+        PackedDna.pack("ACGT").charAt(4L);
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * ParallelSearchTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link ParallelSearch} class. Chunks are tiny so that the
+ * seams are exercised by every test.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class ParallelSearchTest extends AbstractStringSearchTest {
+
+    static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Override
+    protected StringSearch createInstance() {
+        return new ParallelSearch(new BoyerMooreHorspoolRaita(), POOL, 16);
+    }
+
+    @Test
+    public void hitsAtEverySeam() {
+        Random r = new Random(42L);
+        byte[] text = new byte[1 << 16];
+        for (int i = 0; i < text.length; ++i) {
+            text[i] = (byte) ('a' + r.nextInt(4));
+        }
+        char[] chars = new String(text).toCharArray();
+        StringSearch s = new ParallelSearch(new BNDM(), POOL, 64);
+        StringSearch sequential = new BNDM();
+        for (int i = 0; i < 500; ++i) {
+            int m = 1 + r.nextInt(40);
+            int start = r.nextInt(text.length - m);
+            byte[] pattern = new byte[m];
+            System.arraycopy(text, start, pattern, 0, m);
+            int textStart = r.nextInt(start + 1);
+            int textEnd = start + m + r.nextInt(text.length - start - m + 1);
+            assertEquals(sequential.searchBytes(text, textStart, textEnd,
+                    pattern), s.searchBytes(text, textStart, textEnd, pattern));
+            assertEquals(sequential.searchChars(chars, textStart, textEnd,
+                    new String(pattern).toCharArray()), s.searchChars(chars,
+                    textStart, textEnd, new String(pattern).toCharArray()));
+        }
+    }
+
+    @Test
+    public void onlyHitAtTheEnd() {
+        char[] text = new char[100000];
+        Arrays.fill(text, 'a');
+        text[text.length - 1] = 'b';
+        StringSearch s = new ParallelSearch(new BoyerMooreHorspool(), POOL, 128);
+        assertEquals(text.length - 3, s.searchChars(text, "aab".toCharArray()));
+        assertEquals(-1, s.searchChars(text, 0, text.length - 1,
+                "aab".toCharArray()));
+        assertEquals(0, s.searchChars(text, "aaa".toCharArray()));
+    }
+
+    @Test
+    public void chunkSize() {
+        ParallelSearch s = new ParallelSearch(new BNDM(), POOL);
+        assertEquals(0, s.chunkSize(0, ParallelSearch.MIN_CHUNK, 10));
+        assertEquals(ParallelSearch.MIN_CHUNK, s.chunkSize(0, 1 << 20, 10));
+        assertEquals((1 << 28) / 16, s.chunkSize(0, 1 << 28, 10));
+        assertEquals(0, new ParallelSearch(new BNDM(), new ForkJoinPool(1))
+                .chunkSize(0, 1 << 28, 10));
+    }
+
+    @Test
+    public void searchAllAgainstSequential() {
+        Random r = new Random(7L);
+        char[] text = new char[1 << 15];
+        for (int i = 0; i < text.length; ++i) {
+            text[i] = (char) ('a' + r.nextInt(3));
+        }
+        byte[] bytes = new String(text).getBytes();
+        ParallelSearch s = new ParallelSearch(new BoyerMooreHorspool(), POOL, 50);
+        for (int m = 1; m < 12; ++m) {
+            char[] pattern = new char[m];
+            System.arraycopy(text, r.nextInt(text.length - m), pattern, 0, m);
+            byte[] bytePattern = new String(pattern).getBytes();
+            assertArrayEquals(all(text, pattern, true), s.searchAllChars(text,
+                    pattern, true));
+            assertArrayEquals(all(text, pattern, false), s.searchAllChars(text,
+                    pattern, false));
+            assertArrayEquals(all(text, pattern, true), s.searchAllBytes(bytes,
+                    bytePattern, true));
+            assertArrayEquals(all(text, pattern, false), s.searchAllString(
+                    new String(text), new String(pattern), false));
+        }
+    }
+
+    @Test
+    public void searchAllOverlappingAndNonOverlapping() {
+        ParallelSearch s = new ParallelSearch(new BNDM(), POOL, 2);
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, s.searchAllString(
+                "aaaaaa", "aa", true));
+        assertArrayEquals(new int[] { 0, 2, 4 }, s.searchAllString("aaaaaa",
+                "aa", false));
+        assertArrayEquals(new int[] { 1, 4 }, s.searchAllString("xabaabax",
+                "aba", true));
+        assertArrayEquals(new int[0], s.searchAllString("aaaaaa", "b", true));
+        assertArrayEquals(new int[0], s.searchAllString("aa", "aaa", true));
+        assertArrayEquals(new int[] { 3 }, s.searchAllBytes("aaaaaa".getBytes(),
+                3, 5, "aa".getBytes(), s.processBytes("aa".getBytes()), true));
+    }
+
+    @Test
+    public void searchAllWithMismatches() {
+        String text = "nullnu1lnullnulnull";
+        ParallelSearch s = new ParallelSearch(new ShiftOrMismatches(), POOL, 3);
+        char[] chars = text.toCharArray();
+        char[] pattern = "null".toCharArray();
+        Object processed = ((MismatchSearch) s.getAlgorithm()).processChars(
+                pattern, 1);
+        long[] hits = s.searchAllCharsPacked(chars, 0, chars.length, pattern,
+                processed, 1, false);
+        int[] positions = new int[hits.length];
+        int[] mismatches = new int[hits.length];
+        for (int i = 0; i < hits.length; ++i) {
+            positions[i] = MismatchSearch.position(hits[i]);
+            mismatches[i] = MismatchSearch.mismatches(hits[i]);
+        }
+        assertArrayEquals(new int[] { 0, 4, 8, 12 }, positions);
+        assertArrayEquals(new int[] { 0, 1, 0, 1 }, mismatches);
+
+        ShiftOrMismatches sequential = new ShiftOrMismatches();
+        hits = s.searchAllBytesPacked(text.getBytes(), 0, text.length(),
+                "null".getBytes(), sequential.processBytes("null".getBytes(), 1),
+                1, true);
+        int pos = 0;
+        for (long hit : hits) {
+            long expected = sequential.searchBytesPacked(text.getBytes(), pos,
+                    text.length(), "null".getBytes(), sequential.processBytes(
+                            "null".getBytes(), 1), 1);
+            assertEquals(expected, hit);
+            pos = MismatchSearch.position(hit) + 1;
+        }
+        assertEquals(-1, MismatchSearch.position(sequential.searchBytesPacked(
+                text.getBytes(), pos, text.length(), "null".getBytes(),
+                sequential.processBytes("null".getBytes(), 1), 1)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void searchAllPackedNeedsMismatchSearch() {
+        new ParallelSearch(new BNDM()).searchAllBytesPacked(new byte[10], 0,
+                10, new byte[2], null, 1, true);
+    }
+
+    private static int[] all(char[] text, char[] pattern, boolean overlapping) {
+        String t = new String(text);
+        String p = new String(pattern);
+        int[] out = new int[text.length];
+        int size = 0;
+        int pos = t.indexOf(p);
+        while (pos != -1) {
+            out[size++] = pos;
+            pos = t.indexOf(p, overlapping ? pos + 1 : pos + p.length());
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    @Test
+    public void equalsComparesAlgorithms() {
+        assertFalse(new ParallelSearch(new BNDM()).equals(new ParallelSearch(
+                new BoyerMooreHorspool())));
+        assertEquals(new ParallelSearch(new BNDM()), new ParallelSearch(
+                new BNDM(), POOL));
+        assertFalse(new ParallelSearch(new BNDM()).equals(new BNDM()));
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * PatternCacheTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static com.eaio.stringsearch.AbstractStringSearchTest.LICENSE_STRING;
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test case for the {@link PatternCache} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class PatternCacheTest {
+
+    @After
+    public void uninstall() {
+        StringSearch.setPatternCache(null);
+    }
+
+    @Test
+    public void hitsAndMisses() {
+        PatternCache c = new PatternCache();
+        StringSearch s = new BoyerMooreHorspool();
+        Object o1 = c.processBytes(s, "portions".getBytes());
+        Object o2 = c.processBytes(s, "portions".getBytes());
+        assertSame(o1, o2);
+        assertEquals(1, c.getMissCount());
+        assertEquals(1, c.getHitCount());
+        assertEquals(1, c.size());
+
+        Object o3 = c.processString(s, "portions");
+        assertNotSame(o1, o3);
+        assertSame(o3, c.processChars(s, "portions".toCharArray()));
+        assertEquals(2, c.getMissCount());
+        assertEquals(2, c.getHitCount());
+        assertEquals(2, c.size());
+        assertTrue(c.getWeight() > 1024);
+    }
+
+    @Test
+    public void keysIncludeOptions() {
+        PatternCache c = new PatternCache();
+        byte[] pattern = "b.ss".getBytes();
+        Object o1 = c.processBytes(new BNDMWildcards(), pattern);
+        Object o2 = c.processBytes(new BNDMWildcards('s'), pattern);
+        Object o3 = c.processBytes(new BNDM(), pattern);
+        assertNotSame(o1, o2);
+        assertNotSame(o1, o3);
+        assertSame(o1, c.processBytes(new BNDMWildcards(), pattern));
+
+        MismatchSearch m = new ShiftOrMismatches();
+        Object k1 = c.processBytes(m, pattern, 1);
+        Object k2 = c.processBytes(m, pattern, 2);
+        assertNotSame(k1, k2);
+        assertSame(k2, c.processBytes(m, pattern, 2));
+        assertEquals(5, c.getMissCount());
+        assertEquals(2, c.getHitCount());
+    }
+
+    @Test
+    public void patternIsCopied() {
+        PatternCache c = new PatternCache();
+        StringSearch s = new BNDM();
+        byte[] pattern = "bass".getBytes();
+        Object o1 = c.processBytes(s, pattern);
+        pattern[0] = 'k';
+        assertNotSame(o1, c.processBytes(s, pattern));
+        assertEquals(2, c.size());
+    }
+
+    @Test
+    public void evictsBySize() {
+        PatternCache c = new PatternCache(4, Long.MAX_VALUE);
+        StringSearch s = new BNDM();
+        for (int i = 0; i < 10; ++i) {
+            c.processString(s, "pattern" + i);
+        }
+        assertEquals(4, c.size());
+        assertEquals(6, c.getEvictionCount());
+    }
+
+    @Test
+    public void evictsByWeight() {
+        StringSearch s = new BoyerMooreHorspool();
+        PatternCache c = new PatternCache(100, 3000);
+        c.processBytes(s, "pattern1".getBytes());
+        c.processBytes(s, "pattern2".getBytes());
+        assertEquals(2, c.size());
+        c.processBytes(s, "pattern3".getBytes());
+        assertEquals(2, c.size());
+        assertEquals(1, c.getEvictionCount());
+        assertTrue(c.getWeight() <= 3000);
+    }
+
+    @Test
+    public void referencedEntriesGetASecondChance() {
+        PatternCache c = new PatternCache(2, Long.MAX_VALUE);
+        StringSearch s = new BNDM();
+        Object o1 = c.processString(s, "one");
+        c.processString(s, "two");
+        assertSame(o1, c.processString(s, "one"));
+        c.processString(s, "three");
+        assertEquals(2, c.size());
+        assertSame(o1, c.processString(s, "one"));
+    }
+
+    @Test
+    public void oversizedEntriesAreNotCached() {
+        PatternCache c = new PatternCache(100, 64);
+        StringSearch s = new BoyerMooreHorspool();
+        assertNotNull(c.processBytes(s, "pattern".getBytes()));
+        assertEquals(0, c.size());
+        assertEquals(0, c.getWeight());
+    }
+
+    @Test
+    public void clear() {
+        PatternCache c = new PatternCache();
+        c.processString(new BNDM(), "one");
+        c.processString(new BNDM(), "two");
+        c.clear();
+        assertEquals(0, c.size());
+        assertEquals(0, c.getWeight());
+        assertEquals(0, c.getEvictionCount());
+    }
+
+    @Test
+    public void convenienceMethodsUseCache() {
+        PatternCache c = new PatternCache();
+        StringSearch.setPatternCache(c);
+        assertSame(c, StringSearch.getPatternCache());
+
+        StringSearch s = new BoyerMooreHorspoolRaita();
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(538, s.searchString(LICENSE_STRING, "portions"));
+            assertEquals(538, s.searchBytes(LICENSE_STRING.getBytes(),
+                    "portions".getBytes()));
+        }
+        assertEquals(2, c.getMissCount());
+        assertEquals(4, c.getHitCount());
+
+        MismatchSearch m = new ShiftOrMismatches();
+        for (int i = 0; i < 3; ++i) {
+            int[] hit = m.searchString(LICENSE_STRING, "partions", 1);
+            assertEquals(538, hit[0]);
+            assertEquals(1, hit[1]);
+        }
+        assertEquals(3, c.getMissCount());
+        assertEquals(6, c.getHitCount());
+    }
+
+    @Test
+    public void concurrentAccess() throws InterruptedException {
+        final PatternCache c = new PatternCache(8, Long.MAX_VALUE);
+        final StringSearch s = new BNDM();
+        final Throwable[] failure = new Throwable[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; ++t) {
+            threads[t] = new Thread() {
+
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < 2000; ++i) {
+                            String pattern = "portions".substring(0, 1 + i % 8)
+                                    + (i % 11);
+                            Object o = c.processString(s, pattern);
+                            assertEquals(LICENSE_STRING.indexOf(pattern),
+                                    s.searchString(LICENSE_STRING, pattern, o));
+                        }
+                    }
+                    catch (Throwable th) {
+                        failure[0] = th;
+                    }
+                }
+
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; ++t) {
+            threads[t].join();
+        }
+        assertNull(failure[0]);
+        assertTrue(c.size() <= 8 + threads.length);
+        assertEquals(8000, c.getHitCount() + c.getMissCount());
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * QGramIndexTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Test case for the {@link QGramIndex} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class QGramIndexTest {
+
+    @Test
+    public void searchAgainstIndexOf() {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.ENGLISH,
+                7L);
+        Random r = new Random(7L);
+        for (int q = 1; q <= 4; ++q) {
+            QGramIndex index = q == 3 ? new QGramIndex() : new QGramIndex(q,
+                    new BoyerMooreHorspoolRaita());
+            assertEquals(q, index.getQ());
+            List<String> documents = new ArrayList<String>();
+            for (int i = 0; i < 500; ++i) {
+                String document = new String(g.chars(r.nextInt(300)));
+                documents.add(document);
+                assertEquals(i, index.add(document));
+            }
+            assertEquals(500, index.size());
+            for (int m = 1; m < 20; m += 2) {
+                String pattern = new String(g.charPattern(m));
+                assertArrayEquals(expected(documents, pattern), index
+                        .search(pattern));
+                assertTrue(index.candidates(pattern).length >= index.search(
+                        pattern).length);
+            }
+            assertEquals(0, index.search("\u0000\u0000\u0000\u0000").length);
+        }
+    }
+
+    @Test
+    public void removedDocumentsAreNotFound() {
+        QGramIndex index = new QGramIndex();
+        List<String> documents = new ArrayList<String>();
+        for (int i = 0; i < 100; ++i) {
+            String document = "document " + i + " of 100";
+            documents.add(document);
+            index.add(document);
+        }
+        for (int i = 0; i < 100; i += 3) {
+            assertTrue(index.remove(i));
+            assertFalse(index.remove(i));
+            assertNull(index.get(i));
+            documents.set(i, null);
+        }
+        assertEquals(66, index.size());
+        assertArrayEquals(expected(documents, "document"), index
+                .search("document"));
+        assertArrayEquals(expected(documents, "ent 4"), index.search("ent 4"));
+        assertArrayEquals(expected(documents, "1"), index.search("1"));
+
+        // Removing more than half of the documents compacts the postings.
+
+        for (int i = 1; i < 100; i += 3) {
+            index.remove(i);
+            documents.set(i, null);
+        }
+        assertEquals(33, index.size());
+        assertArrayEquals(expected(documents, "document"), index
+                .search("document"));
+        assertArrayEquals(expected(documents, " 5"), index.search(" 5"));
+        assertEquals(100, index.add("document 100 of 100"));
+        assertEquals("document 100 of 100", index.get(100));
+        assertEquals(34, index.search("document").length);
+        assertEquals(34, index.search("").length);
+        assertFalse(index.remove(101));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void qIsAtMostFour() {
+        new QGramIndex(5, null);
+    }
+
+    private static int[] expected(List<String> documents, String pattern) {
+        List<Integer> ids = new ArrayList<Integer>();
+        for (int i = 0; i < documents.size(); ++i) {
+            if (documents.get(i) != null && documents.get(i).contains(pattern)) {
+                ids.add(i);
+            }
+        }
+        int[] out = new int[ids.size()];
+        for (int i = 0; i < out.length; ++i) {
+            out[i] = ids.get(i);
+        }
+        return out;
+    }
+
+}
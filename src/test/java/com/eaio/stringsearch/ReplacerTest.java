@@ -0,0 +1,221 @@
+/*
+ * ReplacerTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static com.eaio.stringsearch.AbstractStringSearchTest.LICENSE_STRING;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link Replacer} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class ReplacerTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Test
+    public void sameAsStringReplace() {
+        String[] patterns = { "e", "the", "Software", "AND", LICENSE_STRING };
+        String[] replacements = { "", "E", "Software™ and more", "x" };
+        StringSearch[] algorithms = { null, new BoyerMooreHorspool(),
+                new BNDM(), new TwoWay(), new ShiftOrMismatches() };
+        for (String pattern : patterns) {
+            for (String replacement : replacements) {
+                String expected = LICENSE_STRING.replace(pattern, replacement);
+                for (StringSearch algorithm : algorithms) {
+                    Replacer r = new Replacer(algorithm, pattern, replacement);
+                    assertEquals(expected, r.replace(LICENSE_STRING));
+                    assertArrayEquals(expected.getBytes(UTF8), r
+                            .replace(LICENSE_STRING.getBytes(UTF8)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void allSinks() throws IOException {
+        Replacer r = new Replacer(new BoyerMooreHorspool(), "ab", "xyz");
+        String text = "--ab-abab-a";
+        String expected = "--xyz-xyzxyz-a";
+
+        StringBuilder builder = new StringBuilder("<");
+        assertEquals(3, r.replace(text, builder));
+        assertEquals("<" + expected, builder.toString());
+
+        StringWriter writer = new StringWriter();
+        assertEquals(3, r.replace(text, writer));
+        assertEquals(expected, writer.toString());
+
+        builder.setLength(0);
+        assertEquals(2, r.replace(text.toCharArray(), 3, text.length(),
+                builder));
+        assertEquals("b-xyzxyz-a", builder.toString());
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        assertEquals(3, r.replace(text.getBytes(), 0, text.length(), stream));
+        assertEquals(expected, stream.toString());
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length());
+        assertEquals(3, r.replace(text.getBytes(), 0, text.length(), buffer));
+        assertEquals(expected, new String(buffer.array()));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void byteBufferTooSmall() {
+        new Replacer(null, "a", "bb").replace("aaa".getBytes(), 0, 3,
+                ByteBuffer.allocate(5));
+    }
+
+    @Test
+    public void noMatchReturnsInput() {
+        Replacer r = new Replacer(null, "zzz", "y");
+        assertSame(LICENSE_STRING, r.replace(LICENSE_STRING));
+        byte[] text = LICENSE_STRING.getBytes();
+        assertSame(text, r.replace(text));
+    }
+
+    @Test
+    public void multiplePatterns() {
+        Map<String, String> m = new LinkedHashMap<String, String>();
+        m.put("${name}", "Johann");
+        m.put("${n}", "N");
+        m.put("${name}s", "many");
+        m.put("ab", "1");
+        m.put("bc", "2");
+        Replacer r = new Replacer(new BoyerMooreHorspool(), m);
+        assertEquals("Hi Johann, many N ${x 1c 21", r
+                .replace("Hi ${name}, ${name}s ${n} ${x abc bcab"));
+    }
+
+    @Test
+    public void multiplePatternsAgainstNaiveReplacement() {
+        Map<String, String> m = new LinkedHashMap<String, String>();
+        m.put("Software", "S");
+        m.put("Soft", "ware");
+        m.put("the", "THE");
+        m.put("he", "?");
+        m.put("e", "é");
+        m.put("IN NO EVENT", "");
+        StringSearch[] algorithms = { null, new BNDM(),
+                new BoyerMooreHorspoolRaita() };
+        String expected = naive(LICENSE_STRING, m);
+        for (StringSearch algorithm : algorithms) {
+            Replacer r = new Replacer(algorithm, m);
+            assertEquals(expected, r.replace(LICENSE_STRING));
+            assertEquals(expected, new String(r.replace(LICENSE_STRING
+                    .getBytes(UTF8)), UTF8));
+        }
+    }
+
+    @Test
+    public void caseInsensitive() {
+        Replacer r = new Replacer(new BNDMCI(), "software", "code");
+        assertEquals("code, code and code", r.replace(
+                "Software, SOFTWARE and software"));
+    }
+
+    @Test
+    public void charsets() {
+        Replacer r = new Replacer(null, Collections.singletonMap("ü", "ue"),
+                Charset.forName("ISO-8859-1"));
+        assertArrayEquals("Mueller".getBytes(), r.replace(new byte[] { 'M',
+                (byte) 0xFC, 'l', 'l', 'e', 'r' }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyPattern() {
+        new Replacer(null, "", "x");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noPatterns() {
+        new Replacer(null, Collections.<String, String> emptyMap());
+    }
+
+    @Test
+    public void longPatternsAreVerified() {
+        String p36 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        Replacer r = new Replacer(new BNDM(), p36, "Z");
+        String prefix = "xx" + p36.substring(0, 34) + "__yyyy";
+        assertSame(prefix, r.replace(prefix));
+        String end = "xx" + p36.substring(0, 34);
+        assertSame(end, r.replace(end));
+        assertEquals("xxZ__" + end + "Z", r.replace("xx" + p36 + "__" + end
+                + p36));
+        assertEquals("xxZ__yyyy", new String(r.replace(("xx" + p36 + "__yyyy")
+                .getBytes(UTF8)), UTF8));
+        byte[] text = prefix.getBytes(UTF8);
+        assertSame(text, r.replace(text));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void incompleteAlgorithm() {
+        new Replacer(new BNDMCI(), "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ", "Z");
+    }
+
+    /**
+     * Leftmost, then longest, then first in the Map.
+     */
+    private static String naive(String text, Map<String, String> m) {
+        StringBuilder out = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            String best = null;
+            for (String p : m.keySet()) {
+                if (text.startsWith(p, i)
+                        && (best == null || p.length() > best.length())) {
+                    best = p;
+                }
+            }
+            if (best != null) {
+                out.append(m.get(best));
+                i += best.length();
+            }
+            else {
+                out.append(text.charAt(i++));
+            }
+        }
+        return out.toString();
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * SearchPlannerTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static com.eaio.stringsearch.AbstractStringSearchTest.LICENSE_STRING;
+import static org.junit.Assert.*;
+
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for the {@link SearchPlanner} and {@link TextProfile} classes.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class SearchPlannerTest {
+
+    @Before
+    public void setUp() {
+        SearchPlanner.setDefault(new SearchPlanner(calibration()));
+    }
+
+    @After
+    public void reset() {
+        SearchPlanner.setDefault(null);
+    }
+
+    /**
+     * Returns the built-in calibration with a fixed table, so that these tests
+     * do not depend on the benchmark results the built-in table was generated
+     * from.
+     */
+    private static Properties calibration() {
+        Properties out = SearchPlanner.getBuiltInCalibration();
+        for (String key : out.stringPropertyNames()) {
+            if (key.startsWith("bytes.") || key.startsWith("chars.")) {
+                out.remove(key);
+            }
+        }
+        String[] inputs = { "bytes.", "chars." };
+        String[] horspool = { "BoyerMooreHorspool", "BoyerMooreHorspoolRaita" };
+        for (int i = 0; i < inputs.length; ++i) {
+            out.setProperty(inputs[i] + "small.2", horspool[i]);
+            out.setProperty(inputs[i] + "small.32", "BNDM");
+            out.setProperty(inputs[i] + "small.max", "Hash5");
+            out.setProperty(inputs[i] + "medium.2", horspool[i]);
+            out.setProperty(inputs[i] + "medium.32", horspool[i]);
+            out.setProperty(inputs[i] + "medium.max", "Hash5");
+            out.setProperty(inputs[i] + "large.2", horspool[i]);
+            out.setProperty(inputs[i] + "large.24", "BNDM");
+            out.setProperty(inputs[i] + "large.max", horspool[i]);
+        }
+        return out;
+    }
+
+    @Test
+    public void builtInCalibration() {
+        SearchPlanner.setDefault(null);
+        StringBuilder dna = new StringBuilder();
+        while (dna.length() < 1024) {
+            dna.append("ACGTTGCAACGT");
+        }
+        assertEquals(Hash8.class, StringSearch.forPattern(
+                dna.substring(0, 1024).getBytes(), TextProfile.DNA).getClass());
+        assertEquals(BNDM.class, StringSearch.forPattern(
+                LICENSE_STRING.substring(0, 20).getBytes(),
+                TextProfile.BINARY).getClass());
+    }
+
+    @Test
+    public void shortPatternsUseFastPaths() {
+        assertEquals(BoyerMooreHorspool.class, StringSearch.forPattern(
+                "\n".getBytes(), TextProfile.BINARY).getClass());
+        assertEquals(BoyerMooreHorspoolRaita.class, StringSearch.forPattern(
+                "ab", TextProfile.NATURAL_LANGUAGE).getClass());
+    }
+
+    @Test
+    public void smallAlphabetsUseBNDM() {
+        assertEquals(BNDM.class, StringSearch.forPattern(
+                "ACGTTGCAACGT".getBytes(), TextProfile.DNA).getClass());
+        assertEquals(BNDM.class, StringSearch.forPattern("ACGTTGCAACGT",
+                TextProfile.DNA).getClass());
+    }
+
+    @Test
+    public void longPatternsOnSmallAlphabetsUseHashQ() {
+        String longPattern = "ACGTTGCAACGTACGTTGCAACGTACGTTGCAACGT";
+        assertEquals(Hash5.class, StringSearch.forPattern(longPattern,
+                TextProfile.DNA).getClass());
+        assertEquals(Hash5.class, StringSearch.forPattern(
+                longPattern.getBytes(), TextProfile.DNA).getClass());
+        assertEquals(Hash5.class, StringSearch.forPattern(
+                LICENSE_STRING.substring(0, 40),
+                TextProfile.NATURAL_LANGUAGE).getClass());
+        assertEquals(BoyerMooreHorspool.class, StringSearch.forPattern(
+                LICENSE_STRING.substring(0, 40).getBytes(),
+                TextProfile.BINARY).getClass());
+    }
+
+    @Test
+    public void mediumAlphabetsUseHorspool() {
+        assertEquals(BoyerMooreHorspool.class, StringSearch.forPattern(
+                "portions".getBytes(), TextProfile.NATURAL_LANGUAGE).getClass());
+        assertEquals(BoyerMooreHorspoolRaita.class, StringSearch.forPattern(
+                "portions", TextProfile.NATURAL_LANGUAGE).getClass());
+    }
+
+    @Test
+    public void shortTextsUseCheapPreprocessing() {
+        TextProfile shortText = new TextProfile(100L, 64);
+        assertEquals(BNDM.class, StringSearch.forPattern("portions",
+                shortText).getClass());
+        assertEquals(BoyerMooreHorspoolRaita.class, StringSearch.forPattern(
+                "po", shortText).getClass());
+    }
+
+    @Test
+    public void frequentSymbolsUseBNDM() {
+        TextProfile english = new TextProfile(LICENSE_STRING.toCharArray(), -1L);
+        assertTrue(english.hasFrequencies());
+        assertTrue(english.getAlphabetSize() > 8);
+        assertTrue(english.getAlphabetSize() <= 64);
+        assertEquals(BoyerMooreHorspoolRaita.class, StringSearch.forPattern(
+                "Software", english).getClass());
+        assertEquals(BoyerMooreHorspoolRaita.class, StringSearch.forPattern(
+                "e e e e e e", english).getClass());
+
+        StringBuffer buf = new StringBuffer("abcdefghijklmnopqrstuvwxyz");
+        for (int i = 0; i < 1000; ++i) {
+            buf.append('a');
+        }
+        TextProfile skewed = new TextProfile(buf.toString().toCharArray(), -1L);
+        assertEquals(26, skewed.getAlphabetSize());
+        assertEquals(BNDM.class, StringSearch.forPattern("aaaaaaaab",
+                skewed).getClass());
+        assertEquals(BoyerMooreHorspoolRaita.class, StringSearch.forPattern(
+                "zyxwvutsr", skewed).getClass());
+    }
+
+    @Test
+    public void textProfileFromSample() {
+        TextProfile p = new TextProfile("aab".getBytes(), 3L);
+        assertEquals(2, p.getAlphabetSize());
+        assertEquals(3L, p.getExpectedLength());
+        assertEquals(2.0d / 3.0d, p.getFrequency('a'), 0.0001d);
+        assertEquals(0.0d, p.getFrequency('c'), 0.0001d);
+        assertEquals(0.25d, TextProfile.DNA.getFrequency('A'), 0.0001d);
+    }
+
+    @Test
+    public void everyChoiceFindsThePattern() {
+        String[] patterns = { "e", "an", "portions", "Software, and",
+                "The above copyright notice and this permission notice shall",
+                LICENSE_STRING };
+        TextProfile[] profiles = { null, TextProfile.DNA, TextProfile.BINARY,
+                TextProfile.NATURAL_LANGUAGE,
+                new TextProfile(LICENSE_STRING.toCharArray(), 100L) };
+        SearchPlanner[] planners = { SearchPlanner.getDefault(),
+                new SearchPlanner(SearchPlanner.getBuiltInCalibration()) };
+        for (SearchPlanner planner : planners) {
+            for (int i = 0; i < patterns.length; ++i) {
+                for (int j = 0; j < profiles.length; ++j) {
+                    int expected = LICENSE_STRING.indexOf(patterns[i]);
+                    assertEquals(expected, planner.forPattern(patterns[i],
+                            profiles[j]).searchString(LICENSE_STRING,
+                            patterns[i]));
+                    assertEquals(expected, planner.forPattern(
+                            patterns[i].getBytes(), profiles[j]).searchBytes(
+                            LICENSE_STRING.getBytes(), patterns[i].getBytes()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void calibrationCanBeOverridden() {
+        Properties p = calibration();
+        p.setProperty("chars.medium.max", "BoyerMooreHorspool");
+        p.setProperty("chars.medium.32", "com.eaio.stringsearch.BNDM");
+        SearchPlanner.setDefault(new SearchPlanner(p));
+        assertEquals(BNDM.class, StringSearch.forPattern("portions",
+                TextProfile.NATURAL_LANGUAGE).getClass());
+        assertEquals(BoyerMooreHorspool.class, StringSearch.forPattern(
+                LICENSE_STRING.substring(0, 40),
+                TextProfile.NATURAL_LANGUAGE).getClass());
+    }
+
+    @Test
+    public void hardenedPlannerAvoidsQuadraticWorstCase() {
+        assertFalse(SearchPlanner.getDefault().isHardened());
+        Properties p = calibration();
+        p.setProperty("hardened", "true");
+        SearchPlanner planner = new SearchPlanner(p);
+        assertTrue(planner.isHardened());
+
+        // Periodic patterns and patterns ending in a repeated symbol.
+        assertEquals(TwoWay.class, planner.forPattern("baaaaaaa",
+                TextProfile.NATURAL_LANGUAGE).getClass());
+        assertEquals(TwoWay.class, planner.forPattern("abcabcabc",
+                TextProfile.NATURAL_LANGUAGE).getClass());
+        assertEquals(TwoWay.class, planner.forPattern(
+                "baaaaaaa".getBytes(), TextProfile.BINARY).getClass());
+        // BNDM is never linear.
+        assertEquals(TwoWay.class, planner.forPattern("ACGTTGCAACGT",
+                TextProfile.DNA).getClass());
+        // Unique last symbols.
+        assertEquals(BoyerMooreHorspoolRaita.class, planner.forPattern(
+                "aaaaaaab", TextProfile.NATURAL_LANGUAGE).getClass());
+        assertEquals(BoyerMooreHorspoolRaita.class, planner.forPattern(
+                "portions", TextProfile.NATURAL_LANGUAGE).getClass());
+        assertEquals(BoyerMooreHorspool.class, planner.forPattern(
+                "portions".getBytes(), TextProfile.NATURAL_LANGUAGE).getClass());
+        // Fast paths are linear.
+        assertEquals(BoyerMooreHorspoolRaita.class, planner.forPattern("aa",
+                TextProfile.NATURAL_LANGUAGE).getClass());
+
+        p.setProperty("hardened.algorithm", "BNDM");
+        assertEquals(BNDM.class, new SearchPlanner(p).forPattern("baaaaaaa",
+                TextProfile.NATURAL_LANGUAGE).getClass());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownAlgorithm() {
+        Properties p = SearchPlanner.getBuiltInCalibration();
+        p.setProperty("bytes.large.max", "KnuthMorrisPratt");
+        new SearchPlanner(p);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bndmIsLimitedTo32Symbols() {
+        Properties p = SearchPlanner.getBuiltInCalibration();
+        p.setProperty("bytes.large.64", "BNDM");
+        new SearchPlanner(p);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingEntry() {
+        Properties p = SearchPlanner.getBuiltInCalibration();
+        p.remove("chars.small.max");
+        new SearchPlanner(p);
+    }
+
+}
@@ -27,6 +27,10 @@
  */
 package com.eaio.stringsearch;
 
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
 /**
  * Test case for the {@link ShiftOrMismatches} class.
  *
@@ -40,4 +44,74 @@ public class ShiftOrMismatchesTest extends AbstractStringSearchTest {
         return new ShiftOrMismatches();
     }
 
+    @Test
+    public void packedResults() {
+        MismatchSearch m = (MismatchSearch) o;
+        Object processed = m.processString("partions", 1);
+        long r = m.searchStringPacked(LICENSE_STRING, 0,
+                LICENSE_STRING.length(), "partions", processed, 1);
+        assertEquals(538, MismatchSearch.position(r));
+        assertEquals(1, MismatchSearch.mismatches(r));
+        r = m.searchStringPacked(LICENSE_STRING, 539, LICENSE_STRING.length(),
+                "partions", processed, 1);
+        assertEquals(-1, MismatchSearch.position(r));
+        assertEquals(0, MismatchSearch.mismatches(r));
+        r = m.searchBytesPacked(LICENSE_STRING.getBytes(), 0,
+                LICENSE_STRING.length(), "partions".getBytes(),
+                m.processBytes("partions".getBytes(), 1), 1);
+        assertEquals(538, MismatchSearch.position(r));
+    }
+
+    @Test
+    public void backwardWithMismatches() {
+        MismatchSearch m = (MismatchSearch) o;
+        String text = "partions portions portiens";
+        Object processed = m.processCharsBackward("portions".toCharArray(), 1);
+        long r = m.searchCharsBackwardPacked(text.toCharArray(), 0,
+                text.length(), "portions".toCharArray(), processed, 1);
+        assertEquals(18, MismatchSearch.position(r));
+        assertEquals(1, MismatchSearch.mismatches(r));
+        r = m.searchCharsBackwardPacked(text.toCharArray(), 0, 26,
+                "portions".toCharArray(), processed, 1);
+        assertEquals(18, MismatchSearch.position(r));
+        r = m.searchCharsBackwardPacked(text.toCharArray(), 0, 25,
+                "portions".toCharArray(), processed, 1);
+        assertEquals(9, MismatchSearch.position(r));
+        assertEquals(0, MismatchSearch.mismatches(r));
+        r = m.searchBytesBackwardPacked(text.getBytes(), 0, 16,
+                "portions".getBytes(), m.processBytesBackward(
+                        "portions".getBytes(), 1), 1);
+        assertEquals(0, MismatchSearch.position(r));
+        assertEquals(1, MismatchSearch.mismatches(r));
+        r = m.searchBytesBackwardPacked(text.getBytes(), 1, 16,
+                "portions".getBytes(), m.processBytesBackward(
+                        "portions".getBytes(), 1), 1);
+        assertEquals(-1, MismatchSearch.position(r));
+
+        // Agrees with the forward search for every prefix of the text.
+        Object forward = m.processBytes("portions".getBytes(), 2);
+        Object backward = m.processBytesBackward("portions".getBytes(), 2);
+        byte[] bytes = LICENSE_STRING.getBytes();
+        for (int end = 0; end <= bytes.length; end += 7) {
+            long last = MismatchSearch.pack(-1, 0);
+            long hit = m.searchBytesPacked(bytes, 0, end, "portions".getBytes(),
+                    forward, 2);
+            while (MismatchSearch.position(hit) != -1) {
+                last = hit;
+                hit = m.searchBytesPacked(bytes, MismatchSearch.position(hit) + 1,
+                        end, "portions".getBytes(), forward, 2);
+            }
+            assertEquals(last, m.searchBytesBackwardPacked(bytes, 0, end,
+                    "portions".getBytes(), backward, 2));
+        }
+    }
+
+    @Test
+    public void processedObjectsOfOlderVersions() {
+        Object[] processed = (Object[]) o.processString("portions");
+        int[] p = (int[]) processed[1];
+        Object[] legacy = { processed[0], p[0], p[1], p[2], p[3] };
+        assertEquals(538, o.searchString(LICENSE_STRING, "portions", legacy));
+    }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * SignatureTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static com.eaio.stringsearch.AbstractStringSearchTest.LICENSE_STRING;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Test case for the {@link Signature} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class SignatureTest {
+
+    @Test
+    public void noFalseNegatives() {
+        CorpusGenerator g = new CorpusGenerator(CorpusGenerator.Kind.ENGLISH,
+                6L);
+        char[] text = g.chars(100000);
+        Random r = new Random(6L);
+        for (int i = 0; i < 1000; ++i) {
+            int length = r.nextInt(300);
+            int start = r.nextInt(text.length - length);
+            String t = new String(text, start, length);
+            Signature s = Signature.of(t);
+            for (int j = 0; j < 10 && length > 0; ++j) {
+                int m = 1 + r.nextInt(Math.min(length, 20));
+                int from = r.nextInt(length - m + 1);
+                String p = t.substring(from, from + m);
+                assertTrue(s.mayContain(p));
+                assertTrue(s.mayContain(p.getBytes()));
+            }
+        }
+    }
+
+    @Test
+    public void rejectsMostOtherPatterns() {
+        Signature s = Signature.of("The above copyright notice and this "
+                + "permission notice shall be included in all copies.");
+        int rejected = 0;
+        String[] patterns = { "Software", "WARRANTY", "merchantability",
+                "Permission is hereby granted", "sublicense", "portions",
+                "free of charge", "AUTHORS", "liability", "damages" };
+        for (String p : patterns) {
+            if (!s.mayContain(p)) {
+                ++rejected;
+            }
+        }
+        assertTrue(rejected >= 9);
+        assertTrue(s.mayContain("notice"));
+        assertTrue(s.mayContain("zz"));
+    }
+
+    @Test
+    public void bytesAndCharsAgree() {
+        byte[] bytes = LICENSE_STRING.getBytes();
+        assertEquals(Signature.of(LICENSE_STRING, 4096), Signature.of(bytes,
+                0, bytes.length, 4096));
+        assertEquals(Signature.of(LICENSE_STRING.substring(10, 90), 128),
+                Signature.of(LICENSE_STRING.toCharArray(), 10, 90, 128));
+        assertFalse(Signature.of(LICENSE_STRING).equals(Signature.of("abc")));
+    }
+
+    @Test
+    public void storage() {
+        Signature s = Signature.of(LICENSE_STRING, 1024);
+        assertEquals(1024, s.size());
+        long[] words = s.toLongArray();
+        assertEquals(16, words.length);
+        Signature copy = Signature.valueOf(words);
+        assertEquals(s, copy);
+        assertEquals(s.hashCode(), copy.hashCode());
+        words[0] = ~words[0];
+        assertEquals(s, copy);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizesMustMatch() {
+        Signature.of("abcd", 64).mayContain(Signature.of("abc", 128));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sizeMustBeAPowerOf2() {
+        Signature.of("abcd", 96);
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * StreamSearchTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link StreamSearch} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class StreamSearchTest {
+
+    @Test
+    public void matchesAcrossBuffers() throws IOException {
+        Random r = new Random(4L);
+        byte[] text = new byte[5000];
+        for (int i = 0; i < text.length; ++i) {
+            text[i] = (byte) ('a' + r.nextInt(3));
+        }
+        byte[] pattern = "abcab".getBytes();
+        List<Long> expected = naive(text, pattern);
+        assertFalse(expected.isEmpty());
+        StringSearch[] algorithms = { new BoyerMooreHorspool(), new BNDM(),
+                new ShiftOrMismatches() };
+        int[] bufferSizes = { 1, 4, 5, 7, 64, 8192 };
+        for (StringSearch algorithm : algorithms) {
+            for (int bufferSize : bufferSizes) {
+                for (int buffers = 1; buffers <= 3; buffers += 2) {
+                    StreamSearch s = new StreamSearch(algorithm, pattern,
+                            bufferSize, buffers);
+                    Collector c = new Collector();
+                    assertEquals(expected.size(), s.search(
+                            new ByteArrayInputStream(text), c));
+                    assertEquals(expected, c.offsets);
+                    assertEquals(expected.get(0).longValue(), s
+                            .indexOf(new ByteArrayInputStream(text)));
+                }
+            }
+        }
+        assertEquals(-1L, new StreamSearch(new BNDM(), "abcd".getBytes())
+                .indexOf(new ByteArrayInputStream(text)));
+    }
+
+    @Test
+    public void longPatternsAreReportedOnce() throws IOException {
+        String p36 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        byte[] text = ("xxxxxxxx" + p36 + "__" + p36.substring(0, 34) + "yy"
+                + p36 + "x" + p36.substring(0, 33)).getBytes();
+        byte[] pattern = p36.getBytes();
+        BNDM bndm = new BNDM();
+        List<Long> expected = new ArrayList<Long>();
+        Object processed = bndm.processBytes(pattern);
+        int pos = -1;
+        while ((pos = bndm.searchBytes(text, pos + 1, text.length, pattern,
+                processed)) != -1) {
+            expected.add((long) pos);
+        }
+        assertEquals(8L, expected.get(0).longValue());
+        byte[] compressed = gzip(text);
+        int[] bufferSizes = { 1, 7, 20, 35, 36, 37 };
+        for (int bufferSize : bufferSizes) {
+            for (int buffers = 1; buffers <= 3; buffers += 2) {
+                StreamSearch s = new StreamSearch(bndm, pattern, bufferSize,
+                        buffers);
+                Collector c = new Collector();
+                s.search(new ByteArrayInputStream(text), c);
+                assertEquals(expected, c.offsets);
+                c = new Collector();
+                s.searchGzip(new ByteArrayInputStream(compressed), c);
+                assertEquals(expected, c.offsets);
+            }
+        }
+    }
+
+    @Test
+    public void concatenatedGzipMembers() throws IOException {
+        byte[] first = AbstractStringSearchTest.LICENSE_STRING.getBytes();
+        byte[] second = "The Software is provided AS IS.\n".getBytes();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(gzip(first));
+        out.write(gzip(second));
+        out.write(gzip(new byte[0]));
+        out.write(new byte[] { 0, 0, 0 });
+        byte[] compressed = out.toByteArray();
+
+        byte[] all = new byte[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        byte[] pattern = "Software".getBytes();
+        List<Long> expected = naive(all, pattern);
+        assertEquals(first.length + 4L, expected.get(expected.size() - 1)
+                .longValue());
+
+        for (int buffers = 1; buffers <= 4; buffers += 3) {
+            StreamSearch s = new StreamSearch(new BoyerMooreHorspoolRaita(),
+                    pattern, 100, buffers);
+            Collector c = new Collector();
+            s.searchGzip(new ByteArrayInputStream(compressed), c);
+            assertEquals(expected, c.offsets);
+            assertEquals(expected.get(0).longValue(), s
+                    .indexOfGzip(new ByteArrayInputStream(compressed)));
+        }
+
+        GzipInputStream in = new GzipInputStream(new ByteArrayInputStream(
+                compressed));
+        assertArrayEquals(all, readFully(in));
+        assertEquals(3, in.members());
+        in.close();
+    }
+
+    @Test
+    public void optionalHeaderFields() throws IOException {
+        byte[] data = "header fields are skipped".getBytes();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(data);
+        deflater.finish();
+        byte[] deflated = new byte[1024];
+        int length = deflater.deflate(deflated);
+        deflater.end();
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(new byte[] { 0x1F, (byte) 0x8B, 8, 4 | 8 | 16 | 2, 0, 0, 0,
+                0, 0, 3, 3, 0, 'x', 'y', 'z', 'n', 'a', 'm', 'e', 0, 'c', 0,
+                0, 0 });
+        out.write(deflated, 0, length);
+        writeInt(out, crc.getValue());
+        writeInt(out, data.length);
+        assertEquals(14L, new StreamSearch(new BNDM(), "are".getBytes())
+                .indexOfGzip(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test(expected = ZipException.class)
+    public void corruptTrailer() throws IOException {
+        byte[] compressed = gzip(AbstractStringSearchTest.LICENSE_STRING
+                .getBytes());
+        compressed[compressed.length - 8] ^= 1;
+        new StreamSearch(new BNDM(), "zzz".getBytes()).searchGzip(
+                new ByteArrayInputStream(compressed), null);
+    }
+
+    @Test(expected = ZipException.class)
+    public void notGzip() throws IOException {
+        new StreamSearch(new BNDM(), "zzz".getBytes(), 16, 1).searchGzip(
+                new ByteArrayInputStream("plain text".getBytes()), null);
+    }
+
+    @Test
+    public void listenerStopsSearch() throws IOException {
+        byte[] text = new byte[1 << 20];
+        final int[] calls = new int[1];
+        StreamSearch s = new StreamSearch(new BoyerMooreHorspool(),
+                new byte[] { 0, 0 }, 1024, 2);
+        assertEquals(3L, s.search(new ByteArrayInputStream(text),
+                new StreamSearch.Listener() {
+
+                    public boolean found(long offset) {
+                        return ++calls[0] < 3;
+                    }
+
+                }));
+        assertEquals(3, calls[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void patternMayNotBeEmpty() {
+        new StreamSearch(new BNDM(), new byte[0]);
+    }
+
+    private static List<Long> naive(byte[] text, byte[] pattern) {
+        List<Long> out = new ArrayList<Long>();
+        outer: for (int i = 0; i + pattern.length <= text.length; ++i) {
+            for (int j = 0; j < pattern.length; ++j) {
+                if (text[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            out.add((long) i);
+        }
+        return out;
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        gzip.write(data);
+        gzip.close();
+        return out.toByteArray();
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[37];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, long value) {
+        for (int i = 0; i < 4; ++i) {
+            out.write((int) (value >>> (i << 3)));
+        }
+    }
+
+    private static final class Collector implements StreamSearch.Listener {
+
+        final List<Long> offsets = new ArrayList<Long>();
+
+        public boolean found(long offset) {
+            offsets.add(offset);
+            return true;
+        }
+
+    }
+
+}
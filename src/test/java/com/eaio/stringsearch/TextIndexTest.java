@@ -0,0 +1,173 @@
+/*
+ * TextIndexTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static com.eaio.stringsearch.AbstractStringSearchTest.LICENSE_STRING;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.eaio.stringsearch.performanceTest.CorpusGenerator;
+
+/**
+ * Test case for the {@link TextIndex} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class TextIndexTest {
+
+    @Test
+    public void suffixArrayAndLcpAreSorted() {
+        Random r = new Random(5L);
+        for (int n = 0; n < 300; n += 1 + n / 4) {
+            for (int alphabet = 1; alphabet <= 4; alphabet <<= 1) {
+                int[] s = new int[n];
+                for (int i = 0; i < n; ++i) {
+                    s[i] = r.nextInt(alphabet);
+                }
+                assertSuffixArray(s, TextIndex.sais(s, alphabet - 1));
+            }
+        }
+        int[] periodic = new int[1000];
+        for (int i = 0; i < periodic.length; ++i) {
+            periodic[i] = i % 3 == 2 ? 1 : 0;
+        }
+        assertSuffixArray(periodic, TextIndex.sais(periodic, 1));
+    }
+
+    @Test
+    public void queriesAgainstIndexOf() {
+        CorpusGenerator.Kind[] kinds = { CorpusGenerator.Kind.ENGLISH,
+                CorpusGenerator.Kind.DNA, CorpusGenerator.Kind.PERIODIC };
+        for (CorpusGenerator.Kind kind : kinds) {
+            CorpusGenerator g = new CorpusGenerator(kind, 9L);
+            char[] text = g.chars(20000);
+            String t = new String(text);
+            byte[] bytes = t.getBytes();
+            TextIndex chars = new TextIndex(text);
+            TextIndex index = new TextIndex(bytes);
+            for (int m = 1; m < 40; m += 3) {
+                String p = new String(g.charPattern(m));
+                int[] expected = occurrences(t, p);
+                assertArrayEquals(expected, chars.locate(p));
+                assertArrayEquals(expected, index.locate(p.getBytes()));
+                assertEquals(expected.length, chars.count(p));
+                assertEquals(expected.length, index.count(p.getBytes()));
+                assertEquals(t.indexOf(p), chars.searchString(p));
+                assertEquals(t.indexOf(p), index.searchBytes(p.getBytes()));
+                int from = t.length() / 2;
+                int expectedInRange = t.indexOf(p, from);
+                if (expectedInRange + m > t.length() - 10) {
+                    expectedInRange = -1;
+                }
+                assertEquals(expectedInRange, index.searchBytes(from,
+                        t.length() - 10, p.getBytes()));
+            }
+        }
+    }
+
+    @Test
+    public void bytesAreUnsigned() {
+        byte[] text = { 'a', (byte) 0xE4, 'b', 'a', (byte) 0xE4, 0, 'a' };
+        TextIndex index = new TextIndex(text);
+        assertArrayEquals(new int[] { 0, 3 }, index.locate(new byte[] { 'a',
+                (byte) 0xE4 }));
+        assertEquals(3, index.count(new byte[] { 'a' }));
+        assertEquals(5, index.suffix(0));
+        assertEquals(1, index.suffix(text.length - 1));
+        assertEquals(0, index.count(new byte[] { (byte) 0xFF }));
+        assertEquals(-1, index.searchBytes(new byte[] { 'a', 'a' }));
+    }
+
+    @Test
+    public void shortTexts() {
+        assertEquals(0, new TextIndex("").count("a"));
+        assertEquals(1, new TextIndex("a").count("a"));
+        assertEquals(0, new TextIndex("a").count("aa"));
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, new TextIndex("aaaaa")
+                .locate("aa"));
+    }
+
+    @Test
+    public void serializable() throws Exception {
+        TextIndex index = new TextIndex(LICENSE_STRING);
+        ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+        ObjectOutputStream oOut = new ObjectOutputStream(bOut);
+        oOut.writeObject(index);
+        oOut.close();
+        TextIndex copy = (TextIndex) new ObjectInputStream(
+                new ByteArrayInputStream(bOut.toByteArray())).readObject();
+        assertEquals(index.length(), copy.length());
+        assertArrayEquals(occurrences(LICENSE_STRING, "Software"),
+                copy.locate("Software"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void typesMustMatch() {
+        new TextIndex("abc").count("abc".getBytes());
+    }
+
+    private static void assertSuffixArray(int[] s, int[] sa) {
+        assertEquals(s.length, sa.length);
+        boolean[] seen = new boolean[s.length];
+        for (int pos : sa) {
+            assertFalse(seen[pos]);
+            seen[pos] = true;
+        }
+        int[] lcp = TextIndex.lcp(s, sa);
+        for (int i = 1; i < sa.length; ++i) {
+            int h = 0;
+            while (sa[i - 1] + h < s.length && sa[i] + h < s.length
+                    && s[sa[i - 1] + h] == s[sa[i] + h]) {
+                ++h;
+            }
+            assertEquals(h, lcp[i]);
+            assertTrue(sa[i - 1] + h == s.length
+                    || s[sa[i - 1] + h] < s[sa[i] + h]);
+        }
+    }
+
+    private static int[] occurrences(String text, String pattern) {
+        int[] out = new int[text.length()];
+        int size = 0;
+        for (int pos = text.indexOf(pattern); pos != -1; pos = text.indexOf(
+                pattern, pos + 1)) {
+            out[size++] = pos;
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+}
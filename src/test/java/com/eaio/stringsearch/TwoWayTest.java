@@ -0,0 +1,96 @@
+/*
+ * TwoWayTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link TwoWay} class.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class TwoWayTest extends AbstractStringSearchTest {
+
+    @Override
+    protected StringSearch createInstance() {
+        return new TwoWay();
+    }
+
+    /**
+     * Every pattern of up to 10 symbols over a binary alphabet, which covers
+     * periodic and non-periodic patterns and all critical factorizations.
+     */
+    @Test
+    public void binaryPatterns() {
+        Random r = new Random(42L);
+        char[] text = new char[2000];
+        for (int i = 0; i < text.length; ++i) {
+            text[i] = r.nextInt(8) == 0 ? 'b' : 'a';
+        }
+        String t = new String(text);
+        byte[] bytes = t.getBytes();
+        StringSearch s = createInstance();
+        for (int m = 1; m <= 10; ++m) {
+            for (int bits = 0; bits < 1 << m; ++bits) {
+                char[] pattern = new char[m];
+                for (int i = 0; i < m; ++i) {
+                    pattern[i] = (bits & 1 << i) == 0 ? 'a' : 'b';
+                }
+                String p = new String(pattern);
+                int start = r.nextInt(100);
+                int expected = t.indexOf(p, start);
+                assertEquals(p, expected, s.searchChars(text, start, pattern));
+                assertEquals(p, expected, s.searchBytes(bytes, start,
+                        p.getBytes()));
+            }
+        }
+    }
+
+    @Test
+    public void worstCaseOfSkipAlgorithms() {
+        char[] text = new char[100000];
+        Arrays.fill(text, 'a');
+        char[] pattern = new char[1000];
+        Arrays.fill(pattern, 'a');
+        pattern[0] = 'b';
+        StringSearch s = createInstance();
+        assertEquals(-1, s.searchChars(text, pattern));
+        pattern[0] = 'a';
+        pattern[pattern.length - 1] = 'b';
+        assertEquals(-1, s.searchChars(text, pattern));
+        text[text.length - 1] = 'b';
+        assertEquals(text.length - pattern.length, s.searchChars(text, pattern));
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * VectorSearchTest.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Test case for the {@link VectorSearch} class. Runs against the
+ * {@link BoyerMooreHorspoolRaita} fallback unless the tests are run on Java 17
+ * with <code>-Pmulti-release</code>.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public class VectorSearchTest extends AbstractStringSearchTest {
+
+    @Override
+    protected StringSearch createInstance() {
+        return new VectorSearch();
+    }
+
+    @Test
+    public void usesVectors() {
+        if (Boolean.getBoolean("com.eaio.stringsearch.multiRelease")) {
+            assertTrue(VectorSearch.usesVectors());
+        }
+    }
+
+    @Test
+    public void candidatesInEveryLane() {
+        byte[] text = new byte[1000];
+        char[] chars = new char[1000];
+        for (int i = 0; i < text.length; ++i) {
+            text[i] = (byte) (i % 3 == 0 ? 'a' : 'b');
+            chars[i] = (char) text[i];
+        }
+        text[text.length - 1] = 'c';
+        chars[chars.length - 1] = 'c';
+        StringSearch s = createInstance();
+        assertEquals(996, s.searchBytes(text, "abbc".getBytes()));
+        assertEquals(996, s.searchChars(chars, "abbc".toCharArray()));
+        assertEquals(-1, s.searchBytes(text, 0, 999, "abbc".getBytes()));
+        assertEquals(-1, s.searchChars(chars, 0, 999, "abbc".toCharArray()));
+        for (int i = 0; i < 64; ++i) {
+            int expected = (i + 2) / 3 * 3;
+            assertEquals(expected, s.searchBytes(text, i, text.length,
+                    "ab".getBytes()));
+            assertEquals(expected, s.searchChars(chars, i, chars.length,
+                    "ab".toCharArray()));
+        }
+    }
+
+}
@@ -0,0 +1,453 @@
+/*
+ * CorpusGenerator.java
+ *
+ * Created on 18.10.2026.
+ *
+ * StringSearch - high-performance pattern matching algorithms in Java
+ * Copyright (c) 2003-2015 Johann Burkard (<http://johannburkard.de>)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS
+ * OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN
+ * NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE
+ * USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.eaio.stringsearch.performanceTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic texts for benchmarks and tests. The same
+ * Kind, seed and length always yield the same text, on every VM and without
+ * any files or network access.
+ * <p>
+ * <code>char</code> texts of all Kinds except {@link Kind#CJK} only contain
+ * symbols below 256 and are converted to <code>byte</code> texts one to one.
+ * CJK <code>byte</code> texts are UTF-16BE encoded.
+ * <p>
+ * Patterns are taken from an independently seeded text of the same Kind, so
+ * they only occur where they are planted with
+ * {@link #plant(char[], char[], int)} or by chance.
+ *
+ * @author <a href="http://johannburkard.de">Johann Burkard</a>
+ * @version $Id$
+ */
+public final class CorpusGenerator {
+
+    /**
+     * The kinds of text.
+     */
+    public enum Kind {
+
+        /**
+         * English prose generated by a word-level Markov chain.
+         */
+        ENGLISH,
+
+        /**
+         * Application log lines with Zipf-distributed levels, loggers,
+         * messages and ids.
+         */
+        LOG,
+
+        /**
+         * Uniformly distributed nucleotides.
+         */
+        DNA,
+
+        /**
+         * Uniformly distributed <code>bytes</code>.
+         */
+        BINARY,
+
+        /**
+         * CJK ideographs including some supplementary characters, so the
+         * <code>char</code> text contains surrogate pairs.
+         */
+        CJK,
+
+        /**
+         * The symbol <code>a</code> repeated. Patterns are <code>aaa...ab</code>
+         * which is the worst case for many algorithms.
+         */
+        PERIODIC
+
+    }
+
+    private static final String TRAINING_TEXT = "The quick search for a "
+            + "pattern in a text is one of the oldest problems in computer "
+            + "science. A search algorithm reads the pattern first and "
+            + "builds a table from it. The table tells the algorithm how far "
+            + "it may shift the pattern when a symbol in the text does not "
+            + "match. A long pattern allows long shifts and a short pattern "
+            + "allows only short shifts. The text is read from left to right "
+            + "but the pattern is compared from right to left. When all "
+            + "symbols of the pattern match, the position of the pattern in "
+            + "the text is returned to the caller. Some algorithms read every "
+            + "symbol of the text once and some skip most of the text. It is "
+            + "the size of the alphabet and the length of the pattern that "
+            + "decide which algorithm is the fastest. A small alphabet makes "
+            + "the shifts short because every symbol occurs in the pattern. "
+            + "The caller may search for the same pattern in many texts and "
+            + "should keep the table for the next search. In the end, the "
+            + "fastest algorithm is the one that was measured on the text "
+            + "it will search.";
+
+    private static final String[] LEVELS = { "INFO", "DEBUG", "WARN", "ERROR",
+            "TRACE" };
+
+    private static final String[] LOGGERS = { "com.example.OrderService",
+            "com.example.http.RequestHandler", "com.example.db.ConnectionPool",
+            "com.example.CustomerService", "com.example.cache.Cache",
+            "com.example.PaymentService", "com.example.auth.TokenValidator",
+            "com.example.ShippingService", "com.example.mail.Mailer",
+            "com.example.scheduler.Job", "com.example.InventoryService",
+            "com.example.http.Client" };
+
+    private static final String[] MESSAGES = { "request completed in # ms",
+            "order # created", "cache miss for key #",
+            "connection # returned to pool", "customer # logged in",
+            "payment # authorized", "token # expired",
+            "retrying request # after timeout", "shipment # dispatched",
+            "job # started", "mail # queued", "stock for item # is low",
+            "slow query took # ms", "connection # refused",
+            "unexpected response status #" };
+
+    private static final Map<String, String[]> SUCCESSORS = successors(TRAINING_TEXT);
+
+    private static final String[] START_WORDS = startWords(TRAINING_TEXT);
+
+    private final Kind kind;
+
+    private final long seed;
+
+    /**
+     * Constructor for CorpusGenerator.
+     *
+     * @param kind the Kind of text, may not be <code>null</code>
+     * @param seed the random seed
+     */
+    public CorpusGenerator(Kind kind, long seed) {
+        this.kind = kind;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the Kind of text.
+     *
+     * @return a Kind, never <code>null</code>
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns a text of the given length.
+     *
+     * @param length the number of <code>chars</code>
+     * @return a <code>char</code> array
+     */
+    public char[] chars(int length) {
+        return generate(new Random(seed), length);
+    }
+
+    /**
+     * Returns a text of the given length.
+     *
+     * @param length the number of <code>bytes</code>
+     * @return a <code>byte</code> array
+     */
+    public byte[] bytes(int length) {
+        if (kind == Kind.CJK) {
+            return encode(generate(new Random(seed), (length + 1) >> 1), length);
+        }
+        return encode(generate(new Random(seed), length), length);
+    }
+
+    /**
+     * Returns a pattern of the given length.
+     *
+     * @param length the pattern length, must be positive
+     * @return a <code>char</code> array
+     */
+    public char[] charPattern(int length) {
+        if (kind == Kind.PERIODIC) {
+            char[] out = generate(null, length);
+            out[length - 1] = 'b';
+            return out;
+        }
+        char[] sample = generate(new Random(~seed), length << 2);
+        int start = new Random(seed * 31).nextInt(sample.length - length + 1);
+        if (kind == Kind.CJK && Character.isLowSurrogate(sample[start])) {
+            --start;
+        }
+        return Arrays.copyOfRange(sample, start, start + length);
+    }
+
+    /**
+     * Returns a pattern of the given length.
+     *
+     * @param length the pattern length, must be positive
+     * @return a <code>byte</code> array
+     */
+    public byte[] bytePattern(int length) {
+        if (kind != Kind.CJK) {
+            return encode(charPattern(length), length);
+        }
+        byte[] sample = encode(generate(new Random(~seed), length + 1),
+                (length + 1) << 1);
+        int start = new Random(seed * 31).nextInt(length + 2) & ~1;
+        return Arrays.copyOfRange(sample, start, start + length);
+    }
+
+    /**
+     * Copies the pattern into the text at evenly spread, randomly jittered
+     * positions that do not overlap.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param pattern the pattern, may not be <code>null</code>
+     * @param hits the number of copies
+     * @return the positions of the copies, never <code>null</code>
+     */
+    public int[] plant(char[] text, char[] pattern, int hits) {
+        int[] out = positions(text.length, pattern.length, hits);
+        for (int i = 0; i < out.length; ++i) {
+            System.arraycopy(pattern, 0, text, out[i], pattern.length);
+        }
+        return out;
+    }
+
+    /**
+     * Copies the pattern into the text at evenly spread, randomly jittered
+     * positions that do not overlap.
+     *
+     * @param text the text, may not be <code>null</code>
+     * @param pattern the pattern, may not be <code>null</code>
+     * @param hits the number of copies
+     * @return the positions of the copies, never <code>null</code>
+     */
+    public int[] plant(byte[] text, byte[] pattern, int hits) {
+        int[] out = positions(text.length, pattern.length, hits);
+        for (int i = 0; i < out.length; ++i) {
+            System.arraycopy(pattern, 0, text, out[i], pattern.length);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the number of hits to plant for a density.
+     *
+     * @param textLength the text length
+     * @param hitsPerMegabyte the number of hits per 2<sup>20</sup> symbols
+     * @return an <code>int</code>
+     */
+    public static int hits(int textLength, int hitsPerMegabyte) {
+        return (int) ((long) textLength * hitsPerMegabyte >> 20);
+    }
+
+    private int[] positions(int textLength, int patternLength, int hits) {
+        int stride = hits <= 0 ? 0 : textLength / hits;
+        if (stride < patternLength || patternLength == 0) {
+            return new int[0];
+        }
+        Random r = new Random(seed + 1);
+        int[] out = new int[hits];
+        for (int i = 0; i < hits; ++i) {
+            out[i] = i * stride + r.nextInt(stride - patternLength + 1);
+        }
+        return out;
+    }
+
+    /*
+     * Generators
+     */
+
+    private byte[] encode(char[] chars, int length) {
+        byte[] out = new byte[length];
+        if (kind == Kind.CJK) {
+            for (int i = 0, j = 0; j < length; ++i) {
+                out[j++] = (byte) (chars[i] >> 8);
+                if (j < length) {
+                    out[j++] = (byte) chars[i];
+                }
+            }
+        }
+        else {
+            for (int i = 0; i < length; ++i) {
+                out[i] = (byte) chars[i];
+            }
+        }
+        return out;
+    }
+
+    private char[] generate(Random r, int length) {
+        char[] out = new char[length];
+        switch (kind) {
+            case ENGLISH:
+                english(r, out);
+                break;
+            case LOG:
+                log(r, out);
+                break;
+            case DNA:
+                for (int i = 0; i < length; ++i) {
+                    out[i] = "ACGT".charAt(r.nextInt(4));
+                }
+                break;
+            case BINARY:
+                for (int i = 0; i < length; ++i) {
+                    out[i] = (char) r.nextInt(256);
+                }
+                break;
+            case CJK:
+                cjk(r, out);
+                break;
+            default:
+                Arrays.fill(out, 'a');
+        }
+        return out;
+    }
+
+    private static void english(Random r, char[] out) {
+        int pos = 0;
+        String word = START_WORDS[r.nextInt(START_WORDS.length)];
+        while (pos < out.length) {
+            pos = append(out, pos, word);
+            pos = append(out, pos, " ");
+            String[] next = SUCCESSORS.get(word);
+            word = next == null ? START_WORDS[r.nextInt(START_WORDS.length)]
+                    : next[r.nextInt(next.length)];
+        }
+    }
+
+    private static void log(Random r, char[] out) {
+        Zipf levels = new Zipf(LEVELS.length, 1.5d);
+        Zipf loggers = new Zipf(LOGGERS.length, 1.0d);
+        Zipf messages = new Zipf(MESSAGES.length, 1.0d);
+        Zipf ids = new Zipf(100000, 1.1d);
+        long millis = 0L;
+        int pos = 0;
+        StringBuilder line = new StringBuilder(128);
+        while (pos < out.length) {
+            millis = (millis + r.nextInt(250)) % 86400000L;
+            line.setLength(0);
+            line.append("2026-10-18 ");
+            pad(line, millis / 3600000L, 2).append(':');
+            pad(line, millis / 60000L % 60L, 2).append(':');
+            pad(line, millis / 1000L % 60L, 2).append('.');
+            pad(line, millis % 1000L, 3).append(' ');
+            line.append(LEVELS[levels.next(r)]).append(" [worker-");
+            line.append(r.nextInt(16)).append("] ");
+            line.append(LOGGERS[loggers.next(r)]).append(" - ");
+            String message = MESSAGES[messages.next(r)];
+            int hash = message.indexOf('#');
+            line.append(message, 0, hash).append(ids.next(r) + 1);
+            line.append(message, hash + 1, message.length()).append('\n');
+            pos = append(out, pos, line.toString());
+        }
+    }
+
+    private static void cjk(Random r, char[] out) {
+        int i = 0;
+        while (i < out.length) {
+            if (i < out.length - 1 && r.nextInt(64) == 0) {
+                char[] pair = Character.toChars(0x20000 + r.nextInt(0xa6e0));
+                out[i++] = pair[0];
+                out[i++] = pair[1];
+            }
+            else {
+                out[i++] = (char) (0x4e00 + r.nextInt(0x5200));
+            }
+        }
+    }
+
+    private static int append(char[] out, int pos, String s) {
+        int n = Math.min(s.length(), out.length - pos);
+        s.getChars(0, n, out, pos);
+        return pos + n;
+    }
+
+    private static StringBuilder pad(StringBuilder buf, long value, int digits) {
+        String s = String.valueOf(value);
+        for (int i = s.length(); i < digits; ++i) {
+            buf.append('0');
+        }
+        return buf.append(s);
+    }
+
+    private static Map<String, String[]> successors(String text) {
+        String[] words = text.split(" ");
+        Map<String, List<String>> lists = new HashMap<String, List<String>>();
+        for (int i = 0; i < words.length - 1; ++i) {
+            List<String> next = lists.get(words[i]);
+            if (next == null) {
+                next = new ArrayList<String>();
+                lists.put(words[i], next);
+            }
+            next.add(words[i + 1]);
+        }
+        Map<String, String[]> out = new HashMap<String, String[]>();
+        for (Map.Entry<String, List<String>> e : lists.entrySet()) {
+            out.put(e.getKey(), e.getValue().toArray(
+                    new String[e.getValue().size()]));
+        }
+        return out;
+    }
+
+    private static String[] startWords(String text) {
+        String[] words = text.split(" ");
+        List<String> out = new ArrayList<String>();
+        out.add(words[0]);
+        for (int i = 1; i < words.length; ++i) {
+            if (words[i - 1].endsWith(".")) {
+                out.add(words[i]);
+            }
+        }
+        return out.toArray(new String[out.size()]);
+    }
+
+    /**
+     * Draws ranks from a Zipf distribution.
+     */
+    private static final class Zipf {
+
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0.0d;
+            for (int i = 0; i < n; ++i) {
+                sum += 1.0d / Math.pow(i + 1, exponent);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; ++i) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        int next(Random r) {
+            int out = Arrays.binarySearch(cumulative, r.nextDouble());
+            return Math.min(out < 0 ? -out - 1 : out, cumulative.length - 1);
+        }
+
+    }
+
+}